@@ -0,0 +1,39 @@
+!compiler_flags: --exec SYN --lazy-parse
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + h(y)
+) { where
+  var z: integer;
+  fun h(a: integer): integer = ({ z = a * a + 1 }, { while z > 100: { z = z / 2 } }, z)
+};
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7;
+fun main(x: integer): integer = (print_int(f(3, 4)), 0)
+!expected:
+
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } }),
+  g(x, y) + h(y)
+);
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7
+!expected:
+[3:55-3:56]: Manjka ';' med ločnicami definicij ali '}' na koncu!
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + h(y) h
+);
+var q integer;
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7 + (a, b, a + 1, b + 2, ))
+!expected:
+[6:7-6:14]: Manjka ':' pri definiciji spremenljivke!
+!end
@@ -0,0 +1,37 @@
+!compiler_flags: --exec SYN --max-errors 2
+
+!code:
+var x integer;
+fun f(a: integer): integer = a + ;
+typ t: arr[5 integer;
+var y: integer
+!expected:
+[1:7-1:14]: Manjka ':' pri definiciji spremenljivke!
+[2:34-2:35]: Nepričakovan znak v prefix expressionu!
+!end
+
+!code:
+fun main(x: integer): integer = (
+  { x = x + 1 },
+  print_int(x
+) { where
+  var a: integer;
+  var b integer;
+  fun g(p: integer, q): integer = p
+};
+fun h(): integer = 0
+!expected:
+[6:9-6:16]: Manjka ':' pri definiciji spremenljivke!
+[7:22-7:23]: Manjka ':' pri definiciji parametra!
+!end
+
+!code:
+fun f(x: integer): integer = { if x then 1 };
+fun g(x: integer): integer = { while x: x = x - 1 };
+fun k(x: integer): integer = { for i = 0, 10: i };
+var v: arr[] integer;
+typ t: logical
+!expected:
+[2:43-2:44]: Manjka '}' v while stavku!
+[3:45-3:46]: Manjka ',' v for stavku!
+!end
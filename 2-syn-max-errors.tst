@@ -0,0 +1,50 @@
+!compiler_flags: --exec SYN --max-errors 0
+
+!code:
+var x integer;
+fun f(a: integer): integer = a + ;
+typ t: arr[5 integer;
+var y: integer
+!expected:
+[1:7-1:14]: Manjka ':' pri definiciji spremenljivke!
+[2:34-2:35]: Nepričakovan znak v prefix expressionu!
+[3:14-3:21]: Manjka ']' pri definiciji arraya!
+!end
+
+!code:
+fun main(x: integer): integer = (
+  { x = x + 1 },
+  print_int(x
+) { where
+  var a: integer;
+  var b integer;
+  fun g(p: integer, q): integer = p
+};
+fun h(): integer = 0
+!expected:
+[6:9-6:16]: Manjka ':' pri definiciji spremenljivke!
+[7:22-7:23]: Manjka ':' pri definiciji parametra!
+[8:2-8:3]: Nepravilna sintaksa definicij!
+[9:7-9:8]: Manjka identfier pri definiciji parametra!
+!end
+
+!code:
+fun f(x: integer): integer = { if x then 1 };
+fun g(x: integer): integer = { while x: x = x - 1 };
+fun k(x: integer): integer = { for i = 0, 10: i };
+var v: arr[] integer;
+typ t: logical
+!expected:
+[2:43-2:44]: Manjka '}' v while stavku!
+[3:45-3:46]: Manjka ',' v for stavku!
+[4:12-4:13]: Manjka konstanta integer pri definiciji arraya!
+!end
+
+!code:
+fun f(x: integer): integer = (x, y)) ;
+fun g(x: integer): integer = x * * 2;
+fun h(x: integer): integer = x
+!expected:
+[1:36-1:37]: Manjka ';' med ločnicami definicij ali '}' na koncu!
+[2:34-2:35]: Nepričakovan znak v prefix expressionu!
+!end
@@ -0,0 +1,27 @@
+!compiler_flags: --dump AST --exec AST --lazy-parse --max-errors 0
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + * h(y)
+);
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7 + b * 2 + a * 3;
+fun h(a: integer): integer = ({ a = a + 1 }, { while a < 100 { a = a * 2 } }, a + 1 + 2)
+!expected:
+[4:13-4:14]: Nepričakovan znak v prefix expressionu!
+[7:64-7:65]: Manjka WHERE v expressionu!
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  h(y)
+) { where
+  var z: integer;
+  fun h(a: integer): integer = ({ z = a * a + 1 }, { while z > 100 { z = z / 2 } }, z)
+};
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7
+!expected:
+[6:70-6:71]: Manjka WHERE v expressionu!
+!end
@@ -0,0 +1,201 @@
+!compiler_flags: --dump AST --exec AST --lazy-parse
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + h(y)
+) { where
+  var z: integer;
+  fun h(a: integer): integer = ({ z = a * a + 1 }, { while z > 100: { z = z / 2 } }, z)
+};
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7;
+fun main(x: integer): integer = (print_int(f(3, 4)), 0)
+!expected:
+Defs [1:1-10:56]
+  FunDef [1:1-8:2]: f
+    Parameter [1:7-1:17]: x
+      Atom [1:10-1:17]: INT
+    Parameter [1:19-1:29]: y
+      Atom [1:22-1:29]: INT
+    Atom [1:32-1:39]: INT
+    Where [1:42-8:2]
+      Defs [6:3-7:88]
+        VarDef [6:3-6:17]: z
+          Atom [6:10-6:17]: INT
+        FunDef [7:3-7:88]: h
+          Parameter [7:9-7:19]: a
+            Atom [7:12-7:19]: INT
+          Atom [7:22-7:29]: INT
+          Block [7:32-7:88]
+            Binary [7:33-7:50]: ASSIGN
+              Name [7:35-7:36]: z
+              Binary [7:39-7:48]: ADD
+                Binary [7:39-7:44]: MUL
+                  Name [7:39-7:40]: a
+                  Name [7:43-7:44]: a
+                Literal [7:47-7:48]: INT(1)
+            While [7:52-7:84]
+              Binary [7:60-7:67]: GT
+                Name [7:60-7:61]: z
+                Literal [7:64-7:67]: INT(100)
+              Binary [7:69-7:82]: ASSIGN
+                Name [7:71-7:72]: z
+                Binary [7:75-7:80]: DIV
+                  Name [7:75-7:76]: z
+                  Literal [7:79-7:80]: INT(2)
+            Name [7:86-7:87]: z
+      Block [1:42-5:2]
+        Binary [2:3-2:20]: ASSIGN
+          Name [2:5-2:6]: x
+          Binary [2:9-2:18]: ADD
+            Name [2:9-2:10]: x
+            Binary [2:13-2:18]: MUL
+              Name [2:13-2:14]: y
+              Literal [2:17-2:18]: INT(2)
+        IfThenElse [3:3-3:54]
+          Binary [3:8-3:14]: GT
+            Name [3:8-3:9]: x
+            Literal [3:12-3:14]: INT(10)
+          Binary [3:20-3:33]: ASSIGN
+            Name [3:22-3:23]: x
+            Binary [3:26-3:31]: SUB
+              Name [3:26-3:27]: x
+              Literal [3:30-3:31]: INT(1)
+          Binary [3:39-3:52]: ASSIGN
+            Name [3:41-3:42]: x
+            Binary [3:45-3:50]: ADD
+              Name [3:45-3:46]: x
+              Literal [3:49-3:50]: INT(1)
+        Binary [4:3-4:17]: ADD
+          Call [4:3-4:10]: g
+            Name [4:5-4:6]: x
+            Name [4:8-4:9]: y
+          Call [4:13-4:17]: h
+            Name [4:15-4:16]: y
+  FunDef [9:1-9:69]: g
+    Parameter [9:7-9:17]: a
+      Atom [9:10-9:17]: INT
+    Parameter [9:19-9:29]: b
+      Atom [9:22-9:29]: INT
+    Atom [9:32-9:39]: INT
+    Binary [9:42-9:69]: ADD
+      Binary [9:42-9:61]: ADD
+        Binary [9:42-9:47]: MUL
+          Name [9:42-9:43]: a
+          Name [9:46-9:47]: b
+        Binary [9:50-9:61]: DIV
+          Block [9:50-9:57]
+            Binary [9:51-9:56]: SUB
+              Name [9:51-9:52]: a
+              Name [9:55-9:56]: b
+          Literal [9:60-9:61]: INT(3)
+      Binary [9:64-9:69]: MOD
+        Name [9:64-9:65]: a
+        Literal [9:68-9:69]: INT(7)
+  FunDef [10:1-10:56]: main
+    Parameter [10:10-10:20]: x
+      Atom [10:13-10:20]: INT
+    Atom [10:23-10:30]: INT
+    Block [10:33-10:56]
+      Call [10:34-10:52]: print_int
+        Call [10:44-10:51]: f
+          Literal [10:46-10:47]: INT(3)
+          Literal [10:49-10:50]: INT(4)
+      Literal [10:54-10:55]: INT(0)
+!end
+
+!code:
+typ t: arr[10] integer;
+var v: t;
+fun main(x: integer): integer = (
+  { for i = 0, 10, 1: { v[i] = i * i } },
+  { s = 0 },
+  { for i = 0, 10, 1: { s = s + v[i] } },
+  print_int(s)
+) { where var i: integer; var s: integer }
+!expected:
+Defs [1:1-8:43]
+  TypeDef [1:1-1:23]: t
+    Array [1:8-1:23]
+      [10]
+      Atom [1:16-1:23]: INT
+  VarDef [2:1-2:9]: v
+    TypeName [2:8-2:9]: t
+  FunDef [3:1-8:43]: main
+    Parameter [3:10-3:20]: x
+      Atom [3:13-3:20]: INT
+    Atom [3:23-3:30]: INT
+    Where [3:33-8:43]
+      Defs [8:11-8:41]
+        VarDef [8:11-8:25]: i
+          Atom [8:18-8:25]: INT
+        VarDef [8:27-8:41]: s
+          Atom [8:34-8:41]: INT
+      Block [3:33-8:2]
+        For [4:3-4:41]
+          Name [4:9-4:10]: i
+          Literal [4:13-4:14]: INT(0)
+          Literal [4:16-4:18]: INT(10)
+          Literal [4:20-4:21]: INT(1)
+          Binary [4:23-4:39]: ASSIGN
+            Binary [4:25-4:29]: ARR
+              Name [4:25-4:26]: v
+              Name [4:27-4:28]: i
+            Binary [4:32-4:37]: MUL
+              Name [4:32-4:33]: i
+              Name [4:36-4:37]: i
+        Binary [5:3-5:12]: ASSIGN
+          Name [5:5-5:6]: s
+          Literal [5:9-5:10]: INT(0)
+        For [6:3-6:41]
+          Name [6:9-6:10]: i
+          Literal [6:13-6:14]: INT(0)
+          Literal [6:16-6:18]: INT(10)
+          Literal [6:20-6:21]: INT(1)
+          Binary [6:23-6:39]: ASSIGN
+            Name [6:25-6:26]: s
+            Binary [6:29-6:37]: ADD
+              Name [6:29-6:30]: s
+              Binary [6:33-6:37]: ARR
+                Name [6:33-6:34]: v
+                Name [6:35-6:36]: i
+        Call [7:3-7:15]: print_int
+          Name [7:13-7:14]: s
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + * h(y)
+);
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7
+!expected:
+[4:13-4:14]: Nepričakovan znak v prefix expressionu!
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  h(y)
+) { where
+  var z: integer;
+  fun h(a: integer): integer = ({ z = a * a + 1 }, { while z > 100 { z = z / 2 } }, z)
+};
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7
+!expected:
+[6:70-6:71]: Manjka WHERE v expressionu!
+!end
+
+!code:
+fun f(x: integer, y: integer): integer = (
+  { x = x + y * 2 },
+  { if x > 10 then { x = x - 1 } else { x = x + 1 } },
+  g(x, y) + h(y) h
+);
+var q integer;
+fun g(a: integer, b: integer): integer = a * b + (a - b) / 3 + a % 7 + (a, b, a + 1, b + 2, ))
+!expected:
+[6:7-6:14]: Manjka ':' pri definiciji spremenljivke!
+!end
@@ -0,0 +1,37 @@
+!compiler_flags: --exec TYP --max-errors 0
+
+!code:
+var x: integer;
+fun main(a: integer): integer = (
+  { y = 1 },
+  print_int(z),
+  undefined(a),
+  0
+);
+fun f(b: logical): integer = b + 1;
+fun g(c: integer): logical = c;
+fun h(d: integer): integer = { if d then 1 else 2 }
+!expected:
+[3:5-3:6]: Identifier y ni definiran!
+[4:13-4:14]: Identifier z ni definiran!
+[5:3-5:15]: Funkcija undefined ni definirana!
+!end
+
+!code:
+typ t: arr[10] integer;
+var a: t;
+fun main(x: integer): integer = (
+  { a[true] = 1 },
+  { x = 'niz' },
+  print_int(a),
+  print_str(x),
+  { while x: { x = x - 1 } },
+  0
+)
+!expected:
+[4:5-4:12]: Pričakovan tip v array izrazu je INTEGER!
+[5:3-5:16]: Tipa v binary expressionu morata biti enaka!
+[6:13-6:14]: print_int sprejme samo int argument
+[7:13-7:14]: print_str sprejme samo str argument
+[8:11-8:12]: Pričakovan tip v while stavku je LOGICAL!
+!end
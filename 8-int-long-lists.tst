@@ -0,0 +1,28 @@
+!compiler_flags: --dump INT --exec INT --memory 1000000
+
+!code:
+typ i: integer;
+var a0: i;var a1: i;var a2: i;var a3: i;var a4: i;var a5: i;var a6: i;var a7: i;var a8: i;var a9: i;var a10: i;var a11: i;var a12: i;var a13: i;var a14: i;var a15: i;var a16: i;var a17: i;var a18: i;var a19: i;var a20: i;var a21: i;var a22: i;var a23: i;var a24: i;var a25: i;var a26: i;var a27: i;var a28: i;var a29: i;var a30: i;var a31: i;var a32: i;var a33: i;var a34: i;var a35: i;var a36: i;var a37: i;var a38: i;var a39: i;var a40: i;var a41: i;var a42: i;var a43: i;var a44: i;var a45: i;var a46: i;var a47: i;var a48: i;var a49: i;var a50: i;var a51: i;var a52: i;var a53: i;var a54: i;var a55: i;var a56: i;var a57: i;var a58: i;var a59: i;var a60: i;var a61: i;var a62: i;var a63: i;var a64: i;var a65: i;var a66: i;var a67: i;var a68: i;var a69: i;var a70: i;var a71: i;var a72: i;var a73: i;var a74: i;var a75: i;var a76: i;var a77: i;var a78: i;var a79: i;var a80: i;var a81: i;var a82: i;var a83: i;var a84: i;var a85: i;var a86: i;var a87: i;var a88: i;var a89: i;var a90: i;var a91: i;var a92: i;var a93: i;var a94: i;var a95: i;var a96: i;var a97: i;var a98: i;var a99: i;var a100: i;var a101: i;var a102: i;var a103: i;var a104: i;var a105: i;var a106: i;var a107: i;var a108: i;var a109: i;var a110: i;var a111: i;var a112: i;var a113: i;var a114: i;var a115: i;var a116: i;var a117: i;var a118: i;var a119: i;var a120: i;var a121: i;var a122: i;var a123: i;var a124: i;var a125: i;var a126: i;var a127: i;var a128: i;var a129: i;var a130: i;var a131: i;var a132: i;var a133: i;var a134: i;var a135: i;var a136: i;var a137: i;var a138: i;var a139: i;var a140: i;var a141: i;var a142: i;var a143: i;var a144: i;var a145: i;var a146: i;var a147: i;var a148: i;var a149: i;var a150: i;var a151: i;var a152: i;var a153: i;var a154: i;var a155: i;var a156: i;var a157: i;var a158: i;var a159: i;var a160: i;var a161: i;var a162: i;var a163: i;var a164: i;var a165: i;var a166: i;var a167: i;var a168: i;var a169: i;var a170: i;var a171: i;var a172: i;var a173: i;var a174: i;var a175: i;var a176: i;var a177: i;var a178: i;var a179: i;var a180: i;var a181: i;var a182: i;var a183: i;var a184: i;var a185: i;var a186: i;var a187: i;var a188: i;var a189: i;var a190: i;var a191: i;var a192: i;var a193: i;var a194: i;var a195: i;var a196: i;var a197: i;var a198: i;var a199: i;var a200: i;var a201: i;var a202: i;var a203: i;var a204: i;var a205: i;var a206: i;var a207: i;var a208: i;var a209: i;var a210: i;var a211: i;var a212: i;var a213: i;var a214: i;var a215: i;var a216: i;var a217: i;var a218: i;var a219: i;var a220: i;var a221: i;var a222: i;var a223: i;var a224: i;var a225: i;var a226: i;var a227: i;var a228: i;var a229: i;var a230: i;var a231: i;var a232: i;var a233: i;var a234: i;var a235: i;var a236: i;var a237: i;var a238: i;var a239: i;var a240: i;var a241: i;var a242: i;var a243: i;var a244: i;var a245: i;var a246: i;var a247: i;var a248: i;var a249: i;var a250: i;var a251: i;var a252: i;var a253: i;var a254: i;var a255: i;var a256: i;var a257: i;var a258: i;var a259: i;var a260: i;var a261: i;var a262: i;var a263: i;var a264: i;var a265: i;var a266: i;var a267: i;var a268: i;var a269: i;var a270: i;var a271: i;var a272: i;var a273: i;var a274: i;var a275: i;var a276: i;var a277: i;var a278: i;var a279: i;var a280: i;var a281: i;var a282: i;var a283: i;var a284: i;var a285: i;var a286: i;var a287: i;var a288: i;var a289: i;var a290: i;var a291: i;var a292: i;var a293: i;var a294: i;var a295: i;var a296: i;var a297: i;var a298: i;var a299: i;var a300: i;var a301: i;var a302: i;var a303: i;var a304: i;var a305: i;var a306: i;var a307: i;var a308: i;var a309: i;var a310: i;var a311: i;var a312: i;var a313: i;var a314: i;var a315: i;var a316: i;var a317: i;var a318: i;var a319: i;var a320: i;var a321: i;var a322: i;var a323: i;var a324: i;var a325: i;var a326: i;var a327: i;var a328: i;var a329: i;var a330: i;var a331: i;var a332: i;var a333: i;var a334: i;var a335: i;var a336: i;var a337: i;var a338: i;var a339: i;var a340: i;var a341: i;var a342: i;var a343: i;var a344: i;var a345: i;var a346: i;var a347: i;var a348: i;var a349: i;var a350: i;var a351: i;var a352: i;var a353: i;var a354: i;var a355: i;var a356: i;var a357: i;var a358: i;var a359: i;var a360: i;var a361: i;var a362: i;var a363: i;var a364: i;var a365: i;var a366: i;var a367: i;var a368: i;var a369: i;var a370: i;var a371: i;var a372: i;var a373: i;var a374: i;var a375: i;var a376: i;var a377: i;var a378: i;var a379: i;var a380: i;var a381: i;var a382: i;var a383: i;var a384: i;var a385: i;var a386: i;var a387: i;var a388: i;var a389: i;var a390: i;var a391: i;var a392: i;var a393: i;var a394: i;var a395: i;var a396: i;var a397: i;var a398: i;var a399: i;var a400: i;var a401: i;var a402: i;var a403: i;var a404: i;var a405: i;var a406: i;var a407: i;var a408: i;var a409: i;var a410: i;var a411: i;var a412: i;var a413: i;var a414: i;var a415: i;var a416: i;var a417: i;var a418: i;var a419: i;var a420: i;var a421: i;var a422: i;var a423: i;var a424: i;var a425: i;var a426: i;var a427: i;var a428: i;var a429: i;var a430: i;var a431: i;var a432: i;var a433: i;var a434: i;var a435: i;var a436: i;var a437: i;var a438: i;var a439: i;var a440: i;var a441: i;var a442: i;var a443: i;var a444: i;var a445: i;var a446: i;var a447: i;var a448: i;var a449: i;var a450: i;var a451: i;var a452: i;var a453: i;var a454: i;var a455: i;var a456: i;var a457: i;var a458: i;var a459: i;var a460: i;var a461: i;var a462: i;var a463: i;var a464: i;var a465: i;var a466: i;var a467: i;var a468: i;var a469: i;var a470: i;var a471: i;var a472: i;var a473: i;var a474: i;var a475: i;var a476: i;var a477: i;var a478: i;var a479: i;var a480: i;var a481: i;var a482: i;var a483: i;var a484: i;var a485: i;var a486: i;var a487: i;var a488: i;var a489: i;var a490: i;var a491: i;var a492: i;var a493: i;var a494: i;var a495: i;var a496: i;var a497: i;var a498: i;var a499: i;var a500: i;var a501: i;var a502: i;var a503: i;var a504: i;var a505: i;var a506: i;var a507: i;var a508: i;var a509: i;var a510: i;var a511: i;var a512: i;var a513: i;var a514: i;var a515: i;var a516: i;var a517: i;var a518: i;var a519: i;var a520: i;var a521: i;var a522: i;var a523: i;var a524: i;var a525: i;var a526: i;var a527: i;var a528: i;var a529: i;var a530: i;var a531: i;var a532: i;var a533: i;var a534: i;var a535: i;var a536: i;var a537: i;var a538: i;var a539: i;var a540: i;var a541: i;var a542: i;var a543: i;var a544: i;var a545: i;var a546: i;var a547: i;var a548: i;var a549: i;var a550: i;var a551: i;var a552: i;var a553: i;var a554: i;var a555: i;var a556: i;var a557: i;var a558: i;var a559: i;var a560: i;var a561: i;var a562: i;var a563: i;var a564: i;var a565: i;var a566: i;var a567: i;var a568: i;var a569: i;var a570: i;var a571: i;var a572: i;var a573: i;var a574: i;var a575: i;var a576: i;var a577: i;var a578: i;var a579: i;var a580: i;var a581: i;var a582: i;var a583: i;var a584: i;var a585: i;var a586: i;var a587: i;var a588: i;var a589: i;var a590: i;var a591: i;var a592: i;var a593: i;var a594: i;var a595: i;var a596: i;var a597: i;var a598: i;var a599: i;var a600: i;var a601: i;var a602: i;var a603: i;var a604: i;var a605: i;var a606: i;var a607: i;var a608: i;var a609: i;var a610: i;var a611: i;var a612: i;var a613: i;var a614: i;var a615: i;var a616: i;var a617: i;var a618: i;var a619: i;var a620: i;var a621: i;var a622: i;var a623: i;var a624: i;var a625: i;var a626: i;var a627: i;var a628: i;var a629: i;var a630: i;var a631: i;var a632: i;var a633: i;var a634: i;var a635: i;var a636: i;var a637: i;var a638: i;var a639: i;var a640: i;var a641: i;var a642: i;var a643: i;var a644: i;var a645: i;var a646: i;var a647: i;var a648: i;var a649: i;var a650: i;var a651: i;var a652: i;var a653: i;var a654: i;var a655: i;var a656: i;var a657: i;var a658: i;var a659: i;var a660: i;var a661: i;var a662: i;var a663: i;var a664: i;var a665: i;var a666: i;var a667: i;var a668: i;var a669: i;var a670: i;var a671: i;var a672: i;var a673: i;var a674: i;var a675: i;var a676: i;var a677: i;var a678: i;var a679: i;var a680: i;var a681: i;var a682: i;var a683: i;var a684: i;var a685: i;var a686: i;var a687: i;var a688: i;var a689: i;var a690: i;var a691: i;var a692: i;var a693: i;var a694: i;var a695: i;var a696: i;var a697: i;var a698: i;var a699: i;var a700: i;var a701: i;var a702: i;var a703: i;var a704: i;var a705: i;var a706: i;var a707: i;var a708: i;var a709: i;var a710: i;var a711: i;var a712: i;var a713: i;var a714: i;var a715: i;var a716: i;var a717: i;var a718: i;var a719: i;var a720: i;var a721: i;var a722: i;var a723: i;var a724: i;var a725: i;var a726: i;var a727: i;var a728: i;var a729: i;var a730: i;var a731: i;var a732: i;var a733: i;var a734: i;var a735: i;var a736: i;var a737: i;var a738: i;var a739: i;var a740: i;var a741: i;var a742: i;var a743: i;var a744: i;var a745: i;var a746: i;var a747: i;var a748: i;var a749: i;var a750: i;var a751: i;var a752: i;var a753: i;var a754: i;var a755: i;var a756: i;var a757: i;var a758: i;var a759: i;var a760: i;var a761: i;var a762: i;var a763: i;var a764: i;var a765: i;var a766: i;var a767: i;var a768: i;var a769: i;var a770: i;var a771: i;var a772: i;var a773: i;var a774: i;var a775: i;var a776: i;var a777: i;var a778: i;var a779: i;var a780: i;var a781: i;var a782: i;var a783: i;var a784: i;var a785: i;var a786: i;var a787: i;var a788: i;var a789: i;var a790: i;var a791: i;var a792: i;var a793: i;var a794: i;var a795: i;var a796: i;var a797: i;var a798: i;var a799: i;var a800: i;var a801: i;var a802: i;var a803: i;var a804: i;var a805: i;var a806: i;var a807: i;var a808: i;var a809: i;var a810: i;var a811: i;var a812: i;var a813: i;var a814: i;var a815: i;var a816: i;var a817: i;var a818: i;var a819: i;var a820: i;var a821: i;var a822: i;var a823: i;var a824: i;var a825: i;var a826: i;var a827: i;var a828: i;var a829: i;var a830: i;var a831: i;var a832: i;var a833: i;var a834: i;var a835: i;var a836: i;var a837: i;var a838: i;var a839: i;var a840: i;var a841: i;var a842: i;var a843: i;var a844: i;var a845: i;var a846: i;var a847: i;var a848: i;var a849: i;var a850: i;var a851: i;var a852: i;var a853: i;var a854: i;var a855: i;var a856: i;var a857: i;var a858: i;var a859: i;var a860: i;var a861: i;var a862: i;var a863: i;var a864: i;var a865: i;var a866: i;var a867: i;var a868: i;var a869: i;var a870: i;var a871: i;var a872: i;var a873: i;var a874: i;var a875: i;var a876: i;var a877: i;var a878: i;var a879: i;var a880: i;var a881: i;var a882: i;var a883: i;var a884: i;var a885: i;var a886: i;var a887: i;var a888: i;var a889: i;var a890: i;var a891: i;var a892: i;var a893: i;var a894: i;var a895: i;var a896: i;var a897: i;var a898: i;var a899: i;var a900: i;var a901: i;var a902: i;var a903: i;var a904: i;var a905: i;var a906: i;var a907: i;var a908: i;var a909: i;var a910: i;var a911: i;var a912: i;var a913: i;var a914: i;var a915: i;var a916: i;var a917: i;var a918: i;var a919: i;var a920: i;var a921: i;var a922: i;var a923: i;var a924: i;var a925: i;var a926: i;var a927: i;var a928: i;var a929: i;var a930: i;var a931: i;var a932: i;var a933: i;var a934: i;var a935: i;var a936: i;var a937: i;var a938: i;var a939: i;var a940: i;var a941: i;var a942: i;var a943: i;var a944: i;var a945: i;var a946: i;var a947: i;var a948: i;var a949: i;var a950: i;var a951: i;var a952: i;var a953: i;var a954: i;var a955: i;var a956: i;var a957: i;var a958: i;var a959: i;var a960: i;var a961: i;var a962: i;var a963: i;var a964: i;var a965: i;var a966: i;var a967: i;var a968: i;var a969: i;var a970: i;var a971: i;var a972: i;var a973: i;var a974: i;var a975: i;var a976: i;var a977: i;var a978: i;var a979: i;var a980: i;var a981: i;var a982: i;var a983: i;var a984: i;var a985: i;var a986: i;var a987: i;var a988: i;var a989: i;var a990: i;var a991: i;var a992: i;var a993: i;var a994: i;var a995: i;var a996: i;var a997: i;var a998: i;var a999: i;var a1000: i;var a1001: i;var a1002: i;var a1003: i;var a1004: i;var a1005: i;var a1006: i;var a1007: i;var a1008: i;var a1009: i;var a1010: i;var a1011: i;var a1012: i;var a1013: i;var a1014: i;var a1015: i;var a1016: i;var a1017: i;var a1018: i;var a1019: i;var a1020: i;var a1021: i;var a1022: i;var a1023: i;var a1024: i;var a1025: i;var a1026: i;var a1027: i;var a1028: i;var a1029: i;var a1030: i;var a1031: i;var a1032: i;var a1033: i;var a1034: i;var a1035: i;var a1036: i;var a1037: i;var a1038: i;var a1039: i;var a1040: i;var a1041: i;var a1042: i;var a1043: i;var a1044: i;var a1045: i;var a1046: i;var a1047: i;var a1048: i;var a1049: i;var a1050: i;var a1051: i;var a1052: i;var a1053: i;var a1054: i;var a1055: i;var a1056: i;var a1057: i;var a1058: i;var a1059: i;var a1060: i;var a1061: i;var a1062: i;var a1063: i;var a1064: i;var a1065: i;var a1066: i;var a1067: i;var a1068: i;var a1069: i;var a1070: i;var a1071: i;var a1072: i;var a1073: i;var a1074: i;var a1075: i;var a1076: i;var a1077: i;var a1078: i;var a1079: i;var a1080: i;var a1081: i;var a1082: i;var a1083: i;var a1084: i;var a1085: i;var a1086: i;var a1087: i;var a1088: i;var a1089: i;var a1090: i;var a1091: i;var a1092: i;var a1093: i;var a1094: i;var a1095: i;var a1096: i;var a1097: i;var a1098: i;var a1099: i;var a1100: i;var a1101: i;var a1102: i;var a1103: i;var a1104: i;var a1105: i;var a1106: i;var a1107: i;var a1108: i;var a1109: i;var a1110: i;var a1111: i;var a1112: i;var a1113: i;var a1114: i;var a1115: i;var a1116: i;var a1117: i;var a1118: i;var a1119: i;var a1120: i;var a1121: i;var a1122: i;var a1123: i;var a1124: i;var a1125: i;var a1126: i;var a1127: i;var a1128: i;var a1129: i;var a1130: i;var a1131: i;var a1132: i;var a1133: i;var a1134: i;var a1135: i;var a1136: i;var a1137: i;var a1138: i;var a1139: i;var a1140: i;var a1141: i;var a1142: i;var a1143: i;var a1144: i;var a1145: i;var a1146: i;var a1147: i;var a1148: i;var a1149: i;var a1150: i;var a1151: i;var a1152: i;var a1153: i;var a1154: i;var a1155: i;var a1156: i;var a1157: i;var a1158: i;var a1159: i;var a1160: i;var a1161: i;var a1162: i;var a1163: i;var a1164: i;var a1165: i;var a1166: i;var a1167: i;var a1168: i;var a1169: i;var a1170: i;var a1171: i;var a1172: i;var a1173: i;var a1174: i;var a1175: i;var a1176: i;var a1177: i;var a1178: i;var a1179: i;var a1180: i;var a1181: i;var a1182: i;var a1183: i;var a1184: i;var a1185: i;var a1186: i;var a1187: i;var a1188: i;var a1189: i;var a1190: i;var a1191: i;var a1192: i;var a1193: i;var a1194: i;var a1195: i;var a1196: i;var a1197: i;var a1198: i;var a1199: i;var a1200: i;var a1201: i;var a1202: i;var a1203: i;var a1204: i;var a1205: i;var a1206: i;var a1207: i;var a1208: i;var a1209: i;var a1210: i;var a1211: i;var a1212: i;var a1213: i;var a1214: i;var a1215: i;var a1216: i;var a1217: i;var a1218: i;var a1219: i;var a1220: i;var a1221: i;var a1222: i;var a1223: i;var a1224: i;var a1225: i;var a1226: i;var a1227: i;var a1228: i;var a1229: i;var a1230: i;var a1231: i;var a1232: i;var a1233: i;var a1234: i;var a1235: i;var a1236: i;var a1237: i;var a1238: i;var a1239: i;var a1240: i;var a1241: i;var a1242: i;var a1243: i;var a1244: i;var a1245: i;var a1246: i;var a1247: i;var a1248: i;var a1249: i;var a1250: i;var a1251: i;var a1252: i;var a1253: i;var a1254: i;var a1255: i;var a1256: i;var a1257: i;var a1258: i;var a1259: i;var a1260: i;var a1261: i;var a1262: i;var a1263: i;var a1264: i;var a1265: i;var a1266: i;var a1267: i;var a1268: i;var a1269: i;var a1270: i;var a1271: i;var a1272: i;var a1273: i;var a1274: i;var a1275: i;var a1276: i;var a1277: i;var a1278: i;var a1279: i;var a1280: i;var a1281: i;var a1282: i;var a1283: i;var a1284: i;var a1285: i;var a1286: i;var a1287: i;var a1288: i;var a1289: i;var a1290: i;var a1291: i;var a1292: i;var a1293: i;var a1294: i;var a1295: i;var a1296: i;var a1297: i;var a1298: i;var a1299: i;var a1300: i;var a1301: i;var a1302: i;var a1303: i;var a1304: i;var a1305: i;var a1306: i;var a1307: i;var a1308: i;var a1309: i;var a1310: i;var a1311: i;var a1312: i;var a1313: i;var a1314: i;var a1315: i;var a1316: i;var a1317: i;var a1318: i;var a1319: i;var a1320: i;var a1321: i;var a1322: i;var a1323: i;var a1324: i;var a1325: i;var a1326: i;var a1327: i;var a1328: i;var a1329: i;var a1330: i;var a1331: i;var a1332: i;var a1333: i;var a1334: i;var a1335: i;var a1336: i;var a1337: i;var a1338: i;var a1339: i;var a1340: i;var a1341: i;var a1342: i;var a1343: i;var a1344: i;var a1345: i;var a1346: i;var a1347: i;var a1348: i;var a1349: i;var a1350: i;var a1351: i;var a1352: i;var a1353: i;var a1354: i;var a1355: i;var a1356: i;var a1357: i;var a1358: i;var a1359: i;var a1360: i;var a1361: i;var a1362: i;var a1363: i;var a1364: i;var a1365: i;var a1366: i;var a1367: i;var a1368: i;var a1369: i;var a1370: i;var a1371: i;var a1372: i;var a1373: i;var a1374: i;var a1375: i;var a1376: i;var a1377: i;var a1378: i;var a1379: i;var a1380: i;var a1381: i;var a1382: i;var a1383: i;var a1384: i;var a1385: i;var a1386: i;var a1387: i;var a1388: i;var a1389: i;var a1390: i;var a1391: i;var a1392: i;var a1393: i;var a1394: i;var a1395: i;var a1396: i;var a1397: i;var a1398: i;var a1399: i;var a1400: i;var a1401: i;var a1402: i;var a1403: i;var a1404: i;var a1405: i;var a1406: i;var a1407: i;var a1408: i;var a1409: i;var a1410: i;var a1411: i;var a1412: i;var a1413: i;var a1414: i;var a1415: i;var a1416: i;var a1417: i;var a1418: i;var a1419: i;var a1420: i;var a1421: i;var a1422: i;var a1423: i;var a1424: i;var a1425: i;var a1426: i;var a1427: i;var a1428: i;var a1429: i;var a1430: i;var a1431: i;var a1432: i;var a1433: i;var a1434: i;var a1435: i;var a1436: i;var a1437: i;var a1438: i;var a1439: i;var a1440: i;var a1441: i;var a1442: i;var a1443: i;var a1444: i;var a1445: i;var a1446: i;var a1447: i;var a1448: i;var a1449: i;var a1450: i;var a1451: i;var a1452: i;var a1453: i;var a1454: i;var a1455: i;var a1456: i;var a1457: i;var a1458: i;var a1459: i;var a1460: i;var a1461: i;var a1462: i;var a1463: i;var a1464: i;var a1465: i;var a1466: i;var a1467: i;var a1468: i;var a1469: i;var a1470: i;var a1471: i;var a1472: i;var a1473: i;var a1474: i;var a1475: i;var a1476: i;var a1477: i;var a1478: i;var a1479: i;var a1480: i;var a1481: i;var a1482: i;var a1483: i;var a1484: i;var a1485: i;var a1486: i;var a1487: i;var a1488: i;var a1489: i;var a1490: i;var a1491: i;var a1492: i;var a1493: i;var a1494: i;var a1495: i;var a1496: i;var a1497: i;var a1498: i;var a1499: i;var a1500: i;var a1501: i;var a1502: i;var a1503: i;var a1504: i;var a1505: i;var a1506: i;var a1507: i;var a1508: i;var a1509: i;var a1510: i;var a1511: i;var a1512: i;var a1513: i;var a1514: i;var a1515: i;var a1516: i;var a1517: i;var a1518: i;var a1519: i;var a1520: i;var a1521: i;var a1522: i;var a1523: i;var a1524: i;var a1525: i;var a1526: i;var a1527: i;var a1528: i;var a1529: i;var a1530: i;var a1531: i;var a1532: i;var a1533: i;var a1534: i;var a1535: i;var a1536: i;var a1537: i;var a1538: i;var a1539: i;var a1540: i;var a1541: i;var a1542: i;var a1543: i;var a1544: i;var a1545: i;var a1546: i;var a1547: i;var a1548: i;var a1549: i;var a1550: i;var a1551: i;var a1552: i;var a1553: i;var a1554: i;var a1555: i;var a1556: i;var a1557: i;var a1558: i;var a1559: i;var a1560: i;var a1561: i;var a1562: i;var a1563: i;var a1564: i;var a1565: i;var a1566: i;var a1567: i;var a1568: i;var a1569: i;var a1570: i;var a1571: i;var a1572: i;var a1573: i;var a1574: i;var a1575: i;var a1576: i;var a1577: i;var a1578: i;var a1579: i;var a1580: i;var a1581: i;var a1582: i;var a1583: i;var a1584: i;var a1585: i;var a1586: i;var a1587: i;var a1588: i;var a1589: i;var a1590: i;var a1591: i;var a1592: i;var a1593: i;var a1594: i;var a1595: i;var a1596: i;var a1597: i;var a1598: i;var a1599: i;var a1600: i;var a1601: i;var a1602: i;var a1603: i;var a1604: i;var a1605: i;var a1606: i;var a1607: i;var a1608: i;var a1609: i;var a1610: i;var a1611: i;var a1612: i;var a1613: i;var a1614: i;var a1615: i;var a1616: i;var a1617: i;var a1618: i;var a1619: i;var a1620: i;var a1621: i;var a1622: i;var a1623: i;var a1624: i;var a1625: i;var a1626: i;var a1627: i;var a1628: i;var a1629: i;var a1630: i;var a1631: i;var a1632: i;var a1633: i;var a1634: i;var a1635: i;var a1636: i;var a1637: i;var a1638: i;var a1639: i;var a1640: i;var a1641: i;var a1642: i;var a1643: i;var a1644: i;var a1645: i;var a1646: i;var a1647: i;var a1648: i;var a1649: i;var a1650: i;var a1651: i;var a1652: i;var a1653: i;var a1654: i;var a1655: i;var a1656: i;var a1657: i;var a1658: i;var a1659: i;var a1660: i;var a1661: i;var a1662: i;var a1663: i;var a1664: i;var a1665: i;var a1666: i;var a1667: i;var a1668: i;var a1669: i;var a1670: i;var a1671: i;var a1672: i;var a1673: i;var a1674: i;var a1675: i;var a1676: i;var a1677: i;var a1678: i;var a1679: i;var a1680: i;var a1681: i;var a1682: i;var a1683: i;var a1684: i;var a1685: i;var a1686: i;var a1687: i;var a1688: i;var a1689: i;var a1690: i;var a1691: i;var a1692: i;var a1693: i;var a1694: i;var a1695: i;var a1696: i;var a1697: i;var a1698: i;var a1699: i;var a1700: i;var a1701: i;var a1702: i;var a1703: i;var a1704: i;var a1705: i;var a1706: i;var a1707: i;var a1708: i;var a1709: i;var a1710: i;var a1711: i;var a1712: i;var a1713: i;var a1714: i;var a1715: i;var a1716: i;var a1717: i;var a1718: i;var a1719: i;var a1720: i;var a1721: i;var a1722: i;var a1723: i;var a1724: i;var a1725: i;var a1726: i;var a1727: i;var a1728: i;var a1729: i;var a1730: i;var a1731: i;var a1732: i;var a1733: i;var a1734: i;var a1735: i;var a1736: i;var a1737: i;var a1738: i;var a1739: i;var a1740: i;var a1741: i;var a1742: i;var a1743: i;var a1744: i;var a1745: i;var a1746: i;var a1747: i;var a1748: i;var a1749: i;var a1750: i;var a1751: i;var a1752: i;var a1753: i;var a1754: i;var a1755: i;var a1756: i;var a1757: i;var a1758: i;var a1759: i;var a1760: i;var a1761: i;var a1762: i;var a1763: i;var a1764: i;var a1765: i;var a1766: i;var a1767: i;var a1768: i;var a1769: i;var a1770: i;var a1771: i;var a1772: i;var a1773: i;var a1774: i;var a1775: i;var a1776: i;var a1777: i;var a1778: i;var a1779: i;var a1780: i;var a1781: i;var a1782: i;var a1783: i;var a1784: i;var a1785: i;var a1786: i;var a1787: i;var a1788: i;var a1789: i;var a1790: i;var a1791: i;var a1792: i;var a1793: i;var a1794: i;var a1795: i;var a1796: i;var a1797: i;var a1798: i;var a1799: i;var a1800: i;var a1801: i;var a1802: i;var a1803: i;var a1804: i;var a1805: i;var a1806: i;var a1807: i;var a1808: i;var a1809: i;var a1810: i;var a1811: i;var a1812: i;var a1813: i;var a1814: i;var a1815: i;var a1816: i;var a1817: i;var a1818: i;var a1819: i;var a1820: i;var a1821: i;var a1822: i;var a1823: i;var a1824: i;var a1825: i;var a1826: i;var a1827: i;var a1828: i;var a1829: i;var a1830: i;var a1831: i;var a1832: i;var a1833: i;var a1834: i;var a1835: i;var a1836: i;var a1837: i;var a1838: i;var a1839: i;var a1840: i;var a1841: i;var a1842: i;var a1843: i;var a1844: i;var a1845: i;var a1846: i;var a1847: i;var a1848: i;var a1849: i;var a1850: i;var a1851: i;var a1852: i;var a1853: i;var a1854: i;var a1855: i;var a1856: i;var a1857: i;var a1858: i;var a1859: i;var a1860: i;var a1861: i;var a1862: i;var a1863: i;var a1864: i;var a1865: i;var a1866: i;var a1867: i;var a1868: i;var a1869: i;var a1870: i;var a1871: i;var a1872: i;var a1873: i;var a1874: i;var a1875: i;var a1876: i;var a1877: i;var a1878: i;var a1879: i;var a1880: i;var a1881: i;var a1882: i;var a1883: i;var a1884: i;var a1885: i;var a1886: i;var a1887: i;var a1888: i;var a1889: i;var a1890: i;var a1891: i;var a1892: i;var a1893: i;var a1894: i;var a1895: i;var a1896: i;var a1897: i;var a1898: i;var a1899: i;var a1900: i;var a1901: i;var a1902: i;var a1903: i;var a1904: i;var a1905: i;var a1906: i;var a1907: i;var a1908: i;var a1909: i;var a1910: i;var a1911: i;var a1912: i;var a1913: i;var a1914: i;var a1915: i;var a1916: i;var a1917: i;var a1918: i;var a1919: i;var a1920: i;var a1921: i;var a1922: i;var a1923: i;var a1924: i;var a1925: i;var a1926: i;var a1927: i;var a1928: i;var a1929: i;var a1930: i;var a1931: i;var a1932: i;var a1933: i;var a1934: i;var a1935: i;var a1936: i;var a1937: i;var a1938: i;var a1939: i;var a1940: i;var a1941: i;var a1942: i;var a1943: i;var a1944: i;var a1945: i;var a1946: i;var a1947: i;var a1948: i;var a1949: i;var a1950: i;var a1951: i;var a1952: i;var a1953: i;var a1954: i;var a1955: i;var a1956: i;var a1957: i;var a1958: i;var a1959: i;var a1960: i;var a1961: i;var a1962: i;var a1963: i;var a1964: i;var a1965: i;var a1966: i;var a1967: i;var a1968: i;var a1969: i;var a1970: i;var a1971: i;var a1972: i;var a1973: i;var a1974: i;var a1975: i;var a1976: i;var a1977: i;var a1978: i;var a1979: i;var a1980: i;var a1981: i;var a1982: i;var a1983: i;var a1984: i;var a1985: i;var a1986: i;var a1987: i;var a1988: i;var a1989: i;var a1990: i;var a1991: i;var a1992: i;var a1993: i;var a1994: i;var a1995: i;var a1996: i;var a1997: i;var a1998: i;var a1999: i;var a2000: i;var a2001: i;var a2002: i;var a2003: i;var a2004: i;var a2005: i;var a2006: i;var a2007: i;var a2008: i;var a2009: i;var a2010: i;var a2011: i;var a2012: i;var a2013: i;var a2014: i;var a2015: i;var a2016: i;var a2017: i;var a2018: i;var a2019: i;var a2020: i;var a2021: i;var a2022: i;var a2023: i;var a2024: i;var a2025: i;var a2026: i;var a2027: i;var a2028: i;var a2029: i;var a2030: i;var a2031: i;var a2032: i;var a2033: i;var a2034: i;var a2035: i;var a2036: i;var a2037: i;var a2038: i;var a2039: i;var a2040: i;var a2041: i;var a2042: i;var a2043: i;var a2044: i;var a2045: i;var a2046: i;var a2047: i;var a2048: i;var a2049: i;var a2050: i;var a2051: i;var a2052: i;var a2053: i;var a2054: i;var a2055: i;var a2056: i;var a2057: i;var a2058: i;var a2059: i;var a2060: i;var a2061: i;var a2062: i;var a2063: i;var a2064: i;var a2065: i;var a2066: i;var a2067: i;var a2068: i;var a2069: i;var a2070: i;var a2071: i;var a2072: i;var a2073: i;var a2074: i;var a2075: i;var a2076: i;var a2077: i;var a2078: i;var a2079: i;var a2080: i;var a2081: i;var a2082: i;var a2083: i;var a2084: i;var a2085: i;var a2086: i;var a2087: i;var a2088: i;var a2089: i;var a2090: i;var a2091: i;var a2092: i;var a2093: i;var a2094: i;var a2095: i;var a2096: i;var a2097: i;var a2098: i;var a2099: i;var a2100: i;var a2101: i;var a2102: i;var a2103: i;var a2104: i;var a2105: i;var a2106: i;var a2107: i;var a2108: i;var a2109: i;var a2110: i;var a2111: i;var a2112: i;var a2113: i;var a2114: i;var a2115: i;var a2116: i;var a2117: i;var a2118: i;var a2119: i;var a2120: i;var a2121: i;var a2122: i;var a2123: i;var a2124: i;var a2125: i;var a2126: i;var a2127: i;var a2128: i;var a2129: i;var a2130: i;var a2131: i;var a2132: i;var a2133: i;var a2134: i;var a2135: i;var a2136: i;var a2137: i;var a2138: i;var a2139: i;var a2140: i;var a2141: i;var a2142: i;var a2143: i;var a2144: i;var a2145: i;var a2146: i;var a2147: i;var a2148: i;var a2149: i;var a2150: i;var a2151: i;var a2152: i;var a2153: i;var a2154: i;var a2155: i;var a2156: i;var a2157: i;var a2158: i;var a2159: i;var a2160: i;var a2161: i;var a2162: i;var a2163: i;var a2164: i;var a2165: i;var a2166: i;var a2167: i;var a2168: i;var a2169: i;var a2170: i;var a2171: i;var a2172: i;var a2173: i;var a2174: i;var a2175: i;var a2176: i;var a2177: i;var a2178: i;var a2179: i;var a2180: i;var a2181: i;var a2182: i;var a2183: i;var a2184: i;var a2185: i;var a2186: i;var a2187: i;var a2188: i;var a2189: i;var a2190: i;var a2191: i;var a2192: i;var a2193: i;var a2194: i;var a2195: i;var a2196: i;var a2197: i;var a2198: i;var a2199: i;var a2200: i;var a2201: i;var a2202: i;var a2203: i;var a2204: i;var a2205: i;var a2206: i;var a2207: i;var a2208: i;var a2209: i;var a2210: i;var a2211: i;var a2212: i;var a2213: i;var a2214: i;var a2215: i;var a2216: i;var a2217: i;var a2218: i;var a2219: i;var a2220: i;var a2221: i;var a2222: i;var a2223: i;var a2224: i;var a2225: i;var a2226: i;var a2227: i;var a2228: i;var a2229: i;var a2230: i;var a2231: i;var a2232: i;var a2233: i;var a2234: i;var a2235: i;var a2236: i;var a2237: i;var a2238: i;var a2239: i;var a2240: i;var a2241: i;var a2242: i;var a2243: i;var a2244: i;var a2245: i;var a2246: i;var a2247: i;var a2248: i;var a2249: i;var a2250: i;var a2251: i;var a2252: i;var a2253: i;var a2254: i;var a2255: i;var a2256: i;var a2257: i;var a2258: i;var a2259: i;var a2260: i;var a2261: i;var a2262: i;var a2263: i;var a2264: i;var a2265: i;var a2266: i;var a2267: i;var a2268: i;var a2269: i;var a2270: i;var a2271: i;var a2272: i;var a2273: i;var a2274: i;var a2275: i;var a2276: i;var a2277: i;var a2278: i;var a2279: i;var a2280: i;var a2281: i;var a2282: i;var a2283: i;var a2284: i;var a2285: i;var a2286: i;var a2287: i;var a2288: i;var a2289: i;var a2290: i;var a2291: i;var a2292: i;var a2293: i;var a2294: i;var a2295: i;var a2296: i;var a2297: i;var a2298: i;var a2299: i;var a2300: i;var a2301: i;var a2302: i;var a2303: i;var a2304: i;var a2305: i;var a2306: i;var a2307: i;var a2308: i;var a2309: i;var a2310: i;var a2311: i;var a2312: i;var a2313: i;var a2314: i;var a2315: i;var a2316: i;var a2317: i;var a2318: i;var a2319: i;var a2320: i;var a2321: i;var a2322: i;var a2323: i;var a2324: i;var a2325: i;var a2326: i;var a2327: i;var a2328: i;var a2329: i;var a2330: i;var a2331: i;var a2332: i;var a2333: i;var a2334: i;var a2335: i;var a2336: i;var a2337: i;var a2338: i;var a2339: i;var a2340: i;var a2341: i;var a2342: i;var a2343: i;var a2344: i;var a2345: i;var a2346: i;var a2347: i;var a2348: i;var a2349: i;var a2350: i;var a2351: i;var a2352: i;var a2353: i;var a2354: i;var a2355: i;var a2356: i;var a2357: i;var a2358: i;var a2359: i;var a2360: i;var a2361: i;var a2362: i;var a2363: i;var a2364: i;var a2365: i;var a2366: i;var a2367: i;var a2368: i;var a2369: i;var a2370: i;var a2371: i;var a2372: i;var a2373: i;var a2374: i;var a2375: i;var a2376: i;var a2377: i;var a2378: i;var a2379: i;var a2380: i;var a2381: i;var a2382: i;var a2383: i;var a2384: i;var a2385: i;var a2386: i;var a2387: i;var a2388: i;var a2389: i;var a2390: i;var a2391: i;var a2392: i;var a2393: i;var a2394: i;var a2395: i;var a2396: i;var a2397: i;var a2398: i;var a2399: i;var a2400: i;var a2401: i;var a2402: i;var a2403: i;var a2404: i;var a2405: i;var a2406: i;var a2407: i;var a2408: i;var a2409: i;var a2410: i;var a2411: i;var a2412: i;var a2413: i;var a2414: i;var a2415: i;var a2416: i;var a2417: i;var a2418: i;var a2419: i;var a2420: i;var a2421: i;var a2422: i;var a2423: i;var a2424: i;var a2425: i;var a2426: i;var a2427: i;var a2428: i;var a2429: i;var a2430: i;var a2431: i;var a2432: i;var a2433: i;var a2434: i;var a2435: i;var a2436: i;var a2437: i;var a2438: i;var a2439: i;var a2440: i;var a2441: i;var a2442: i;var a2443: i;var a2444: i;var a2445: i;var a2446: i;var a2447: i;var a2448: i;var a2449: i;var a2450: i;var a2451: i;var a2452: i;var a2453: i;var a2454: i;var a2455: i;var a2456: i;var a2457: i;var a2458: i;var a2459: i;var a2460: i;var a2461: i;var a2462: i;var a2463: i;var a2464: i;var a2465: i;var a2466: i;var a2467: i;var a2468: i;var a2469: i;var a2470: i;var a2471: i;var a2472: i;var a2473: i;var a2474: i;var a2475: i;var a2476: i;var a2477: i;var a2478: i;var a2479: i;var a2480: i;var a2481: i;var a2482: i;var a2483: i;var a2484: i;var a2485: i;var a2486: i;var a2487: i;var a2488: i;var a2489: i;var a2490: i;var a2491: i;var a2492: i;var a2493: i;var a2494: i;var a2495: i;var a2496: i;var a2497: i;var a2498: i;var a2499: i;var a2500: i;var a2501: i;var a2502: i;var a2503: i;var a2504: i;var a2505: i;var a2506: i;var a2507: i;var a2508: i;var a2509: i;var a2510: i;var a2511: i;var a2512: i;var a2513: i;var a2514: i;var a2515: i;var a2516: i;var a2517: i;var a2518: i;var a2519: i;var a2520: i;var a2521: i;var a2522: i;var a2523: i;var a2524: i;var a2525: i;var a2526: i;var a2527: i;var a2528: i;var a2529: i;var a2530: i;var a2531: i;var a2532: i;var a2533: i;var a2534: i;var a2535: i;var a2536: i;var a2537: i;var a2538: i;var a2539: i;var a2540: i;var a2541: i;var a2542: i;var a2543: i;var a2544: i;var a2545: i;var a2546: i;var a2547: i;var a2548: i;var a2549: i;var a2550: i;var a2551: i;var a2552: i;var a2553: i;var a2554: i;var a2555: i;var a2556: i;var a2557: i;var a2558: i;var a2559: i;var a2560: i;var a2561: i;var a2562: i;var a2563: i;var a2564: i;var a2565: i;var a2566: i;var a2567: i;var a2568: i;var a2569: i;var a2570: i;var a2571: i;var a2572: i;var a2573: i;var a2574: i;var a2575: i;var a2576: i;var a2577: i;var a2578: i;var a2579: i;var a2580: i;var a2581: i;var a2582: i;var a2583: i;var a2584: i;var a2585: i;var a2586: i;var a2587: i;var a2588: i;var a2589: i;var a2590: i;var a2591: i;var a2592: i;var a2593: i;var a2594: i;var a2595: i;var a2596: i;var a2597: i;var a2598: i;var a2599: i;var a2600: i;var a2601: i;var a2602: i;var a2603: i;var a2604: i;var a2605: i;var a2606: i;var a2607: i;var a2608: i;var a2609: i;var a2610: i;var a2611: i;var a2612: i;var a2613: i;var a2614: i;var a2615: i;var a2616: i;var a2617: i;var a2618: i;var a2619: i;var a2620: i;var a2621: i;var a2622: i;var a2623: i;var a2624: i;var a2625: i;var a2626: i;var a2627: i;var a2628: i;var a2629: i;var a2630: i;var a2631: i;var a2632: i;var a2633: i;var a2634: i;var a2635: i;var a2636: i;var a2637: i;var a2638: i;var a2639: i;var a2640: i;var a2641: i;var a2642: i;var a2643: i;var a2644: i;var a2645: i;var a2646: i;var a2647: i;var a2648: i;var a2649: i;var a2650: i;var a2651: i;var a2652: i;var a2653: i;var a2654: i;var a2655: i;var a2656: i;var a2657: i;var a2658: i;var a2659: i;var a2660: i;var a2661: i;var a2662: i;var a2663: i;var a2664: i;var a2665: i;var a2666: i;var a2667: i;var a2668: i;var a2669: i;var a2670: i;var a2671: i;var a2672: i;var a2673: i;var a2674: i;var a2675: i;var a2676: i;var a2677: i;var a2678: i;var a2679: i;var a2680: i;var a2681: i;var a2682: i;var a2683: i;var a2684: i;var a2685: i;var a2686: i;var a2687: i;var a2688: i;var a2689: i;var a2690: i;var a2691: i;var a2692: i;var a2693: i;var a2694: i;var a2695: i;var a2696: i;var a2697: i;var a2698: i;var a2699: i;var a2700: i;var a2701: i;var a2702: i;var a2703: i;var a2704: i;var a2705: i;var a2706: i;var a2707: i;var a2708: i;var a2709: i;var a2710: i;var a2711: i;var a2712: i;var a2713: i;var a2714: i;var a2715: i;var a2716: i;var a2717: i;var a2718: i;var a2719: i;var a2720: i;var a2721: i;var a2722: i;var a2723: i;var a2724: i;var a2725: i;var a2726: i;var a2727: i;var a2728: i;var a2729: i;var a2730: i;var a2731: i;var a2732: i;var a2733: i;var a2734: i;var a2735: i;var a2736: i;var a2737: i;var a2738: i;var a2739: i;var a2740: i;var a2741: i;var a2742: i;var a2743: i;var a2744: i;var a2745: i;var a2746: i;var a2747: i;var a2748: i;var a2749: i;var a2750: i;var a2751: i;var a2752: i;var a2753: i;var a2754: i;var a2755: i;var a2756: i;var a2757: i;var a2758: i;var a2759: i;var a2760: i;var a2761: i;var a2762: i;var a2763: i;var a2764: i;var a2765: i;var a2766: i;var a2767: i;var a2768: i;var a2769: i;var a2770: i;var a2771: i;var a2772: i;var a2773: i;var a2774: i;var a2775: i;var a2776: i;var a2777: i;var a2778: i;var a2779: i;var a2780: i;var a2781: i;var a2782: i;var a2783: i;var a2784: i;var a2785: i;var a2786: i;var a2787: i;var a2788: i;var a2789: i;var a2790: i;var a2791: i;var a2792: i;var a2793: i;var a2794: i;var a2795: i;var a2796: i;var a2797: i;var a2798: i;var a2799: i;var a2800: i;var a2801: i;var a2802: i;var a2803: i;var a2804: i;var a2805: i;var a2806: i;var a2807: i;var a2808: i;var a2809: i;var a2810: i;var a2811: i;var a2812: i;var a2813: i;var a2814: i;var a2815: i;var a2816: i;var a2817: i;var a2818: i;var a2819: i;var a2820: i;var a2821: i;var a2822: i;var a2823: i;var a2824: i;var a2825: i;var a2826: i;var a2827: i;var a2828: i;var a2829: i;var a2830: i;var a2831: i;var a2832: i;var a2833: i;var a2834: i;var a2835: i;var a2836: i;var a2837: i;var a2838: i;var a2839: i;var a2840: i;var a2841: i;var a2842: i;var a2843: i;var a2844: i;var a2845: i;var a2846: i;var a2847: i;var a2848: i;var a2849: i;var a2850: i;var a2851: i;var a2852: i;var a2853: i;var a2854: i;var a2855: i;var a2856: i;var a2857: i;var a2858: i;var a2859: i;var a2860: i;var a2861: i;var a2862: i;var a2863: i;var a2864: i;var a2865: i;var a2866: i;var a2867: i;var a2868: i;var a2869: i;var a2870: i;var a2871: i;var a2872: i;var a2873: i;var a2874: i;var a2875: i;var a2876: i;var a2877: i;var a2878: i;var a2879: i;var a2880: i;var a2881: i;var a2882: i;var a2883: i;var a2884: i;var a2885: i;var a2886: i;var a2887: i;var a2888: i;var a2889: i;var a2890: i;var a2891: i;var a2892: i;var a2893: i;var a2894: i;var a2895: i;var a2896: i;var a2897: i;var a2898: i;var a2899: i;var a2900: i;var a2901: i;var a2902: i;var a2903: i;var a2904: i;var a2905: i;var a2906: i;var a2907: i;var a2908: i;var a2909: i;var a2910: i;var a2911: i;var a2912: i;var a2913: i;var a2914: i;var a2915: i;var a2916: i;var a2917: i;var a2918: i;var a2919: i;var a2920: i;var a2921: i;var a2922: i;var a2923: i;var a2924: i;var a2925: i;var a2926: i;var a2927: i;var a2928: i;var a2929: i;var a2930: i;var a2931: i;var a2932: i;var a2933: i;var a2934: i;var a2935: i;var a2936: i;var a2937: i;var a2938: i;var a2939: i;var a2940: i;var a2941: i;var a2942: i;var a2943: i;var a2944: i;var a2945: i;var a2946: i;var a2947: i;var a2948: i;var a2949: i;var a2950: i;var a2951: i;var a2952: i;var a2953: i;var a2954: i;var a2955: i;var a2956: i;var a2957: i;var a2958: i;var a2959: i;var a2960: i;var a2961: i;var a2962: i;var a2963: i;var a2964: i;var a2965: i;var a2966: i;var a2967: i;var a2968: i;var a2969: i;var a2970: i;var a2971: i;var a2972: i;var a2973: i;var a2974: i;var a2975: i;var a2976: i;var a2977: i;var a2978: i;var a2979: i;var a2980: i;var a2981: i;var a2982: i;var a2983: i;var a2984: i;var a2985: i;var a2986: i;var a2987: i;var a2988: i;var a2989: i;var a2990: i;var a2991: i;var a2992: i;var a2993: i;var a2994: i;var a2995: i;var a2996: i;var a2997: i;var a2998: i;var a2999: i;var a3000: i;var a3001: i;var a3002: i;var a3003: i;var a3004: i;var a3005: i;var a3006: i;var a3007: i;var a3008: i;var a3009: i;var a3010: i;var a3011: i;var a3012: i;var a3013: i;var a3014: i;var a3015: i;var a3016: i;var a3017: i;var a3018: i;var a3019: i;var a3020: i;var a3021: i;var a3022: i;var a3023: i;var a3024: i;var a3025: i;var a3026: i;var a3027: i;var a3028: i;var a3029: i;var a3030: i;var a3031: i;var a3032: i;var a3033: i;var a3034: i;var a3035: i;var a3036: i;var a3037: i;var a3038: i;var a3039: i;var a3040: i;var a3041: i;var a3042: i;var a3043: i;var a3044: i;var a3045: i;var a3046: i;var a3047: i;var a3048: i;var a3049: i;var a3050: i;var a3051: i;var a3052: i;var a3053: i;var a3054: i;var a3055: i;var a3056: i;var a3057: i;var a3058: i;var a3059: i;var a3060: i;var a3061: i;var a3062: i;var a3063: i;var a3064: i;var a3065: i;var a3066: i;var a3067: i;var a3068: i;var a3069: i;var a3070: i;var a3071: i;var a3072: i;var a3073: i;var a3074: i;var a3075: i;var a3076: i;var a3077: i;var a3078: i;var a3079: i;var a3080: i;var a3081: i;var a3082: i;var a3083: i;var a3084: i;var a3085: i;var a3086: i;var a3087: i;var a3088: i;var a3089: i;var a3090: i;var a3091: i;var a3092: i;var a3093: i;var a3094: i;var a3095: i;var a3096: i;var a3097: i;var a3098: i;var a3099: i;var a3100: i;var a3101: i;var a3102: i;var a3103: i;var a3104: i;var a3105: i;var a3106: i;var a3107: i;var a3108: i;var a3109: i;var a3110: i;var a3111: i;var a3112: i;var a3113: i;var a3114: i;var a3115: i;var a3116: i;var a3117: i;var a3118: i;var a3119: i;var a3120: i;var a3121: i;var a3122: i;var a3123: i;var a3124: i;var a3125: i;var a3126: i;var a3127: i;var a3128: i;var a3129: i;var a3130: i;var a3131: i;var a3132: i;var a3133: i;var a3134: i;var a3135: i;var a3136: i;var a3137: i;var a3138: i;var a3139: i;var a3140: i;var a3141: i;var a3142: i;var a3143: i;var a3144: i;var a3145: i;var a3146: i;var a3147: i;var a3148: i;var a3149: i;var a3150: i;var a3151: i;var a3152: i;var a3153: i;var a3154: i;var a3155: i;var a3156: i;var a3157: i;var a3158: i;var a3159: i;var a3160: i;var a3161: i;var a3162: i;var a3163: i;var a3164: i;var a3165: i;var a3166: i;var a3167: i;var a3168: i;var a3169: i;var a3170: i;var a3171: i;var a3172: i;var a3173: i;var a3174: i;var a3175: i;var a3176: i;var a3177: i;var a3178: i;var a3179: i;var a3180: i;var a3181: i;var a3182: i;var a3183: i;var a3184: i;var a3185: i;var a3186: i;var a3187: i;var a3188: i;var a3189: i;var a3190: i;var a3191: i;var a3192: i;var a3193: i;var a3194: i;var a3195: i;var a3196: i;var a3197: i;var a3198: i;var a3199: i;var a3200: i;var a3201: i;var a3202: i;var a3203: i;var a3204: i;var a3205: i;var a3206: i;var a3207: i;var a3208: i;var a3209: i;var a3210: i;var a3211: i;var a3212: i;var a3213: i;var a3214: i;var a3215: i;var a3216: i;var a3217: i;var a3218: i;var a3219: i;var a3220: i;var a3221: i;var a3222: i;var a3223: i;var a3224: i;var a3225: i;var a3226: i;var a3227: i;var a3228: i;var a3229: i;var a3230: i;var a3231: i;var a3232: i;var a3233: i;var a3234: i;var a3235: i;var a3236: i;var a3237: i;var a3238: i;var a3239: i;var a3240: i;var a3241: i;var a3242: i;var a3243: i;var a3244: i;var a3245: i;var a3246: i;var a3247: i;var a3248: i;var a3249: i;var a3250: i;var a3251: i;var a3252: i;var a3253: i;var a3254: i;var a3255: i;var a3256: i;var a3257: i;var a3258: i;var a3259: i;var a3260: i;var a3261: i;var a3262: i;var a3263: i;var a3264: i;var a3265: i;var a3266: i;var a3267: i;var a3268: i;var a3269: i;var a3270: i;var a3271: i;var a3272: i;var a3273: i;var a3274: i;var a3275: i;var a3276: i;var a3277: i;var a3278: i;var a3279: i;var a3280: i;var a3281: i;var a3282: i;var a3283: i;var a3284: i;var a3285: i;var a3286: i;var a3287: i;var a3288: i;var a3289: i;var a3290: i;var a3291: i;var a3292: i;var a3293: i;var a3294: i;var a3295: i;var a3296: i;var a3297: i;var a3298: i;var a3299: i;var a3300: i;var a3301: i;var a3302: i;var a3303: i;var a3304: i;var a3305: i;var a3306: i;var a3307: i;var a3308: i;var a3309: i;var a3310: i;var a3311: i;var a3312: i;var a3313: i;var a3314: i;var a3315: i;var a3316: i;var a3317: i;var a3318: i;var a3319: i;var a3320: i;var a3321: i;var a3322: i;var a3323: i;var a3324: i;var a3325: i;var a3326: i;var a3327: i;var a3328: i;var a3329: i;var a3330: i;var a3331: i;var a3332: i;var a3333: i;var a3334: i;var a3335: i;var a3336: i;var a3337: i;var a3338: i;var a3339: i;var a3340: i;var a3341: i;var a3342: i;var a3343: i;var a3344: i;var a3345: i;var a3346: i;var a3347: i;var a3348: i;var a3349: i;var a3350: i;var a3351: i;var a3352: i;var a3353: i;var a3354: i;var a3355: i;var a3356: i;var a3357: i;var a3358: i;var a3359: i;var a3360: i;var a3361: i;var a3362: i;var a3363: i;var a3364: i;var a3365: i;var a3366: i;var a3367: i;var a3368: i;var a3369: i;var a3370: i;var a3371: i;var a3372: i;var a3373: i;var a3374: i;var a3375: i;var a3376: i;var a3377: i;var a3378: i;var a3379: i;var a3380: i;var a3381: i;var a3382: i;var a3383: i;var a3384: i;var a3385: i;var a3386: i;var a3387: i;var a3388: i;var a3389: i;var a3390: i;var a3391: i;var a3392: i;var a3393: i;var a3394: i;var a3395: i;var a3396: i;var a3397: i;var a3398: i;var a3399: i;var a3400: i;var a3401: i;var a3402: i;var a3403: i;var a3404: i;var a3405: i;var a3406: i;var a3407: i;var a3408: i;var a3409: i;var a3410: i;var a3411: i;var a3412: i;var a3413: i;var a3414: i;var a3415: i;var a3416: i;var a3417: i;var a3418: i;var a3419: i;var a3420: i;var a3421: i;var a3422: i;var a3423: i;var a3424: i;var a3425: i;var a3426: i;var a3427: i;var a3428: i;var a3429: i;var a3430: i;var a3431: i;var a3432: i;var a3433: i;var a3434: i;var a3435: i;var a3436: i;var a3437: i;var a3438: i;var a3439: i;var a3440: i;var a3441: i;var a3442: i;var a3443: i;var a3444: i;var a3445: i;var a3446: i;var a3447: i;var a3448: i;var a3449: i;var a3450: i;var a3451: i;var a3452: i;var a3453: i;var a3454: i;var a3455: i;var a3456: i;var a3457: i;var a3458: i;var a3459: i;var a3460: i;var a3461: i;var a3462: i;var a3463: i;var a3464: i;var a3465: i;var a3466: i;var a3467: i;var a3468: i;var a3469: i;var a3470: i;var a3471: i;var a3472: i;var a3473: i;var a3474: i;var a3475: i;var a3476: i;var a3477: i;var a3478: i;var a3479: i;var a3480: i;var a3481: i;var a3482: i;var a3483: i;var a3484: i;var a3485: i;var a3486: i;var a3487: i;var a3488: i;var a3489: i;var a3490: i;var a3491: i;var a3492: i;var a3493: i;var a3494: i;var a3495: i;var a3496: i;var a3497: i;var a3498: i;var a3499: i;var a3500: i;var a3501: i;var a3502: i;var a3503: i;var a3504: i;var a3505: i;var a3506: i;var a3507: i;var a3508: i;var a3509: i;var a3510: i;var a3511: i;var a3512: i;var a3513: i;var a3514: i;var a3515: i;var a3516: i;var a3517: i;var a3518: i;var a3519: i;var a3520: i;var a3521: i;var a3522: i;var a3523: i;var a3524: i;var a3525: i;var a3526: i;var a3527: i;var a3528: i;var a3529: i;var a3530: i;var a3531: i;var a3532: i;var a3533: i;var a3534: i;var a3535: i;var a3536: i;var a3537: i;var a3538: i;var a3539: i;var a3540: i;var a3541: i;var a3542: i;var a3543: i;var a3544: i;var a3545: i;var a3546: i;var a3547: i;var a3548: i;var a3549: i;var a3550: i;var a3551: i;var a3552: i;var a3553: i;var a3554: i;var a3555: i;var a3556: i;var a3557: i;var a3558: i;var a3559: i;var a3560: i;var a3561: i;var a3562: i;var a3563: i;var a3564: i;var a3565: i;var a3566: i;var a3567: i;var a3568: i;var a3569: i;var a3570: i;var a3571: i;var a3572: i;var a3573: i;var a3574: i;var a3575: i;var a3576: i;var a3577: i;var a3578: i;var a3579: i;var a3580: i;var a3581: i;var a3582: i;var a3583: i;var a3584: i;var a3585: i;var a3586: i;var a3587: i;var a3588: i;var a3589: i;var a3590: i;var a3591: i;var a3592: i;var a3593: i;var a3594: i;var a3595: i;var a3596: i;var a3597: i;var a3598: i;var a3599: i;var a3600: i;var a3601: i;var a3602: i;var a3603: i;var a3604: i;var a3605: i;var a3606: i;var a3607: i;var a3608: i;var a3609: i;var a3610: i;var a3611: i;var a3612: i;var a3613: i;var a3614: i;var a3615: i;var a3616: i;var a3617: i;var a3618: i;var a3619: i;var a3620: i;var a3621: i;var a3622: i;var a3623: i;var a3624: i;var a3625: i;var a3626: i;var a3627: i;var a3628: i;var a3629: i;var a3630: i;var a3631: i;var a3632: i;var a3633: i;var a3634: i;var a3635: i;var a3636: i;var a3637: i;var a3638: i;var a3639: i;var a3640: i;var a3641: i;var a3642: i;var a3643: i;var a3644: i;var a3645: i;var a3646: i;var a3647: i;var a3648: i;var a3649: i;var a3650: i;var a3651: i;var a3652: i;var a3653: i;var a3654: i;var a3655: i;var a3656: i;var a3657: i;var a3658: i;var a3659: i;var a3660: i;var a3661: i;var a3662: i;var a3663: i;var a3664: i;var a3665: i;var a3666: i;var a3667: i;var a3668: i;var a3669: i;var a3670: i;var a3671: i;var a3672: i;var a3673: i;var a3674: i;var a3675: i;var a3676: i;var a3677: i;var a3678: i;var a3679: i;var a3680: i;var a3681: i;var a3682: i;var a3683: i;var a3684: i;var a3685: i;var a3686: i;var a3687: i;var a3688: i;var a3689: i;var a3690: i;var a3691: i;var a3692: i;var a3693: i;var a3694: i;var a3695: i;var a3696: i;var a3697: i;var a3698: i;var a3699: i;var a3700: i;var a3701: i;var a3702: i;var a3703: i;var a3704: i;var a3705: i;var a3706: i;var a3707: i;var a3708: i;var a3709: i;var a3710: i;var a3711: i;var a3712: i;var a3713: i;var a3714: i;var a3715: i;var a3716: i;var a3717: i;var a3718: i;var a3719: i;var a3720: i;var a3721: i;var a3722: i;var a3723: i;var a3724: i;var a3725: i;var a3726: i;var a3727: i;var a3728: i;var a3729: i;var a3730: i;var a3731: i;var a3732: i;var a3733: i;var a3734: i;var a3735: i;var a3736: i;var a3737: i;var a3738: i;var a3739: i;var a3740: i;var a3741: i;var a3742: i;var a3743: i;var a3744: i;var a3745: i;var a3746: i;var a3747: i;var a3748: i;var a3749: i;var a3750: i;var a3751: i;var a3752: i;var a3753: i;var a3754: i;var a3755: i;var a3756: i;var a3757: i;var a3758: i;var a3759: i;var a3760: i;var a3761: i;var a3762: i;var a3763: i;var a3764: i;var a3765: i;var a3766: i;var a3767: i;var a3768: i;var a3769: i;var a3770: i;var a3771: i;var a3772: i;var a3773: i;var a3774: i;var a3775: i;var a3776: i;var a3777: i;var a3778: i;var a3779: i;var a3780: i;var a3781: i;var a3782: i;var a3783: i;var a3784: i;var a3785: i;var a3786: i;var a3787: i;var a3788: i;var a3789: i;var a3790: i;var a3791: i;var a3792: i;var a3793: i;var a3794: i;var a3795: i;var a3796: i;var a3797: i;var a3798: i;var a3799: i;var a3800: i;var a3801: i;var a3802: i;var a3803: i;var a3804: i;var a3805: i;var a3806: i;var a3807: i;var a3808: i;var a3809: i;var a3810: i;var a3811: i;var a3812: i;var a3813: i;var a3814: i;var a3815: i;var a3816: i;var a3817: i;var a3818: i;var a3819: i;var a3820: i;var a3821: i;var a3822: i;var a3823: i;var a3824: i;var a3825: i;var a3826: i;var a3827: i;var a3828: i;var a3829: i;var a3830: i;var a3831: i;var a3832: i;var a3833: i;var a3834: i;var a3835: i;var a3836: i;var a3837: i;var a3838: i;var a3839: i;var a3840: i;var a3841: i;var a3842: i;var a3843: i;var a3844: i;var a3845: i;var a3846: i;var a3847: i;var a3848: i;var a3849: i;var a3850: i;var a3851: i;var a3852: i;var a3853: i;var a3854: i;var a3855: i;var a3856: i;var a3857: i;var a3858: i;var a3859: i;var a3860: i;var a3861: i;var a3862: i;var a3863: i;var a3864: i;var a3865: i;var a3866: i;var a3867: i;var a3868: i;var a3869: i;var a3870: i;var a3871: i;var a3872: i;var a3873: i;var a3874: i;var a3875: i;var a3876: i;var a3877: i;var a3878: i;var a3879: i;var a3880: i;var a3881: i;var a3882: i;var a3883: i;var a3884: i;var a3885: i;var a3886: i;var a3887: i;var a3888: i;var a3889: i;var a3890: i;var a3891: i;var a3892: i;var a3893: i;var a3894: i;var a3895: i;var a3896: i;var a3897: i;var a3898: i;var a3899: i;var a3900: i;var a3901: i;var a3902: i;var a3903: i;var a3904: i;var a3905: i;var a3906: i;var a3907: i;var a3908: i;var a3909: i;var a3910: i;var a3911: i;var a3912: i;var a3913: i;var a3914: i;var a3915: i;var a3916: i;var a3917: i;var a3918: i;var a3919: i;var a3920: i;var a3921: i;var a3922: i;var a3923: i;var a3924: i;var a3925: i;var a3926: i;var a3927: i;var a3928: i;var a3929: i;var a3930: i;var a3931: i;var a3932: i;var a3933: i;var a3934: i;var a3935: i;var a3936: i;var a3937: i;var a3938: i;var a3939: i;var a3940: i;var a3941: i;var a3942: i;var a3943: i;var a3944: i;var a3945: i;var a3946: i;var a3947: i;var a3948: i;var a3949: i;var a3950: i;var a3951: i;var a3952: i;var a3953: i;var a3954: i;var a3955: i;var a3956: i;var a3957: i;var a3958: i;var a3959: i;var a3960: i;var a3961: i;var a3962: i;var a3963: i;var a3964: i;var a3965: i;var a3966: i;var a3967: i;var a3968: i;var a3969: i;var a3970: i;var a3971: i;var a3972: i;var a3973: i;var a3974: i;var a3975: i;var a3976: i;var a3977: i;var a3978: i;var a3979: i;var a3980: i;var a3981: i;var a3982: i;var a3983: i;var a3984: i;var a3985: i;var a3986: i;var a3987: i;var a3988: i;var a3989: i;var a3990: i;var a3991: i;var a3992: i;var a3993: i;var a3994: i;var a3995: i;var a3996: i;var a3997: i;var a3998: i;var a3999: i;var a4000: i;var a4001: i;var a4002: i;var a4003: i;var a4004: i;var a4005: i;var a4006: i;var a4007: i;var a4008: i;var a4009: i;var a4010: i;var a4011: i;var a4012: i;var a4013: i;var a4014: i;var a4015: i;var a4016: i;var a4017: i;var a4018: i;var a4019: i;var a4020: i;var a4021: i;var a4022: i;var a4023: i;var a4024: i;var a4025: i;var a4026: i;var a4027: i;var a4028: i;var a4029: i;var a4030: i;var a4031: i;var a4032: i;var a4033: i;var a4034: i;var a4035: i;var a4036: i;var a4037: i;var a4038: i;var a4039: i;var a4040: i;var a4041: i;var a4042: i;var a4043: i;var a4044: i;var a4045: i;var a4046: i;var a4047: i;var a4048: i;var a4049: i;var a4050: i;var a4051: i;var a4052: i;var a4053: i;var a4054: i;var a4055: i;var a4056: i;var a4057: i;var a4058: i;var a4059: i;var a4060: i;var a4061: i;var a4062: i;var a4063: i;var a4064: i;var a4065: i;var a4066: i;var a4067: i;var a4068: i;var a4069: i;var a4070: i;var a4071: i;var a4072: i;var a4073: i;var a4074: i;var a4075: i;var a4076: i;var a4077: i;var a4078: i;var a4079: i;var a4080: i;var a4081: i;var a4082: i;var a4083: i;var a4084: i;var a4085: i;var a4086: i;var a4087: i;var a4088: i;var a4089: i;var a4090: i;var a4091: i;var a4092: i;var a4093: i;var a4094: i;var a4095: i;var a4096: i;var a4097: i;var a4098: i;var a4099: i;var a4100: i;var a4101: i;var a4102: i;var a4103: i;var a4104: i;var a4105: i;var a4106: i;var a4107: i;var a4108: i;var a4109: i;var a4110: i;var a4111: i;var a4112: i;var a4113: i;var a4114: i;var a4115: i;var a4116: i;var a4117: i;var a4118: i;var a4119: i;var a4120: i;var a4121: i;var a4122: i;var a4123: i;var a4124: i;var a4125: i;var a4126: i;var a4127: i;var a4128: i;var a4129: i;var a4130: i;var a4131: i;var a4132: i;var a4133: i;var a4134: i;var a4135: i;var a4136: i;var a4137: i;var a4138: i;var a4139: i;var a4140: i;var a4141: i;var a4142: i;var a4143: i;var a4144: i;var a4145: i;var a4146: i;var a4147: i;var a4148: i;var a4149: i;var a4150: i;var a4151: i;var a4152: i;var a4153: i;var a4154: i;var a4155: i;var a4156: i;var a4157: i;var a4158: i;var a4159: i;var a4160: i;var a4161: i;var a4162: i;var a4163: i;var a4164: i;var a4165: i;var a4166: i;var a4167: i;var a4168: i;var a4169: i;var a4170: i;var a4171: i;var a4172: i;var a4173: i;var a4174: i;var a4175: i;var a4176: i;var a4177: i;var a4178: i;var a4179: i;var a4180: i;var a4181: i;var a4182: i;var a4183: i;var a4184: i;var a4185: i;var a4186: i;var a4187: i;var a4188: i;var a4189: i;var a4190: i;var a4191: i;var a4192: i;var a4193: i;var a4194: i;var a4195: i;var a4196: i;var a4197: i;var a4198: i;var a4199: i;var a4200: i;var a4201: i;var a4202: i;var a4203: i;var a4204: i;var a4205: i;var a4206: i;var a4207: i;var a4208: i;var a4209: i;var a4210: i;var a4211: i;var a4212: i;var a4213: i;var a4214: i;var a4215: i;var a4216: i;var a4217: i;var a4218: i;var a4219: i;var a4220: i;var a4221: i;var a4222: i;var a4223: i;var a4224: i;var a4225: i;var a4226: i;var a4227: i;var a4228: i;var a4229: i;var a4230: i;var a4231: i;var a4232: i;var a4233: i;var a4234: i;var a4235: i;var a4236: i;var a4237: i;var a4238: i;var a4239: i;var a4240: i;var a4241: i;var a4242: i;var a4243: i;var a4244: i;var a4245: i;var a4246: i;var a4247: i;var a4248: i;var a4249: i;var a4250: i;var a4251: i;var a4252: i;var a4253: i;var a4254: i;var a4255: i;var a4256: i;var a4257: i;var a4258: i;var a4259: i;var a4260: i;var a4261: i;var a4262: i;var a4263: i;var a4264: i;var a4265: i;var a4266: i;var a4267: i;var a4268: i;var a4269: i;var a4270: i;var a4271: i;var a4272: i;var a4273: i;var a4274: i;var a4275: i;var a4276: i;var a4277: i;var a4278: i;var a4279: i;var a4280: i;var a4281: i;var a4282: i;var a4283: i;var a4284: i;var a4285: i;var a4286: i;var a4287: i;var a4288: i;var a4289: i;var a4290: i;var a4291: i;var a4292: i;var a4293: i;var a4294: i;var a4295: i;var a4296: i;var a4297: i;var a4298: i;var a4299: i;var a4300: i;var a4301: i;var a4302: i;var a4303: i;var a4304: i;var a4305: i;var a4306: i;var a4307: i;var a4308: i;var a4309: i;var a4310: i;var a4311: i;var a4312: i;var a4313: i;var a4314: i;var a4315: i;var a4316: i;var a4317: i;var a4318: i;var a4319: i;var a4320: i;var a4321: i;var a4322: i;var a4323: i;var a4324: i;var a4325: i;var a4326: i;var a4327: i;var a4328: i;var a4329: i;var a4330: i;var a4331: i;var a4332: i;var a4333: i;var a4334: i;var a4335: i;var a4336: i;var a4337: i;var a4338: i;var a4339: i;var a4340: i;var a4341: i;var a4342: i;var a4343: i;var a4344: i;var a4345: i;var a4346: i;var a4347: i;var a4348: i;var a4349: i;var a4350: i;var a4351: i;var a4352: i;var a4353: i;var a4354: i;var a4355: i;var a4356: i;var a4357: i;var a4358: i;var a4359: i;var a4360: i;var a4361: i;var a4362: i;var a4363: i;var a4364: i;var a4365: i;var a4366: i;var a4367: i;var a4368: i;var a4369: i;var a4370: i;var a4371: i;var a4372: i;var a4373: i;var a4374: i;var a4375: i;var a4376: i;var a4377: i;var a4378: i;var a4379: i;var a4380: i;var a4381: i;var a4382: i;var a4383: i;var a4384: i;var a4385: i;var a4386: i;var a4387: i;var a4388: i;var a4389: i;var a4390: i;var a4391: i;var a4392: i;var a4393: i;var a4394: i;var a4395: i;var a4396: i;var a4397: i;var a4398: i;var a4399: i;var a4400: i;var a4401: i;var a4402: i;var a4403: i;var a4404: i;var a4405: i;var a4406: i;var a4407: i;var a4408: i;var a4409: i;var a4410: i;var a4411: i;var a4412: i;var a4413: i;var a4414: i;var a4415: i;var a4416: i;var a4417: i;var a4418: i;var a4419: i;var a4420: i;var a4421: i;var a4422: i;var a4423: i;var a4424: i;var a4425: i;var a4426: i;var a4427: i;var a4428: i;var a4429: i;var a4430: i;var a4431: i;var a4432: i;var a4433: i;var a4434: i;var a4435: i;var a4436: i;var a4437: i;var a4438: i;var a4439: i;var a4440: i;var a4441: i;var a4442: i;var a4443: i;var a4444: i;var a4445: i;var a4446: i;var a4447: i;var a4448: i;var a4449: i;var a4450: i;var a4451: i;var a4452: i;var a4453: i;var a4454: i;var a4455: i;var a4456: i;var a4457: i;var a4458: i;var a4459: i;var a4460: i;var a4461: i;var a4462: i;var a4463: i;var a4464: i;var a4465: i;var a4466: i;var a4467: i;var a4468: i;var a4469: i;var a4470: i;var a4471: i;var a4472: i;var a4473: i;var a4474: i;var a4475: i;var a4476: i;var a4477: i;var a4478: i;var a4479: i;var a4480: i;var a4481: i;var a4482: i;var a4483: i;var a4484: i;var a4485: i;var a4486: i;var a4487: i;var a4488: i;var a4489: i;var a4490: i;var a4491: i;var a4492: i;var a4493: i;var a4494: i;var a4495: i;var a4496: i;var a4497: i;var a4498: i;var a4499: i;var a4500: i;var a4501: i;var a4502: i;var a4503: i;var a4504: i;var a4505: i;var a4506: i;var a4507: i;var a4508: i;var a4509: i;var a4510: i;var a4511: i;var a4512: i;var a4513: i;var a4514: i;var a4515: i;var a4516: i;var a4517: i;var a4518: i;var a4519: i;var a4520: i;var a4521: i;var a4522: i;var a4523: i;var a4524: i;var a4525: i;var a4526: i;var a4527: i;var a4528: i;var a4529: i;var a4530: i;var a4531: i;var a4532: i;var a4533: i;var a4534: i;var a4535: i;var a4536: i;var a4537: i;var a4538: i;var a4539: i;var a4540: i;var a4541: i;var a4542: i;var a4543: i;var a4544: i;var a4545: i;var a4546: i;var a4547: i;var a4548: i;var a4549: i;var a4550: i;var a4551: i;var a4552: i;var a4553: i;var a4554: i;var a4555: i;var a4556: i;var a4557: i;var a4558: i;var a4559: i;var a4560: i;var a4561: i;var a4562: i;var a4563: i;var a4564: i;var a4565: i;var a4566: i;var a4567: i;var a4568: i;var a4569: i;var a4570: i;var a4571: i;var a4572: i;var a4573: i;var a4574: i;var a4575: i;var a4576: i;var a4577: i;var a4578: i;var a4579: i;var a4580: i;var a4581: i;var a4582: i;var a4583: i;var a4584: i;var a4585: i;var a4586: i;var a4587: i;var a4588: i;var a4589: i;var a4590: i;var a4591: i;var a4592: i;var a4593: i;var a4594: i;var a4595: i;var a4596: i;var a4597: i;var a4598: i;var a4599: i;var a4600: i;var a4601: i;var a4602: i;var a4603: i;var a4604: i;var a4605: i;var a4606: i;var a4607: i;var a4608: i;var a4609: i;var a4610: i;var a4611: i;var a4612: i;var a4613: i;var a4614: i;var a4615: i;var a4616: i;var a4617: i;var a4618: i;var a4619: i;var a4620: i;var a4621: i;var a4622: i;var a4623: i;var a4624: i;var a4625: i;var a4626: i;var a4627: i;var a4628: i;var a4629: i;var a4630: i;var a4631: i;var a4632: i;var a4633: i;var a4634: i;var a4635: i;var a4636: i;var a4637: i;var a4638: i;var a4639: i;var a4640: i;var a4641: i;var a4642: i;var a4643: i;var a4644: i;var a4645: i;var a4646: i;var a4647: i;var a4648: i;var a4649: i;var a4650: i;var a4651: i;var a4652: i;var a4653: i;var a4654: i;var a4655: i;var a4656: i;var a4657: i;var a4658: i;var a4659: i;var a4660: i;var a4661: i;var a4662: i;var a4663: i;var a4664: i;var a4665: i;var a4666: i;var a4667: i;var a4668: i;var a4669: i;var a4670: i;var a4671: i;var a4672: i;var a4673: i;var a4674: i;var a4675: i;var a4676: i;var a4677: i;var a4678: i;var a4679: i;var a4680: i;var a4681: i;var a4682: i;var a4683: i;var a4684: i;var a4685: i;var a4686: i;var a4687: i;var a4688: i;var a4689: i;var a4690: i;var a4691: i;var a4692: i;var a4693: i;var a4694: i;var a4695: i;var a4696: i;var a4697: i;var a4698: i;var a4699: i;var a4700: i;var a4701: i;var a4702: i;var a4703: i;var a4704: i;var a4705: i;var a4706: i;var a4707: i;var a4708: i;var a4709: i;var a4710: i;var a4711: i;var a4712: i;var a4713: i;var a4714: i;var a4715: i;var a4716: i;var a4717: i;var a4718: i;var a4719: i;var a4720: i;var a4721: i;var a4722: i;var a4723: i;var a4724: i;var a4725: i;var a4726: i;var a4727: i;var a4728: i;var a4729: i;var a4730: i;var a4731: i;var a4732: i;var a4733: i;var a4734: i;var a4735: i;var a4736: i;var a4737: i;var a4738: i;var a4739: i;var a4740: i;var a4741: i;var a4742: i;var a4743: i;var a4744: i;var a4745: i;var a4746: i;var a4747: i;var a4748: i;var a4749: i;var a4750: i;var a4751: i;var a4752: i;var a4753: i;var a4754: i;var a4755: i;var a4756: i;var a4757: i;var a4758: i;var a4759: i;var a4760: i;var a4761: i;var a4762: i;var a4763: i;var a4764: i;var a4765: i;var a4766: i;var a4767: i;var a4768: i;var a4769: i;var a4770: i;var a4771: i;var a4772: i;var a4773: i;var a4774: i;var a4775: i;var a4776: i;var a4777: i;var a4778: i;var a4779: i;var a4780: i;var a4781: i;var a4782: i;var a4783: i;var a4784: i;var a4785: i;var a4786: i;var a4787: i;var a4788: i;var a4789: i;var a4790: i;var a4791: i;var a4792: i;var a4793: i;var a4794: i;var a4795: i;var a4796: i;var a4797: i;var a4798: i;var a4799: i;var a4800: i;var a4801: i;var a4802: i;var a4803: i;var a4804: i;var a4805: i;var a4806: i;var a4807: i;var a4808: i;var a4809: i;var a4810: i;var a4811: i;var a4812: i;var a4813: i;var a4814: i;var a4815: i;var a4816: i;var a4817: i;var a4818: i;var a4819: i;var a4820: i;var a4821: i;var a4822: i;var a4823: i;var a4824: i;var a4825: i;var a4826: i;var a4827: i;var a4828: i;var a4829: i;var a4830: i;var a4831: i;var a4832: i;var a4833: i;var a4834: i;var a4835: i;var a4836: i;var a4837: i;var a4838: i;var a4839: i;var a4840: i;var a4841: i;var a4842: i;var a4843: i;var a4844: i;var a4845: i;var a4846: i;var a4847: i;var a4848: i;var a4849: i;var a4850: i;var a4851: i;var a4852: i;var a4853: i;var a4854: i;var a4855: i;var a4856: i;var a4857: i;var a4858: i;var a4859: i;var a4860: i;var a4861: i;var a4862: i;var a4863: i;var a4864: i;var a4865: i;var a4866: i;var a4867: i;var a4868: i;var a4869: i;var a4870: i;var a4871: i;var a4872: i;var a4873: i;var a4874: i;var a4875: i;var a4876: i;var a4877: i;var a4878: i;var a4879: i;var a4880: i;var a4881: i;var a4882: i;var a4883: i;var a4884: i;var a4885: i;var a4886: i;var a4887: i;var a4888: i;var a4889: i;var a4890: i;var a4891: i;var a4892: i;var a4893: i;var a4894: i;var a4895: i;var a4896: i;var a4897: i;var a4898: i;var a4899: i;var a4900: i;var a4901: i;var a4902: i;var a4903: i;var a4904: i;var a4905: i;var a4906: i;var a4907: i;var a4908: i;var a4909: i;var a4910: i;var a4911: i;var a4912: i;var a4913: i;var a4914: i;var a4915: i;var a4916: i;var a4917: i;var a4918: i;var a4919: i;var a4920: i;var a4921: i;var a4922: i;var a4923: i;var a4924: i;var a4925: i;var a4926: i;var a4927: i;var a4928: i;var a4929: i;var a4930: i;var a4931: i;var a4932: i;var a4933: i;var a4934: i;var a4935: i;var a4936: i;var a4937: i;var a4938: i;var a4939: i;var a4940: i;var a4941: i;var a4942: i;var a4943: i;var a4944: i;var a4945: i;var a4946: i;var a4947: i;var a4948: i;var a4949: i;var a4950: i;var a4951: i;var a4952: i;var a4953: i;var a4954: i;var a4955: i;var a4956: i;var a4957: i;var a4958: i;var a4959: i;var a4960: i;var a4961: i;var a4962: i;var a4963: i;var a4964: i;var a4965: i;var a4966: i;var a4967: i;var a4968: i;var a4969: i;var a4970: i;var a4971: i;var a4972: i;var a4973: i;var a4974: i;var a4975: i;var a4976: i;var a4977: i;var a4978: i;var a4979: i;var a4980: i;var a4981: i;var a4982: i;var a4983: i;var a4984: i;var a4985: i;var a4986: i;var a4987: i;var a4988: i;var a4989: i;var a4990: i;var a4991: i;var a4992: i;var a4993: i;var a4994: i;var a4995: i;var a4996: i;var a4997: i;var a4998: i;var a4999: i;var a5000: i;var a5001: i;var a5002: i;var a5003: i;var a5004: i;var a5005: i;var a5006: i;var a5007: i;var a5008: i;var a5009: i;var a5010: i;var a5011: i;var a5012: i;var a5013: i;var a5014: i;var a5015: i;var a5016: i;var a5017: i;var a5018: i;var a5019: i;var a5020: i;var a5021: i;var a5022: i;var a5023: i;var a5024: i;var a5025: i;var a5026: i;var a5027: i;var a5028: i;var a5029: i;var a5030: i;var a5031: i;var a5032: i;var a5033: i;var a5034: i;var a5035: i;var a5036: i;var a5037: i;var a5038: i;var a5039: i;var a5040: i;var a5041: i;var a5042: i;var a5043: i;var a5044: i;var a5045: i;var a5046: i;var a5047: i;var a5048: i;var a5049: i;var a5050: i;var a5051: i;var a5052: i;var a5053: i;var a5054: i;var a5055: i;var a5056: i;var a5057: i;var a5058: i;var a5059: i;var a5060: i;var a5061: i;var a5062: i;var a5063: i;var a5064: i;var a5065: i;var a5066: i;var a5067: i;var a5068: i;var a5069: i;var a5070: i;var a5071: i;var a5072: i;var a5073: i;var a5074: i;var a5075: i;var a5076: i;var a5077: i;var a5078: i;var a5079: i;var a5080: i;var a5081: i;var a5082: i;var a5083: i;var a5084: i;var a5085: i;var a5086: i;var a5087: i;var a5088: i;var a5089: i;var a5090: i;var a5091: i;var a5092: i;var a5093: i;var a5094: i;var a5095: i;var a5096: i;var a5097: i;var a5098: i;var a5099: i;var a5100: i;var a5101: i;var a5102: i;var a5103: i;var a5104: i;var a5105: i;var a5106: i;var a5107: i;var a5108: i;var a5109: i;var a5110: i;var a5111: i;var a5112: i;var a5113: i;var a5114: i;var a5115: i;var a5116: i;var a5117: i;var a5118: i;var a5119: i;var a5120: i;var a5121: i;var a5122: i;var a5123: i;var a5124: i;var a5125: i;var a5126: i;var a5127: i;var a5128: i;var a5129: i;var a5130: i;var a5131: i;var a5132: i;var a5133: i;var a5134: i;var a5135: i;var a5136: i;var a5137: i;var a5138: i;var a5139: i;var a5140: i;var a5141: i;var a5142: i;var a5143: i;var a5144: i;var a5145: i;var a5146: i;var a5147: i;var a5148: i;var a5149: i;var a5150: i;var a5151: i;var a5152: i;var a5153: i;var a5154: i;var a5155: i;var a5156: i;var a5157: i;var a5158: i;var a5159: i;var a5160: i;var a5161: i;var a5162: i;var a5163: i;var a5164: i;var a5165: i;var a5166: i;var a5167: i;var a5168: i;var a5169: i;var a5170: i;var a5171: i;var a5172: i;var a5173: i;var a5174: i;var a5175: i;var a5176: i;var a5177: i;var a5178: i;var a5179: i;var a5180: i;var a5181: i;var a5182: i;var a5183: i;var a5184: i;var a5185: i;var a5186: i;var a5187: i;var a5188: i;var a5189: i;var a5190: i;var a5191: i;var a5192: i;var a5193: i;var a5194: i;var a5195: i;var a5196: i;var a5197: i;var a5198: i;var a5199: i;var a5200: i;var a5201: i;var a5202: i;var a5203: i;var a5204: i;var a5205: i;var a5206: i;var a5207: i;var a5208: i;var a5209: i;var a5210: i;var a5211: i;var a5212: i;var a5213: i;var a5214: i;var a5215: i;var a5216: i;var a5217: i;var a5218: i;var a5219: i;var a5220: i;var a5221: i;var a5222: i;var a5223: i;var a5224: i;var a5225: i;var a5226: i;var a5227: i;var a5228: i;var a5229: i;var a5230: i;var a5231: i;var a5232: i;var a5233: i;var a5234: i;var a5235: i;var a5236: i;var a5237: i;var a5238: i;var a5239: i;var a5240: i;var a5241: i;var a5242: i;var a5243: i;var a5244: i;var a5245: i;var a5246: i;var a5247: i;var a5248: i;var a5249: i;var a5250: i;var a5251: i;var a5252: i;var a5253: i;var a5254: i;var a5255: i;var a5256: i;var a5257: i;var a5258: i;var a5259: i;var a5260: i;var a5261: i;var a5262: i;var a5263: i;var a5264: i;var a5265: i;var a5266: i;var a5267: i;var a5268: i;var a5269: i;var a5270: i;var a5271: i;var a5272: i;var a5273: i;var a5274: i;var a5275: i;var a5276: i;var a5277: i;var a5278: i;var a5279: i;var a5280: i;var a5281: i;var a5282: i;var a5283: i;var a5284: i;var a5285: i;var a5286: i;var a5287: i;var a5288: i;var a5289: i;var a5290: i;var a5291: i;var a5292: i;var a5293: i;var a5294: i;var a5295: i;var a5296: i;var a5297: i;var a5298: i;var a5299: i;var a5300: i;var a5301: i;var a5302: i;var a5303: i;var a5304: i;var a5305: i;var a5306: i;var a5307: i;var a5308: i;var a5309: i;var a5310: i;var a5311: i;var a5312: i;var a5313: i;var a5314: i;var a5315: i;var a5316: i;var a5317: i;var a5318: i;var a5319: i;var a5320: i;var a5321: i;var a5322: i;var a5323: i;var a5324: i;var a5325: i;var a5326: i;var a5327: i;var a5328: i;var a5329: i;var a5330: i;var a5331: i;var a5332: i;var a5333: i;var a5334: i;var a5335: i;var a5336: i;var a5337: i;var a5338: i;var a5339: i;var a5340: i;var a5341: i;var a5342: i;var a5343: i;var a5344: i;var a5345: i;var a5346: i;var a5347: i;var a5348: i;var a5349: i;var a5350: i;var a5351: i;var a5352: i;var a5353: i;var a5354: i;var a5355: i;var a5356: i;var a5357: i;var a5358: i;var a5359: i;var a5360: i;var a5361: i;var a5362: i;var a5363: i;var a5364: i;var a5365: i;var a5366: i;var a5367: i;var a5368: i;var a5369: i;var a5370: i;var a5371: i;var a5372: i;var a5373: i;var a5374: i;var a5375: i;var a5376: i;var a5377: i;var a5378: i;var a5379: i;var a5380: i;var a5381: i;var a5382: i;var a5383: i;var a5384: i;var a5385: i;var a5386: i;var a5387: i;var a5388: i;var a5389: i;var a5390: i;var a5391: i;var a5392: i;var a5393: i;var a5394: i;var a5395: i;var a5396: i;var a5397: i;var a5398: i;var a5399: i;var a5400: i;var a5401: i;var a5402: i;var a5403: i;var a5404: i;var a5405: i;var a5406: i;var a5407: i;var a5408: i;var a5409: i;var a5410: i;var a5411: i;var a5412: i;var a5413: i;var a5414: i;var a5415: i;var a5416: i;var a5417: i;var a5418: i;var a5419: i;var a5420: i;var a5421: i;var a5422: i;var a5423: i;var a5424: i;var a5425: i;var a5426: i;var a5427: i;var a5428: i;var a5429: i;var a5430: i;var a5431: i;var a5432: i;var a5433: i;var a5434: i;var a5435: i;var a5436: i;var a5437: i;var a5438: i;var a5439: i;var a5440: i;var a5441: i;var a5442: i;var a5443: i;var a5444: i;var a5445: i;var a5446: i;var a5447: i;var a5448: i;var a5449: i;var a5450: i;var a5451: i;var a5452: i;var a5453: i;var a5454: i;var a5455: i;var a5456: i;var a5457: i;var a5458: i;var a5459: i;var a5460: i;var a5461: i;var a5462: i;var a5463: i;var a5464: i;var a5465: i;var a5466: i;var a5467: i;var a5468: i;var a5469: i;var a5470: i;var a5471: i;var a5472: i;var a5473: i;var a5474: i;var a5475: i;var a5476: i;var a5477: i;var a5478: i;var a5479: i;var a5480: i;var a5481: i;var a5482: i;var a5483: i;var a5484: i;var a5485: i;var a5486: i;var a5487: i;var a5488: i;var a5489: i;var a5490: i;var a5491: i;var a5492: i;var a5493: i;var a5494: i;var a5495: i;var a5496: i;var a5497: i;var a5498: i;var a5499: i;var a5500: i;var a5501: i;var a5502: i;var a5503: i;var a5504: i;var a5505: i;var a5506: i;var a5507: i;var a5508: i;var a5509: i;var a5510: i;var a5511: i;var a5512: i;var a5513: i;var a5514: i;var a5515: i;var a5516: i;var a5517: i;var a5518: i;var a5519: i;var a5520: i;var a5521: i;var a5522: i;var a5523: i;var a5524: i;var a5525: i;var a5526: i;var a5527: i;var a5528: i;var a5529: i;var a5530: i;var a5531: i;var a5532: i;var a5533: i;var a5534: i;var a5535: i;var a5536: i;var a5537: i;var a5538: i;var a5539: i;var a5540: i;var a5541: i;var a5542: i;var a5543: i;var a5544: i;var a5545: i;var a5546: i;var a5547: i;var a5548: i;var a5549: i;var a5550: i;var a5551: i;var a5552: i;var a5553: i;var a5554: i;var a5555: i;var a5556: i;var a5557: i;var a5558: i;var a5559: i;var a5560: i;var a5561: i;var a5562: i;var a5563: i;var a5564: i;var a5565: i;var a5566: i;var a5567: i;var a5568: i;var a5569: i;var a5570: i;var a5571: i;var a5572: i;var a5573: i;var a5574: i;var a5575: i;var a5576: i;var a5577: i;var a5578: i;var a5579: i;var a5580: i;var a5581: i;var a5582: i;var a5583: i;var a5584: i;var a5585: i;var a5586: i;var a5587: i;var a5588: i;var a5589: i;var a5590: i;var a5591: i;var a5592: i;var a5593: i;var a5594: i;var a5595: i;var a5596: i;var a5597: i;var a5598: i;var a5599: i;var a5600: i;var a5601: i;var a5602: i;var a5603: i;var a5604: i;var a5605: i;var a5606: i;var a5607: i;var a5608: i;var a5609: i;var a5610: i;var a5611: i;var a5612: i;var a5613: i;var a5614: i;var a5615: i;var a5616: i;var a5617: i;var a5618: i;var a5619: i;var a5620: i;var a5621: i;var a5622: i;var a5623: i;var a5624: i;var a5625: i;var a5626: i;var a5627: i;var a5628: i;var a5629: i;var a5630: i;var a5631: i;var a5632: i;var a5633: i;var a5634: i;var a5635: i;var a5636: i;var a5637: i;var a5638: i;var a5639: i;var a5640: i;var a5641: i;var a5642: i;var a5643: i;var a5644: i;var a5645: i;var a5646: i;var a5647: i;var a5648: i;var a5649: i;var a5650: i;var a5651: i;var a5652: i;var a5653: i;var a5654: i;var a5655: i;var a5656: i;var a5657: i;var a5658: i;var a5659: i;var a5660: i;var a5661: i;var a5662: i;var a5663: i;var a5664: i;var a5665: i;var a5666: i;var a5667: i;var a5668: i;var a5669: i;var a5670: i;var a5671: i;var a5672: i;var a5673: i;var a5674: i;var a5675: i;var a5676: i;var a5677: i;var a5678: i;var a5679: i;var a5680: i;var a5681: i;var a5682: i;var a5683: i;var a5684: i;var a5685: i;var a5686: i;var a5687: i;var a5688: i;var a5689: i;var a5690: i;var a5691: i;var a5692: i;var a5693: i;var a5694: i;var a5695: i;var a5696: i;var a5697: i;var a5698: i;var a5699: i;var a5700: i;var a5701: i;var a5702: i;var a5703: i;var a5704: i;var a5705: i;var a5706: i;var a5707: i;var a5708: i;var a5709: i;var a5710: i;var a5711: i;var a5712: i;var a5713: i;var a5714: i;var a5715: i;var a5716: i;var a5717: i;var a5718: i;var a5719: i;var a5720: i;var a5721: i;var a5722: i;var a5723: i;var a5724: i;var a5725: i;var a5726: i;var a5727: i;var a5728: i;var a5729: i;var a5730: i;var a5731: i;var a5732: i;var a5733: i;var a5734: i;var a5735: i;var a5736: i;var a5737: i;var a5738: i;var a5739: i;var a5740: i;var a5741: i;var a5742: i;var a5743: i;var a5744: i;var a5745: i;var a5746: i;var a5747: i;var a5748: i;var a5749: i;var a5750: i;var a5751: i;var a5752: i;var a5753: i;var a5754: i;var a5755: i;var a5756: i;var a5757: i;var a5758: i;var a5759: i;var a5760: i;var a5761: i;var a5762: i;var a5763: i;var a5764: i;var a5765: i;var a5766: i;var a5767: i;var a5768: i;var a5769: i;var a5770: i;var a5771: i;var a5772: i;var a5773: i;var a5774: i;var a5775: i;var a5776: i;var a5777: i;var a5778: i;var a5779: i;var a5780: i;var a5781: i;var a5782: i;var a5783: i;var a5784: i;var a5785: i;var a5786: i;var a5787: i;var a5788: i;var a5789: i;var a5790: i;var a5791: i;var a5792: i;var a5793: i;var a5794: i;var a5795: i;var a5796: i;var a5797: i;var a5798: i;var a5799: i;var a5800: i;var a5801: i;var a5802: i;var a5803: i;var a5804: i;var a5805: i;var a5806: i;var a5807: i;var a5808: i;var a5809: i;var a5810: i;var a5811: i;var a5812: i;var a5813: i;var a5814: i;var a5815: i;var a5816: i;var a5817: i;var a5818: i;var a5819: i;var a5820: i;var a5821: i;var a5822: i;var a5823: i;var a5824: i;var a5825: i;var a5826: i;var a5827: i;var a5828: i;var a5829: i;var a5830: i;var a5831: i;var a5832: i;var a5833: i;var a5834: i;var a5835: i;var a5836: i;var a5837: i;var a5838: i;var a5839: i;var a5840: i;var a5841: i;var a5842: i;var a5843: i;var a5844: i;var a5845: i;var a5846: i;var a5847: i;var a5848: i;var a5849: i;var a5850: i;var a5851: i;var a5852: i;var a5853: i;var a5854: i;var a5855: i;var a5856: i;var a5857: i;var a5858: i;var a5859: i;var a5860: i;var a5861: i;var a5862: i;var a5863: i;var a5864: i;var a5865: i;var a5866: i;var a5867: i;var a5868: i;var a5869: i;var a5870: i;var a5871: i;var a5872: i;var a5873: i;var a5874: i;var a5875: i;var a5876: i;var a5877: i;var a5878: i;var a5879: i;var a5880: i;var a5881: i;var a5882: i;var a5883: i;var a5884: i;var a5885: i;var a5886: i;var a5887: i;var a5888: i;var a5889: i;var a5890: i;var a5891: i;var a5892: i;var a5893: i;var a5894: i;var a5895: i;var a5896: i;var a5897: i;var a5898: i;var a5899: i;var a5900: i;var a5901: i;var a5902: i;var a5903: i;var a5904: i;var a5905: i;var a5906: i;var a5907: i;var a5908: i;var a5909: i;var a5910: i;var a5911: i;var a5912: i;var a5913: i;var a5914: i;var a5915: i;var a5916: i;var a5917: i;var a5918: i;var a5919: i;var a5920: i;var a5921: i;var a5922: i;var a5923: i;var a5924: i;var a5925: i;var a5926: i;var a5927: i;var a5928: i;var a5929: i;var a5930: i;var a5931: i;var a5932: i;var a5933: i;var a5934: i;var a5935: i;var a5936: i;var a5937: i;var a5938: i;var a5939: i;var a5940: i;var a5941: i;var a5942: i;var a5943: i;var a5944: i;var a5945: i;var a5946: i;var a5947: i;var a5948: i;var a5949: i;var a5950: i;var a5951: i;var a5952: i;var a5953: i;var a5954: i;var a5955: i;var a5956: i;var a5957: i;var a5958: i;var a5959: i;var a5960: i;var a5961: i;var a5962: i;var a5963: i;var a5964: i;var a5965: i;var a5966: i;var a5967: i;var a5968: i;var a5969: i;var a5970: i;var a5971: i;var a5972: i;var a5973: i;var a5974: i;var a5975: i;var a5976: i;var a5977: i;var a5978: i;var a5979: i;var a5980: i;var a5981: i;var a5982: i;var a5983: i;var a5984: i;var a5985: i;var a5986: i;var a5987: i;var a5988: i;var a5989: i;var a5990: i;var a5991: i;var a5992: i;var a5993: i;var a5994: i;var a5995: i;var a5996: i;var a5997: i;var a5998: i;var a5999: i;var a6000: i;var a6001: i;var a6002: i;var a6003: i;var a6004: i;var a6005: i;var a6006: i;var a6007: i;var a6008: i;var a6009: i;var a6010: i;var a6011: i;var a6012: i;var a6013: i;var a6014: i;var a6015: i;var a6016: i;var a6017: i;var a6018: i;var a6019: i;var a6020: i;var a6021: i;var a6022: i;var a6023: i;var a6024: i;var a6025: i;var a6026: i;var a6027: i;var a6028: i;var a6029: i;var a6030: i;var a6031: i;var a6032: i;var a6033: i;var a6034: i;var a6035: i;var a6036: i;var a6037: i;var a6038: i;var a6039: i;var a6040: i;var a6041: i;var a6042: i;var a6043: i;var a6044: i;var a6045: i;var a6046: i;var a6047: i;var a6048: i;var a6049: i;var a6050: i;var a6051: i;var a6052: i;var a6053: i;var a6054: i;var a6055: i;var a6056: i;var a6057: i;var a6058: i;var a6059: i;var a6060: i;var a6061: i;var a6062: i;var a6063: i;var a6064: i;var a6065: i;var a6066: i;var a6067: i;var a6068: i;var a6069: i;var a6070: i;var a6071: i;var a6072: i;var a6073: i;var a6074: i;var a6075: i;var a6076: i;var a6077: i;var a6078: i;var a6079: i;var a6080: i;var a6081: i;var a6082: i;var a6083: i;var a6084: i;var a6085: i;var a6086: i;var a6087: i;var a6088: i;var a6089: i;var a6090: i;var a6091: i;var a6092: i;var a6093: i;var a6094: i;var a6095: i;var a6096: i;var a6097: i;var a6098: i;var a6099: i;var a6100: i;var a6101: i;var a6102: i;var a6103: i;var a6104: i;var a6105: i;var a6106: i;var a6107: i;var a6108: i;var a6109: i;var a6110: i;var a6111: i;var a6112: i;var a6113: i;var a6114: i;var a6115: i;var a6116: i;var a6117: i;var a6118: i;var a6119: i;var a6120: i;var a6121: i;var a6122: i;var a6123: i;var a6124: i;var a6125: i;var a6126: i;var a6127: i;var a6128: i;var a6129: i;var a6130: i;var a6131: i;var a6132: i;var a6133: i;var a6134: i;var a6135: i;var a6136: i;var a6137: i;var a6138: i;var a6139: i;var a6140: i;var a6141: i;var a6142: i;var a6143: i;var a6144: i;var a6145: i;var a6146: i;var a6147: i;var a6148: i;var a6149: i;var a6150: i;var a6151: i;var a6152: i;var a6153: i;var a6154: i;var a6155: i;var a6156: i;var a6157: i;var a6158: i;var a6159: i;var a6160: i;var a6161: i;var a6162: i;var a6163: i;var a6164: i;var a6165: i;var a6166: i;var a6167: i;var a6168: i;var a6169: i;var a6170: i;var a6171: i;var a6172: i;var a6173: i;var a6174: i;var a6175: i;var a6176: i;var a6177: i;var a6178: i;var a6179: i;var a6180: i;var a6181: i;var a6182: i;var a6183: i;var a6184: i;var a6185: i;var a6186: i;var a6187: i;var a6188: i;var a6189: i;var a6190: i;var a6191: i;var a6192: i;var a6193: i;var a6194: i;var a6195: i;var a6196: i;var a6197: i;var a6198: i;var a6199: i;var a6200: i;var a6201: i;var a6202: i;var a6203: i;var a6204: i;var a6205: i;var a6206: i;var a6207: i;var a6208: i;var a6209: i;var a6210: i;var a6211: i;var a6212: i;var a6213: i;var a6214: i;var a6215: i;var a6216: i;var a6217: i;var a6218: i;var a6219: i;var a6220: i;var a6221: i;var a6222: i;var a6223: i;var a6224: i;var a6225: i;var a6226: i;var a6227: i;var a6228: i;var a6229: i;var a6230: i;var a6231: i;var a6232: i;var a6233: i;var a6234: i;var a6235: i;var a6236: i;var a6237: i;var a6238: i;var a6239: i;var a6240: i;var a6241: i;var a6242: i;var a6243: i;var a6244: i;var a6245: i;var a6246: i;var a6247: i;var a6248: i;var a6249: i;var a6250: i;var a6251: i;var a6252: i;var a6253: i;var a6254: i;var a6255: i;var a6256: i;var a6257: i;var a6258: i;var a6259: i;var a6260: i;var a6261: i;var a6262: i;var a6263: i;var a6264: i;var a6265: i;var a6266: i;var a6267: i;var a6268: i;var a6269: i;var a6270: i;var a6271: i;var a6272: i;var a6273: i;var a6274: i;var a6275: i;var a6276: i;var a6277: i;var a6278: i;var a6279: i;var a6280: i;var a6281: i;var a6282: i;var a6283: i;var a6284: i;var a6285: i;var a6286: i;var a6287: i;var a6288: i;var a6289: i;var a6290: i;var a6291: i;var a6292: i;var a6293: i;var a6294: i;var a6295: i;var a6296: i;var a6297: i;var a6298: i;var a6299: i;var a6300: i;var a6301: i;var a6302: i;var a6303: i;var a6304: i;var a6305: i;var a6306: i;var a6307: i;var a6308: i;var a6309: i;var a6310: i;var a6311: i;var a6312: i;var a6313: i;var a6314: i;var a6315: i;var a6316: i;var a6317: i;var a6318: i;var a6319: i;var a6320: i;var a6321: i;var a6322: i;var a6323: i;var a6324: i;var a6325: i;var a6326: i;var a6327: i;var a6328: i;var a6329: i;var a6330: i;var a6331: i;var a6332: i;var a6333: i;var a6334: i;var a6335: i;var a6336: i;var a6337: i;var a6338: i;var a6339: i;var a6340: i;var a6341: i;var a6342: i;var a6343: i;var a6344: i;var a6345: i;var a6346: i;var a6347: i;var a6348: i;var a6349: i;var a6350: i;var a6351: i;var a6352: i;var a6353: i;var a6354: i;var a6355: i;var a6356: i;var a6357: i;var a6358: i;var a6359: i;var a6360: i;var a6361: i;var a6362: i;var a6363: i;var a6364: i;var a6365: i;var a6366: i;var a6367: i;var a6368: i;var a6369: i;var a6370: i;var a6371: i;var a6372: i;var a6373: i;var a6374: i;var a6375: i;var a6376: i;var a6377: i;var a6378: i;var a6379: i;var a6380: i;var a6381: i;var a6382: i;var a6383: i;var a6384: i;var a6385: i;var a6386: i;var a6387: i;var a6388: i;var a6389: i;var a6390: i;var a6391: i;var a6392: i;var a6393: i;var a6394: i;var a6395: i;var a6396: i;var a6397: i;var a6398: i;var a6399: i;var a6400: i;var a6401: i;var a6402: i;var a6403: i;var a6404: i;var a6405: i;var a6406: i;var a6407: i;var a6408: i;var a6409: i;var a6410: i;var a6411: i;var a6412: i;var a6413: i;var a6414: i;var a6415: i;var a6416: i;var a6417: i;var a6418: i;var a6419: i;var a6420: i;var a6421: i;var a6422: i;var a6423: i;var a6424: i;var a6425: i;var a6426: i;var a6427: i;var a6428: i;var a6429: i;var a6430: i;var a6431: i;var a6432: i;var a6433: i;var a6434: i;var a6435: i;var a6436: i;var a6437: i;var a6438: i;var a6439: i;var a6440: i;var a6441: i;var a6442: i;var a6443: i;var a6444: i;var a6445: i;var a6446: i;var a6447: i;var a6448: i;var a6449: i;var a6450: i;var a6451: i;var a6452: i;var a6453: i;var a6454: i;var a6455: i;var a6456: i;var a6457: i;var a6458: i;var a6459: i;var a6460: i;var a6461: i;var a6462: i;var a6463: i;var a6464: i;var a6465: i;var a6466: i;var a6467: i;var a6468: i;var a6469: i;var a6470: i;var a6471: i;var a6472: i;var a6473: i;var a6474: i;var a6475: i;var a6476: i;var a6477: i;var a6478: i;var a6479: i;var a6480: i;var a6481: i;var a6482: i;var a6483: i;var a6484: i;var a6485: i;var a6486: i;var a6487: i;var a6488: i;var a6489: i;var a6490: i;var a6491: i;var a6492: i;var a6493: i;var a6494: i;var a6495: i;var a6496: i;var a6497: i;var a6498: i;var a6499: i;var a6500: i;var a6501: i;var a6502: i;var a6503: i;var a6504: i;var a6505: i;var a6506: i;var a6507: i;var a6508: i;var a6509: i;var a6510: i;var a6511: i;var a6512: i;var a6513: i;var a6514: i;var a6515: i;var a6516: i;var a6517: i;var a6518: i;var a6519: i;var a6520: i;var a6521: i;var a6522: i;var a6523: i;var a6524: i;var a6525: i;var a6526: i;var a6527: i;var a6528: i;var a6529: i;var a6530: i;var a6531: i;var a6532: i;var a6533: i;var a6534: i;var a6535: i;var a6536: i;var a6537: i;var a6538: i;var a6539: i;var a6540: i;var a6541: i;var a6542: i;var a6543: i;var a6544: i;var a6545: i;var a6546: i;var a6547: i;var a6548: i;var a6549: i;var a6550: i;var a6551: i;var a6552: i;var a6553: i;var a6554: i;var a6555: i;var a6556: i;var a6557: i;var a6558: i;var a6559: i;var a6560: i;var a6561: i;var a6562: i;var a6563: i;var a6564: i;var a6565: i;var a6566: i;var a6567: i;var a6568: i;var a6569: i;var a6570: i;var a6571: i;var a6572: i;var a6573: i;var a6574: i;var a6575: i;var a6576: i;var a6577: i;var a6578: i;var a6579: i;var a6580: i;var a6581: i;var a6582: i;var a6583: i;var a6584: i;var a6585: i;var a6586: i;var a6587: i;var a6588: i;var a6589: i;var a6590: i;var a6591: i;var a6592: i;var a6593: i;var a6594: i;var a6595: i;var a6596: i;var a6597: i;var a6598: i;var a6599: i;var a6600: i;var a6601: i;var a6602: i;var a6603: i;var a6604: i;var a6605: i;var a6606: i;var a6607: i;var a6608: i;var a6609: i;var a6610: i;var a6611: i;var a6612: i;var a6613: i;var a6614: i;var a6615: i;var a6616: i;var a6617: i;var a6618: i;var a6619: i;var a6620: i;var a6621: i;var a6622: i;var a6623: i;var a6624: i;var a6625: i;var a6626: i;var a6627: i;var a6628: i;var a6629: i;var a6630: i;var a6631: i;var a6632: i;var a6633: i;var a6634: i;var a6635: i;var a6636: i;var a6637: i;var a6638: i;var a6639: i;var a6640: i;var a6641: i;var a6642: i;var a6643: i;var a6644: i;var a6645: i;var a6646: i;var a6647: i;var a6648: i;var a6649: i;var a6650: i;var a6651: i;var a6652: i;var a6653: i;var a6654: i;var a6655: i;var a6656: i;var a6657: i;var a6658: i;var a6659: i;var a6660: i;var a6661: i;var a6662: i;var a6663: i;var a6664: i;var a6665: i;var a6666: i;var a6667: i;var a6668: i;var a6669: i;var a6670: i;var a6671: i;var a6672: i;var a6673: i;var a6674: i;var a6675: i;var a6676: i;var a6677: i;var a6678: i;var a6679: i;var a6680: i;var a6681: i;var a6682: i;var a6683: i;var a6684: i;var a6685: i;var a6686: i;var a6687: i;var a6688: i;var a6689: i;var a6690: i;var a6691: i;var a6692: i;var a6693: i;var a6694: i;var a6695: i;var a6696: i;var a6697: i;var a6698: i;var a6699: i;var a6700: i;var a6701: i;var a6702: i;var a6703: i;var a6704: i;var a6705: i;var a6706: i;var a6707: i;var a6708: i;var a6709: i;var a6710: i;var a6711: i;var a6712: i;var a6713: i;var a6714: i;var a6715: i;var a6716: i;var a6717: i;var a6718: i;var a6719: i;var a6720: i;var a6721: i;var a6722: i;var a6723: i;var a6724: i;var a6725: i;var a6726: i;var a6727: i;var a6728: i;var a6729: i;var a6730: i;var a6731: i;var a6732: i;var a6733: i;var a6734: i;var a6735: i;var a6736: i;var a6737: i;var a6738: i;var a6739: i;var a6740: i;var a6741: i;var a6742: i;var a6743: i;var a6744: i;var a6745: i;var a6746: i;var a6747: i;var a6748: i;var a6749: i;var a6750: i;var a6751: i;var a6752: i;var a6753: i;var a6754: i;var a6755: i;var a6756: i;var a6757: i;var a6758: i;var a6759: i;var a6760: i;var a6761: i;var a6762: i;var a6763: i;var a6764: i;var a6765: i;var a6766: i;var a6767: i;var a6768: i;var a6769: i;var a6770: i;var a6771: i;var a6772: i;var a6773: i;var a6774: i;var a6775: i;var a6776: i;var a6777: i;var a6778: i;var a6779: i;var a6780: i;var a6781: i;var a6782: i;var a6783: i;var a6784: i;var a6785: i;var a6786: i;var a6787: i;var a6788: i;var a6789: i;var a6790: i;var a6791: i;var a6792: i;var a6793: i;var a6794: i;var a6795: i;var a6796: i;var a6797: i;var a6798: i;var a6799: i;var a6800: i;var a6801: i;var a6802: i;var a6803: i;var a6804: i;var a6805: i;var a6806: i;var a6807: i;var a6808: i;var a6809: i;var a6810: i;var a6811: i;var a6812: i;var a6813: i;var a6814: i;var a6815: i;var a6816: i;var a6817: i;var a6818: i;var a6819: i;var a6820: i;var a6821: i;var a6822: i;var a6823: i;var a6824: i;var a6825: i;var a6826: i;var a6827: i;var a6828: i;var a6829: i;var a6830: i;var a6831: i;var a6832: i;var a6833: i;var a6834: i;var a6835: i;var a6836: i;var a6837: i;var a6838: i;var a6839: i;var a6840: i;var a6841: i;var a6842: i;var a6843: i;var a6844: i;var a6845: i;var a6846: i;var a6847: i;var a6848: i;var a6849: i;var a6850: i;var a6851: i;var a6852: i;var a6853: i;var a6854: i;var a6855: i;var a6856: i;var a6857: i;var a6858: i;var a6859: i;var a6860: i;var a6861: i;var a6862: i;var a6863: i;var a6864: i;var a6865: i;var a6866: i;var a6867: i;var a6868: i;var a6869: i;var a6870: i;var a6871: i;var a6872: i;var a6873: i;var a6874: i;var a6875: i;var a6876: i;var a6877: i;var a6878: i;var a6879: i;var a6880: i;var a6881: i;var a6882: i;var a6883: i;var a6884: i;var a6885: i;var a6886: i;var a6887: i;var a6888: i;var a6889: i;var a6890: i;var a6891: i;var a6892: i;var a6893: i;var a6894: i;var a6895: i;var a6896: i;var a6897: i;var a6898: i;var a6899: i;var a6900: i;var a6901: i;var a6902: i;var a6903: i;var a6904: i;var a6905: i;var a6906: i;var a6907: i;var a6908: i;var a6909: i;var a6910: i;var a6911: i;var a6912: i;var a6913: i;var a6914: i;var a6915: i;var a6916: i;var a6917: i;var a6918: i;var a6919: i;var a6920: i;var a6921: i;var a6922: i;var a6923: i;var a6924: i;var a6925: i;var a6926: i;var a6927: i;var a6928: i;var a6929: i;var a6930: i;var a6931: i;var a6932: i;var a6933: i;var a6934: i;var a6935: i;var a6936: i;var a6937: i;var a6938: i;var a6939: i;var a6940: i;var a6941: i;var a6942: i;var a6943: i;var a6944: i;var a6945: i;var a6946: i;var a6947: i;var a6948: i;var a6949: i;var a6950: i;var a6951: i;var a6952: i;var a6953: i;var a6954: i;var a6955: i;var a6956: i;var a6957: i;var a6958: i;var a6959: i;var a6960: i;var a6961: i;var a6962: i;var a6963: i;var a6964: i;var a6965: i;var a6966: i;var a6967: i;var a6968: i;var a6969: i;var a6970: i;var a6971: i;var a6972: i;var a6973: i;var a6974: i;var a6975: i;var a6976: i;var a6977: i;var a6978: i;var a6979: i;var a6980: i;var a6981: i;var a6982: i;var a6983: i;var a6984: i;var a6985: i;var a6986: i;var a6987: i;var a6988: i;var a6989: i;var a6990: i;var a6991: i;var a6992: i;var a6993: i;var a6994: i;var a6995: i;var a6996: i;var a6997: i;var a6998: i;var a6999: i;var a7000: i;var a7001: i;var a7002: i;var a7003: i;var a7004: i;var a7005: i;var a7006: i;var a7007: i;var a7008: i;var a7009: i;var a7010: i;var a7011: i;var a7012: i;var a7013: i;var a7014: i;var a7015: i;var a7016: i;var a7017: i;var a7018: i;var a7019: i;var a7020: i;var a7021: i;var a7022: i;var a7023: i;var a7024: i;var a7025: i;var a7026: i;var a7027: i;var a7028: i;var a7029: i;var a7030: i;var a7031: i;var a7032: i;var a7033: i;var a7034: i;var a7035: i;var a7036: i;var a7037: i;var a7038: i;var a7039: i;var a7040: i;var a7041: i;var a7042: i;var a7043: i;var a7044: i;var a7045: i;var a7046: i;var a7047: i;var a7048: i;var a7049: i;var a7050: i;var a7051: i;var a7052: i;var a7053: i;var a7054: i;var a7055: i;var a7056: i;var a7057: i;var a7058: i;var a7059: i;var a7060: i;var a7061: i;var a7062: i;var a7063: i;var a7064: i;var a7065: i;var a7066: i;var a7067: i;var a7068: i;var a7069: i;var a7070: i;var a7071: i;var a7072: i;var a7073: i;var a7074: i;var a7075: i;var a7076: i;var a7077: i;var a7078: i;var a7079: i;var a7080: i;var a7081: i;var a7082: i;var a7083: i;var a7084: i;var a7085: i;var a7086: i;var a7087: i;var a7088: i;var a7089: i;var a7090: i;var a7091: i;var a7092: i;var a7093: i;var a7094: i;var a7095: i;var a7096: i;var a7097: i;var a7098: i;var a7099: i;var a7100: i;var a7101: i;var a7102: i;var a7103: i;var a7104: i;var a7105: i;var a7106: i;var a7107: i;var a7108: i;var a7109: i;var a7110: i;var a7111: i;var a7112: i;var a7113: i;var a7114: i;var a7115: i;var a7116: i;var a7117: i;var a7118: i;var a7119: i;var a7120: i;var a7121: i;var a7122: i;var a7123: i;var a7124: i;var a7125: i;var a7126: i;var a7127: i;var a7128: i;var a7129: i;var a7130: i;var a7131: i;var a7132: i;var a7133: i;var a7134: i;var a7135: i;var a7136: i;var a7137: i;var a7138: i;var a7139: i;var a7140: i;var a7141: i;var a7142: i;var a7143: i;var a7144: i;var a7145: i;var a7146: i;var a7147: i;var a7148: i;var a7149: i;var a7150: i;var a7151: i;var a7152: i;var a7153: i;var a7154: i;var a7155: i;var a7156: i;var a7157: i;var a7158: i;var a7159: i;var a7160: i;var a7161: i;var a7162: i;var a7163: i;var a7164: i;var a7165: i;var a7166: i;var a7167: i;var a7168: i;var a7169: i;var a7170: i;var a7171: i;var a7172: i;var a7173: i;var a7174: i;var a7175: i;var a7176: i;var a7177: i;var a7178: i;var a7179: i;var a7180: i;var a7181: i;var a7182: i;var a7183: i;var a7184: i;var a7185: i;var a7186: i;var a7187: i;var a7188: i;var a7189: i;var a7190: i;var a7191: i;var a7192: i;var a7193: i;var a7194: i;var a7195: i;var a7196: i;var a7197: i;var a7198: i;var a7199: i;var a7200: i;var a7201: i;var a7202: i;var a7203: i;var a7204: i;var a7205: i;var a7206: i;var a7207: i;var a7208: i;var a7209: i;var a7210: i;var a7211: i;var a7212: i;var a7213: i;var a7214: i;var a7215: i;var a7216: i;var a7217: i;var a7218: i;var a7219: i;var a7220: i;var a7221: i;var a7222: i;var a7223: i;var a7224: i;var a7225: i;var a7226: i;var a7227: i;var a7228: i;var a7229: i;var a7230: i;var a7231: i;var a7232: i;var a7233: i;var a7234: i;var a7235: i;var a7236: i;var a7237: i;var a7238: i;var a7239: i;var a7240: i;var a7241: i;var a7242: i;var a7243: i;var a7244: i;var a7245: i;var a7246: i;var a7247: i;var a7248: i;var a7249: i;var a7250: i;var a7251: i;var a7252: i;var a7253: i;var a7254: i;var a7255: i;var a7256: i;var a7257: i;var a7258: i;var a7259: i;var a7260: i;var a7261: i;var a7262: i;var a7263: i;var a7264: i;var a7265: i;var a7266: i;var a7267: i;var a7268: i;var a7269: i;var a7270: i;var a7271: i;var a7272: i;var a7273: i;var a7274: i;var a7275: i;var a7276: i;var a7277: i;var a7278: i;var a7279: i;var a7280: i;var a7281: i;var a7282: i;var a7283: i;var a7284: i;var a7285: i;var a7286: i;var a7287: i;var a7288: i;var a7289: i;var a7290: i;var a7291: i;var a7292: i;var a7293: i;var a7294: i;var a7295: i;var a7296: i;var a7297: i;var a7298: i;var a7299: i;var a7300: i;var a7301: i;var a7302: i;var a7303: i;var a7304: i;var a7305: i;var a7306: i;var a7307: i;var a7308: i;var a7309: i;var a7310: i;var a7311: i;var a7312: i;var a7313: i;var a7314: i;var a7315: i;var a7316: i;var a7317: i;var a7318: i;var a7319: i;var a7320: i;var a7321: i;var a7322: i;var a7323: i;var a7324: i;var a7325: i;var a7326: i;var a7327: i;var a7328: i;var a7329: i;var a7330: i;var a7331: i;var a7332: i;var a7333: i;var a7334: i;var a7335: i;var a7336: i;var a7337: i;var a7338: i;var a7339: i;var a7340: i;var a7341: i;var a7342: i;var a7343: i;var a7344: i;var a7345: i;var a7346: i;var a7347: i;var a7348: i;var a7349: i;var a7350: i;var a7351: i;var a7352: i;var a7353: i;var a7354: i;var a7355: i;var a7356: i;var a7357: i;var a7358: i;var a7359: i;var a7360: i;var a7361: i;var a7362: i;var a7363: i;var a7364: i;var a7365: i;var a7366: i;var a7367: i;var a7368: i;var a7369: i;var a7370: i;var a7371: i;var a7372: i;var a7373: i;var a7374: i;var a7375: i;var a7376: i;var a7377: i;var a7378: i;var a7379: i;var a7380: i;var a7381: i;var a7382: i;var a7383: i;var a7384: i;var a7385: i;var a7386: i;var a7387: i;var a7388: i;var a7389: i;var a7390: i;var a7391: i;var a7392: i;var a7393: i;var a7394: i;var a7395: i;var a7396: i;var a7397: i;var a7398: i;var a7399: i;var a7400: i;var a7401: i;var a7402: i;var a7403: i;var a7404: i;var a7405: i;var a7406: i;var a7407: i;var a7408: i;var a7409: i;var a7410: i;var a7411: i;var a7412: i;var a7413: i;var a7414: i;var a7415: i;var a7416: i;var a7417: i;var a7418: i;var a7419: i;var a7420: i;var a7421: i;var a7422: i;var a7423: i;var a7424: i;var a7425: i;var a7426: i;var a7427: i;var a7428: i;var a7429: i;var a7430: i;var a7431: i;var a7432: i;var a7433: i;var a7434: i;var a7435: i;var a7436: i;var a7437: i;var a7438: i;var a7439: i;var a7440: i;var a7441: i;var a7442: i;var a7443: i;var a7444: i;var a7445: i;var a7446: i;var a7447: i;var a7448: i;var a7449: i;var a7450: i;var a7451: i;var a7452: i;var a7453: i;var a7454: i;var a7455: i;var a7456: i;var a7457: i;var a7458: i;var a7459: i;var a7460: i;var a7461: i;var a7462: i;var a7463: i;var a7464: i;var a7465: i;var a7466: i;var a7467: i;var a7468: i;var a7469: i;var a7470: i;var a7471: i;var a7472: i;var a7473: i;var a7474: i;var a7475: i;var a7476: i;var a7477: i;var a7478: i;var a7479: i;var a7480: i;var a7481: i;var a7482: i;var a7483: i;var a7484: i;var a7485: i;var a7486: i;var a7487: i;var a7488: i;var a7489: i;var a7490: i;var a7491: i;var a7492: i;var a7493: i;var a7494: i;var a7495: i;var a7496: i;var a7497: i;var a7498: i;var a7499: i;var a7500: i;var a7501: i;var a7502: i;var a7503: i;var a7504: i;var a7505: i;var a7506: i;var a7507: i;var a7508: i;var a7509: i;var a7510: i;var a7511: i;var a7512: i;var a7513: i;var a7514: i;var a7515: i;var a7516: i;var a7517: i;var a7518: i;var a7519: i;var a7520: i;var a7521: i;var a7522: i;var a7523: i;var a7524: i;var a7525: i;var a7526: i;var a7527: i;var a7528: i;var a7529: i;var a7530: i;var a7531: i;var a7532: i;var a7533: i;var a7534: i;var a7535: i;var a7536: i;var a7537: i;var a7538: i;var a7539: i;var a7540: i;var a7541: i;var a7542: i;var a7543: i;var a7544: i;var a7545: i;var a7546: i;var a7547: i;var a7548: i;var a7549: i;var a7550: i;var a7551: i;var a7552: i;var a7553: i;var a7554: i;var a7555: i;var a7556: i;var a7557: i;var a7558: i;var a7559: i;var a7560: i;var a7561: i;var a7562: i;var a7563: i;var a7564: i;var a7565: i;var a7566: i;var a7567: i;var a7568: i;var a7569: i;var a7570: i;var a7571: i;var a7572: i;var a7573: i;var a7574: i;var a7575: i;var a7576: i;var a7577: i;var a7578: i;var a7579: i;var a7580: i;var a7581: i;var a7582: i;var a7583: i;var a7584: i;var a7585: i;var a7586: i;var a7587: i;var a7588: i;var a7589: i;var a7590: i;var a7591: i;var a7592: i;var a7593: i;var a7594: i;var a7595: i;var a7596: i;var a7597: i;var a7598: i;var a7599: i;var a7600: i;var a7601: i;var a7602: i;var a7603: i;var a7604: i;var a7605: i;var a7606: i;var a7607: i;var a7608: i;var a7609: i;var a7610: i;var a7611: i;var a7612: i;var a7613: i;var a7614: i;var a7615: i;var a7616: i;var a7617: i;var a7618: i;var a7619: i;var a7620: i;var a7621: i;var a7622: i;var a7623: i;var a7624: i;var a7625: i;var a7626: i;var a7627: i;var a7628: i;var a7629: i;var a7630: i;var a7631: i;var a7632: i;var a7633: i;var a7634: i;var a7635: i;var a7636: i;var a7637: i;var a7638: i;var a7639: i;var a7640: i;var a7641: i;var a7642: i;var a7643: i;var a7644: i;var a7645: i;var a7646: i;var a7647: i;var a7648: i;var a7649: i;var a7650: i;var a7651: i;var a7652: i;var a7653: i;var a7654: i;var a7655: i;var a7656: i;var a7657: i;var a7658: i;var a7659: i;var a7660: i;var a7661: i;var a7662: i;var a7663: i;var a7664: i;var a7665: i;var a7666: i;var a7667: i;var a7668: i;var a7669: i;var a7670: i;var a7671: i;var a7672: i;var a7673: i;var a7674: i;var a7675: i;var a7676: i;var a7677: i;var a7678: i;var a7679: i;var a7680: i;var a7681: i;var a7682: i;var a7683: i;var a7684: i;var a7685: i;var a7686: i;var a7687: i;var a7688: i;var a7689: i;var a7690: i;var a7691: i;var a7692: i;var a7693: i;var a7694: i;var a7695: i;var a7696: i;var a7697: i;var a7698: i;var a7699: i;var a7700: i;var a7701: i;var a7702: i;var a7703: i;var a7704: i;var a7705: i;var a7706: i;var a7707: i;var a7708: i;var a7709: i;var a7710: i;var a7711: i;var a7712: i;var a7713: i;var a7714: i;var a7715: i;var a7716: i;var a7717: i;var a7718: i;var a7719: i;var a7720: i;var a7721: i;var a7722: i;var a7723: i;var a7724: i;var a7725: i;var a7726: i;var a7727: i;var a7728: i;var a7729: i;var a7730: i;var a7731: i;var a7732: i;var a7733: i;var a7734: i;var a7735: i;var a7736: i;var a7737: i;var a7738: i;var a7739: i;var a7740: i;var a7741: i;var a7742: i;var a7743: i;var a7744: i;var a7745: i;var a7746: i;var a7747: i;var a7748: i;var a7749: i;var a7750: i;var a7751: i;var a7752: i;var a7753: i;var a7754: i;var a7755: i;var a7756: i;var a7757: i;var a7758: i;var a7759: i;var a7760: i;var a7761: i;var a7762: i;var a7763: i;var a7764: i;var a7765: i;var a7766: i;var a7767: i;var a7768: i;var a7769: i;var a7770: i;var a7771: i;var a7772: i;var a7773: i;var a7774: i;var a7775: i;var a7776: i;var a7777: i;var a7778: i;var a7779: i;var a7780: i;var a7781: i;var a7782: i;var a7783: i;var a7784: i;var a7785: i;var a7786: i;var a7787: i;var a7788: i;var a7789: i;var a7790: i;var a7791: i;var a7792: i;var a7793: i;var a7794: i;var a7795: i;var a7796: i;var a7797: i;var a7798: i;var a7799: i;var a7800: i;var a7801: i;var a7802: i;var a7803: i;var a7804: i;var a7805: i;var a7806: i;var a7807: i;var a7808: i;var a7809: i;var a7810: i;var a7811: i;var a7812: i;var a7813: i;var a7814: i;var a7815: i;var a7816: i;var a7817: i;var a7818: i;var a7819: i;var a7820: i;var a7821: i;var a7822: i;var a7823: i;var a7824: i;var a7825: i;var a7826: i;var a7827: i;var a7828: i;var a7829: i;var a7830: i;var a7831: i;var a7832: i;var a7833: i;var a7834: i;var a7835: i;var a7836: i;var a7837: i;var a7838: i;var a7839: i;var a7840: i;var a7841: i;var a7842: i;var a7843: i;var a7844: i;var a7845: i;var a7846: i;var a7847: i;var a7848: i;var a7849: i;var a7850: i;var a7851: i;var a7852: i;var a7853: i;var a7854: i;var a7855: i;var a7856: i;var a7857: i;var a7858: i;var a7859: i;var a7860: i;var a7861: i;var a7862: i;var a7863: i;var a7864: i;var a7865: i;var a7866: i;var a7867: i;var a7868: i;var a7869: i;var a7870: i;var a7871: i;var a7872: i;var a7873: i;var a7874: i;var a7875: i;var a7876: i;var a7877: i;var a7878: i;var a7879: i;var a7880: i;var a7881: i;var a7882: i;var a7883: i;var a7884: i;var a7885: i;var a7886: i;var a7887: i;var a7888: i;var a7889: i;var a7890: i;var a7891: i;var a7892: i;var a7893: i;var a7894: i;var a7895: i;var a7896: i;var a7897: i;var a7898: i;var a7899: i;var a7900: i;var a7901: i;var a7902: i;var a7903: i;var a7904: i;var a7905: i;var a7906: i;var a7907: i;var a7908: i;var a7909: i;var a7910: i;var a7911: i;var a7912: i;var a7913: i;var a7914: i;var a7915: i;var a7916: i;var a7917: i;var a7918: i;var a7919: i;var a7920: i;var a7921: i;var a7922: i;var a7923: i;var a7924: i;var a7925: i;var a7926: i;var a7927: i;var a7928: i;var a7929: i;var a7930: i;var a7931: i;var a7932: i;var a7933: i;var a7934: i;var a7935: i;var a7936: i;var a7937: i;var a7938: i;var a7939: i;var a7940: i;var a7941: i;var a7942: i;var a7943: i;var a7944: i;var a7945: i;var a7946: i;var a7947: i;var a7948: i;var a7949: i;var a7950: i;var a7951: i;var a7952: i;var a7953: i;var a7954: i;var a7955: i;var a7956: i;var a7957: i;var a7958: i;var a7959: i;var a7960: i;var a7961: i;var a7962: i;var a7963: i;var a7964: i;var a7965: i;var a7966: i;var a7967: i;var a7968: i;var a7969: i;var a7970: i;var a7971: i;var a7972: i;var a7973: i;var a7974: i;var a7975: i;var a7976: i;var a7977: i;var a7978: i;var a7979: i;var a7980: i;var a7981: i;var a7982: i;var a7983: i;var a7984: i;var a7985: i;var a7986: i;var a7987: i;var a7988: i;var a7989: i;var a7990: i;var a7991: i;var a7992: i;var a7993: i;var a7994: i;var a7995: i;var a7996: i;var a7997: i;var a7998: i;var a7999: i;var a8000: i;var a8001: i;var a8002: i;var a8003: i;var a8004: i;var a8005: i;var a8006: i;var a8007: i;var a8008: i;var a8009: i;var a8010: i;var a8011: i;var a8012: i;var a8013: i;var a8014: i;var a8015: i;var a8016: i;var a8017: i;var a8018: i;var a8019: i;var a8020: i;var a8021: i;var a8022: i;var a8023: i;var a8024: i;var a8025: i;var a8026: i;var a8027: i;var a8028: i;var a8029: i;var a8030: i;var a8031: i;var a8032: i;var a8033: i;var a8034: i;var a8035: i;var a8036: i;var a8037: i;var a8038: i;var a8039: i;var a8040: i;var a8041: i;var a8042: i;var a8043: i;var a8044: i;var a8045: i;var a8046: i;var a8047: i;var a8048: i;var a8049: i;var a8050: i;var a8051: i;var a8052: i;var a8053: i;var a8054: i;var a8055: i;var a8056: i;var a8057: i;var a8058: i;var a8059: i;var a8060: i;var a8061: i;var a8062: i;var a8063: i;var a8064: i;var a8065: i;var a8066: i;var a8067: i;var a8068: i;var a8069: i;var a8070: i;var a8071: i;var a8072: i;var a8073: i;var a8074: i;var a8075: i;var a8076: i;var a8077: i;var a8078: i;var a8079: i;var a8080: i;var a8081: i;var a8082: i;var a8083: i;var a8084: i;var a8085: i;var a8086: i;var a8087: i;var a8088: i;var a8089: i;var a8090: i;var a8091: i;var a8092: i;var a8093: i;var a8094: i;var a8095: i;var a8096: i;var a8097: i;var a8098: i;var a8099: i;var a8100: i;var a8101: i;var a8102: i;var a8103: i;var a8104: i;var a8105: i;var a8106: i;var a8107: i;var a8108: i;var a8109: i;var a8110: i;var a8111: i;var a8112: i;var a8113: i;var a8114: i;var a8115: i;var a8116: i;var a8117: i;var a8118: i;var a8119: i;var a8120: i;var a8121: i;var a8122: i;var a8123: i;var a8124: i;var a8125: i;var a8126: i;var a8127: i;var a8128: i;var a8129: i;var a8130: i;var a8131: i;var a8132: i;var a8133: i;var a8134: i;var a8135: i;var a8136: i;var a8137: i;var a8138: i;var a8139: i;var a8140: i;var a8141: i;var a8142: i;var a8143: i;var a8144: i;var a8145: i;var a8146: i;var a8147: i;var a8148: i;var a8149: i;var a8150: i;var a8151: i;var a8152: i;var a8153: i;var a8154: i;var a8155: i;var a8156: i;var a8157: i;var a8158: i;var a8159: i;var a8160: i;var a8161: i;var a8162: i;var a8163: i;var a8164: i;var a8165: i;var a8166: i;var a8167: i;var a8168: i;var a8169: i;var a8170: i;var a8171: i;var a8172: i;var a8173: i;var a8174: i;var a8175: i;var a8176: i;var a8177: i;var a8178: i;var a8179: i;var a8180: i;var a8181: i;var a8182: i;var a8183: i;var a8184: i;var a8185: i;var a8186: i;var a8187: i;var a8188: i;var a8189: i;var a8190: i;var a8191: i;var a8192: i;var a8193: i;var a8194: i;var a8195: i;var a8196: i;var a8197: i;var a8198: i;var a8199: i;var a8200: i;var a8201: i;var a8202: i;var a8203: i;var a8204: i;var a8205: i;var a8206: i;var a8207: i;var a8208: i;var a8209: i;var a8210: i;var a8211: i;var a8212: i;var a8213: i;var a8214: i;var a8215: i;var a8216: i;var a8217: i;var a8218: i;var a8219: i;var a8220: i;var a8221: i;var a8222: i;var a8223: i;var a8224: i;var a8225: i;var a8226: i;var a8227: i;var a8228: i;var a8229: i;var a8230: i;var a8231: i;var a8232: i;var a8233: i;var a8234: i;var a8235: i;var a8236: i;var a8237: i;var a8238: i;var a8239: i;var a8240: i;var a8241: i;var a8242: i;var a8243: i;var a8244: i;var a8245: i;var a8246: i;var a8247: i;var a8248: i;var a8249: i;var a8250: i;var a8251: i;var a8252: i;var a8253: i;var a8254: i;var a8255: i;var a8256: i;var a8257: i;var a8258: i;var a8259: i;var a8260: i;var a8261: i;var a8262: i;var a8263: i;var a8264: i;var a8265: i;var a8266: i;var a8267: i;var a8268: i;var a8269: i;var a8270: i;var a8271: i;var a8272: i;var a8273: i;var a8274: i;var a8275: i;var a8276: i;var a8277: i;var a8278: i;var a8279: i;var a8280: i;var a8281: i;var a8282: i;var a8283: i;var a8284: i;var a8285: i;var a8286: i;var a8287: i;var a8288: i;var a8289: i;var a8290: i;var a8291: i;var a8292: i;var a8293: i;var a8294: i;var a8295: i;var a8296: i;var a8297: i;var a8298: i;var a8299: i;var a8300: i;var a8301: i;var a8302: i;var a8303: i;var a8304: i;var a8305: i;var a8306: i;var a8307: i;var a8308: i;var a8309: i;var a8310: i;var a8311: i;var a8312: i;var a8313: i;var a8314: i;var a8315: i;var a8316: i;var a8317: i;var a8318: i;var a8319: i;var a8320: i;var a8321: i;var a8322: i;var a8323: i;var a8324: i;var a8325: i;var a8326: i;var a8327: i;var a8328: i;var a8329: i;var a8330: i;var a8331: i;var a8332: i;var a8333: i;var a8334: i;var a8335: i;var a8336: i;var a8337: i;var a8338: i;var a8339: i;var a8340: i;var a8341: i;var a8342: i;var a8343: i;var a8344: i;var a8345: i;var a8346: i;var a8347: i;var a8348: i;var a8349: i;var a8350: i;var a8351: i;var a8352: i;var a8353: i;var a8354: i;var a8355: i;var a8356: i;var a8357: i;var a8358: i;var a8359: i;var a8360: i;var a8361: i;var a8362: i;var a8363: i;var a8364: i;var a8365: i;var a8366: i;var a8367: i;var a8368: i;var a8369: i;var a8370: i;var a8371: i;var a8372: i;var a8373: i;var a8374: i;var a8375: i;var a8376: i;var a8377: i;var a8378: i;var a8379: i;var a8380: i;var a8381: i;var a8382: i;var a8383: i;var a8384: i;var a8385: i;var a8386: i;var a8387: i;var a8388: i;var a8389: i;var a8390: i;var a8391: i;var a8392: i;var a8393: i;var a8394: i;var a8395: i;var a8396: i;var a8397: i;var a8398: i;var a8399: i;var a8400: i;var a8401: i;var a8402: i;var a8403: i;var a8404: i;var a8405: i;var a8406: i;var a8407: i;var a8408: i;var a8409: i;var a8410: i;var a8411: i;var a8412: i;var a8413: i;var a8414: i;var a8415: i;var a8416: i;var a8417: i;var a8418: i;var a8419: i;var a8420: i;var a8421: i;var a8422: i;var a8423: i;var a8424: i;var a8425: i;var a8426: i;var a8427: i;var a8428: i;var a8429: i;var a8430: i;var a8431: i;var a8432: i;var a8433: i;var a8434: i;var a8435: i;var a8436: i;var a8437: i;var a8438: i;var a8439: i;var a8440: i;var a8441: i;var a8442: i;var a8443: i;var a8444: i;var a8445: i;var a8446: i;var a8447: i;var a8448: i;var a8449: i;var a8450: i;var a8451: i;var a8452: i;var a8453: i;var a8454: i;var a8455: i;var a8456: i;var a8457: i;var a8458: i;var a8459: i;var a8460: i;var a8461: i;var a8462: i;var a8463: i;var a8464: i;var a8465: i;var a8466: i;var a8467: i;var a8468: i;var a8469: i;var a8470: i;var a8471: i;var a8472: i;var a8473: i;var a8474: i;var a8475: i;var a8476: i;var a8477: i;var a8478: i;var a8479: i;var a8480: i;var a8481: i;var a8482: i;var a8483: i;var a8484: i;var a8485: i;var a8486: i;var a8487: i;var a8488: i;var a8489: i;var a8490: i;var a8491: i;var a8492: i;var a8493: i;var a8494: i;var a8495: i;var a8496: i;var a8497: i;var a8498: i;var a8499: i;var a8500: i;var a8501: i;var a8502: i;var a8503: i;var a8504: i;var a8505: i;var a8506: i;var a8507: i;var a8508: i;var a8509: i;var a8510: i;var a8511: i;var a8512: i;var a8513: i;var a8514: i;var a8515: i;var a8516: i;var a8517: i;var a8518: i;var a8519: i;var a8520: i;var a8521: i;var a8522: i;var a8523: i;var a8524: i;var a8525: i;var a8526: i;var a8527: i;var a8528: i;var a8529: i;var a8530: i;var a8531: i;var a8532: i;var a8533: i;var a8534: i;var a8535: i;var a8536: i;var a8537: i;var a8538: i;var a8539: i;var a8540: i;var a8541: i;var a8542: i;var a8543: i;var a8544: i;var a8545: i;var a8546: i;var a8547: i;var a8548: i;var a8549: i;var a8550: i;var a8551: i;var a8552: i;var a8553: i;var a8554: i;var a8555: i;var a8556: i;var a8557: i;var a8558: i;var a8559: i;var a8560: i;var a8561: i;var a8562: i;var a8563: i;var a8564: i;var a8565: i;var a8566: i;var a8567: i;var a8568: i;var a8569: i;var a8570: i;var a8571: i;var a8572: i;var a8573: i;var a8574: i;var a8575: i;var a8576: i;var a8577: i;var a8578: i;var a8579: i;var a8580: i;var a8581: i;var a8582: i;var a8583: i;var a8584: i;var a8585: i;var a8586: i;var a8587: i;var a8588: i;var a8589: i;var a8590: i;var a8591: i;var a8592: i;var a8593: i;var a8594: i;var a8595: i;var a8596: i;var a8597: i;var a8598: i;var a8599: i;var a8600: i;var a8601: i;var a8602: i;var a8603: i;var a8604: i;var a8605: i;var a8606: i;var a8607: i;var a8608: i;var a8609: i;var a8610: i;var a8611: i;var a8612: i;var a8613: i;var a8614: i;var a8615: i;var a8616: i;var a8617: i;var a8618: i;var a8619: i;var a8620: i;var a8621: i;var a8622: i;var a8623: i;var a8624: i;var a8625: i;var a8626: i;var a8627: i;var a8628: i;var a8629: i;var a8630: i;var a8631: i;var a8632: i;var a8633: i;var a8634: i;var a8635: i;var a8636: i;var a8637: i;var a8638: i;var a8639: i;var a8640: i;var a8641: i;var a8642: i;var a8643: i;var a8644: i;var a8645: i;var a8646: i;var a8647: i;var a8648: i;var a8649: i;var a8650: i;var a8651: i;var a8652: i;var a8653: i;var a8654: i;var a8655: i;var a8656: i;var a8657: i;var a8658: i;var a8659: i;var a8660: i;var a8661: i;var a8662: i;var a8663: i;var a8664: i;var a8665: i;var a8666: i;var a8667: i;var a8668: i;var a8669: i;var a8670: i;var a8671: i;var a8672: i;var a8673: i;var a8674: i;var a8675: i;var a8676: i;var a8677: i;var a8678: i;var a8679: i;var a8680: i;var a8681: i;var a8682: i;var a8683: i;var a8684: i;var a8685: i;var a8686: i;var a8687: i;var a8688: i;var a8689: i;var a8690: i;var a8691: i;var a8692: i;var a8693: i;var a8694: i;var a8695: i;var a8696: i;var a8697: i;var a8698: i;var a8699: i;var a8700: i;var a8701: i;var a8702: i;var a8703: i;var a8704: i;var a8705: i;var a8706: i;var a8707: i;var a8708: i;var a8709: i;var a8710: i;var a8711: i;var a8712: i;var a8713: i;var a8714: i;var a8715: i;var a8716: i;var a8717: i;var a8718: i;var a8719: i;var a8720: i;var a8721: i;var a8722: i;var a8723: i;var a8724: i;var a8725: i;var a8726: i;var a8727: i;var a8728: i;var a8729: i;var a8730: i;var a8731: i;var a8732: i;var a8733: i;var a8734: i;var a8735: i;var a8736: i;var a8737: i;var a8738: i;var a8739: i;var a8740: i;var a8741: i;var a8742: i;var a8743: i;var a8744: i;var a8745: i;var a8746: i;var a8747: i;var a8748: i;var a8749: i;var a8750: i;var a8751: i;var a8752: i;var a8753: i;var a8754: i;var a8755: i;var a8756: i;var a8757: i;var a8758: i;var a8759: i;var a8760: i;var a8761: i;var a8762: i;var a8763: i;var a8764: i;var a8765: i;var a8766: i;var a8767: i;var a8768: i;var a8769: i;var a8770: i;var a8771: i;var a8772: i;var a8773: i;var a8774: i;var a8775: i;var a8776: i;var a8777: i;var a8778: i;var a8779: i;var a8780: i;var a8781: i;var a8782: i;var a8783: i;var a8784: i;var a8785: i;var a8786: i;var a8787: i;var a8788: i;var a8789: i;var a8790: i;var a8791: i;var a8792: i;var a8793: i;var a8794: i;var a8795: i;var a8796: i;var a8797: i;var a8798: i;var a8799: i;var a8800: i;var a8801: i;var a8802: i;var a8803: i;var a8804: i;var a8805: i;var a8806: i;var a8807: i;var a8808: i;var a8809: i;var a8810: i;var a8811: i;var a8812: i;var a8813: i;var a8814: i;var a8815: i;var a8816: i;var a8817: i;var a8818: i;var a8819: i;var a8820: i;var a8821: i;var a8822: i;var a8823: i;var a8824: i;var a8825: i;var a8826: i;var a8827: i;var a8828: i;var a8829: i;var a8830: i;var a8831: i;var a8832: i;var a8833: i;var a8834: i;var a8835: i;var a8836: i;var a8837: i;var a8838: i;var a8839: i;var a8840: i;var a8841: i;var a8842: i;var a8843: i;var a8844: i;var a8845: i;var a8846: i;var a8847: i;var a8848: i;var a8849: i;var a8850: i;var a8851: i;var a8852: i;var a8853: i;var a8854: i;var a8855: i;var a8856: i;var a8857: i;var a8858: i;var a8859: i;var a8860: i;var a8861: i;var a8862: i;var a8863: i;var a8864: i;var a8865: i;var a8866: i;var a8867: i;var a8868: i;var a8869: i;var a8870: i;var a8871: i;var a8872: i;var a8873: i;var a8874: i;var a8875: i;var a8876: i;var a8877: i;var a8878: i;var a8879: i;var a8880: i;var a8881: i;var a8882: i;var a8883: i;var a8884: i;var a8885: i;var a8886: i;var a8887: i;var a8888: i;var a8889: i;var a8890: i;var a8891: i;var a8892: i;var a8893: i;var a8894: i;var a8895: i;var a8896: i;var a8897: i;var a8898: i;var a8899: i;var a8900: i;var a8901: i;var a8902: i;var a8903: i;var a8904: i;var a8905: i;var a8906: i;var a8907: i;var a8908: i;var a8909: i;var a8910: i;var a8911: i;var a8912: i;var a8913: i;var a8914: i;var a8915: i;var a8916: i;var a8917: i;var a8918: i;var a8919: i;var a8920: i;var a8921: i;var a8922: i;var a8923: i;var a8924: i;var a8925: i;var a8926: i;var a8927: i;var a8928: i;var a8929: i;var a8930: i;var a8931: i;var a8932: i;var a8933: i;var a8934: i;var a8935: i;var a8936: i;var a8937: i;var a8938: i;var a8939: i;var a8940: i;var a8941: i;var a8942: i;var a8943: i;var a8944: i;var a8945: i;var a8946: i;var a8947: i;var a8948: i;var a8949: i;var a8950: i;var a8951: i;var a8952: i;var a8953: i;var a8954: i;var a8955: i;var a8956: i;var a8957: i;var a8958: i;var a8959: i;var a8960: i;var a8961: i;var a8962: i;var a8963: i;var a8964: i;var a8965: i;var a8966: i;var a8967: i;var a8968: i;var a8969: i;var a8970: i;var a8971: i;var a8972: i;var a8973: i;var a8974: i;var a8975: i;var a8976: i;var a8977: i;var a8978: i;var a8979: i;var a8980: i;var a8981: i;var a8982: i;var a8983: i;var a8984: i;var a8985: i;var a8986: i;var a8987: i;var a8988: i;var a8989: i;var a8990: i;var a8991: i;var a8992: i;var a8993: i;var a8994: i;var a8995: i;var a8996: i;var a8997: i;var a8998: i;var a8999: i;var a9000: i;var a9001: i;var a9002: i;var a9003: i;var a9004: i;var a9005: i;var a9006: i;var a9007: i;var a9008: i;var a9009: i;var a9010: i;var a9011: i;var a9012: i;var a9013: i;var a9014: i;var a9015: i;var a9016: i;var a9017: i;var a9018: i;var a9019: i;var a9020: i;var a9021: i;var a9022: i;var a9023: i;var a9024: i;var a9025: i;var a9026: i;var a9027: i;var a9028: i;var a9029: i;var a9030: i;var a9031: i;var a9032: i;var a9033: i;var a9034: i;var a9035: i;var a9036: i;var a9037: i;var a9038: i;var a9039: i;var a9040: i;var a9041: i;var a9042: i;var a9043: i;var a9044: i;var a9045: i;var a9046: i;var a9047: i;var a9048: i;var a9049: i;var a9050: i;var a9051: i;var a9052: i;var a9053: i;var a9054: i;var a9055: i;var a9056: i;var a9057: i;var a9058: i;var a9059: i;var a9060: i;var a9061: i;var a9062: i;var a9063: i;var a9064: i;var a9065: i;var a9066: i;var a9067: i;var a9068: i;var a9069: i;var a9070: i;var a9071: i;var a9072: i;var a9073: i;var a9074: i;var a9075: i;var a9076: i;var a9077: i;var a9078: i;var a9079: i;var a9080: i;var a9081: i;var a9082: i;var a9083: i;var a9084: i;var a9085: i;var a9086: i;var a9087: i;var a9088: i;var a9089: i;var a9090: i;var a9091: i;var a9092: i;var a9093: i;var a9094: i;var a9095: i;var a9096: i;var a9097: i;var a9098: i;var a9099: i;var a9100: i;var a9101: i;var a9102: i;var a9103: i;var a9104: i;var a9105: i;var a9106: i;var a9107: i;var a9108: i;var a9109: i;var a9110: i;var a9111: i;var a9112: i;var a9113: i;var a9114: i;var a9115: i;var a9116: i;var a9117: i;var a9118: i;var a9119: i;var a9120: i;var a9121: i;var a9122: i;var a9123: i;var a9124: i;var a9125: i;var a9126: i;var a9127: i;var a9128: i;var a9129: i;var a9130: i;var a9131: i;var a9132: i;var a9133: i;var a9134: i;var a9135: i;var a9136: i;var a9137: i;var a9138: i;var a9139: i;var a9140: i;var a9141: i;var a9142: i;var a9143: i;var a9144: i;var a9145: i;var a9146: i;var a9147: i;var a9148: i;var a9149: i;var a9150: i;var a9151: i;var a9152: i;var a9153: i;var a9154: i;var a9155: i;var a9156: i;var a9157: i;var a9158: i;var a9159: i;var a9160: i;var a9161: i;var a9162: i;var a9163: i;var a9164: i;var a9165: i;var a9166: i;var a9167: i;var a9168: i;var a9169: i;var a9170: i;var a9171: i;var a9172: i;var a9173: i;var a9174: i;var a9175: i;var a9176: i;var a9177: i;var a9178: i;var a9179: i;var a9180: i;var a9181: i;var a9182: i;var a9183: i;var a9184: i;var a9185: i;var a9186: i;var a9187: i;var a9188: i;var a9189: i;var a9190: i;var a9191: i;var a9192: i;var a9193: i;var a9194: i;var a9195: i;var a9196: i;var a9197: i;var a9198: i;var a9199: i;var a9200: i;var a9201: i;var a9202: i;var a9203: i;var a9204: i;var a9205: i;var a9206: i;var a9207: i;var a9208: i;var a9209: i;var a9210: i;var a9211: i;var a9212: i;var a9213: i;var a9214: i;var a9215: i;var a9216: i;var a9217: i;var a9218: i;var a9219: i;var a9220: i;var a9221: i;var a9222: i;var a9223: i;var a9224: i;var a9225: i;var a9226: i;var a9227: i;var a9228: i;var a9229: i;var a9230: i;var a9231: i;var a9232: i;var a9233: i;var a9234: i;var a9235: i;var a9236: i;var a9237: i;var a9238: i;var a9239: i;var a9240: i;var a9241: i;var a9242: i;var a9243: i;var a9244: i;var a9245: i;var a9246: i;var a9247: i;var a9248: i;var a9249: i;var a9250: i;var a9251: i;var a9252: i;var a9253: i;var a9254: i;var a9255: i;var a9256: i;var a9257: i;var a9258: i;var a9259: i;var a9260: i;var a9261: i;var a9262: i;var a9263: i;var a9264: i;var a9265: i;var a9266: i;var a9267: i;var a9268: i;var a9269: i;var a9270: i;var a9271: i;var a9272: i;var a9273: i;var a9274: i;var a9275: i;var a9276: i;var a9277: i;var a9278: i;var a9279: i;var a9280: i;var a9281: i;var a9282: i;var a9283: i;var a9284: i;var a9285: i;var a9286: i;var a9287: i;var a9288: i;var a9289: i;var a9290: i;var a9291: i;var a9292: i;var a9293: i;var a9294: i;var a9295: i;var a9296: i;var a9297: i;var a9298: i;var a9299: i;var a9300: i;var a9301: i;var a9302: i;var a9303: i;var a9304: i;var a9305: i;var a9306: i;var a9307: i;var a9308: i;var a9309: i;var a9310: i;var a9311: i;var a9312: i;var a9313: i;var a9314: i;var a9315: i;var a9316: i;var a9317: i;var a9318: i;var a9319: i;var a9320: i;var a9321: i;var a9322: i;var a9323: i;var a9324: i;var a9325: i;var a9326: i;var a9327: i;var a9328: i;var a9329: i;var a9330: i;var a9331: i;var a9332: i;var a9333: i;var a9334: i;var a9335: i;var a9336: i;var a9337: i;var a9338: i;var a9339: i;var a9340: i;var a9341: i;var a9342: i;var a9343: i;var a9344: i;var a9345: i;var a9346: i;var a9347: i;var a9348: i;var a9349: i;var a9350: i;var a9351: i;var a9352: i;var a9353: i;var a9354: i;var a9355: i;var a9356: i;var a9357: i;var a9358: i;var a9359: i;var a9360: i;var a9361: i;var a9362: i;var a9363: i;var a9364: i;var a9365: i;var a9366: i;var a9367: i;var a9368: i;var a9369: i;var a9370: i;var a9371: i;var a9372: i;var a9373: i;var a9374: i;var a9375: i;var a9376: i;var a9377: i;var a9378: i;var a9379: i;var a9380: i;var a9381: i;var a9382: i;var a9383: i;var a9384: i;var a9385: i;var a9386: i;var a9387: i;var a9388: i;var a9389: i;var a9390: i;var a9391: i;var a9392: i;var a9393: i;var a9394: i;var a9395: i;var a9396: i;var a9397: i;var a9398: i;var a9399: i;var a9400: i;var a9401: i;var a9402: i;var a9403: i;var a9404: i;var a9405: i;var a9406: i;var a9407: i;var a9408: i;var a9409: i;var a9410: i;var a9411: i;var a9412: i;var a9413: i;var a9414: i;var a9415: i;var a9416: i;var a9417: i;var a9418: i;var a9419: i;var a9420: i;var a9421: i;var a9422: i;var a9423: i;var a9424: i;var a9425: i;var a9426: i;var a9427: i;var a9428: i;var a9429: i;var a9430: i;var a9431: i;var a9432: i;var a9433: i;var a9434: i;var a9435: i;var a9436: i;var a9437: i;var a9438: i;var a9439: i;var a9440: i;var a9441: i;var a9442: i;var a9443: i;var a9444: i;var a9445: i;var a9446: i;var a9447: i;var a9448: i;var a9449: i;var a9450: i;var a9451: i;var a9452: i;var a9453: i;var a9454: i;var a9455: i;var a9456: i;var a9457: i;var a9458: i;var a9459: i;var a9460: i;var a9461: i;var a9462: i;var a9463: i;var a9464: i;var a9465: i;var a9466: i;var a9467: i;var a9468: i;var a9469: i;var a9470: i;var a9471: i;var a9472: i;var a9473: i;var a9474: i;var a9475: i;var a9476: i;var a9477: i;var a9478: i;var a9479: i;var a9480: i;var a9481: i;var a9482: i;var a9483: i;var a9484: i;var a9485: i;var a9486: i;var a9487: i;var a9488: i;var a9489: i;var a9490: i;var a9491: i;var a9492: i;var a9493: i;var a9494: i;var a9495: i;var a9496: i;var a9497: i;var a9498: i;var a9499: i;var a9500: i;var a9501: i;var a9502: i;var a9503: i;var a9504: i;var a9505: i;var a9506: i;var a9507: i;var a9508: i;var a9509: i;var a9510: i;var a9511: i;var a9512: i;var a9513: i;var a9514: i;var a9515: i;var a9516: i;var a9517: i;var a9518: i;var a9519: i;var a9520: i;var a9521: i;var a9522: i;var a9523: i;var a9524: i;var a9525: i;var a9526: i;var a9527: i;var a9528: i;var a9529: i;var a9530: i;var a9531: i;var a9532: i;var a9533: i;var a9534: i;var a9535: i;var a9536: i;var a9537: i;var a9538: i;var a9539: i;var a9540: i;var a9541: i;var a9542: i;var a9543: i;var a9544: i;var a9545: i;var a9546: i;var a9547: i;var a9548: i;var a9549: i;var a9550: i;var a9551: i;var a9552: i;var a9553: i;var a9554: i;var a9555: i;var a9556: i;var a9557: i;var a9558: i;var a9559: i;var a9560: i;var a9561: i;var a9562: i;var a9563: i;var a9564: i;var a9565: i;var a9566: i;var a9567: i;var a9568: i;var a9569: i;var a9570: i;var a9571: i;var a9572: i;var a9573: i;var a9574: i;var a9575: i;var a9576: i;var a9577: i;var a9578: i;var a9579: i;var a9580: i;var a9581: i;var a9582: i;var a9583: i;var a9584: i;var a9585: i;var a9586: i;var a9587: i;var a9588: i;var a9589: i;var a9590: i;var a9591: i;var a9592: i;var a9593: i;var a9594: i;var a9595: i;var a9596: i;var a9597: i;var a9598: i;var a9599: i;var a9600: i;var a9601: i;var a9602: i;var a9603: i;var a9604: i;var a9605: i;var a9606: i;var a9607: i;var a9608: i;var a9609: i;var a9610: i;var a9611: i;var a9612: i;var a9613: i;var a9614: i;var a9615: i;var a9616: i;var a9617: i;var a9618: i;var a9619: i;var a9620: i;var a9621: i;var a9622: i;var a9623: i;var a9624: i;var a9625: i;var a9626: i;var a9627: i;var a9628: i;var a9629: i;var a9630: i;var a9631: i;var a9632: i;var a9633: i;var a9634: i;var a9635: i;var a9636: i;var a9637: i;var a9638: i;var a9639: i;var a9640: i;var a9641: i;var a9642: i;var a9643: i;var a9644: i;var a9645: i;var a9646: i;var a9647: i;var a9648: i;var a9649: i;var a9650: i;var a9651: i;var a9652: i;var a9653: i;var a9654: i;var a9655: i;var a9656: i;var a9657: i;var a9658: i;var a9659: i;var a9660: i;var a9661: i;var a9662: i;var a9663: i;var a9664: i;var a9665: i;var a9666: i;var a9667: i;var a9668: i;var a9669: i;var a9670: i;var a9671: i;var a9672: i;var a9673: i;var a9674: i;var a9675: i;var a9676: i;var a9677: i;var a9678: i;var a9679: i;var a9680: i;var a9681: i;var a9682: i;var a9683: i;var a9684: i;var a9685: i;var a9686: i;var a9687: i;var a9688: i;var a9689: i;var a9690: i;var a9691: i;var a9692: i;var a9693: i;var a9694: i;var a9695: i;var a9696: i;var a9697: i;var a9698: i;var a9699: i;var a9700: i;var a9701: i;var a9702: i;var a9703: i;var a9704: i;var a9705: i;var a9706: i;var a9707: i;var a9708: i;var a9709: i;var a9710: i;var a9711: i;var a9712: i;var a9713: i;var a9714: i;var a9715: i;var a9716: i;var a9717: i;var a9718: i;var a9719: i;var a9720: i;var a9721: i;var a9722: i;var a9723: i;var a9724: i;var a9725: i;var a9726: i;var a9727: i;var a9728: i;var a9729: i;var a9730: i;var a9731: i;var a9732: i;var a9733: i;var a9734: i;var a9735: i;var a9736: i;var a9737: i;var a9738: i;var a9739: i;var a9740: i;var a9741: i;var a9742: i;var a9743: i;var a9744: i;var a9745: i;var a9746: i;var a9747: i;var a9748: i;var a9749: i;var a9750: i;var a9751: i;var a9752: i;var a9753: i;var a9754: i;var a9755: i;var a9756: i;var a9757: i;var a9758: i;var a9759: i;var a9760: i;var a9761: i;var a9762: i;var a9763: i;var a9764: i;var a9765: i;var a9766: i;var a9767: i;var a9768: i;var a9769: i;var a9770: i;var a9771: i;var a9772: i;var a9773: i;var a9774: i;var a9775: i;var a9776: i;var a9777: i;var a9778: i;var a9779: i;var a9780: i;var a9781: i;var a9782: i;var a9783: i;var a9784: i;var a9785: i;var a9786: i;var a9787: i;var a9788: i;var a9789: i;var a9790: i;var a9791: i;var a9792: i;var a9793: i;var a9794: i;var a9795: i;var a9796: i;var a9797: i;var a9798: i;var a9799: i;var a9800: i;var a9801: i;var a9802: i;var a9803: i;var a9804: i;var a9805: i;var a9806: i;var a9807: i;var a9808: i;var a9809: i;var a9810: i;var a9811: i;var a9812: i;var a9813: i;var a9814: i;var a9815: i;var a9816: i;var a9817: i;var a9818: i;var a9819: i;var a9820: i;var a9821: i;var a9822: i;var a9823: i;var a9824: i;var a9825: i;var a9826: i;var a9827: i;var a9828: i;var a9829: i;var a9830: i;var a9831: i;var a9832: i;var a9833: i;var a9834: i;var a9835: i;var a9836: i;var a9837: i;var a9838: i;var a9839: i;var a9840: i;var a9841: i;var a9842: i;var a9843: i;var a9844: i;var a9845: i;var a9846: i;var a9847: i;var a9848: i;var a9849: i;var a9850: i;var a9851: i;var a9852: i;var a9853: i;var a9854: i;var a9855: i;var a9856: i;var a9857: i;var a9858: i;var a9859: i;var a9860: i;var a9861: i;var a9862: i;var a9863: i;var a9864: i;var a9865: i;var a9866: i;var a9867: i;var a9868: i;var a9869: i;var a9870: i;var a9871: i;var a9872: i;var a9873: i;var a9874: i;var a9875: i;var a9876: i;var a9877: i;var a9878: i;var a9879: i;var a9880: i;var a9881: i;var a9882: i;var a9883: i;var a9884: i;var a9885: i;var a9886: i;var a9887: i;var a9888: i;var a9889: i;var a9890: i;var a9891: i;var a9892: i;var a9893: i;var a9894: i;var a9895: i;var a9896: i;var a9897: i;var a9898: i;var a9899: i;var a9900: i;var a9901: i;var a9902: i;var a9903: i;var a9904: i;var a9905: i;var a9906: i;var a9907: i;var a9908: i;var a9909: i;var a9910: i;var a9911: i;var a9912: i;var a9913: i;var a9914: i;var a9915: i;var a9916: i;var a9917: i;var a9918: i;var a9919: i;var a9920: i;var a9921: i;var a9922: i;var a9923: i;var a9924: i;var a9925: i;var a9926: i;var a9927: i;var a9928: i;var a9929: i;var a9930: i;var a9931: i;var a9932: i;var a9933: i;var a9934: i;var a9935: i;var a9936: i;var a9937: i;var a9938: i;var a9939: i;var a9940: i;var a9941: i;var a9942: i;var a9943: i;var a9944: i;var a9945: i;var a9946: i;var a9947: i;var a9948: i;var a9949: i;var a9950: i;var a9951: i;var a9952: i;var a9953: i;var a9954: i;var a9955: i;var a9956: i;var a9957: i;var a9958: i;var a9959: i;var a9960: i;var a9961: i;var a9962: i;var a9963: i;var a9964: i;var a9965: i;var a9966: i;var a9967: i;var a9968: i;var a9969: i;var a9970: i;var a9971: i;var a9972: i;var a9973: i;var a9974: i;var a9975: i;var a9976: i;var a9977: i;var a9978: i;var a9979: i;var a9980: i;var a9981: i;var a9982: i;var a9983: i;var a9984: i;var a9985: i;var a9986: i;var a9987: i;var a9988: i;var a9989: i;var a9990: i;var a9991: i;var a9992: i;var a9993: i;var a9994: i;var a9995: i;var a9996: i;var a9997: i;var a9998: i;var a9999: i;
+fun main(x: integer): integer = ({ a0 = 1 }, { a9999 = 2 }, print_int(a0 + a9999), 0)
+!expected:
+3
+!end
+
+!code:
+fun main(x: integer): integer = ({ a0 = 2 }, print_int(a0), 0) { where typ i: integer; var a0: i; var a1: i; var a2: i; var a3: i; var a4: i; var a5: i; var a6: i; var a7: i; var a8: i; var a9: i; var a10: i; var a11: i; var a12: i; var a13: i; var a14: i; var a15: i; var a16: i; var a17: i; var a18: i; var a19: i; var a20: i; var a21: i; var a22: i; var a23: i; var a24: i; var a25: i; var a26: i; var a27: i; var a28: i; var a29: i; var a30: i; var a31: i; var a32: i; var a33: i; var a34: i; var a35: i; var a36: i; var a37: i; var a38: i; var a39: i; var a40: i; var a41: i; var a42: i; var a43: i; var a44: i; var a45: i; var a46: i; var a47: i; var a48: i; var a49: i; var a50: i; var a51: i; var a52: i; var a53: i; var a54: i; var a55: i; var a56: i; var a57: i; var a58: i; var a59: i; var a60: i; var a61: i; var a62: i; var a63: i; var a64: i; var a65: i; var a66: i; var a67: i; var a68: i; var a69: i; var a70: i; var a71: i; var a72: i; var a73: i; var a74: i; var a75: i; var a76: i; var a77: i; var a78: i; var a79: i; var a80: i; var a81: i; var a82: i; var a83: i; var a84: i; var a85: i; var a86: i; var a87: i; var a88: i; var a89: i; var a90: i; var a91: i; var a92: i; var a93: i; var a94: i; var a95: i; var a96: i; var a97: i; var a98: i; var a99: i; var a100: i; var a101: i; var a102: i; var a103: i; var a104: i; var a105: i; var a106: i; var a107: i; var a108: i; var a109: i; var a110: i; var a111: i; var a112: i; var a113: i; var a114: i; var a115: i; var a116: i; var a117: i; var a118: i; var a119: i; var a120: i; var a121: i; var a122: i; var a123: i; var a124: i; var a125: i; var a126: i; var a127: i; var a128: i; var a129: i; var a130: i; var a131: i; var a132: i; var a133: i; var a134: i; var a135: i; var a136: i; var a137: i; var a138: i; var a139: i; var a140: i; var a141: i; var a142: i; var a143: i; var a144: i; var a145: i; var a146: i; var a147: i; var a148: i; var a149: i; var a150: i; var a151: i; var a152: i; var a153: i; var a154: i; var a155: i; var a156: i; var a157: i; var a158: i; var a159: i; var a160: i; var a161: i; var a162: i; var a163: i; var a164: i; var a165: i; var a166: i; var a167: i; var a168: i; var a169: i; var a170: i; var a171: i; var a172: i; var a173: i; var a174: i; var a175: i; var a176: i; var a177: i; var a178: i; var a179: i; var a180: i; var a181: i; var a182: i; var a183: i; var a184: i; var a185: i; var a186: i; var a187: i; var a188: i; var a189: i; var a190: i; var a191: i; var a192: i; var a193: i; var a194: i; var a195: i; var a196: i; var a197: i; var a198: i; var a199: i; var a200: i; var a201: i; var a202: i; var a203: i; var a204: i; var a205: i; var a206: i; var a207: i; var a208: i; var a209: i; var a210: i; var a211: i; var a212: i; var a213: i; var a214: i; var a215: i; var a216: i; var a217: i; var a218: i; var a219: i; var a220: i; var a221: i; var a222: i; var a223: i; var a224: i; var a225: i; var a226: i; var a227: i; var a228: i; var a229: i; var a230: i; var a231: i; var a232: i; var a233: i; var a234: i; var a235: i; var a236: i; var a237: i; var a238: i; var a239: i; var a240: i; var a241: i; var a242: i; var a243: i; var a244: i; var a245: i; var a246: i; var a247: i; var a248: i; var a249: i; var a250: i; var a251: i; var a252: i; var a253: i; var a254: i; var a255: i; var a256: i; var a257: i; var a258: i; var a259: i; var a260: i; var a261: i; var a262: i; var a263: i; var a264: i; var a265: i; var a266: i; var a267: i; var a268: i; var a269: i; var a270: i; var a271: i; var a272: i; var a273: i; var a274: i; var a275: i; var a276: i; var a277: i; var a278: i; var a279: i; var a280: i; var a281: i; var a282: i; var a283: i; var a284: i; var a285: i; var a286: i; var a287: i; var a288: i; var a289: i; var a290: i; var a291: i; var a292: i; var a293: i; var a294: i; var a295: i; var a296: i; var a297: i; var a298: i; var a299: i; var a300: i; var a301: i; var a302: i; var a303: i; var a304: i; var a305: i; var a306: i; var a307: i; var a308: i; var a309: i; var a310: i; var a311: i; var a312: i; var a313: i; var a314: i; var a315: i; var a316: i; var a317: i; var a318: i; var a319: i; var a320: i; var a321: i; var a322: i; var a323: i; var a324: i; var a325: i; var a326: i; var a327: i; var a328: i; var a329: i; var a330: i; var a331: i; var a332: i; var a333: i; var a334: i; var a335: i; var a336: i; var a337: i; var a338: i; var a339: i; var a340: i; var a341: i; var a342: i; var a343: i; var a344: i; var a345: i; var a346: i; var a347: i; var a348: i; var a349: i; var a350: i; var a351: i; var a352: i; var a353: i; var a354: i; var a355: i; var a356: i; var a357: i; var a358: i; var a359: i; var a360: i; var a361: i; var a362: i; var a363: i; var a364: i; var a365: i; var a366: i; var a367: i; var a368: i; var a369: i; var a370: i; var a371: i; var a372: i; var a373: i; var a374: i; var a375: i; var a376: i; var a377: i; var a378: i; var a379: i; var a380: i; var a381: i; var a382: i; var a383: i; var a384: i; var a385: i; var a386: i; var a387: i; var a388: i; var a389: i; var a390: i; var a391: i; var a392: i; var a393: i; var a394: i; var a395: i; var a396: i; var a397: i; var a398: i; var a399: i; var a400: i; var a401: i; var a402: i; var a403: i; var a404: i; var a405: i; var a406: i; var a407: i; var a408: i; var a409: i; var a410: i; var a411: i; var a412: i; var a413: i; var a414: i; var a415: i; var a416: i; var a417: i; var a418: i; var a419: i; var a420: i; var a421: i; var a422: i; var a423: i; var a424: i; var a425: i; var a426: i; var a427: i; var a428: i; var a429: i; var a430: i; var a431: i; var a432: i; var a433: i; var a434: i; var a435: i; var a436: i; var a437: i; var a438: i; var a439: i; var a440: i; var a441: i; var a442: i; var a443: i; var a444: i; var a445: i; var a446: i; var a447: i; var a448: i; var a449: i; var a450: i; var a451: i; var a452: i; var a453: i; var a454: i; var a455: i; var a456: i; var a457: i; var a458: i; var a459: i; var a460: i; var a461: i; var a462: i; var a463: i; var a464: i; var a465: i; var a466: i; var a467: i; var a468: i; var a469: i; var a470: i; var a471: i; var a472: i; var a473: i; var a474: i; var a475: i; var a476: i; var a477: i; var a478: i; var a479: i; var a480: i; var a481: i; var a482: i; var a483: i; var a484: i; var a485: i; var a486: i; var a487: i; var a488: i; var a489: i; var a490: i; var a491: i; var a492: i; var a493: i; var a494: i; var a495: i; var a496: i; var a497: i; var a498: i; var a499: i; var a500: i; var a501: i; var a502: i; var a503: i; var a504: i; var a505: i; var a506: i; var a507: i; var a508: i; var a509: i; var a510: i; var a511: i; var a512: i; var a513: i; var a514: i; var a515: i; var a516: i; var a517: i; var a518: i; var a519: i; var a520: i; var a521: i; var a522: i; var a523: i; var a524: i; var a525: i; var a526: i; var a527: i; var a528: i; var a529: i; var a530: i; var a531: i; var a532: i; var a533: i; var a534: i; var a535: i; var a536: i; var a537: i; var a538: i; var a539: i; var a540: i; var a541: i; var a542: i; var a543: i; var a544: i; var a545: i; var a546: i; var a547: i; var a548: i; var a549: i; var a550: i; var a551: i; var a552: i; var a553: i; var a554: i; var a555: i; var a556: i; var a557: i; var a558: i; var a559: i; var a560: i; var a561: i; var a562: i; var a563: i; var a564: i; var a565: i; var a566: i; var a567: i; var a568: i; var a569: i; var a570: i; var a571: i; var a572: i; var a573: i; var a574: i; var a575: i; var a576: i; var a577: i; var a578: i; var a579: i; var a580: i; var a581: i; var a582: i; var a583: i; var a584: i; var a585: i; var a586: i; var a587: i; var a588: i; var a589: i; var a590: i; var a591: i; var a592: i; var a593: i; var a594: i; var a595: i; var a596: i; var a597: i; var a598: i; var a599: i; var a600: i; var a601: i; var a602: i; var a603: i; var a604: i; var a605: i; var a606: i; var a607: i; var a608: i; var a609: i; var a610: i; var a611: i; var a612: i; var a613: i; var a614: i; var a615: i; var a616: i; var a617: i; var a618: i; var a619: i; var a620: i; var a621: i; var a622: i; var a623: i; var a624: i; var a625: i; var a626: i; var a627: i; var a628: i; var a629: i; var a630: i; var a631: i; var a632: i; var a633: i; var a634: i; var a635: i; var a636: i; var a637: i; var a638: i; var a639: i; var a640: i; var a641: i; var a642: i; var a643: i; var a644: i; var a645: i; var a646: i; var a647: i; var a648: i; var a649: i; var a650: i; var a651: i; var a652: i; var a653: i; var a654: i; var a655: i; var a656: i; var a657: i; var a658: i; var a659: i; var a660: i; var a661: i; var a662: i; var a663: i; var a664: i; var a665: i; var a666: i; var a667: i; var a668: i; var a669: i; var a670: i; var a671: i; var a672: i; var a673: i; var a674: i; var a675: i; var a676: i; var a677: i; var a678: i; var a679: i; var a680: i; var a681: i; var a682: i; var a683: i; var a684: i; var a685: i; var a686: i; var a687: i; var a688: i; var a689: i; var a690: i; var a691: i; var a692: i; var a693: i; var a694: i; var a695: i; var a696: i; var a697: i; var a698: i; var a699: i; var a700: i; var a701: i; var a702: i; var a703: i; var a704: i; var a705: i; var a706: i; var a707: i; var a708: i; var a709: i; var a710: i; var a711: i; var a712: i; var a713: i; var a714: i; var a715: i; var a716: i; var a717: i; var a718: i; var a719: i; var a720: i; var a721: i; var a722: i; var a723: i; var a724: i; var a725: i; var a726: i; var a727: i; var a728: i; var a729: i; var a730: i; var a731: i; var a732: i; var a733: i; var a734: i; var a735: i; var a736: i; var a737: i; var a738: i; var a739: i; var a740: i; var a741: i; var a742: i; var a743: i; var a744: i; var a745: i; var a746: i; var a747: i; var a748: i; var a749: i; var a750: i; var a751: i; var a752: i; var a753: i; var a754: i; var a755: i; var a756: i; var a757: i; var a758: i; var a759: i; var a760: i; var a761: i; var a762: i; var a763: i; var a764: i; var a765: i; var a766: i; var a767: i; var a768: i; var a769: i; var a770: i; var a771: i; var a772: i; var a773: i; var a774: i; var a775: i; var a776: i; var a777: i; var a778: i; var a779: i; var a780: i; var a781: i; var a782: i; var a783: i; var a784: i; var a785: i; var a786: i; var a787: i; var a788: i; var a789: i; var a790: i; var a791: i; var a792: i; var a793: i; var a794: i; var a795: i; var a796: i; var a797: i; var a798: i; var a799: i; var a800: i; var a801: i; var a802: i; var a803: i; var a804: i; var a805: i; var a806: i; var a807: i; var a808: i; var a809: i; var a810: i; var a811: i; var a812: i; var a813: i; var a814: i; var a815: i; var a816: i; var a817: i; var a818: i; var a819: i; var a820: i; var a821: i; var a822: i; var a823: i; var a824: i; var a825: i; var a826: i; var a827: i; var a828: i; var a829: i; var a830: i; var a831: i; var a832: i; var a833: i; var a834: i; var a835: i; var a836: i; var a837: i; var a838: i; var a839: i; var a840: i; var a841: i; var a842: i; var a843: i; var a844: i; var a845: i; var a846: i; var a847: i; var a848: i; var a849: i; var a850: i; var a851: i; var a852: i; var a853: i; var a854: i; var a855: i; var a856: i; var a857: i; var a858: i; var a859: i; var a860: i; var a861: i; var a862: i; var a863: i; var a864: i; var a865: i; var a866: i; var a867: i; var a868: i; var a869: i; var a870: i; var a871: i; var a872: i; var a873: i; var a874: i; var a875: i; var a876: i; var a877: i; var a878: i; var a879: i; var a880: i; var a881: i; var a882: i; var a883: i; var a884: i; var a885: i; var a886: i; var a887: i; var a888: i; var a889: i; var a890: i; var a891: i; var a892: i; var a893: i; var a894: i; var a895: i; var a896: i; var a897: i; var a898: i; var a899: i; var a900: i; var a901: i; var a902: i; var a903: i; var a904: i; var a905: i; var a906: i; var a907: i; var a908: i; var a909: i; var a910: i; var a911: i; var a912: i; var a913: i; var a914: i; var a915: i; var a916: i; var a917: i; var a918: i; var a919: i; var a920: i; var a921: i; var a922: i; var a923: i; var a924: i; var a925: i; var a926: i; var a927: i; var a928: i; var a929: i; var a930: i; var a931: i; var a932: i; var a933: i; var a934: i; var a935: i; var a936: i; var a937: i; var a938: i; var a939: i; var a940: i; var a941: i; var a942: i; var a943: i; var a944: i; var a945: i; var a946: i; var a947: i; var a948: i; var a949: i; var a950: i; var a951: i; var a952: i; var a953: i; var a954: i; var a955: i; var a956: i; var a957: i; var a958: i; var a959: i; var a960: i; var a961: i; var a962: i; var a963: i; var a964: i; var a965: i; var a966: i; var a967: i; var a968: i; var a969: i; var a970: i; var a971: i; var a972: i; var a973: i; var a974: i; var a975: i; var a976: i; var a977: i; var a978: i; var a979: i; var a980: i; var a981: i; var a982: i; var a983: i; var a984: i; var a985: i; var a986: i; var a987: i; var a988: i; var a989: i; var a990: i; var a991: i; var a992: i; var a993: i; var a994: i; var a995: i; var a996: i; var a997: i; var a998: i; var a999: i; var a1000: i; var a1001: i; var a1002: i; var a1003: i; var a1004: i; var a1005: i; var a1006: i; var a1007: i; var a1008: i; var a1009: i; var a1010: i; var a1011: i; var a1012: i; var a1013: i; var a1014: i; var a1015: i; var a1016: i; var a1017: i; var a1018: i; var a1019: i; var a1020: i; var a1021: i; var a1022: i; var a1023: i; var a1024: i; var a1025: i; var a1026: i; var a1027: i; var a1028: i; var a1029: i; var a1030: i; var a1031: i; var a1032: i; var a1033: i; var a1034: i; var a1035: i; var a1036: i; var a1037: i; var a1038: i; var a1039: i; var a1040: i; var a1041: i; var a1042: i; var a1043: i; var a1044: i; var a1045: i; var a1046: i; var a1047: i; var a1048: i; var a1049: i; var a1050: i; var a1051: i; var a1052: i; var a1053: i; var a1054: i; var a1055: i; var a1056: i; var a1057: i; var a1058: i; var a1059: i; var a1060: i; var a1061: i; var a1062: i; var a1063: i; var a1064: i; var a1065: i; var a1066: i; var a1067: i; var a1068: i; var a1069: i; var a1070: i; var a1071: i; var a1072: i; var a1073: i; var a1074: i; var a1075: i; var a1076: i; var a1077: i; var a1078: i; var a1079: i; var a1080: i; var a1081: i; var a1082: i; var a1083: i; var a1084: i; var a1085: i; var a1086: i; var a1087: i; var a1088: i; var a1089: i; var a1090: i; var a1091: i; var a1092: i; var a1093: i; var a1094: i; var a1095: i; var a1096: i; var a1097: i; var a1098: i; var a1099: i; var a1100: i; var a1101: i; var a1102: i; var a1103: i; var a1104: i; var a1105: i; var a1106: i; var a1107: i; var a1108: i; var a1109: i; var a1110: i; var a1111: i; var a1112: i; var a1113: i; var a1114: i; var a1115: i; var a1116: i; var a1117: i; var a1118: i; var a1119: i; var a1120: i; var a1121: i; var a1122: i; var a1123: i; var a1124: i; var a1125: i; var a1126: i; var a1127: i; var a1128: i; var a1129: i; var a1130: i; var a1131: i; var a1132: i; var a1133: i; var a1134: i; var a1135: i; var a1136: i; var a1137: i; var a1138: i; var a1139: i; var a1140: i; var a1141: i; var a1142: i; var a1143: i; var a1144: i; var a1145: i; var a1146: i; var a1147: i; var a1148: i; var a1149: i; var a1150: i; var a1151: i; var a1152: i; var a1153: i; var a1154: i; var a1155: i; var a1156: i; var a1157: i; var a1158: i; var a1159: i; var a1160: i; var a1161: i; var a1162: i; var a1163: i; var a1164: i; var a1165: i; var a1166: i; var a1167: i; var a1168: i; var a1169: i; var a1170: i; var a1171: i; var a1172: i; var a1173: i; var a1174: i; var a1175: i; var a1176: i; var a1177: i; var a1178: i; var a1179: i; var a1180: i; var a1181: i; var a1182: i; var a1183: i; var a1184: i; var a1185: i; var a1186: i; var a1187: i; var a1188: i; var a1189: i; var a1190: i; var a1191: i; var a1192: i; var a1193: i; var a1194: i; var a1195: i; var a1196: i; var a1197: i; var a1198: i; var a1199: i; var a1200: i; var a1201: i; var a1202: i; var a1203: i; var a1204: i; var a1205: i; var a1206: i; var a1207: i; var a1208: i; var a1209: i; var a1210: i; var a1211: i; var a1212: i; var a1213: i; var a1214: i; var a1215: i; var a1216: i; var a1217: i; var a1218: i; var a1219: i; var a1220: i; var a1221: i; var a1222: i; var a1223: i; var a1224: i; var a1225: i; var a1226: i; var a1227: i; var a1228: i; var a1229: i; var a1230: i; var a1231: i; var a1232: i; var a1233: i; var a1234: i; var a1235: i; var a1236: i; var a1237: i; var a1238: i; var a1239: i; var a1240: i; var a1241: i; var a1242: i; var a1243: i; var a1244: i; var a1245: i; var a1246: i; var a1247: i; var a1248: i; var a1249: i; var a1250: i; var a1251: i; var a1252: i; var a1253: i; var a1254: i; var a1255: i; var a1256: i; var a1257: i; var a1258: i; var a1259: i; var a1260: i; var a1261: i; var a1262: i; var a1263: i; var a1264: i; var a1265: i; var a1266: i; var a1267: i; var a1268: i; var a1269: i; var a1270: i; var a1271: i; var a1272: i; var a1273: i; var a1274: i; var a1275: i; var a1276: i; var a1277: i; var a1278: i; var a1279: i; var a1280: i; var a1281: i; var a1282: i; var a1283: i; var a1284: i; var a1285: i; var a1286: i; var a1287: i; var a1288: i; var a1289: i; var a1290: i; var a1291: i; var a1292: i; var a1293: i; var a1294: i; var a1295: i; var a1296: i; var a1297: i; var a1298: i; var a1299: i; var a1300: i; var a1301: i; var a1302: i; var a1303: i; var a1304: i; var a1305: i; var a1306: i; var a1307: i; var a1308: i; var a1309: i; var a1310: i; var a1311: i; var a1312: i; var a1313: i; var a1314: i; var a1315: i; var a1316: i; var a1317: i; var a1318: i; var a1319: i; var a1320: i; var a1321: i; var a1322: i; var a1323: i; var a1324: i; var a1325: i; var a1326: i; var a1327: i; var a1328: i; var a1329: i; var a1330: i; var a1331: i; var a1332: i; var a1333: i; var a1334: i; var a1335: i; var a1336: i; var a1337: i; var a1338: i; var a1339: i; var a1340: i; var a1341: i; var a1342: i; var a1343: i; var a1344: i; var a1345: i; var a1346: i; var a1347: i; var a1348: i; var a1349: i; var a1350: i; var a1351: i; var a1352: i; var a1353: i; var a1354: i; var a1355: i; var a1356: i; var a1357: i; var a1358: i; var a1359: i; var a1360: i; var a1361: i; var a1362: i; var a1363: i; var a1364: i; var a1365: i; var a1366: i; var a1367: i; var a1368: i; var a1369: i; var a1370: i; var a1371: i; var a1372: i; var a1373: i; var a1374: i; var a1375: i; var a1376: i; var a1377: i; var a1378: i; var a1379: i; var a1380: i; var a1381: i; var a1382: i; var a1383: i; var a1384: i; var a1385: i; var a1386: i; var a1387: i; var a1388: i; var a1389: i; var a1390: i; var a1391: i; var a1392: i; var a1393: i; var a1394: i; var a1395: i; var a1396: i; var a1397: i; var a1398: i; var a1399: i; var a1400: i; var a1401: i; var a1402: i; var a1403: i; var a1404: i; var a1405: i; var a1406: i; var a1407: i; var a1408: i; var a1409: i; var a1410: i; var a1411: i; var a1412: i; var a1413: i; var a1414: i; var a1415: i; var a1416: i; var a1417: i; var a1418: i; var a1419: i; var a1420: i; var a1421: i; var a1422: i; var a1423: i; var a1424: i; var a1425: i; var a1426: i; var a1427: i; var a1428: i; var a1429: i; var a1430: i; var a1431: i; var a1432: i; var a1433: i; var a1434: i; var a1435: i; var a1436: i; var a1437: i; var a1438: i; var a1439: i; var a1440: i; var a1441: i; var a1442: i; var a1443: i; var a1444: i; var a1445: i; var a1446: i; var a1447: i; var a1448: i; var a1449: i; var a1450: i; var a1451: i; var a1452: i; var a1453: i; var a1454: i; var a1455: i; var a1456: i; var a1457: i; var a1458: i; var a1459: i; var a1460: i; var a1461: i; var a1462: i; var a1463: i; var a1464: i; var a1465: i; var a1466: i; var a1467: i; var a1468: i; var a1469: i; var a1470: i; var a1471: i; var a1472: i; var a1473: i; var a1474: i; var a1475: i; var a1476: i; var a1477: i; var a1478: i; var a1479: i; var a1480: i; var a1481: i; var a1482: i; var a1483: i; var a1484: i; var a1485: i; var a1486: i; var a1487: i; var a1488: i; var a1489: i; var a1490: i; var a1491: i; var a1492: i; var a1493: i; var a1494: i; var a1495: i; var a1496: i; var a1497: i; var a1498: i; var a1499: i; var a1500: i; var a1501: i; var a1502: i; var a1503: i; var a1504: i; var a1505: i; var a1506: i; var a1507: i; var a1508: i; var a1509: i; var a1510: i; var a1511: i; var a1512: i; var a1513: i; var a1514: i; var a1515: i; var a1516: i; var a1517: i; var a1518: i; var a1519: i; var a1520: i; var a1521: i; var a1522: i; var a1523: i; var a1524: i; var a1525: i; var a1526: i; var a1527: i; var a1528: i; var a1529: i; var a1530: i; var a1531: i; var a1532: i; var a1533: i; var a1534: i; var a1535: i; var a1536: i; var a1537: i; var a1538: i; var a1539: i; var a1540: i; var a1541: i; var a1542: i; var a1543: i; var a1544: i; var a1545: i; var a1546: i; var a1547: i; var a1548: i; var a1549: i; var a1550: i; var a1551: i; var a1552: i; var a1553: i; var a1554: i; var a1555: i; var a1556: i; var a1557: i; var a1558: i; var a1559: i; var a1560: i; var a1561: i; var a1562: i; var a1563: i; var a1564: i; var a1565: i; var a1566: i; var a1567: i; var a1568: i; var a1569: i; var a1570: i; var a1571: i; var a1572: i; var a1573: i; var a1574: i; var a1575: i; var a1576: i; var a1577: i; var a1578: i; var a1579: i; var a1580: i; var a1581: i; var a1582: i; var a1583: i; var a1584: i; var a1585: i; var a1586: i; var a1587: i; var a1588: i; var a1589: i; var a1590: i; var a1591: i; var a1592: i; var a1593: i; var a1594: i; var a1595: i; var a1596: i; var a1597: i; var a1598: i; var a1599: i; var a1600: i; var a1601: i; var a1602: i; var a1603: i; var a1604: i; var a1605: i; var a1606: i; var a1607: i; var a1608: i; var a1609: i; var a1610: i; var a1611: i; var a1612: i; var a1613: i; var a1614: i; var a1615: i; var a1616: i; var a1617: i; var a1618: i; var a1619: i; var a1620: i; var a1621: i; var a1622: i; var a1623: i; var a1624: i; var a1625: i; var a1626: i; var a1627: i; var a1628: i; var a1629: i; var a1630: i; var a1631: i; var a1632: i; var a1633: i; var a1634: i; var a1635: i; var a1636: i; var a1637: i; var a1638: i; var a1639: i; var a1640: i; var a1641: i; var a1642: i; var a1643: i; var a1644: i; var a1645: i; var a1646: i; var a1647: i; var a1648: i; var a1649: i; var a1650: i; var a1651: i; var a1652: i; var a1653: i; var a1654: i; var a1655: i; var a1656: i; var a1657: i; var a1658: i; var a1659: i; var a1660: i; var a1661: i; var a1662: i; var a1663: i; var a1664: i; var a1665: i; var a1666: i; var a1667: i; var a1668: i; var a1669: i; var a1670: i; var a1671: i; var a1672: i; var a1673: i; var a1674: i; var a1675: i; var a1676: i; var a1677: i; var a1678: i; var a1679: i; var a1680: i; var a1681: i; var a1682: i; var a1683: i; var a1684: i; var a1685: i; var a1686: i; var a1687: i; var a1688: i; var a1689: i; var a1690: i; var a1691: i; var a1692: i; var a1693: i; var a1694: i; var a1695: i; var a1696: i; var a1697: i; var a1698: i; var a1699: i; var a1700: i; var a1701: i; var a1702: i; var a1703: i; var a1704: i; var a1705: i; var a1706: i; var a1707: i; var a1708: i; var a1709: i; var a1710: i; var a1711: i; var a1712: i; var a1713: i; var a1714: i; var a1715: i; var a1716: i; var a1717: i; var a1718: i; var a1719: i; var a1720: i; var a1721: i; var a1722: i; var a1723: i; var a1724: i; var a1725: i; var a1726: i; var a1727: i; var a1728: i; var a1729: i; var a1730: i; var a1731: i; var a1732: i; var a1733: i; var a1734: i; var a1735: i; var a1736: i; var a1737: i; var a1738: i; var a1739: i; var a1740: i; var a1741: i; var a1742: i; var a1743: i; var a1744: i; var a1745: i; var a1746: i; var a1747: i; var a1748: i; var a1749: i; var a1750: i; var a1751: i; var a1752: i; var a1753: i; var a1754: i; var a1755: i; var a1756: i; var a1757: i; var a1758: i; var a1759: i; var a1760: i; var a1761: i; var a1762: i; var a1763: i; var a1764: i; var a1765: i; var a1766: i; var a1767: i; var a1768: i; var a1769: i; var a1770: i; var a1771: i; var a1772: i; var a1773: i; var a1774: i; var a1775: i; var a1776: i; var a1777: i; var a1778: i; var a1779: i; var a1780: i; var a1781: i; var a1782: i; var a1783: i; var a1784: i; var a1785: i; var a1786: i; var a1787: i; var a1788: i; var a1789: i; var a1790: i; var a1791: i; var a1792: i; var a1793: i; var a1794: i; var a1795: i; var a1796: i; var a1797: i; var a1798: i; var a1799: i; var a1800: i; var a1801: i; var a1802: i; var a1803: i; var a1804: i; var a1805: i; var a1806: i; var a1807: i; var a1808: i; var a1809: i; var a1810: i; var a1811: i; var a1812: i; var a1813: i; var a1814: i; var a1815: i; var a1816: i; var a1817: i; var a1818: i; var a1819: i; var a1820: i; var a1821: i; var a1822: i; var a1823: i; var a1824: i; var a1825: i; var a1826: i; var a1827: i; var a1828: i; var a1829: i; var a1830: i; var a1831: i; var a1832: i; var a1833: i; var a1834: i; var a1835: i; var a1836: i; var a1837: i; var a1838: i; var a1839: i; var a1840: i; var a1841: i; var a1842: i; var a1843: i; var a1844: i; var a1845: i; var a1846: i; var a1847: i; var a1848: i; var a1849: i; var a1850: i; var a1851: i; var a1852: i; var a1853: i; var a1854: i; var a1855: i; var a1856: i; var a1857: i; var a1858: i; var a1859: i; var a1860: i; var a1861: i; var a1862: i; var a1863: i; var a1864: i; var a1865: i; var a1866: i; var a1867: i; var a1868: i; var a1869: i; var a1870: i; var a1871: i; var a1872: i; var a1873: i; var a1874: i; var a1875: i; var a1876: i; var a1877: i; var a1878: i; var a1879: i; var a1880: i; var a1881: i; var a1882: i; var a1883: i; var a1884: i; var a1885: i; var a1886: i; var a1887: i; var a1888: i; var a1889: i; var a1890: i; var a1891: i; var a1892: i; var a1893: i; var a1894: i; var a1895: i; var a1896: i; var a1897: i; var a1898: i; var a1899: i; var a1900: i; var a1901: i; var a1902: i; var a1903: i; var a1904: i; var a1905: i; var a1906: i; var a1907: i; var a1908: i; var a1909: i; var a1910: i; var a1911: i; var a1912: i; var a1913: i; var a1914: i; var a1915: i; var a1916: i; var a1917: i; var a1918: i; var a1919: i; var a1920: i; var a1921: i; var a1922: i; var a1923: i; var a1924: i; var a1925: i; var a1926: i; var a1927: i; var a1928: i; var a1929: i; var a1930: i; var a1931: i; var a1932: i; var a1933: i; var a1934: i; var a1935: i; var a1936: i; var a1937: i; var a1938: i; var a1939: i; var a1940: i; var a1941: i; var a1942: i; var a1943: i; var a1944: i; var a1945: i; var a1946: i; var a1947: i; var a1948: i; var a1949: i; var a1950: i; var a1951: i; var a1952: i; var a1953: i; var a1954: i; var a1955: i; var a1956: i; var a1957: i; var a1958: i; var a1959: i; var a1960: i; var a1961: i; var a1962: i; var a1963: i; var a1964: i; var a1965: i; var a1966: i; var a1967: i; var a1968: i; var a1969: i; var a1970: i; var a1971: i; var a1972: i; var a1973: i; var a1974: i; var a1975: i; var a1976: i; var a1977: i; var a1978: i; var a1979: i; var a1980: i; var a1981: i; var a1982: i; var a1983: i; var a1984: i; var a1985: i; var a1986: i; var a1987: i; var a1988: i; var a1989: i; var a1990: i; var a1991: i; var a1992: i; var a1993: i; var a1994: i; var a1995: i; var a1996: i; var a1997: i; var a1998: i; var a1999: i; var a2000: i; var a2001: i; var a2002: i; var a2003: i; var a2004: i; var a2005: i; var a2006: i; var a2007: i; var a2008: i; var a2009: i; var a2010: i; var a2011: i; var a2012: i; var a2013: i; var a2014: i; var a2015: i; var a2016: i; var a2017: i; var a2018: i; var a2019: i; var a2020: i; var a2021: i; var a2022: i; var a2023: i; var a2024: i; var a2025: i; var a2026: i; var a2027: i; var a2028: i; var a2029: i; var a2030: i; var a2031: i; var a2032: i; var a2033: i; var a2034: i; var a2035: i; var a2036: i; var a2037: i; var a2038: i; var a2039: i; var a2040: i; var a2041: i; var a2042: i; var a2043: i; var a2044: i; var a2045: i; var a2046: i; var a2047: i; var a2048: i; var a2049: i; var a2050: i; var a2051: i; var a2052: i; var a2053: i; var a2054: i; var a2055: i; var a2056: i; var a2057: i; var a2058: i; var a2059: i; var a2060: i; var a2061: i; var a2062: i; var a2063: i; var a2064: i; var a2065: i; var a2066: i; var a2067: i; var a2068: i; var a2069: i; var a2070: i; var a2071: i; var a2072: i; var a2073: i; var a2074: i; var a2075: i; var a2076: i; var a2077: i; var a2078: i; var a2079: i; var a2080: i; var a2081: i; var a2082: i; var a2083: i; var a2084: i; var a2085: i; var a2086: i; var a2087: i; var a2088: i; var a2089: i; var a2090: i; var a2091: i; var a2092: i; var a2093: i; var a2094: i; var a2095: i; var a2096: i; var a2097: i; var a2098: i; var a2099: i; var a2100: i; var a2101: i; var a2102: i; var a2103: i; var a2104: i; var a2105: i; var a2106: i; var a2107: i; var a2108: i; var a2109: i; var a2110: i; var a2111: i; var a2112: i; var a2113: i; var a2114: i; var a2115: i; var a2116: i; var a2117: i; var a2118: i; var a2119: i; var a2120: i; var a2121: i; var a2122: i; var a2123: i; var a2124: i; var a2125: i; var a2126: i; var a2127: i; var a2128: i; var a2129: i; var a2130: i; var a2131: i; var a2132: i; var a2133: i; var a2134: i; var a2135: i; var a2136: i; var a2137: i; var a2138: i; var a2139: i; var a2140: i; var a2141: i; var a2142: i; var a2143: i; var a2144: i; var a2145: i; var a2146: i; var a2147: i; var a2148: i; var a2149: i; var a2150: i; var a2151: i; var a2152: i; var a2153: i; var a2154: i; var a2155: i; var a2156: i; var a2157: i; var a2158: i; var a2159: i; var a2160: i; var a2161: i; var a2162: i; var a2163: i; var a2164: i; var a2165: i; var a2166: i; var a2167: i; var a2168: i; var a2169: i; var a2170: i; var a2171: i; var a2172: i; var a2173: i; var a2174: i; var a2175: i; var a2176: i; var a2177: i; var a2178: i; var a2179: i; var a2180: i; var a2181: i; var a2182: i; var a2183: i; var a2184: i; var a2185: i; var a2186: i; var a2187: i; var a2188: i; var a2189: i; var a2190: i; var a2191: i; var a2192: i; var a2193: i; var a2194: i; var a2195: i; var a2196: i; var a2197: i; var a2198: i; var a2199: i; var a2200: i; var a2201: i; var a2202: i; var a2203: i; var a2204: i; var a2205: i; var a2206: i; var a2207: i; var a2208: i; var a2209: i; var a2210: i; var a2211: i; var a2212: i; var a2213: i; var a2214: i; var a2215: i; var a2216: i; var a2217: i; var a2218: i; var a2219: i; var a2220: i; var a2221: i; var a2222: i; var a2223: i; var a2224: i; var a2225: i; var a2226: i; var a2227: i; var a2228: i; var a2229: i; var a2230: i; var a2231: i; var a2232: i; var a2233: i; var a2234: i; var a2235: i; var a2236: i; var a2237: i; var a2238: i; var a2239: i; var a2240: i; var a2241: i; var a2242: i; var a2243: i; var a2244: i; var a2245: i; var a2246: i; var a2247: i; var a2248: i; var a2249: i; var a2250: i; var a2251: i; var a2252: i; var a2253: i; var a2254: i; var a2255: i; var a2256: i; var a2257: i; var a2258: i; var a2259: i; var a2260: i; var a2261: i; var a2262: i; var a2263: i; var a2264: i; var a2265: i; var a2266: i; var a2267: i; var a2268: i; var a2269: i; var a2270: i; var a2271: i; var a2272: i; var a2273: i; var a2274: i; var a2275: i; var a2276: i; var a2277: i; var a2278: i; var a2279: i; var a2280: i; var a2281: i; var a2282: i; var a2283: i; var a2284: i; var a2285: i; var a2286: i; var a2287: i; var a2288: i; var a2289: i; var a2290: i; var a2291: i; var a2292: i; var a2293: i; var a2294: i; var a2295: i; var a2296: i; var a2297: i; var a2298: i; var a2299: i; var a2300: i; var a2301: i; var a2302: i; var a2303: i; var a2304: i; var a2305: i; var a2306: i; var a2307: i; var a2308: i; var a2309: i; var a2310: i; var a2311: i; var a2312: i; var a2313: i; var a2314: i; var a2315: i; var a2316: i; var a2317: i; var a2318: i; var a2319: i; var a2320: i; var a2321: i; var a2322: i; var a2323: i; var a2324: i; var a2325: i; var a2326: i; var a2327: i; var a2328: i; var a2329: i; var a2330: i; var a2331: i; var a2332: i; var a2333: i; var a2334: i; var a2335: i; var a2336: i; var a2337: i; var a2338: i; var a2339: i; var a2340: i; var a2341: i; var a2342: i; var a2343: i; var a2344: i; var a2345: i; var a2346: i; var a2347: i; var a2348: i; var a2349: i; var a2350: i; var a2351: i; var a2352: i; var a2353: i; var a2354: i; var a2355: i; var a2356: i; var a2357: i; var a2358: i; var a2359: i; var a2360: i; var a2361: i; var a2362: i; var a2363: i; var a2364: i; var a2365: i; var a2366: i; var a2367: i; var a2368: i; var a2369: i; var a2370: i; var a2371: i; var a2372: i; var a2373: i; var a2374: i; var a2375: i; var a2376: i; var a2377: i; var a2378: i; var a2379: i; var a2380: i; var a2381: i; var a2382: i; var a2383: i; var a2384: i; var a2385: i; var a2386: i; var a2387: i; var a2388: i; var a2389: i; var a2390: i; var a2391: i; var a2392: i; var a2393: i; var a2394: i; var a2395: i; var a2396: i; var a2397: i; var a2398: i; var a2399: i; var a2400: i; var a2401: i; var a2402: i; var a2403: i; var a2404: i; var a2405: i; var a2406: i; var a2407: i; var a2408: i; var a2409: i; var a2410: i; var a2411: i; var a2412: i; var a2413: i; var a2414: i; var a2415: i; var a2416: i; var a2417: i; var a2418: i; var a2419: i; var a2420: i; var a2421: i; var a2422: i; var a2423: i; var a2424: i; var a2425: i; var a2426: i; var a2427: i; var a2428: i; var a2429: i; var a2430: i; var a2431: i; var a2432: i; var a2433: i; var a2434: i; var a2435: i; var a2436: i; var a2437: i; var a2438: i; var a2439: i; var a2440: i; var a2441: i; var a2442: i; var a2443: i; var a2444: i; var a2445: i; var a2446: i; var a2447: i; var a2448: i; var a2449: i; var a2450: i; var a2451: i; var a2452: i; var a2453: i; var a2454: i; var a2455: i; var a2456: i; var a2457: i; var a2458: i; var a2459: i; var a2460: i; var a2461: i; var a2462: i; var a2463: i; var a2464: i; var a2465: i; var a2466: i; var a2467: i; var a2468: i; var a2469: i; var a2470: i; var a2471: i; var a2472: i; var a2473: i; var a2474: i; var a2475: i; var a2476: i; var a2477: i; var a2478: i; var a2479: i; var a2480: i; var a2481: i; var a2482: i; var a2483: i; var a2484: i; var a2485: i; var a2486: i; var a2487: i; var a2488: i; var a2489: i; var a2490: i; var a2491: i; var a2492: i; var a2493: i; var a2494: i; var a2495: i; var a2496: i; var a2497: i; var a2498: i; var a2499: i; var a2500: i; var a2501: i; var a2502: i; var a2503: i; var a2504: i; var a2505: i; var a2506: i; var a2507: i; var a2508: i; var a2509: i; var a2510: i; var a2511: i; var a2512: i; var a2513: i; var a2514: i; var a2515: i; var a2516: i; var a2517: i; var a2518: i; var a2519: i; var a2520: i; var a2521: i; var a2522: i; var a2523: i; var a2524: i; var a2525: i; var a2526: i; var a2527: i; var a2528: i; var a2529: i; var a2530: i; var a2531: i; var a2532: i; var a2533: i; var a2534: i; var a2535: i; var a2536: i; var a2537: i; var a2538: i; var a2539: i; var a2540: i; var a2541: i; var a2542: i; var a2543: i; var a2544: i; var a2545: i; var a2546: i; var a2547: i; var a2548: i; var a2549: i; var a2550: i; var a2551: i; var a2552: i; var a2553: i; var a2554: i; var a2555: i; var a2556: i; var a2557: i; var a2558: i; var a2559: i; var a2560: i; var a2561: i; var a2562: i; var a2563: i; var a2564: i; var a2565: i; var a2566: i; var a2567: i; var a2568: i; var a2569: i; var a2570: i; var a2571: i; var a2572: i; var a2573: i; var a2574: i; var a2575: i; var a2576: i; var a2577: i; var a2578: i; var a2579: i; var a2580: i; var a2581: i; var a2582: i; var a2583: i; var a2584: i; var a2585: i; var a2586: i; var a2587: i; var a2588: i; var a2589: i; var a2590: i; var a2591: i; var a2592: i; var a2593: i; var a2594: i; var a2595: i; var a2596: i; var a2597: i; var a2598: i; var a2599: i; var a2600: i; var a2601: i; var a2602: i; var a2603: i; var a2604: i; var a2605: i; var a2606: i; var a2607: i; var a2608: i; var a2609: i; var a2610: i; var a2611: i; var a2612: i; var a2613: i; var a2614: i; var a2615: i; var a2616: i; var a2617: i; var a2618: i; var a2619: i; var a2620: i; var a2621: i; var a2622: i; var a2623: i; var a2624: i; var a2625: i; var a2626: i; var a2627: i; var a2628: i; var a2629: i; var a2630: i; var a2631: i; var a2632: i; var a2633: i; var a2634: i; var a2635: i; var a2636: i; var a2637: i; var a2638: i; var a2639: i; var a2640: i; var a2641: i; var a2642: i; var a2643: i; var a2644: i; var a2645: i; var a2646: i; var a2647: i; var a2648: i; var a2649: i; var a2650: i; var a2651: i; var a2652: i; var a2653: i; var a2654: i; var a2655: i; var a2656: i; var a2657: i; var a2658: i; var a2659: i; var a2660: i; var a2661: i; var a2662: i; var a2663: i; var a2664: i; var a2665: i; var a2666: i; var a2667: i; var a2668: i; var a2669: i; var a2670: i; var a2671: i; var a2672: i; var a2673: i; var a2674: i; var a2675: i; var a2676: i; var a2677: i; var a2678: i; var a2679: i; var a2680: i; var a2681: i; var a2682: i; var a2683: i; var a2684: i; var a2685: i; var a2686: i; var a2687: i; var a2688: i; var a2689: i; var a2690: i; var a2691: i; var a2692: i; var a2693: i; var a2694: i; var a2695: i; var a2696: i; var a2697: i; var a2698: i; var a2699: i; var a2700: i; var a2701: i; var a2702: i; var a2703: i; var a2704: i; var a2705: i; var a2706: i; var a2707: i; var a2708: i; var a2709: i; var a2710: i; var a2711: i; var a2712: i; var a2713: i; var a2714: i; var a2715: i; var a2716: i; var a2717: i; var a2718: i; var a2719: i; var a2720: i; var a2721: i; var a2722: i; var a2723: i; var a2724: i; var a2725: i; var a2726: i; var a2727: i; var a2728: i; var a2729: i; var a2730: i; var a2731: i; var a2732: i; var a2733: i; var a2734: i; var a2735: i; var a2736: i; var a2737: i; var a2738: i; var a2739: i; var a2740: i; var a2741: i; var a2742: i; var a2743: i; var a2744: i; var a2745: i; var a2746: i; var a2747: i; var a2748: i; var a2749: i; var a2750: i; var a2751: i; var a2752: i; var a2753: i; var a2754: i; var a2755: i; var a2756: i; var a2757: i; var a2758: i; var a2759: i; var a2760: i; var a2761: i; var a2762: i; var a2763: i; var a2764: i; var a2765: i; var a2766: i; var a2767: i; var a2768: i; var a2769: i; var a2770: i; var a2771: i; var a2772: i; var a2773: i; var a2774: i; var a2775: i; var a2776: i; var a2777: i; var a2778: i; var a2779: i; var a2780: i; var a2781: i; var a2782: i; var a2783: i; var a2784: i; var a2785: i; var a2786: i; var a2787: i; var a2788: i; var a2789: i; var a2790: i; var a2791: i; var a2792: i; var a2793: i; var a2794: i; var a2795: i; var a2796: i; var a2797: i; var a2798: i; var a2799: i; var a2800: i; var a2801: i; var a2802: i; var a2803: i; var a2804: i; var a2805: i; var a2806: i; var a2807: i; var a2808: i; var a2809: i; var a2810: i; var a2811: i; var a2812: i; var a2813: i; var a2814: i; var a2815: i; var a2816: i; var a2817: i; var a2818: i; var a2819: i; var a2820: i; var a2821: i; var a2822: i; var a2823: i; var a2824: i; var a2825: i; var a2826: i; var a2827: i; var a2828: i; var a2829: i; var a2830: i; var a2831: i; var a2832: i; var a2833: i; var a2834: i; var a2835: i; var a2836: i; var a2837: i; var a2838: i; var a2839: i; var a2840: i; var a2841: i; var a2842: i; var a2843: i; var a2844: i; var a2845: i; var a2846: i; var a2847: i; var a2848: i; var a2849: i; var a2850: i; var a2851: i; var a2852: i; var a2853: i; var a2854: i; var a2855: i; var a2856: i; var a2857: i; var a2858: i; var a2859: i; var a2860: i; var a2861: i; var a2862: i; var a2863: i; var a2864: i; var a2865: i; var a2866: i; var a2867: i; var a2868: i; var a2869: i; var a2870: i; var a2871: i; var a2872: i; var a2873: i; var a2874: i; var a2875: i; var a2876: i; var a2877: i; var a2878: i; var a2879: i; var a2880: i; var a2881: i; var a2882: i; var a2883: i; var a2884: i; var a2885: i; var a2886: i; var a2887: i; var a2888: i; var a2889: i; var a2890: i; var a2891: i; var a2892: i; var a2893: i; var a2894: i; var a2895: i; var a2896: i; var a2897: i; var a2898: i; var a2899: i; var a2900: i; var a2901: i; var a2902: i; var a2903: i; var a2904: i; var a2905: i; var a2906: i; var a2907: i; var a2908: i; var a2909: i; var a2910: i; var a2911: i; var a2912: i; var a2913: i; var a2914: i; var a2915: i; var a2916: i; var a2917: i; var a2918: i; var a2919: i; var a2920: i; var a2921: i; var a2922: i; var a2923: i; var a2924: i; var a2925: i; var a2926: i; var a2927: i; var a2928: i; var a2929: i; var a2930: i; var a2931: i; var a2932: i; var a2933: i; var a2934: i; var a2935: i; var a2936: i; var a2937: i; var a2938: i; var a2939: i; var a2940: i; var a2941: i; var a2942: i; var a2943: i; var a2944: i; var a2945: i; var a2946: i; var a2947: i; var a2948: i; var a2949: i; var a2950: i; var a2951: i; var a2952: i; var a2953: i; var a2954: i; var a2955: i; var a2956: i; var a2957: i; var a2958: i; var a2959: i; var a2960: i; var a2961: i; var a2962: i; var a2963: i; var a2964: i; var a2965: i; var a2966: i; var a2967: i; var a2968: i; var a2969: i; var a2970: i; var a2971: i; var a2972: i; var a2973: i; var a2974: i; var a2975: i; var a2976: i; var a2977: i; var a2978: i; var a2979: i; var a2980: i; var a2981: i; var a2982: i; var a2983: i; var a2984: i; var a2985: i; var a2986: i; var a2987: i; var a2988: i; var a2989: i; var a2990: i; var a2991: i; var a2992: i; var a2993: i; var a2994: i; var a2995: i; var a2996: i; var a2997: i; var a2998: i; var a2999: i; var a3000: i; var a3001: i; var a3002: i; var a3003: i; var a3004: i; var a3005: i; var a3006: i; var a3007: i; var a3008: i; var a3009: i; var a3010: i; var a3011: i; var a3012: i; var a3013: i; var a3014: i; var a3015: i; var a3016: i; var a3017: i; var a3018: i; var a3019: i; var a3020: i; var a3021: i; var a3022: i; var a3023: i; var a3024: i; var a3025: i; var a3026: i; var a3027: i; var a3028: i; var a3029: i; var a3030: i; var a3031: i; var a3032: i; var a3033: i; var a3034: i; var a3035: i; var a3036: i; var a3037: i; var a3038: i; var a3039: i; var a3040: i; var a3041: i; var a3042: i; var a3043: i; var a3044: i; var a3045: i; var a3046: i; var a3047: i; var a3048: i; var a3049: i; var a3050: i; var a3051: i; var a3052: i; var a3053: i; var a3054: i; var a3055: i; var a3056: i; var a3057: i; var a3058: i; var a3059: i; var a3060: i; var a3061: i; var a3062: i; var a3063: i; var a3064: i; var a3065: i; var a3066: i; var a3067: i; var a3068: i; var a3069: i; var a3070: i; var a3071: i; var a3072: i; var a3073: i; var a3074: i; var a3075: i; var a3076: i; var a3077: i; var a3078: i; var a3079: i; var a3080: i; var a3081: i; var a3082: i; var a3083: i; var a3084: i; var a3085: i; var a3086: i; var a3087: i; var a3088: i; var a3089: i; var a3090: i; var a3091: i; var a3092: i; var a3093: i; var a3094: i; var a3095: i; var a3096: i; var a3097: i; var a3098: i; var a3099: i; var a3100: i; var a3101: i; var a3102: i; var a3103: i; var a3104: i; var a3105: i; var a3106: i; var a3107: i; var a3108: i; var a3109: i; var a3110: i; var a3111: i; var a3112: i; var a3113: i; var a3114: i; var a3115: i; var a3116: i; var a3117: i; var a3118: i; var a3119: i; var a3120: i; var a3121: i; var a3122: i; var a3123: i; var a3124: i; var a3125: i; var a3126: i; var a3127: i; var a3128: i; var a3129: i; var a3130: i; var a3131: i; var a3132: i; var a3133: i; var a3134: i; var a3135: i; var a3136: i; var a3137: i; var a3138: i; var a3139: i; var a3140: i; var a3141: i; var a3142: i; var a3143: i; var a3144: i; var a3145: i; var a3146: i; var a3147: i; var a3148: i; var a3149: i; var a3150: i; var a3151: i; var a3152: i; var a3153: i; var a3154: i; var a3155: i; var a3156: i; var a3157: i; var a3158: i; var a3159: i; var a3160: i; var a3161: i; var a3162: i; var a3163: i; var a3164: i; var a3165: i; var a3166: i; var a3167: i; var a3168: i; var a3169: i; var a3170: i; var a3171: i; var a3172: i; var a3173: i; var a3174: i; var a3175: i; var a3176: i; var a3177: i; var a3178: i; var a3179: i; var a3180: i; var a3181: i; var a3182: i; var a3183: i; var a3184: i; var a3185: i; var a3186: i; var a3187: i; var a3188: i; var a3189: i; var a3190: i; var a3191: i; var a3192: i; var a3193: i; var a3194: i; var a3195: i; var a3196: i; var a3197: i; var a3198: i; var a3199: i; var a3200: i; var a3201: i; var a3202: i; var a3203: i; var a3204: i; var a3205: i; var a3206: i; var a3207: i; var a3208: i; var a3209: i; var a3210: i; var a3211: i; var a3212: i; var a3213: i; var a3214: i; var a3215: i; var a3216: i; var a3217: i; var a3218: i; var a3219: i; var a3220: i; var a3221: i; var a3222: i; var a3223: i; var a3224: i; var a3225: i; var a3226: i; var a3227: i; var a3228: i; var a3229: i; var a3230: i; var a3231: i; var a3232: i; var a3233: i; var a3234: i; var a3235: i; var a3236: i; var a3237: i; var a3238: i; var a3239: i; var a3240: i; var a3241: i; var a3242: i; var a3243: i; var a3244: i; var a3245: i; var a3246: i; var a3247: i; var a3248: i; var a3249: i; var a3250: i; var a3251: i; var a3252: i; var a3253: i; var a3254: i; var a3255: i; var a3256: i; var a3257: i; var a3258: i; var a3259: i; var a3260: i; var a3261: i; var a3262: i; var a3263: i; var a3264: i; var a3265: i; var a3266: i; var a3267: i; var a3268: i; var a3269: i; var a3270: i; var a3271: i; var a3272: i; var a3273: i; var a3274: i; var a3275: i; var a3276: i; var a3277: i; var a3278: i; var a3279: i; var a3280: i; var a3281: i; var a3282: i; var a3283: i; var a3284: i; var a3285: i; var a3286: i; var a3287: i; var a3288: i; var a3289: i; var a3290: i; var a3291: i; var a3292: i; var a3293: i; var a3294: i; var a3295: i; var a3296: i; var a3297: i; var a3298: i; var a3299: i; var a3300: i; var a3301: i; var a3302: i; var a3303: i; var a3304: i; var a3305: i; var a3306: i; var a3307: i; var a3308: i; var a3309: i; var a3310: i; var a3311: i; var a3312: i; var a3313: i; var a3314: i; var a3315: i; var a3316: i; var a3317: i; var a3318: i; var a3319: i; var a3320: i; var a3321: i; var a3322: i; var a3323: i; var a3324: i; var a3325: i; var a3326: i; var a3327: i; var a3328: i; var a3329: i; var a3330: i; var a3331: i; var a3332: i; var a3333: i; var a3334: i; var a3335: i; var a3336: i; var a3337: i; var a3338: i; var a3339: i; var a3340: i; var a3341: i; var a3342: i; var a3343: i; var a3344: i; var a3345: i; var a3346: i; var a3347: i; var a3348: i; var a3349: i; var a3350: i; var a3351: i; var a3352: i; var a3353: i; var a3354: i; var a3355: i; var a3356: i; var a3357: i; var a3358: i; var a3359: i; var a3360: i; var a3361: i; var a3362: i; var a3363: i; var a3364: i; var a3365: i; var a3366: i; var a3367: i; var a3368: i; var a3369: i; var a3370: i; var a3371: i; var a3372: i; var a3373: i; var a3374: i; var a3375: i; var a3376: i; var a3377: i; var a3378: i; var a3379: i; var a3380: i; var a3381: i; var a3382: i; var a3383: i; var a3384: i; var a3385: i; var a3386: i; var a3387: i; var a3388: i; var a3389: i; var a3390: i; var a3391: i; var a3392: i; var a3393: i; var a3394: i; var a3395: i; var a3396: i; var a3397: i; var a3398: i; var a3399: i; var a3400: i; var a3401: i; var a3402: i; var a3403: i; var a3404: i; var a3405: i; var a3406: i; var a3407: i; var a3408: i; var a3409: i; var a3410: i; var a3411: i; var a3412: i; var a3413: i; var a3414: i; var a3415: i; var a3416: i; var a3417: i; var a3418: i; var a3419: i; var a3420: i; var a3421: i; var a3422: i; var a3423: i; var a3424: i; var a3425: i; var a3426: i; var a3427: i; var a3428: i; var a3429: i; var a3430: i; var a3431: i; var a3432: i; var a3433: i; var a3434: i; var a3435: i; var a3436: i; var a3437: i; var a3438: i; var a3439: i; var a3440: i; var a3441: i; var a3442: i; var a3443: i; var a3444: i; var a3445: i; var a3446: i; var a3447: i; var a3448: i; var a3449: i; var a3450: i; var a3451: i; var a3452: i; var a3453: i; var a3454: i; var a3455: i; var a3456: i; var a3457: i; var a3458: i; var a3459: i; var a3460: i; var a3461: i; var a3462: i; var a3463: i; var a3464: i; var a3465: i; var a3466: i; var a3467: i; var a3468: i; var a3469: i; var a3470: i; var a3471: i; var a3472: i; var a3473: i; var a3474: i; var a3475: i; var a3476: i; var a3477: i; var a3478: i; var a3479: i; var a3480: i; var a3481: i; var a3482: i; var a3483: i; var a3484: i; var a3485: i; var a3486: i; var a3487: i; var a3488: i; var a3489: i; var a3490: i; var a3491: i; var a3492: i; var a3493: i; var a3494: i; var a3495: i; var a3496: i; var a3497: i; var a3498: i; var a3499: i; var a3500: i; var a3501: i; var a3502: i; var a3503: i; var a3504: i; var a3505: i; var a3506: i; var a3507: i; var a3508: i; var a3509: i; var a3510: i; var a3511: i; var a3512: i; var a3513: i; var a3514: i; var a3515: i; var a3516: i; var a3517: i; var a3518: i; var a3519: i; var a3520: i; var a3521: i; var a3522: i; var a3523: i; var a3524: i; var a3525: i; var a3526: i; var a3527: i; var a3528: i; var a3529: i; var a3530: i; var a3531: i; var a3532: i; var a3533: i; var a3534: i; var a3535: i; var a3536: i; var a3537: i; var a3538: i; var a3539: i; var a3540: i; var a3541: i; var a3542: i; var a3543: i; var a3544: i; var a3545: i; var a3546: i; var a3547: i; var a3548: i; var a3549: i; var a3550: i; var a3551: i; var a3552: i; var a3553: i; var a3554: i; var a3555: i; var a3556: i; var a3557: i; var a3558: i; var a3559: i; var a3560: i; var a3561: i; var a3562: i; var a3563: i; var a3564: i; var a3565: i; var a3566: i; var a3567: i; var a3568: i; var a3569: i; var a3570: i; var a3571: i; var a3572: i; var a3573: i; var a3574: i; var a3575: i; var a3576: i; var a3577: i; var a3578: i; var a3579: i; var a3580: i; var a3581: i; var a3582: i; var a3583: i; var a3584: i; var a3585: i; var a3586: i; var a3587: i; var a3588: i; var a3589: i; var a3590: i; var a3591: i; var a3592: i; var a3593: i; var a3594: i; var a3595: i; var a3596: i; var a3597: i; var a3598: i; var a3599: i; var a3600: i; var a3601: i; var a3602: i; var a3603: i; var a3604: i; var a3605: i; var a3606: i; var a3607: i; var a3608: i; var a3609: i; var a3610: i; var a3611: i; var a3612: i; var a3613: i; var a3614: i; var a3615: i; var a3616: i; var a3617: i; var a3618: i; var a3619: i; var a3620: i; var a3621: i; var a3622: i; var a3623: i; var a3624: i; var a3625: i; var a3626: i; var a3627: i; var a3628: i; var a3629: i; var a3630: i; var a3631: i; var a3632: i; var a3633: i; var a3634: i; var a3635: i; var a3636: i; var a3637: i; var a3638: i; var a3639: i; var a3640: i; var a3641: i; var a3642: i; var a3643: i; var a3644: i; var a3645: i; var a3646: i; var a3647: i; var a3648: i; var a3649: i; var a3650: i; var a3651: i; var a3652: i; var a3653: i; var a3654: i; var a3655: i; var a3656: i; var a3657: i; var a3658: i; var a3659: i; var a3660: i; var a3661: i; var a3662: i; var a3663: i; var a3664: i; var a3665: i; var a3666: i; var a3667: i; var a3668: i; var a3669: i; var a3670: i; var a3671: i; var a3672: i; var a3673: i; var a3674: i; var a3675: i; var a3676: i; var a3677: i; var a3678: i; var a3679: i; var a3680: i; var a3681: i; var a3682: i; var a3683: i; var a3684: i; var a3685: i; var a3686: i; var a3687: i; var a3688: i; var a3689: i; var a3690: i; var a3691: i; var a3692: i; var a3693: i; var a3694: i; var a3695: i; var a3696: i; var a3697: i; var a3698: i; var a3699: i; var a3700: i; var a3701: i; var a3702: i; var a3703: i; var a3704: i; var a3705: i; var a3706: i; var a3707: i; var a3708: i; var a3709: i; var a3710: i; var a3711: i; var a3712: i; var a3713: i; var a3714: i; var a3715: i; var a3716: i; var a3717: i; var a3718: i; var a3719: i; var a3720: i; var a3721: i; var a3722: i; var a3723: i; var a3724: i; var a3725: i; var a3726: i; var a3727: i; var a3728: i; var a3729: i; var a3730: i; var a3731: i; var a3732: i; var a3733: i; var a3734: i; var a3735: i; var a3736: i; var a3737: i; var a3738: i; var a3739: i; var a3740: i; var a3741: i; var a3742: i; var a3743: i; var a3744: i; var a3745: i; var a3746: i; var a3747: i; var a3748: i; var a3749: i; var a3750: i; var a3751: i; var a3752: i; var a3753: i; var a3754: i; var a3755: i; var a3756: i; var a3757: i; var a3758: i; var a3759: i; var a3760: i; var a3761: i; var a3762: i; var a3763: i; var a3764: i; var a3765: i; var a3766: i; var a3767: i; var a3768: i; var a3769: i; var a3770: i; var a3771: i; var a3772: i; var a3773: i; var a3774: i; var a3775: i; var a3776: i; var a3777: i; var a3778: i; var a3779: i; var a3780: i; var a3781: i; var a3782: i; var a3783: i; var a3784: i; var a3785: i; var a3786: i; var a3787: i; var a3788: i; var a3789: i; var a3790: i; var a3791: i; var a3792: i; var a3793: i; var a3794: i; var a3795: i; var a3796: i; var a3797: i; var a3798: i; var a3799: i; var a3800: i; var a3801: i; var a3802: i; var a3803: i; var a3804: i; var a3805: i; var a3806: i; var a3807: i; var a3808: i; var a3809: i; var a3810: i; var a3811: i; var a3812: i; var a3813: i; var a3814: i; var a3815: i; var a3816: i; var a3817: i; var a3818: i; var a3819: i; var a3820: i; var a3821: i; var a3822: i; var a3823: i; var a3824: i; var a3825: i; var a3826: i; var a3827: i; var a3828: i; var a3829: i; var a3830: i; var a3831: i; var a3832: i; var a3833: i; var a3834: i; var a3835: i; var a3836: i; var a3837: i; var a3838: i; var a3839: i; var a3840: i; var a3841: i; var a3842: i; var a3843: i; var a3844: i; var a3845: i; var a3846: i; var a3847: i; var a3848: i; var a3849: i; var a3850: i; var a3851: i; var a3852: i; var a3853: i; var a3854: i; var a3855: i; var a3856: i; var a3857: i; var a3858: i; var a3859: i; var a3860: i; var a3861: i; var a3862: i; var a3863: i; var a3864: i; var a3865: i; var a3866: i; var a3867: i; var a3868: i; var a3869: i; var a3870: i; var a3871: i; var a3872: i; var a3873: i; var a3874: i; var a3875: i; var a3876: i; var a3877: i; var a3878: i; var a3879: i; var a3880: i; var a3881: i; var a3882: i; var a3883: i; var a3884: i; var a3885: i; var a3886: i; var a3887: i; var a3888: i; var a3889: i; var a3890: i; var a3891: i; var a3892: i; var a3893: i; var a3894: i; var a3895: i; var a3896: i; var a3897: i; var a3898: i; var a3899: i; var a3900: i; var a3901: i; var a3902: i; var a3903: i; var a3904: i; var a3905: i; var a3906: i; var a3907: i; var a3908: i; var a3909: i; var a3910: i; var a3911: i; var a3912: i; var a3913: i; var a3914: i; var a3915: i; var a3916: i; var a3917: i; var a3918: i; var a3919: i; var a3920: i; var a3921: i; var a3922: i; var a3923: i; var a3924: i; var a3925: i; var a3926: i; var a3927: i; var a3928: i; var a3929: i; var a3930: i; var a3931: i; var a3932: i; var a3933: i; var a3934: i; var a3935: i; var a3936: i; var a3937: i; var a3938: i; var a3939: i; var a3940: i; var a3941: i; var a3942: i; var a3943: i; var a3944: i; var a3945: i; var a3946: i; var a3947: i; var a3948: i; var a3949: i; var a3950: i; var a3951: i; var a3952: i; var a3953: i; var a3954: i; var a3955: i; var a3956: i; var a3957: i; var a3958: i; var a3959: i; var a3960: i; var a3961: i; var a3962: i; var a3963: i; var a3964: i; var a3965: i; var a3966: i; var a3967: i; var a3968: i; var a3969: i; var a3970: i; var a3971: i; var a3972: i; var a3973: i; var a3974: i; var a3975: i; var a3976: i; var a3977: i; var a3978: i; var a3979: i; var a3980: i; var a3981: i; var a3982: i; var a3983: i; var a3984: i; var a3985: i; var a3986: i; var a3987: i; var a3988: i; var a3989: i; var a3990: i; var a3991: i; var a3992: i; var a3993: i; var a3994: i; var a3995: i; var a3996: i; var a3997: i; var a3998: i; var a3999: i; var a4000: i; var a4001: i; var a4002: i; var a4003: i; var a4004: i; var a4005: i; var a4006: i; var a4007: i; var a4008: i; var a4009: i; var a4010: i; var a4011: i; var a4012: i; var a4013: i; var a4014: i; var a4015: i; var a4016: i; var a4017: i; var a4018: i; var a4019: i; var a4020: i; var a4021: i; var a4022: i; var a4023: i; var a4024: i; var a4025: i; var a4026: i; var a4027: i; var a4028: i; var a4029: i; var a4030: i; var a4031: i; var a4032: i; var a4033: i; var a4034: i; var a4035: i; var a4036: i; var a4037: i; var a4038: i; var a4039: i; var a4040: i; var a4041: i; var a4042: i; var a4043: i; var a4044: i; var a4045: i; var a4046: i; var a4047: i; var a4048: i; var a4049: i; var a4050: i; var a4051: i; var a4052: i; var a4053: i; var a4054: i; var a4055: i; var a4056: i; var a4057: i; var a4058: i; var a4059: i; var a4060: i; var a4061: i; var a4062: i; var a4063: i; var a4064: i; var a4065: i; var a4066: i; var a4067: i; var a4068: i; var a4069: i; var a4070: i; var a4071: i; var a4072: i; var a4073: i; var a4074: i; var a4075: i; var a4076: i; var a4077: i; var a4078: i; var a4079: i; var a4080: i; var a4081: i; var a4082: i; var a4083: i; var a4084: i; var a4085: i; var a4086: i; var a4087: i; var a4088: i; var a4089: i; var a4090: i; var a4091: i; var a4092: i; var a4093: i; var a4094: i; var a4095: i; var a4096: i; var a4097: i; var a4098: i; var a4099: i; var a4100: i; var a4101: i; var a4102: i; var a4103: i; var a4104: i; var a4105: i; var a4106: i; var a4107: i; var a4108: i; var a4109: i; var a4110: i; var a4111: i; var a4112: i; var a4113: i; var a4114: i; var a4115: i; var a4116: i; var a4117: i; var a4118: i; var a4119: i; var a4120: i; var a4121: i; var a4122: i; var a4123: i; var a4124: i; var a4125: i; var a4126: i; var a4127: i; var a4128: i; var a4129: i; var a4130: i; var a4131: i; var a4132: i; var a4133: i; var a4134: i; var a4135: i; var a4136: i; var a4137: i; var a4138: i; var a4139: i; var a4140: i; var a4141: i; var a4142: i; var a4143: i; var a4144: i; var a4145: i; var a4146: i; var a4147: i; var a4148: i; var a4149: i; var a4150: i; var a4151: i; var a4152: i; var a4153: i; var a4154: i; var a4155: i; var a4156: i; var a4157: i; var a4158: i; var a4159: i; var a4160: i; var a4161: i; var a4162: i; var a4163: i; var a4164: i; var a4165: i; var a4166: i; var a4167: i; var a4168: i; var a4169: i; var a4170: i; var a4171: i; var a4172: i; var a4173: i; var a4174: i; var a4175: i; var a4176: i; var a4177: i; var a4178: i; var a4179: i; var a4180: i; var a4181: i; var a4182: i; var a4183: i; var a4184: i; var a4185: i; var a4186: i; var a4187: i; var a4188: i; var a4189: i; var a4190: i; var a4191: i; var a4192: i; var a4193: i; var a4194: i; var a4195: i; var a4196: i; var a4197: i; var a4198: i; var a4199: i; var a4200: i; var a4201: i; var a4202: i; var a4203: i; var a4204: i; var a4205: i; var a4206: i; var a4207: i; var a4208: i; var a4209: i; var a4210: i; var a4211: i; var a4212: i; var a4213: i; var a4214: i; var a4215: i; var a4216: i; var a4217: i; var a4218: i; var a4219: i; var a4220: i; var a4221: i; var a4222: i; var a4223: i; var a4224: i; var a4225: i; var a4226: i; var a4227: i; var a4228: i; var a4229: i; var a4230: i; var a4231: i; var a4232: i; var a4233: i; var a4234: i; var a4235: i; var a4236: i; var a4237: i; var a4238: i; var a4239: i; var a4240: i; var a4241: i; var a4242: i; var a4243: i; var a4244: i; var a4245: i; var a4246: i; var a4247: i; var a4248: i; var a4249: i; var a4250: i; var a4251: i; var a4252: i; var a4253: i; var a4254: i; var a4255: i; var a4256: i; var a4257: i; var a4258: i; var a4259: i; var a4260: i; var a4261: i; var a4262: i; var a4263: i; var a4264: i; var a4265: i; var a4266: i; var a4267: i; var a4268: i; var a4269: i; var a4270: i; var a4271: i; var a4272: i; var a4273: i; var a4274: i; var a4275: i; var a4276: i; var a4277: i; var a4278: i; var a4279: i; var a4280: i; var a4281: i; var a4282: i; var a4283: i; var a4284: i; var a4285: i; var a4286: i; var a4287: i; var a4288: i; var a4289: i; var a4290: i; var a4291: i; var a4292: i; var a4293: i; var a4294: i; var a4295: i; var a4296: i; var a4297: i; var a4298: i; var a4299: i; var a4300: i; var a4301: i; var a4302: i; var a4303: i; var a4304: i; var a4305: i; var a4306: i; var a4307: i; var a4308: i; var a4309: i; var a4310: i; var a4311: i; var a4312: i; var a4313: i; var a4314: i; var a4315: i; var a4316: i; var a4317: i; var a4318: i; var a4319: i; var a4320: i; var a4321: i; var a4322: i; var a4323: i; var a4324: i; var a4325: i; var a4326: i; var a4327: i; var a4328: i; var a4329: i; var a4330: i; var a4331: i; var a4332: i; var a4333: i; var a4334: i; var a4335: i; var a4336: i; var a4337: i; var a4338: i; var a4339: i; var a4340: i; var a4341: i; var a4342: i; var a4343: i; var a4344: i; var a4345: i; var a4346: i; var a4347: i; var a4348: i; var a4349: i; var a4350: i; var a4351: i; var a4352: i; var a4353: i; var a4354: i; var a4355: i; var a4356: i; var a4357: i; var a4358: i; var a4359: i; var a4360: i; var a4361: i; var a4362: i; var a4363: i; var a4364: i; var a4365: i; var a4366: i; var a4367: i; var a4368: i; var a4369: i; var a4370: i; var a4371: i; var a4372: i; var a4373: i; var a4374: i; var a4375: i; var a4376: i; var a4377: i; var a4378: i; var a4379: i; var a4380: i; var a4381: i; var a4382: i; var a4383: i; var a4384: i; var a4385: i; var a4386: i; var a4387: i; var a4388: i; var a4389: i; var a4390: i; var a4391: i; var a4392: i; var a4393: i; var a4394: i; var a4395: i; var a4396: i; var a4397: i; var a4398: i; var a4399: i; var a4400: i; var a4401: i; var a4402: i; var a4403: i; var a4404: i; var a4405: i; var a4406: i; var a4407: i; var a4408: i; var a4409: i; var a4410: i; var a4411: i; var a4412: i; var a4413: i; var a4414: i; var a4415: i; var a4416: i; var a4417: i; var a4418: i; var a4419: i; var a4420: i; var a4421: i; var a4422: i; var a4423: i; var a4424: i; var a4425: i; var a4426: i; var a4427: i; var a4428: i; var a4429: i; var a4430: i; var a4431: i; var a4432: i; var a4433: i; var a4434: i; var a4435: i; var a4436: i; var a4437: i; var a4438: i; var a4439: i; var a4440: i; var a4441: i; var a4442: i; var a4443: i; var a4444: i; var a4445: i; var a4446: i; var a4447: i; var a4448: i; var a4449: i; var a4450: i; var a4451: i; var a4452: i; var a4453: i; var a4454: i; var a4455: i; var a4456: i; var a4457: i; var a4458: i; var a4459: i; var a4460: i; var a4461: i; var a4462: i; var a4463: i; var a4464: i; var a4465: i; var a4466: i; var a4467: i; var a4468: i; var a4469: i; var a4470: i; var a4471: i; var a4472: i; var a4473: i; var a4474: i; var a4475: i; var a4476: i; var a4477: i; var a4478: i; var a4479: i; var a4480: i; var a4481: i; var a4482: i; var a4483: i; var a4484: i; var a4485: i; var a4486: i; var a4487: i; var a4488: i; var a4489: i; var a4490: i; var a4491: i; var a4492: i; var a4493: i; var a4494: i; var a4495: i; var a4496: i; var a4497: i; var a4498: i; var a4499: i; var a4500: i; var a4501: i; var a4502: i; var a4503: i; var a4504: i; var a4505: i; var a4506: i; var a4507: i; var a4508: i; var a4509: i; var a4510: i; var a4511: i; var a4512: i; var a4513: i; var a4514: i; var a4515: i; var a4516: i; var a4517: i; var a4518: i; var a4519: i; var a4520: i; var a4521: i; var a4522: i; var a4523: i; var a4524: i; var a4525: i; var a4526: i; var a4527: i; var a4528: i; var a4529: i; var a4530: i; var a4531: i; var a4532: i; var a4533: i; var a4534: i; var a4535: i; var a4536: i; var a4537: i; var a4538: i; var a4539: i; var a4540: i; var a4541: i; var a4542: i; var a4543: i; var a4544: i; var a4545: i; var a4546: i; var a4547: i; var a4548: i; var a4549: i; var a4550: i; var a4551: i; var a4552: i; var a4553: i; var a4554: i; var a4555: i; var a4556: i; var a4557: i; var a4558: i; var a4559: i; var a4560: i; var a4561: i; var a4562: i; var a4563: i; var a4564: i; var a4565: i; var a4566: i; var a4567: i; var a4568: i; var a4569: i; var a4570: i; var a4571: i; var a4572: i; var a4573: i; var a4574: i; var a4575: i; var a4576: i; var a4577: i; var a4578: i; var a4579: i; var a4580: i; var a4581: i; var a4582: i; var a4583: i; var a4584: i; var a4585: i; var a4586: i; var a4587: i; var a4588: i; var a4589: i; var a4590: i; var a4591: i; var a4592: i; var a4593: i; var a4594: i; var a4595: i; var a4596: i; var a4597: i; var a4598: i; var a4599: i; var a4600: i; var a4601: i; var a4602: i; var a4603: i; var a4604: i; var a4605: i; var a4606: i; var a4607: i; var a4608: i; var a4609: i; var a4610: i; var a4611: i; var a4612: i; var a4613: i; var a4614: i; var a4615: i; var a4616: i; var a4617: i; var a4618: i; var a4619: i; var a4620: i; var a4621: i; var a4622: i; var a4623: i; var a4624: i; var a4625: i; var a4626: i; var a4627: i; var a4628: i; var a4629: i; var a4630: i; var a4631: i; var a4632: i; var a4633: i; var a4634: i; var a4635: i; var a4636: i; var a4637: i; var a4638: i; var a4639: i; var a4640: i; var a4641: i; var a4642: i; var a4643: i; var a4644: i; var a4645: i; var a4646: i; var a4647: i; var a4648: i; var a4649: i; var a4650: i; var a4651: i; var a4652: i; var a4653: i; var a4654: i; var a4655: i; var a4656: i; var a4657: i; var a4658: i; var a4659: i; var a4660: i; var a4661: i; var a4662: i; var a4663: i; var a4664: i; var a4665: i; var a4666: i; var a4667: i; var a4668: i; var a4669: i; var a4670: i; var a4671: i; var a4672: i; var a4673: i; var a4674: i; var a4675: i; var a4676: i; var a4677: i; var a4678: i; var a4679: i; var a4680: i; var a4681: i; var a4682: i; var a4683: i; var a4684: i; var a4685: i; var a4686: i; var a4687: i; var a4688: i; var a4689: i; var a4690: i; var a4691: i; var a4692: i; var a4693: i; var a4694: i; var a4695: i; var a4696: i; var a4697: i; var a4698: i; var a4699: i; var a4700: i; var a4701: i; var a4702: i; var a4703: i; var a4704: i; var a4705: i; var a4706: i; var a4707: i; var a4708: i; var a4709: i; var a4710: i; var a4711: i; var a4712: i; var a4713: i; var a4714: i; var a4715: i; var a4716: i; var a4717: i; var a4718: i; var a4719: i; var a4720: i; var a4721: i; var a4722: i; var a4723: i; var a4724: i; var a4725: i; var a4726: i; var a4727: i; var a4728: i; var a4729: i; var a4730: i; var a4731: i; var a4732: i; var a4733: i; var a4734: i; var a4735: i; var a4736: i; var a4737: i; var a4738: i; var a4739: i; var a4740: i; var a4741: i; var a4742: i; var a4743: i; var a4744: i; var a4745: i; var a4746: i; var a4747: i; var a4748: i; var a4749: i; var a4750: i; var a4751: i; var a4752: i; var a4753: i; var a4754: i; var a4755: i; var a4756: i; var a4757: i; var a4758: i; var a4759: i; var a4760: i; var a4761: i; var a4762: i; var a4763: i; var a4764: i; var a4765: i; var a4766: i; var a4767: i; var a4768: i; var a4769: i; var a4770: i; var a4771: i; var a4772: i; var a4773: i; var a4774: i; var a4775: i; var a4776: i; var a4777: i; var a4778: i; var a4779: i; var a4780: i; var a4781: i; var a4782: i; var a4783: i; var a4784: i; var a4785: i; var a4786: i; var a4787: i; var a4788: i; var a4789: i; var a4790: i; var a4791: i; var a4792: i; var a4793: i; var a4794: i; var a4795: i; var a4796: i; var a4797: i; var a4798: i; var a4799: i; var a4800: i; var a4801: i; var a4802: i; var a4803: i; var a4804: i; var a4805: i; var a4806: i; var a4807: i; var a4808: i; var a4809: i; var a4810: i; var a4811: i; var a4812: i; var a4813: i; var a4814: i; var a4815: i; var a4816: i; var a4817: i; var a4818: i; var a4819: i; var a4820: i; var a4821: i; var a4822: i; var a4823: i; var a4824: i; var a4825: i; var a4826: i; var a4827: i; var a4828: i; var a4829: i; var a4830: i; var a4831: i; var a4832: i; var a4833: i; var a4834: i; var a4835: i; var a4836: i; var a4837: i; var a4838: i; var a4839: i; var a4840: i; var a4841: i; var a4842: i; var a4843: i; var a4844: i; var a4845: i; var a4846: i; var a4847: i; var a4848: i; var a4849: i; var a4850: i; var a4851: i; var a4852: i; var a4853: i; var a4854: i; var a4855: i; var a4856: i; var a4857: i; var a4858: i; var a4859: i; var a4860: i; var a4861: i; var a4862: i; var a4863: i; var a4864: i; var a4865: i; var a4866: i; var a4867: i; var a4868: i; var a4869: i; var a4870: i; var a4871: i; var a4872: i; var a4873: i; var a4874: i; var a4875: i; var a4876: i; var a4877: i; var a4878: i; var a4879: i; var a4880: i; var a4881: i; var a4882: i; var a4883: i; var a4884: i; var a4885: i; var a4886: i; var a4887: i; var a4888: i; var a4889: i; var a4890: i; var a4891: i; var a4892: i; var a4893: i; var a4894: i; var a4895: i; var a4896: i; var a4897: i; var a4898: i; var a4899: i; var a4900: i; var a4901: i; var a4902: i; var a4903: i; var a4904: i; var a4905: i; var a4906: i; var a4907: i; var a4908: i; var a4909: i; var a4910: i; var a4911: i; var a4912: i; var a4913: i; var a4914: i; var a4915: i; var a4916: i; var a4917: i; var a4918: i; var a4919: i; var a4920: i; var a4921: i; var a4922: i; var a4923: i; var a4924: i; var a4925: i; var a4926: i; var a4927: i; var a4928: i; var a4929: i; var a4930: i; var a4931: i; var a4932: i; var a4933: i; var a4934: i; var a4935: i; var a4936: i; var a4937: i; var a4938: i; var a4939: i; var a4940: i; var a4941: i; var a4942: i; var a4943: i; var a4944: i; var a4945: i; var a4946: i; var a4947: i; var a4948: i; var a4949: i; var a4950: i; var a4951: i; var a4952: i; var a4953: i; var a4954: i; var a4955: i; var a4956: i; var a4957: i; var a4958: i; var a4959: i; var a4960: i; var a4961: i; var a4962: i; var a4963: i; var a4964: i; var a4965: i; var a4966: i; var a4967: i; var a4968: i; var a4969: i; var a4970: i; var a4971: i; var a4972: i; var a4973: i; var a4974: i; var a4975: i; var a4976: i; var a4977: i; var a4978: i; var a4979: i; var a4980: i; var a4981: i; var a4982: i; var a4983: i; var a4984: i; var a4985: i; var a4986: i; var a4987: i; var a4988: i; var a4989: i; var a4990: i; var a4991: i; var a4992: i; var a4993: i; var a4994: i; var a4995: i; var a4996: i; var a4997: i; var a4998: i; var a4999: i; var a5000: i; var a5001: i; var a5002: i; var a5003: i; var a5004: i; var a5005: i; var a5006: i; var a5007: i; var a5008: i; var a5009: i; var a5010: i; var a5011: i; var a5012: i; var a5013: i; var a5014: i; var a5015: i; var a5016: i; var a5017: i; var a5018: i; var a5019: i; var a5020: i; var a5021: i; var a5022: i; var a5023: i; var a5024: i; var a5025: i; var a5026: i; var a5027: i; var a5028: i; var a5029: i; var a5030: i; var a5031: i; var a5032: i; var a5033: i; var a5034: i; var a5035: i; var a5036: i; var a5037: i; var a5038: i; var a5039: i; var a5040: i; var a5041: i; var a5042: i; var a5043: i; var a5044: i; var a5045: i; var a5046: i; var a5047: i; var a5048: i; var a5049: i; var a5050: i; var a5051: i; var a5052: i; var a5053: i; var a5054: i; var a5055: i; var a5056: i; var a5057: i; var a5058: i; var a5059: i; var a5060: i; var a5061: i; var a5062: i; var a5063: i; var a5064: i; var a5065: i; var a5066: i; var a5067: i; var a5068: i; var a5069: i; var a5070: i; var a5071: i; var a5072: i; var a5073: i; var a5074: i; var a5075: i; var a5076: i; var a5077: i; var a5078: i; var a5079: i; var a5080: i; var a5081: i; var a5082: i; var a5083: i; var a5084: i; var a5085: i; var a5086: i; var a5087: i; var a5088: i; var a5089: i; var a5090: i; var a5091: i; var a5092: i; var a5093: i; var a5094: i; var a5095: i; var a5096: i; var a5097: i; var a5098: i; var a5099: i; var a5100: i; var a5101: i; var a5102: i; var a5103: i; var a5104: i; var a5105: i; var a5106: i; var a5107: i; var a5108: i; var a5109: i; var a5110: i; var a5111: i; var a5112: i; var a5113: i; var a5114: i; var a5115: i; var a5116: i; var a5117: i; var a5118: i; var a5119: i; var a5120: i; var a5121: i; var a5122: i; var a5123: i; var a5124: i; var a5125: i; var a5126: i; var a5127: i; var a5128: i; var a5129: i; var a5130: i; var a5131: i; var a5132: i; var a5133: i; var a5134: i; var a5135: i; var a5136: i; var a5137: i; var a5138: i; var a5139: i; var a5140: i; var a5141: i; var a5142: i; var a5143: i; var a5144: i; var a5145: i; var a5146: i; var a5147: i; var a5148: i; var a5149: i; var a5150: i; var a5151: i; var a5152: i; var a5153: i; var a5154: i; var a5155: i; var a5156: i; var a5157: i; var a5158: i; var a5159: i; var a5160: i; var a5161: i; var a5162: i; var a5163: i; var a5164: i; var a5165: i; var a5166: i; var a5167: i; var a5168: i; var a5169: i; var a5170: i; var a5171: i; var a5172: i; var a5173: i; var a5174: i; var a5175: i; var a5176: i; var a5177: i; var a5178: i; var a5179: i; var a5180: i; var a5181: i; var a5182: i; var a5183: i; var a5184: i; var a5185: i; var a5186: i; var a5187: i; var a5188: i; var a5189: i; var a5190: i; var a5191: i; var a5192: i; var a5193: i; var a5194: i; var a5195: i; var a5196: i; var a5197: i; var a5198: i; var a5199: i; var a5200: i; var a5201: i; var a5202: i; var a5203: i; var a5204: i; var a5205: i; var a5206: i; var a5207: i; var a5208: i; var a5209: i; var a5210: i; var a5211: i; var a5212: i; var a5213: i; var a5214: i; var a5215: i; var a5216: i; var a5217: i; var a5218: i; var a5219: i; var a5220: i; var a5221: i; var a5222: i; var a5223: i; var a5224: i; var a5225: i; var a5226: i; var a5227: i; var a5228: i; var a5229: i; var a5230: i; var a5231: i; var a5232: i; var a5233: i; var a5234: i; var a5235: i; var a5236: i; var a5237: i; var a5238: i; var a5239: i; var a5240: i; var a5241: i; var a5242: i; var a5243: i; var a5244: i; var a5245: i; var a5246: i; var a5247: i; var a5248: i; var a5249: i; var a5250: i; var a5251: i; var a5252: i; var a5253: i; var a5254: i; var a5255: i; var a5256: i; var a5257: i; var a5258: i; var a5259: i; var a5260: i; var a5261: i; var a5262: i; var a5263: i; var a5264: i; var a5265: i; var a5266: i; var a5267: i; var a5268: i; var a5269: i; var a5270: i; var a5271: i; var a5272: i; var a5273: i; var a5274: i; var a5275: i; var a5276: i; var a5277: i; var a5278: i; var a5279: i; var a5280: i; var a5281: i; var a5282: i; var a5283: i; var a5284: i; var a5285: i; var a5286: i; var a5287: i; var a5288: i; var a5289: i; var a5290: i; var a5291: i; var a5292: i; var a5293: i; var a5294: i; var a5295: i; var a5296: i; var a5297: i; var a5298: i; var a5299: i; var a5300: i; var a5301: i; var a5302: i; var a5303: i; var a5304: i; var a5305: i; var a5306: i; var a5307: i; var a5308: i; var a5309: i; var a5310: i; var a5311: i; var a5312: i; var a5313: i; var a5314: i; var a5315: i; var a5316: i; var a5317: i; var a5318: i; var a5319: i; var a5320: i; var a5321: i; var a5322: i; var a5323: i; var a5324: i; var a5325: i; var a5326: i; var a5327: i; var a5328: i; var a5329: i; var a5330: i; var a5331: i; var a5332: i; var a5333: i; var a5334: i; var a5335: i; var a5336: i; var a5337: i; var a5338: i; var a5339: i; var a5340: i; var a5341: i; var a5342: i; var a5343: i; var a5344: i; var a5345: i; var a5346: i; var a5347: i; var a5348: i; var a5349: i; var a5350: i; var a5351: i; var a5352: i; var a5353: i; var a5354: i; var a5355: i; var a5356: i; var a5357: i; var a5358: i; var a5359: i; var a5360: i; var a5361: i; var a5362: i; var a5363: i; var a5364: i; var a5365: i; var a5366: i; var a5367: i; var a5368: i; var a5369: i; var a5370: i; var a5371: i; var a5372: i; var a5373: i; var a5374: i; var a5375: i; var a5376: i; var a5377: i; var a5378: i; var a5379: i; var a5380: i; var a5381: i; var a5382: i; var a5383: i; var a5384: i; var a5385: i; var a5386: i; var a5387: i; var a5388: i; var a5389: i; var a5390: i; var a5391: i; var a5392: i; var a5393: i; var a5394: i; var a5395: i; var a5396: i; var a5397: i; var a5398: i; var a5399: i; var a5400: i; var a5401: i; var a5402: i; var a5403: i; var a5404: i; var a5405: i; var a5406: i; var a5407: i; var a5408: i; var a5409: i; var a5410: i; var a5411: i; var a5412: i; var a5413: i; var a5414: i; var a5415: i; var a5416: i; var a5417: i; var a5418: i; var a5419: i; var a5420: i; var a5421: i; var a5422: i; var a5423: i; var a5424: i; var a5425: i; var a5426: i; var a5427: i; var a5428: i; var a5429: i; var a5430: i; var a5431: i; var a5432: i; var a5433: i; var a5434: i; var a5435: i; var a5436: i; var a5437: i; var a5438: i; var a5439: i; var a5440: i; var a5441: i; var a5442: i; var a5443: i; var a5444: i; var a5445: i; var a5446: i; var a5447: i; var a5448: i; var a5449: i; var a5450: i; var a5451: i; var a5452: i; var a5453: i; var a5454: i; var a5455: i; var a5456: i; var a5457: i; var a5458: i; var a5459: i; var a5460: i; var a5461: i; var a5462: i; var a5463: i; var a5464: i; var a5465: i; var a5466: i; var a5467: i; var a5468: i; var a5469: i; var a5470: i; var a5471: i; var a5472: i; var a5473: i; var a5474: i; var a5475: i; var a5476: i; var a5477: i; var a5478: i; var a5479: i; var a5480: i; var a5481: i; var a5482: i; var a5483: i; var a5484: i; var a5485: i; var a5486: i; var a5487: i; var a5488: i; var a5489: i; var a5490: i; var a5491: i; var a5492: i; var a5493: i; var a5494: i; var a5495: i; var a5496: i; var a5497: i; var a5498: i; var a5499: i; var a5500: i; var a5501: i; var a5502: i; var a5503: i; var a5504: i; var a5505: i; var a5506: i; var a5507: i; var a5508: i; var a5509: i; var a5510: i; var a5511: i; var a5512: i; var a5513: i; var a5514: i; var a5515: i; var a5516: i; var a5517: i; var a5518: i; var a5519: i; var a5520: i; var a5521: i; var a5522: i; var a5523: i; var a5524: i; var a5525: i; var a5526: i; var a5527: i; var a5528: i; var a5529: i; var a5530: i; var a5531: i; var a5532: i; var a5533: i; var a5534: i; var a5535: i; var a5536: i; var a5537: i; var a5538: i; var a5539: i; var a5540: i; var a5541: i; var a5542: i; var a5543: i; var a5544: i; var a5545: i; var a5546: i; var a5547: i; var a5548: i; var a5549: i; var a5550: i; var a5551: i; var a5552: i; var a5553: i; var a5554: i; var a5555: i; var a5556: i; var a5557: i; var a5558: i; var a5559: i; var a5560: i; var a5561: i; var a5562: i; var a5563: i; var a5564: i; var a5565: i; var a5566: i; var a5567: i; var a5568: i; var a5569: i; var a5570: i; var a5571: i; var a5572: i; var a5573: i; var a5574: i; var a5575: i; var a5576: i; var a5577: i; var a5578: i; var a5579: i; var a5580: i; var a5581: i; var a5582: i; var a5583: i; var a5584: i; var a5585: i; var a5586: i; var a5587: i; var a5588: i; var a5589: i; var a5590: i; var a5591: i; var a5592: i; var a5593: i; var a5594: i; var a5595: i; var a5596: i; var a5597: i; var a5598: i; var a5599: i; var a5600: i; var a5601: i; var a5602: i; var a5603: i; var a5604: i; var a5605: i; var a5606: i; var a5607: i; var a5608: i; var a5609: i; var a5610: i; var a5611: i; var a5612: i; var a5613: i; var a5614: i; var a5615: i; var a5616: i; var a5617: i; var a5618: i; var a5619: i; var a5620: i; var a5621: i; var a5622: i; var a5623: i; var a5624: i; var a5625: i; var a5626: i; var a5627: i; var a5628: i; var a5629: i; var a5630: i; var a5631: i; var a5632: i; var a5633: i; var a5634: i; var a5635: i; var a5636: i; var a5637: i; var a5638: i; var a5639: i; var a5640: i; var a5641: i; var a5642: i; var a5643: i; var a5644: i; var a5645: i; var a5646: i; var a5647: i; var a5648: i; var a5649: i; var a5650: i; var a5651: i; var a5652: i; var a5653: i; var a5654: i; var a5655: i; var a5656: i; var a5657: i; var a5658: i; var a5659: i; var a5660: i; var a5661: i; var a5662: i; var a5663: i; var a5664: i; var a5665: i; var a5666: i; var a5667: i; var a5668: i; var a5669: i; var a5670: i; var a5671: i; var a5672: i; var a5673: i; var a5674: i; var a5675: i; var a5676: i; var a5677: i; var a5678: i; var a5679: i; var a5680: i; var a5681: i; var a5682: i; var a5683: i; var a5684: i; var a5685: i; var a5686: i; var a5687: i; var a5688: i; var a5689: i; var a5690: i; var a5691: i; var a5692: i; var a5693: i; var a5694: i; var a5695: i; var a5696: i; var a5697: i; var a5698: i; var a5699: i; var a5700: i; var a5701: i; var a5702: i; var a5703: i; var a5704: i; var a5705: i; var a5706: i; var a5707: i; var a5708: i; var a5709: i; var a5710: i; var a5711: i; var a5712: i; var a5713: i; var a5714: i; var a5715: i; var a5716: i; var a5717: i; var a5718: i; var a5719: i; var a5720: i; var a5721: i; var a5722: i; var a5723: i; var a5724: i; var a5725: i; var a5726: i; var a5727: i; var a5728: i; var a5729: i; var a5730: i; var a5731: i; var a5732: i; var a5733: i; var a5734: i; var a5735: i; var a5736: i; var a5737: i; var a5738: i; var a5739: i; var a5740: i; var a5741: i; var a5742: i; var a5743: i; var a5744: i; var a5745: i; var a5746: i; var a5747: i; var a5748: i; var a5749: i; var a5750: i; var a5751: i; var a5752: i; var a5753: i; var a5754: i; var a5755: i; var a5756: i; var a5757: i; var a5758: i; var a5759: i; var a5760: i; var a5761: i; var a5762: i; var a5763: i; var a5764: i; var a5765: i; var a5766: i; var a5767: i; var a5768: i; var a5769: i; var a5770: i; var a5771: i; var a5772: i; var a5773: i; var a5774: i; var a5775: i; var a5776: i; var a5777: i; var a5778: i; var a5779: i; var a5780: i; var a5781: i; var a5782: i; var a5783: i; var a5784: i; var a5785: i; var a5786: i; var a5787: i; var a5788: i; var a5789: i; var a5790: i; var a5791: i; var a5792: i; var a5793: i; var a5794: i; var a5795: i; var a5796: i; var a5797: i; var a5798: i; var a5799: i; var a5800: i; var a5801: i; var a5802: i; var a5803: i; var a5804: i; var a5805: i; var a5806: i; var a5807: i; var a5808: i; var a5809: i; var a5810: i; var a5811: i; var a5812: i; var a5813: i; var a5814: i; var a5815: i; var a5816: i; var a5817: i; var a5818: i; var a5819: i; var a5820: i; var a5821: i; var a5822: i; var a5823: i; var a5824: i; var a5825: i; var a5826: i; var a5827: i; var a5828: i; var a5829: i; var a5830: i; var a5831: i; var a5832: i; var a5833: i; var a5834: i; var a5835: i; var a5836: i; var a5837: i; var a5838: i; var a5839: i; var a5840: i; var a5841: i; var a5842: i; var a5843: i; var a5844: i; var a5845: i; var a5846: i; var a5847: i; var a5848: i; var a5849: i; var a5850: i; var a5851: i; var a5852: i; var a5853: i; var a5854: i; var a5855: i; var a5856: i; var a5857: i; var a5858: i; var a5859: i; var a5860: i; var a5861: i; var a5862: i; var a5863: i; var a5864: i; var a5865: i; var a5866: i; var a5867: i; var a5868: i; var a5869: i; var a5870: i; var a5871: i; var a5872: i; var a5873: i; var a5874: i; var a5875: i; var a5876: i; var a5877: i; var a5878: i; var a5879: i; var a5880: i; var a5881: i; var a5882: i; var a5883: i; var a5884: i; var a5885: i; var a5886: i; var a5887: i; var a5888: i; var a5889: i; var a5890: i; var a5891: i; var a5892: i; var a5893: i; var a5894: i; var a5895: i; var a5896: i; var a5897: i; var a5898: i; var a5899: i; var a5900: i; var a5901: i; var a5902: i; var a5903: i; var a5904: i; var a5905: i; var a5906: i; var a5907: i; var a5908: i; var a5909: i; var a5910: i; var a5911: i; var a5912: i; var a5913: i; var a5914: i; var a5915: i; var a5916: i; var a5917: i; var a5918: i; var a5919: i; var a5920: i; var a5921: i; var a5922: i; var a5923: i; var a5924: i; var a5925: i; var a5926: i; var a5927: i; var a5928: i; var a5929: i; var a5930: i; var a5931: i; var a5932: i; var a5933: i; var a5934: i; var a5935: i; var a5936: i; var a5937: i; var a5938: i; var a5939: i; var a5940: i; var a5941: i; var a5942: i; var a5943: i; var a5944: i; var a5945: i; var a5946: i; var a5947: i; var a5948: i; var a5949: i; var a5950: i; var a5951: i; var a5952: i; var a5953: i; var a5954: i; var a5955: i; var a5956: i; var a5957: i; var a5958: i; var a5959: i; var a5960: i; var a5961: i; var a5962: i; var a5963: i; var a5964: i; var a5965: i; var a5966: i; var a5967: i; var a5968: i; var a5969: i; var a5970: i; var a5971: i; var a5972: i; var a5973: i; var a5974: i; var a5975: i; var a5976: i; var a5977: i; var a5978: i; var a5979: i; var a5980: i; var a5981: i; var a5982: i; var a5983: i; var a5984: i; var a5985: i; var a5986: i; var a5987: i; var a5988: i; var a5989: i; var a5990: i; var a5991: i; var a5992: i; var a5993: i; var a5994: i; var a5995: i; var a5996: i; var a5997: i; var a5998: i; var a5999: i; var a6000: i; var a6001: i; var a6002: i; var a6003: i; var a6004: i; var a6005: i; var a6006: i; var a6007: i; var a6008: i; var a6009: i; var a6010: i; var a6011: i; var a6012: i; var a6013: i; var a6014: i; var a6015: i; var a6016: i; var a6017: i; var a6018: i; var a6019: i; var a6020: i; var a6021: i; var a6022: i; var a6023: i; var a6024: i; var a6025: i; var a6026: i; var a6027: i; var a6028: i; var a6029: i; var a6030: i; var a6031: i; var a6032: i; var a6033: i; var a6034: i; var a6035: i; var a6036: i; var a6037: i; var a6038: i; var a6039: i; var a6040: i; var a6041: i; var a6042: i; var a6043: i; var a6044: i; var a6045: i; var a6046: i; var a6047: i; var a6048: i; var a6049: i; var a6050: i; var a6051: i; var a6052: i; var a6053: i; var a6054: i; var a6055: i; var a6056: i; var a6057: i; var a6058: i; var a6059: i; var a6060: i; var a6061: i; var a6062: i; var a6063: i; var a6064: i; var a6065: i; var a6066: i; var a6067: i; var a6068: i; var a6069: i; var a6070: i; var a6071: i; var a6072: i; var a6073: i; var a6074: i; var a6075: i; var a6076: i; var a6077: i; var a6078: i; var a6079: i; var a6080: i; var a6081: i; var a6082: i; var a6083: i; var a6084: i; var a6085: i; var a6086: i; var a6087: i; var a6088: i; var a6089: i; var a6090: i; var a6091: i; var a6092: i; var a6093: i; var a6094: i; var a6095: i; var a6096: i; var a6097: i; var a6098: i; var a6099: i; var a6100: i; var a6101: i; var a6102: i; var a6103: i; var a6104: i; var a6105: i; var a6106: i; var a6107: i; var a6108: i; var a6109: i; var a6110: i; var a6111: i; var a6112: i; var a6113: i; var a6114: i; var a6115: i; var a6116: i; var a6117: i; var a6118: i; var a6119: i; var a6120: i; var a6121: i; var a6122: i; var a6123: i; var a6124: i; var a6125: i; var a6126: i; var a6127: i; var a6128: i; var a6129: i; var a6130: i; var a6131: i; var a6132: i; var a6133: i; var a6134: i; var a6135: i; var a6136: i; var a6137: i; var a6138: i; var a6139: i; var a6140: i; var a6141: i; var a6142: i; var a6143: i; var a6144: i; var a6145: i; var a6146: i; var a6147: i; var a6148: i; var a6149: i; var a6150: i; var a6151: i; var a6152: i; var a6153: i; var a6154: i; var a6155: i; var a6156: i; var a6157: i; var a6158: i; var a6159: i; var a6160: i; var a6161: i; var a6162: i; var a6163: i; var a6164: i; var a6165: i; var a6166: i; var a6167: i; var a6168: i; var a6169: i; var a6170: i; var a6171: i; var a6172: i; var a6173: i; var a6174: i; var a6175: i; var a6176: i; var a6177: i; var a6178: i; var a6179: i; var a6180: i; var a6181: i; var a6182: i; var a6183: i; var a6184: i; var a6185: i; var a6186: i; var a6187: i; var a6188: i; var a6189: i; var a6190: i; var a6191: i; var a6192: i; var a6193: i; var a6194: i; var a6195: i; var a6196: i; var a6197: i; var a6198: i; var a6199: i; var a6200: i; var a6201: i; var a6202: i; var a6203: i; var a6204: i; var a6205: i; var a6206: i; var a6207: i; var a6208: i; var a6209: i; var a6210: i; var a6211: i; var a6212: i; var a6213: i; var a6214: i; var a6215: i; var a6216: i; var a6217: i; var a6218: i; var a6219: i; var a6220: i; var a6221: i; var a6222: i; var a6223: i; var a6224: i; var a6225: i; var a6226: i; var a6227: i; var a6228: i; var a6229: i; var a6230: i; var a6231: i; var a6232: i; var a6233: i; var a6234: i; var a6235: i; var a6236: i; var a6237: i; var a6238: i; var a6239: i; var a6240: i; var a6241: i; var a6242: i; var a6243: i; var a6244: i; var a6245: i; var a6246: i; var a6247: i; var a6248: i; var a6249: i; var a6250: i; var a6251: i; var a6252: i; var a6253: i; var a6254: i; var a6255: i; var a6256: i; var a6257: i; var a6258: i; var a6259: i; var a6260: i; var a6261: i; var a6262: i; var a6263: i; var a6264: i; var a6265: i; var a6266: i; var a6267: i; var a6268: i; var a6269: i; var a6270: i; var a6271: i; var a6272: i; var a6273: i; var a6274: i; var a6275: i; var a6276: i; var a6277: i; var a6278: i; var a6279: i; var a6280: i; var a6281: i; var a6282: i; var a6283: i; var a6284: i; var a6285: i; var a6286: i; var a6287: i; var a6288: i; var a6289: i; var a6290: i; var a6291: i; var a6292: i; var a6293: i; var a6294: i; var a6295: i; var a6296: i; var a6297: i; var a6298: i; var a6299: i; var a6300: i; var a6301: i; var a6302: i; var a6303: i; var a6304: i; var a6305: i; var a6306: i; var a6307: i; var a6308: i; var a6309: i; var a6310: i; var a6311: i; var a6312: i; var a6313: i; var a6314: i; var a6315: i; var a6316: i; var a6317: i; var a6318: i; var a6319: i; var a6320: i; var a6321: i; var a6322: i; var a6323: i; var a6324: i; var a6325: i; var a6326: i; var a6327: i; var a6328: i; var a6329: i; var a6330: i; var a6331: i; var a6332: i; var a6333: i; var a6334: i; var a6335: i; var a6336: i; var a6337: i; var a6338: i; var a6339: i; var a6340: i; var a6341: i; var a6342: i; var a6343: i; var a6344: i; var a6345: i; var a6346: i; var a6347: i; var a6348: i; var a6349: i; var a6350: i; var a6351: i; var a6352: i; var a6353: i; var a6354: i; var a6355: i; var a6356: i; var a6357: i; var a6358: i; var a6359: i; var a6360: i; var a6361: i; var a6362: i; var a6363: i; var a6364: i; var a6365: i; var a6366: i; var a6367: i; var a6368: i; var a6369: i; var a6370: i; var a6371: i; var a6372: i; var a6373: i; var a6374: i; var a6375: i; var a6376: i; var a6377: i; var a6378: i; var a6379: i; var a6380: i; var a6381: i; var a6382: i; var a6383: i; var a6384: i; var a6385: i; var a6386: i; var a6387: i; var a6388: i; var a6389: i; var a6390: i; var a6391: i; var a6392: i; var a6393: i; var a6394: i; var a6395: i; var a6396: i; var a6397: i; var a6398: i; var a6399: i; var a6400: i; var a6401: i; var a6402: i; var a6403: i; var a6404: i; var a6405: i; var a6406: i; var a6407: i; var a6408: i; var a6409: i; var a6410: i; var a6411: i; var a6412: i; var a6413: i; var a6414: i; var a6415: i; var a6416: i; var a6417: i; var a6418: i; var a6419: i; var a6420: i; var a6421: i; var a6422: i; var a6423: i; var a6424: i; var a6425: i; var a6426: i; var a6427: i; var a6428: i; var a6429: i; var a6430: i; var a6431: i; var a6432: i; var a6433: i; var a6434: i; var a6435: i; var a6436: i; var a6437: i; var a6438: i; var a6439: i; var a6440: i; var a6441: i; var a6442: i; var a6443: i; var a6444: i; var a6445: i; var a6446: i; var a6447: i; var a6448: i; var a6449: i; var a6450: i; var a6451: i; var a6452: i; var a6453: i; var a6454: i; var a6455: i; var a6456: i; var a6457: i; var a6458: i; var a6459: i; var a6460: i; var a6461: i; var a6462: i; var a6463: i; var a6464: i; var a6465: i; var a6466: i; var a6467: i; var a6468: i; var a6469: i; var a6470: i; var a6471: i; var a6472: i; var a6473: i; var a6474: i; var a6475: i; var a6476: i; var a6477: i; var a6478: i; var a6479: i; var a6480: i; var a6481: i; var a6482: i; var a6483: i; var a6484: i; var a6485: i; var a6486: i; var a6487: i; var a6488: i; var a6489: i; var a6490: i; var a6491: i; var a6492: i; var a6493: i; var a6494: i; var a6495: i; var a6496: i; var a6497: i; var a6498: i; var a6499: i; var a6500: i; var a6501: i; var a6502: i; var a6503: i; var a6504: i; var a6505: i; var a6506: i; var a6507: i; var a6508: i; var a6509: i; var a6510: i; var a6511: i; var a6512: i; var a6513: i; var a6514: i; var a6515: i; var a6516: i; var a6517: i; var a6518: i; var a6519: i; var a6520: i; var a6521: i; var a6522: i; var a6523: i; var a6524: i; var a6525: i; var a6526: i; var a6527: i; var a6528: i; var a6529: i; var a6530: i; var a6531: i; var a6532: i; var a6533: i; var a6534: i; var a6535: i; var a6536: i; var a6537: i; var a6538: i; var a6539: i; var a6540: i; var a6541: i; var a6542: i; var a6543: i; var a6544: i; var a6545: i; var a6546: i; var a6547: i; var a6548: i; var a6549: i; var a6550: i; var a6551: i; var a6552: i; var a6553: i; var a6554: i; var a6555: i; var a6556: i; var a6557: i; var a6558: i; var a6559: i; var a6560: i; var a6561: i; var a6562: i; var a6563: i; var a6564: i; var a6565: i; var a6566: i; var a6567: i; var a6568: i; var a6569: i; var a6570: i; var a6571: i; var a6572: i; var a6573: i; var a6574: i; var a6575: i; var a6576: i; var a6577: i; var a6578: i; var a6579: i; var a6580: i; var a6581: i; var a6582: i; var a6583: i; var a6584: i; var a6585: i; var a6586: i; var a6587: i; var a6588: i; var a6589: i; var a6590: i; var a6591: i; var a6592: i; var a6593: i; var a6594: i; var a6595: i; var a6596: i; var a6597: i; var a6598: i; var a6599: i; var a6600: i; var a6601: i; var a6602: i; var a6603: i; var a6604: i; var a6605: i; var a6606: i; var a6607: i; var a6608: i; var a6609: i; var a6610: i; var a6611: i; var a6612: i; var a6613: i; var a6614: i; var a6615: i; var a6616: i; var a6617: i; var a6618: i; var a6619: i; var a6620: i; var a6621: i; var a6622: i; var a6623: i; var a6624: i; var a6625: i; var a6626: i; var a6627: i; var a6628: i; var a6629: i; var a6630: i; var a6631: i; var a6632: i; var a6633: i; var a6634: i; var a6635: i; var a6636: i; var a6637: i; var a6638: i; var a6639: i; var a6640: i; var a6641: i; var a6642: i; var a6643: i; var a6644: i; var a6645: i; var a6646: i; var a6647: i; var a6648: i; var a6649: i; var a6650: i; var a6651: i; var a6652: i; var a6653: i; var a6654: i; var a6655: i; var a6656: i; var a6657: i; var a6658: i; var a6659: i; var a6660: i; var a6661: i; var a6662: i; var a6663: i; var a6664: i; var a6665: i; var a6666: i; var a6667: i; var a6668: i; var a6669: i; var a6670: i; var a6671: i; var a6672: i; var a6673: i; var a6674: i; var a6675: i; var a6676: i; var a6677: i; var a6678: i; var a6679: i; var a6680: i; var a6681: i; var a6682: i; var a6683: i; var a6684: i; var a6685: i; var a6686: i; var a6687: i; var a6688: i; var a6689: i; var a6690: i; var a6691: i; var a6692: i; var a6693: i; var a6694: i; var a6695: i; var a6696: i; var a6697: i; var a6698: i; var a6699: i; var a6700: i; var a6701: i; var a6702: i; var a6703: i; var a6704: i; var a6705: i; var a6706: i; var a6707: i; var a6708: i; var a6709: i; var a6710: i; var a6711: i; var a6712: i; var a6713: i; var a6714: i; var a6715: i; var a6716: i; var a6717: i; var a6718: i; var a6719: i; var a6720: i; var a6721: i; var a6722: i; var a6723: i; var a6724: i; var a6725: i; var a6726: i; var a6727: i; var a6728: i; var a6729: i; var a6730: i; var a6731: i; var a6732: i; var a6733: i; var a6734: i; var a6735: i; var a6736: i; var a6737: i; var a6738: i; var a6739: i; var a6740: i; var a6741: i; var a6742: i; var a6743: i; var a6744: i; var a6745: i; var a6746: i; var a6747: i; var a6748: i; var a6749: i; var a6750: i; var a6751: i; var a6752: i; var a6753: i; var a6754: i; var a6755: i; var a6756: i; var a6757: i; var a6758: i; var a6759: i; var a6760: i; var a6761: i; var a6762: i; var a6763: i; var a6764: i; var a6765: i; var a6766: i; var a6767: i; var a6768: i; var a6769: i; var a6770: i; var a6771: i; var a6772: i; var a6773: i; var a6774: i; var a6775: i; var a6776: i; var a6777: i; var a6778: i; var a6779: i; var a6780: i; var a6781: i; var a6782: i; var a6783: i; var a6784: i; var a6785: i; var a6786: i; var a6787: i; var a6788: i; var a6789: i; var a6790: i; var a6791: i; var a6792: i; var a6793: i; var a6794: i; var a6795: i; var a6796: i; var a6797: i; var a6798: i; var a6799: i; var a6800: i; var a6801: i; var a6802: i; var a6803: i; var a6804: i; var a6805: i; var a6806: i; var a6807: i; var a6808: i; var a6809: i; var a6810: i; var a6811: i; var a6812: i; var a6813: i; var a6814: i; var a6815: i; var a6816: i; var a6817: i; var a6818: i; var a6819: i; var a6820: i; var a6821: i; var a6822: i; var a6823: i; var a6824: i; var a6825: i; var a6826: i; var a6827: i; var a6828: i; var a6829: i; var a6830: i; var a6831: i; var a6832: i; var a6833: i; var a6834: i; var a6835: i; var a6836: i; var a6837: i; var a6838: i; var a6839: i; var a6840: i; var a6841: i; var a6842: i; var a6843: i; var a6844: i; var a6845: i; var a6846: i; var a6847: i; var a6848: i; var a6849: i; var a6850: i; var a6851: i; var a6852: i; var a6853: i; var a6854: i; var a6855: i; var a6856: i; var a6857: i; var a6858: i; var a6859: i; var a6860: i; var a6861: i; var a6862: i; var a6863: i; var a6864: i; var a6865: i; var a6866: i; var a6867: i; var a6868: i; var a6869: i; var a6870: i; var a6871: i; var a6872: i; var a6873: i; var a6874: i; var a6875: i; var a6876: i; var a6877: i; var a6878: i; var a6879: i; var a6880: i; var a6881: i; var a6882: i; var a6883: i; var a6884: i; var a6885: i; var a6886: i; var a6887: i; var a6888: i; var a6889: i; var a6890: i; var a6891: i; var a6892: i; var a6893: i; var a6894: i; var a6895: i; var a6896: i; var a6897: i; var a6898: i; var a6899: i; var a6900: i; var a6901: i; var a6902: i; var a6903: i; var a6904: i; var a6905: i; var a6906: i; var a6907: i; var a6908: i; var a6909: i; var a6910: i; var a6911: i; var a6912: i; var a6913: i; var a6914: i; var a6915: i; var a6916: i; var a6917: i; var a6918: i; var a6919: i; var a6920: i; var a6921: i; var a6922: i; var a6923: i; var a6924: i; var a6925: i; var a6926: i; var a6927: i; var a6928: i; var a6929: i; var a6930: i; var a6931: i; var a6932: i; var a6933: i; var a6934: i; var a6935: i; var a6936: i; var a6937: i; var a6938: i; var a6939: i; var a6940: i; var a6941: i; var a6942: i; var a6943: i; var a6944: i; var a6945: i; var a6946: i; var a6947: i; var a6948: i; var a6949: i; var a6950: i; var a6951: i; var a6952: i; var a6953: i; var a6954: i; var a6955: i; var a6956: i; var a6957: i; var a6958: i; var a6959: i; var a6960: i; var a6961: i; var a6962: i; var a6963: i; var a6964: i; var a6965: i; var a6966: i; var a6967: i; var a6968: i; var a6969: i; var a6970: i; var a6971: i; var a6972: i; var a6973: i; var a6974: i; var a6975: i; var a6976: i; var a6977: i; var a6978: i; var a6979: i; var a6980: i; var a6981: i; var a6982: i; var a6983: i; var a6984: i; var a6985: i; var a6986: i; var a6987: i; var a6988: i; var a6989: i; var a6990: i; var a6991: i; var a6992: i; var a6993: i; var a6994: i; var a6995: i; var a6996: i; var a6997: i; var a6998: i; var a6999: i; var a7000: i; var a7001: i; var a7002: i; var a7003: i; var a7004: i; var a7005: i; var a7006: i; var a7007: i; var a7008: i; var a7009: i; var a7010: i; var a7011: i; var a7012: i; var a7013: i; var a7014: i; var a7015: i; var a7016: i; var a7017: i; var a7018: i; var a7019: i; var a7020: i; var a7021: i; var a7022: i; var a7023: i; var a7024: i; var a7025: i; var a7026: i; var a7027: i; var a7028: i; var a7029: i; var a7030: i; var a7031: i; var a7032: i; var a7033: i; var a7034: i; var a7035: i; var a7036: i; var a7037: i; var a7038: i; var a7039: i; var a7040: i; var a7041: i; var a7042: i; var a7043: i; var a7044: i; var a7045: i; var a7046: i; var a7047: i; var a7048: i; var a7049: i; var a7050: i; var a7051: i; var a7052: i; var a7053: i; var a7054: i; var a7055: i; var a7056: i; var a7057: i; var a7058: i; var a7059: i; var a7060: i; var a7061: i; var a7062: i; var a7063: i; var a7064: i; var a7065: i; var a7066: i; var a7067: i; var a7068: i; var a7069: i; var a7070: i; var a7071: i; var a7072: i; var a7073: i; var a7074: i; var a7075: i; var a7076: i; var a7077: i; var a7078: i; var a7079: i; var a7080: i; var a7081: i; var a7082: i; var a7083: i; var a7084: i; var a7085: i; var a7086: i; var a7087: i; var a7088: i; var a7089: i; var a7090: i; var a7091: i; var a7092: i; var a7093: i; var a7094: i; var a7095: i; var a7096: i; var a7097: i; var a7098: i; var a7099: i; var a7100: i; var a7101: i; var a7102: i; var a7103: i; var a7104: i; var a7105: i; var a7106: i; var a7107: i; var a7108: i; var a7109: i; var a7110: i; var a7111: i; var a7112: i; var a7113: i; var a7114: i; var a7115: i; var a7116: i; var a7117: i; var a7118: i; var a7119: i; var a7120: i; var a7121: i; var a7122: i; var a7123: i; var a7124: i; var a7125: i; var a7126: i; var a7127: i; var a7128: i; var a7129: i; var a7130: i; var a7131: i; var a7132: i; var a7133: i; var a7134: i; var a7135: i; var a7136: i; var a7137: i; var a7138: i; var a7139: i; var a7140: i; var a7141: i; var a7142: i; var a7143: i; var a7144: i; var a7145: i; var a7146: i; var a7147: i; var a7148: i; var a7149: i; var a7150: i; var a7151: i; var a7152: i; var a7153: i; var a7154: i; var a7155: i; var a7156: i; var a7157: i; var a7158: i; var a7159: i; var a7160: i; var a7161: i; var a7162: i; var a7163: i; var a7164: i; var a7165: i; var a7166: i; var a7167: i; var a7168: i; var a7169: i; var a7170: i; var a7171: i; var a7172: i; var a7173: i; var a7174: i; var a7175: i; var a7176: i; var a7177: i; var a7178: i; var a7179: i; var a7180: i; var a7181: i; var a7182: i; var a7183: i; var a7184: i; var a7185: i; var a7186: i; var a7187: i; var a7188: i; var a7189: i; var a7190: i; var a7191: i; var a7192: i; var a7193: i; var a7194: i; var a7195: i; var a7196: i; var a7197: i; var a7198: i; var a7199: i; var a7200: i; var a7201: i; var a7202: i; var a7203: i; var a7204: i; var a7205: i; var a7206: i; var a7207: i; var a7208: i; var a7209: i; var a7210: i; var a7211: i; var a7212: i; var a7213: i; var a7214: i; var a7215: i; var a7216: i; var a7217: i; var a7218: i; var a7219: i; var a7220: i; var a7221: i; var a7222: i; var a7223: i; var a7224: i; var a7225: i; var a7226: i; var a7227: i; var a7228: i; var a7229: i; var a7230: i; var a7231: i; var a7232: i; var a7233: i; var a7234: i; var a7235: i; var a7236: i; var a7237: i; var a7238: i; var a7239: i; var a7240: i; var a7241: i; var a7242: i; var a7243: i; var a7244: i; var a7245: i; var a7246: i; var a7247: i; var a7248: i; var a7249: i; var a7250: i; var a7251: i; var a7252: i; var a7253: i; var a7254: i; var a7255: i; var a7256: i; var a7257: i; var a7258: i; var a7259: i; var a7260: i; var a7261: i; var a7262: i; var a7263: i; var a7264: i; var a7265: i; var a7266: i; var a7267: i; var a7268: i; var a7269: i; var a7270: i; var a7271: i; var a7272: i; var a7273: i; var a7274: i; var a7275: i; var a7276: i; var a7277: i; var a7278: i; var a7279: i; var a7280: i; var a7281: i; var a7282: i; var a7283: i; var a7284: i; var a7285: i; var a7286: i; var a7287: i; var a7288: i; var a7289: i; var a7290: i; var a7291: i; var a7292: i; var a7293: i; var a7294: i; var a7295: i; var a7296: i; var a7297: i; var a7298: i; var a7299: i; var a7300: i; var a7301: i; var a7302: i; var a7303: i; var a7304: i; var a7305: i; var a7306: i; var a7307: i; var a7308: i; var a7309: i; var a7310: i; var a7311: i; var a7312: i; var a7313: i; var a7314: i; var a7315: i; var a7316: i; var a7317: i; var a7318: i; var a7319: i; var a7320: i; var a7321: i; var a7322: i; var a7323: i; var a7324: i; var a7325: i; var a7326: i; var a7327: i; var a7328: i; var a7329: i; var a7330: i; var a7331: i; var a7332: i; var a7333: i; var a7334: i; var a7335: i; var a7336: i; var a7337: i; var a7338: i; var a7339: i; var a7340: i; var a7341: i; var a7342: i; var a7343: i; var a7344: i; var a7345: i; var a7346: i; var a7347: i; var a7348: i; var a7349: i; var a7350: i; var a7351: i; var a7352: i; var a7353: i; var a7354: i; var a7355: i; var a7356: i; var a7357: i; var a7358: i; var a7359: i; var a7360: i; var a7361: i; var a7362: i; var a7363: i; var a7364: i; var a7365: i; var a7366: i; var a7367: i; var a7368: i; var a7369: i; var a7370: i; var a7371: i; var a7372: i; var a7373: i; var a7374: i; var a7375: i; var a7376: i; var a7377: i; var a7378: i; var a7379: i; var a7380: i; var a7381: i; var a7382: i; var a7383: i; var a7384: i; var a7385: i; var a7386: i; var a7387: i; var a7388: i; var a7389: i; var a7390: i; var a7391: i; var a7392: i; var a7393: i; var a7394: i; var a7395: i; var a7396: i; var a7397: i; var a7398: i; var a7399: i; var a7400: i; var a7401: i; var a7402: i; var a7403: i; var a7404: i; var a7405: i; var a7406: i; var a7407: i; var a7408: i; var a7409: i; var a7410: i; var a7411: i; var a7412: i; var a7413: i; var a7414: i; var a7415: i; var a7416: i; var a7417: i; var a7418: i; var a7419: i; var a7420: i; var a7421: i; var a7422: i; var a7423: i; var a7424: i; var a7425: i; var a7426: i; var a7427: i; var a7428: i; var a7429: i; var a7430: i; var a7431: i; var a7432: i; var a7433: i; var a7434: i; var a7435: i; var a7436: i; var a7437: i; var a7438: i; var a7439: i; var a7440: i; var a7441: i; var a7442: i; var a7443: i; var a7444: i; var a7445: i; var a7446: i; var a7447: i; var a7448: i; var a7449: i; var a7450: i; var a7451: i; var a7452: i; var a7453: i; var a7454: i; var a7455: i; var a7456: i; var a7457: i; var a7458: i; var a7459: i; var a7460: i; var a7461: i; var a7462: i; var a7463: i; var a7464: i; var a7465: i; var a7466: i; var a7467: i; var a7468: i; var a7469: i; var a7470: i; var a7471: i; var a7472: i; var a7473: i; var a7474: i; var a7475: i; var a7476: i; var a7477: i; var a7478: i; var a7479: i; var a7480: i; var a7481: i; var a7482: i; var a7483: i; var a7484: i; var a7485: i; var a7486: i; var a7487: i; var a7488: i; var a7489: i; var a7490: i; var a7491: i; var a7492: i; var a7493: i; var a7494: i; var a7495: i; var a7496: i; var a7497: i; var a7498: i; var a7499: i; var a7500: i; var a7501: i; var a7502: i; var a7503: i; var a7504: i; var a7505: i; var a7506: i; var a7507: i; var a7508: i; var a7509: i; var a7510: i; var a7511: i; var a7512: i; var a7513: i; var a7514: i; var a7515: i; var a7516: i; var a7517: i; var a7518: i; var a7519: i; var a7520: i; var a7521: i; var a7522: i; var a7523: i; var a7524: i; var a7525: i; var a7526: i; var a7527: i; var a7528: i; var a7529: i; var a7530: i; var a7531: i; var a7532: i; var a7533: i; var a7534: i; var a7535: i; var a7536: i; var a7537: i; var a7538: i; var a7539: i; var a7540: i; var a7541: i; var a7542: i; var a7543: i; var a7544: i; var a7545: i; var a7546: i; var a7547: i; var a7548: i; var a7549: i; var a7550: i; var a7551: i; var a7552: i; var a7553: i; var a7554: i; var a7555: i; var a7556: i; var a7557: i; var a7558: i; var a7559: i; var a7560: i; var a7561: i; var a7562: i; var a7563: i; var a7564: i; var a7565: i; var a7566: i; var a7567: i; var a7568: i; var a7569: i; var a7570: i; var a7571: i; var a7572: i; var a7573: i; var a7574: i; var a7575: i; var a7576: i; var a7577: i; var a7578: i; var a7579: i; var a7580: i; var a7581: i; var a7582: i; var a7583: i; var a7584: i; var a7585: i; var a7586: i; var a7587: i; var a7588: i; var a7589: i; var a7590: i; var a7591: i; var a7592: i; var a7593: i; var a7594: i; var a7595: i; var a7596: i; var a7597: i; var a7598: i; var a7599: i; var a7600: i; var a7601: i; var a7602: i; var a7603: i; var a7604: i; var a7605: i; var a7606: i; var a7607: i; var a7608: i; var a7609: i; var a7610: i; var a7611: i; var a7612: i; var a7613: i; var a7614: i; var a7615: i; var a7616: i; var a7617: i; var a7618: i; var a7619: i; var a7620: i; var a7621: i; var a7622: i; var a7623: i; var a7624: i; var a7625: i; var a7626: i; var a7627: i; var a7628: i; var a7629: i; var a7630: i; var a7631: i; var a7632: i; var a7633: i; var a7634: i; var a7635: i; var a7636: i; var a7637: i; var a7638: i; var a7639: i; var a7640: i; var a7641: i; var a7642: i; var a7643: i; var a7644: i; var a7645: i; var a7646: i; var a7647: i; var a7648: i; var a7649: i; var a7650: i; var a7651: i; var a7652: i; var a7653: i; var a7654: i; var a7655: i; var a7656: i; var a7657: i; var a7658: i; var a7659: i; var a7660: i; var a7661: i; var a7662: i; var a7663: i; var a7664: i; var a7665: i; var a7666: i; var a7667: i; var a7668: i; var a7669: i; var a7670: i; var a7671: i; var a7672: i; var a7673: i; var a7674: i; var a7675: i; var a7676: i; var a7677: i; var a7678: i; var a7679: i; var a7680: i; var a7681: i; var a7682: i; var a7683: i; var a7684: i; var a7685: i; var a7686: i; var a7687: i; var a7688: i; var a7689: i; var a7690: i; var a7691: i; var a7692: i; var a7693: i; var a7694: i; var a7695: i; var a7696: i; var a7697: i; var a7698: i; var a7699: i; var a7700: i; var a7701: i; var a7702: i; var a7703: i; var a7704: i; var a7705: i; var a7706: i; var a7707: i; var a7708: i; var a7709: i; var a7710: i; var a7711: i; var a7712: i; var a7713: i; var a7714: i; var a7715: i; var a7716: i; var a7717: i; var a7718: i; var a7719: i; var a7720: i; var a7721: i; var a7722: i; var a7723: i; var a7724: i; var a7725: i; var a7726: i; var a7727: i; var a7728: i; var a7729: i; var a7730: i; var a7731: i; var a7732: i; var a7733: i; var a7734: i; var a7735: i; var a7736: i; var a7737: i; var a7738: i; var a7739: i; var a7740: i; var a7741: i; var a7742: i; var a7743: i; var a7744: i; var a7745: i; var a7746: i; var a7747: i; var a7748: i; var a7749: i; var a7750: i; var a7751: i; var a7752: i; var a7753: i; var a7754: i; var a7755: i; var a7756: i; var a7757: i; var a7758: i; var a7759: i; var a7760: i; var a7761: i; var a7762: i; var a7763: i; var a7764: i; var a7765: i; var a7766: i; var a7767: i; var a7768: i; var a7769: i; var a7770: i; var a7771: i; var a7772: i; var a7773: i; var a7774: i; var a7775: i; var a7776: i; var a7777: i; var a7778: i; var a7779: i; var a7780: i; var a7781: i; var a7782: i; var a7783: i; var a7784: i; var a7785: i; var a7786: i; var a7787: i; var a7788: i; var a7789: i; var a7790: i; var a7791: i; var a7792: i; var a7793: i; var a7794: i; var a7795: i; var a7796: i; var a7797: i; var a7798: i; var a7799: i; var a7800: i; var a7801: i; var a7802: i; var a7803: i; var a7804: i; var a7805: i; var a7806: i; var a7807: i; var a7808: i; var a7809: i; var a7810: i; var a7811: i; var a7812: i; var a7813: i; var a7814: i; var a7815: i; var a7816: i; var a7817: i; var a7818: i; var a7819: i; var a7820: i; var a7821: i; var a7822: i; var a7823: i; var a7824: i; var a7825: i; var a7826: i; var a7827: i; var a7828: i; var a7829: i; var a7830: i; var a7831: i; var a7832: i; var a7833: i; var a7834: i; var a7835: i; var a7836: i; var a7837: i; var a7838: i; var a7839: i; var a7840: i; var a7841: i; var a7842: i; var a7843: i; var a7844: i; var a7845: i; var a7846: i; var a7847: i; var a7848: i; var a7849: i; var a7850: i; var a7851: i; var a7852: i; var a7853: i; var a7854: i; var a7855: i; var a7856: i; var a7857: i; var a7858: i; var a7859: i; var a7860: i; var a7861: i; var a7862: i; var a7863: i; var a7864: i; var a7865: i; var a7866: i; var a7867: i; var a7868: i; var a7869: i; var a7870: i; var a7871: i; var a7872: i; var a7873: i; var a7874: i; var a7875: i; var a7876: i; var a7877: i; var a7878: i; var a7879: i; var a7880: i; var a7881: i; var a7882: i; var a7883: i; var a7884: i; var a7885: i; var a7886: i; var a7887: i; var a7888: i; var a7889: i; var a7890: i; var a7891: i; var a7892: i; var a7893: i; var a7894: i; var a7895: i; var a7896: i; var a7897: i; var a7898: i; var a7899: i; var a7900: i; var a7901: i; var a7902: i; var a7903: i; var a7904: i; var a7905: i; var a7906: i; var a7907: i; var a7908: i; var a7909: i; var a7910: i; var a7911: i; var a7912: i; var a7913: i; var a7914: i; var a7915: i; var a7916: i; var a7917: i; var a7918: i; var a7919: i; var a7920: i; var a7921: i; var a7922: i; var a7923: i; var a7924: i; var a7925: i; var a7926: i; var a7927: i; var a7928: i; var a7929: i; var a7930: i; var a7931: i; var a7932: i; var a7933: i; var a7934: i; var a7935: i; var a7936: i; var a7937: i; var a7938: i; var a7939: i; var a7940: i; var a7941: i; var a7942: i; var a7943: i; var a7944: i; var a7945: i; var a7946: i; var a7947: i; var a7948: i; var a7949: i; var a7950: i; var a7951: i; var a7952: i; var a7953: i; var a7954: i; var a7955: i; var a7956: i; var a7957: i; var a7958: i; var a7959: i; var a7960: i; var a7961: i; var a7962: i; var a7963: i; var a7964: i; var a7965: i; var a7966: i; var a7967: i; var a7968: i; var a7969: i; var a7970: i; var a7971: i; var a7972: i; var a7973: i; var a7974: i; var a7975: i; var a7976: i; var a7977: i; var a7978: i; var a7979: i; var a7980: i; var a7981: i; var a7982: i; var a7983: i; var a7984: i; var a7985: i; var a7986: i; var a7987: i; var a7988: i; var a7989: i; var a7990: i; var a7991: i; var a7992: i; var a7993: i; var a7994: i; var a7995: i; var a7996: i; var a7997: i; var a7998: i; var a7999: i; var a8000: i; var a8001: i; var a8002: i; var a8003: i; var a8004: i; var a8005: i; var a8006: i; var a8007: i; var a8008: i; var a8009: i; var a8010: i; var a8011: i; var a8012: i; var a8013: i; var a8014: i; var a8015: i; var a8016: i; var a8017: i; var a8018: i; var a8019: i; var a8020: i; var a8021: i; var a8022: i; var a8023: i; var a8024: i; var a8025: i; var a8026: i; var a8027: i; var a8028: i; var a8029: i; var a8030: i; var a8031: i; var a8032: i; var a8033: i; var a8034: i; var a8035: i; var a8036: i; var a8037: i; var a8038: i; var a8039: i; var a8040: i; var a8041: i; var a8042: i; var a8043: i; var a8044: i; var a8045: i; var a8046: i; var a8047: i; var a8048: i; var a8049: i; var a8050: i; var a8051: i; var a8052: i; var a8053: i; var a8054: i; var a8055: i; var a8056: i; var a8057: i; var a8058: i; var a8059: i; var a8060: i; var a8061: i; var a8062: i; var a8063: i; var a8064: i; var a8065: i; var a8066: i; var a8067: i; var a8068: i; var a8069: i; var a8070: i; var a8071: i; var a8072: i; var a8073: i; var a8074: i; var a8075: i; var a8076: i; var a8077: i; var a8078: i; var a8079: i; var a8080: i; var a8081: i; var a8082: i; var a8083: i; var a8084: i; var a8085: i; var a8086: i; var a8087: i; var a8088: i; var a8089: i; var a8090: i; var a8091: i; var a8092: i; var a8093: i; var a8094: i; var a8095: i; var a8096: i; var a8097: i; var a8098: i; var a8099: i; var a8100: i; var a8101: i; var a8102: i; var a8103: i; var a8104: i; var a8105: i; var a8106: i; var a8107: i; var a8108: i; var a8109: i; var a8110: i; var a8111: i; var a8112: i; var a8113: i; var a8114: i; var a8115: i; var a8116: i; var a8117: i; var a8118: i; var a8119: i; var a8120: i; var a8121: i; var a8122: i; var a8123: i; var a8124: i; var a8125: i; var a8126: i; var a8127: i; var a8128: i; var a8129: i; var a8130: i; var a8131: i; var a8132: i; var a8133: i; var a8134: i; var a8135: i; var a8136: i; var a8137: i; var a8138: i; var a8139: i; var a8140: i; var a8141: i; var a8142: i; var a8143: i; var a8144: i; var a8145: i; var a8146: i; var a8147: i; var a8148: i; var a8149: i; var a8150: i; var a8151: i; var a8152: i; var a8153: i; var a8154: i; var a8155: i; var a8156: i; var a8157: i; var a8158: i; var a8159: i; var a8160: i; var a8161: i; var a8162: i; var a8163: i; var a8164: i; var a8165: i; var a8166: i; var a8167: i; var a8168: i; var a8169: i; var a8170: i; var a8171: i; var a8172: i; var a8173: i; var a8174: i; var a8175: i; var a8176: i; var a8177: i; var a8178: i; var a8179: i; var a8180: i; var a8181: i; var a8182: i; var a8183: i; var a8184: i; var a8185: i; var a8186: i; var a8187: i; var a8188: i; var a8189: i; var a8190: i; var a8191: i; var a8192: i; var a8193: i; var a8194: i; var a8195: i; var a8196: i; var a8197: i; var a8198: i; var a8199: i; var a8200: i; var a8201: i; var a8202: i; var a8203: i; var a8204: i; var a8205: i; var a8206: i; var a8207: i; var a8208: i; var a8209: i; var a8210: i; var a8211: i; var a8212: i; var a8213: i; var a8214: i; var a8215: i; var a8216: i; var a8217: i; var a8218: i; var a8219: i; var a8220: i; var a8221: i; var a8222: i; var a8223: i; var a8224: i; var a8225: i; var a8226: i; var a8227: i; var a8228: i; var a8229: i; var a8230: i; var a8231: i; var a8232: i; var a8233: i; var a8234: i; var a8235: i; var a8236: i; var a8237: i; var a8238: i; var a8239: i; var a8240: i; var a8241: i; var a8242: i; var a8243: i; var a8244: i; var a8245: i; var a8246: i; var a8247: i; var a8248: i; var a8249: i; var a8250: i; var a8251: i; var a8252: i; var a8253: i; var a8254: i; var a8255: i; var a8256: i; var a8257: i; var a8258: i; var a8259: i; var a8260: i; var a8261: i; var a8262: i; var a8263: i; var a8264: i; var a8265: i; var a8266: i; var a8267: i; var a8268: i; var a8269: i; var a8270: i; var a8271: i; var a8272: i; var a8273: i; var a8274: i; var a8275: i; var a8276: i; var a8277: i; var a8278: i; var a8279: i; var a8280: i; var a8281: i; var a8282: i; var a8283: i; var a8284: i; var a8285: i; var a8286: i; var a8287: i; var a8288: i; var a8289: i; var a8290: i; var a8291: i; var a8292: i; var a8293: i; var a8294: i; var a8295: i; var a8296: i; var a8297: i; var a8298: i; var a8299: i; var a8300: i; var a8301: i; var a8302: i; var a8303: i; var a8304: i; var a8305: i; var a8306: i; var a8307: i; var a8308: i; var a8309: i; var a8310: i; var a8311: i; var a8312: i; var a8313: i; var a8314: i; var a8315: i; var a8316: i; var a8317: i; var a8318: i; var a8319: i; var a8320: i; var a8321: i; var a8322: i; var a8323: i; var a8324: i; var a8325: i; var a8326: i; var a8327: i; var a8328: i; var a8329: i; var a8330: i; var a8331: i; var a8332: i; var a8333: i; var a8334: i; var a8335: i; var a8336: i; var a8337: i; var a8338: i; var a8339: i; var a8340: i; var a8341: i; var a8342: i; var a8343: i; var a8344: i; var a8345: i; var a8346: i; var a8347: i; var a8348: i; var a8349: i; var a8350: i; var a8351: i; var a8352: i; var a8353: i; var a8354: i; var a8355: i; var a8356: i; var a8357: i; var a8358: i; var a8359: i; var a8360: i; var a8361: i; var a8362: i; var a8363: i; var a8364: i; var a8365: i; var a8366: i; var a8367: i; var a8368: i; var a8369: i; var a8370: i; var a8371: i; var a8372: i; var a8373: i; var a8374: i; var a8375: i; var a8376: i; var a8377: i; var a8378: i; var a8379: i; var a8380: i; var a8381: i; var a8382: i; var a8383: i; var a8384: i; var a8385: i; var a8386: i; var a8387: i; var a8388: i; var a8389: i; var a8390: i; var a8391: i; var a8392: i; var a8393: i; var a8394: i; var a8395: i; var a8396: i; var a8397: i; var a8398: i; var a8399: i; var a8400: i; var a8401: i; var a8402: i; var a8403: i; var a8404: i; var a8405: i; var a8406: i; var a8407: i; var a8408: i; var a8409: i; var a8410: i; var a8411: i; var a8412: i; var a8413: i; var a8414: i; var a8415: i; var a8416: i; var a8417: i; var a8418: i; var a8419: i; var a8420: i; var a8421: i; var a8422: i; var a8423: i; var a8424: i; var a8425: i; var a8426: i; var a8427: i; var a8428: i; var a8429: i; var a8430: i; var a8431: i; var a8432: i; var a8433: i; var a8434: i; var a8435: i; var a8436: i; var a8437: i; var a8438: i; var a8439: i; var a8440: i; var a8441: i; var a8442: i; var a8443: i; var a8444: i; var a8445: i; var a8446: i; var a8447: i; var a8448: i; var a8449: i; var a8450: i; var a8451: i; var a8452: i; var a8453: i; var a8454: i; var a8455: i; var a8456: i; var a8457: i; var a8458: i; var a8459: i; var a8460: i; var a8461: i; var a8462: i; var a8463: i; var a8464: i; var a8465: i; var a8466: i; var a8467: i; var a8468: i; var a8469: i; var a8470: i; var a8471: i; var a8472: i; var a8473: i; var a8474: i; var a8475: i; var a8476: i; var a8477: i; var a8478: i; var a8479: i; var a8480: i; var a8481: i; var a8482: i; var a8483: i; var a8484: i; var a8485: i; var a8486: i; var a8487: i; var a8488: i; var a8489: i; var a8490: i; var a8491: i; var a8492: i; var a8493: i; var a8494: i; var a8495: i; var a8496: i; var a8497: i; var a8498: i; var a8499: i; var a8500: i; var a8501: i; var a8502: i; var a8503: i; var a8504: i; var a8505: i; var a8506: i; var a8507: i; var a8508: i; var a8509: i; var a8510: i; var a8511: i; var a8512: i; var a8513: i; var a8514: i; var a8515: i; var a8516: i; var a8517: i; var a8518: i; var a8519: i; var a8520: i; var a8521: i; var a8522: i; var a8523: i; var a8524: i; var a8525: i; var a8526: i; var a8527: i; var a8528: i; var a8529: i; var a8530: i; var a8531: i; var a8532: i; var a8533: i; var a8534: i; var a8535: i; var a8536: i; var a8537: i; var a8538: i; var a8539: i; var a8540: i; var a8541: i; var a8542: i; var a8543: i; var a8544: i; var a8545: i; var a8546: i; var a8547: i; var a8548: i; var a8549: i; var a8550: i; var a8551: i; var a8552: i; var a8553: i; var a8554: i; var a8555: i; var a8556: i; var a8557: i; var a8558: i; var a8559: i; var a8560: i; var a8561: i; var a8562: i; var a8563: i; var a8564: i; var a8565: i; var a8566: i; var a8567: i; var a8568: i; var a8569: i; var a8570: i; var a8571: i; var a8572: i; var a8573: i; var a8574: i; var a8575: i; var a8576: i; var a8577: i; var a8578: i; var a8579: i; var a8580: i; var a8581: i; var a8582: i; var a8583: i; var a8584: i; var a8585: i; var a8586: i; var a8587: i; var a8588: i; var a8589: i; var a8590: i; var a8591: i; var a8592: i; var a8593: i; var a8594: i; var a8595: i; var a8596: i; var a8597: i; var a8598: i; var a8599: i; var a8600: i; var a8601: i; var a8602: i; var a8603: i; var a8604: i; var a8605: i; var a8606: i; var a8607: i; var a8608: i; var a8609: i; var a8610: i; var a8611: i; var a8612: i; var a8613: i; var a8614: i; var a8615: i; var a8616: i; var a8617: i; var a8618: i; var a8619: i; var a8620: i; var a8621: i; var a8622: i; var a8623: i; var a8624: i; var a8625: i; var a8626: i; var a8627: i; var a8628: i; var a8629: i; var a8630: i; var a8631: i; var a8632: i; var a8633: i; var a8634: i; var a8635: i; var a8636: i; var a8637: i; var a8638: i; var a8639: i; var a8640: i; var a8641: i; var a8642: i; var a8643: i; var a8644: i; var a8645: i; var a8646: i; var a8647: i; var a8648: i; var a8649: i; var a8650: i; var a8651: i; var a8652: i; var a8653: i; var a8654: i; var a8655: i; var a8656: i; var a8657: i; var a8658: i; var a8659: i; var a8660: i; var a8661: i; var a8662: i; var a8663: i; var a8664: i; var a8665: i; var a8666: i; var a8667: i; var a8668: i; var a8669: i; var a8670: i; var a8671: i; var a8672: i; var a8673: i; var a8674: i; var a8675: i; var a8676: i; var a8677: i; var a8678: i; var a8679: i; var a8680: i; var a8681: i; var a8682: i; var a8683: i; var a8684: i; var a8685: i; var a8686: i; var a8687: i; var a8688: i; var a8689: i; var a8690: i; var a8691: i; var a8692: i; var a8693: i; var a8694: i; var a8695: i; var a8696: i; var a8697: i; var a8698: i; var a8699: i; var a8700: i; var a8701: i; var a8702: i; var a8703: i; var a8704: i; var a8705: i; var a8706: i; var a8707: i; var a8708: i; var a8709: i; var a8710: i; var a8711: i; var a8712: i; var a8713: i; var a8714: i; var a8715: i; var a8716: i; var a8717: i; var a8718: i; var a8719: i; var a8720: i; var a8721: i; var a8722: i; var a8723: i; var a8724: i; var a8725: i; var a8726: i; var a8727: i; var a8728: i; var a8729: i; var a8730: i; var a8731: i; var a8732: i; var a8733: i; var a8734: i; var a8735: i; var a8736: i; var a8737: i; var a8738: i; var a8739: i; var a8740: i; var a8741: i; var a8742: i; var a8743: i; var a8744: i; var a8745: i; var a8746: i; var a8747: i; var a8748: i; var a8749: i; var a8750: i; var a8751: i; var a8752: i; var a8753: i; var a8754: i; var a8755: i; var a8756: i; var a8757: i; var a8758: i; var a8759: i; var a8760: i; var a8761: i; var a8762: i; var a8763: i; var a8764: i; var a8765: i; var a8766: i; var a8767: i; var a8768: i; var a8769: i; var a8770: i; var a8771: i; var a8772: i; var a8773: i; var a8774: i; var a8775: i; var a8776: i; var a8777: i; var a8778: i; var a8779: i; var a8780: i; var a8781: i; var a8782: i; var a8783: i; var a8784: i; var a8785: i; var a8786: i; var a8787: i; var a8788: i; var a8789: i; var a8790: i; var a8791: i; var a8792: i; var a8793: i; var a8794: i; var a8795: i; var a8796: i; var a8797: i; var a8798: i; var a8799: i; var a8800: i; var a8801: i; var a8802: i; var a8803: i; var a8804: i; var a8805: i; var a8806: i; var a8807: i; var a8808: i; var a8809: i; var a8810: i; var a8811: i; var a8812: i; var a8813: i; var a8814: i; var a8815: i; var a8816: i; var a8817: i; var a8818: i; var a8819: i; var a8820: i; var a8821: i; var a8822: i; var a8823: i; var a8824: i; var a8825: i; var a8826: i; var a8827: i; var a8828: i; var a8829: i; var a8830: i; var a8831: i; var a8832: i; var a8833: i; var a8834: i; var a8835: i; var a8836: i; var a8837: i; var a8838: i; var a8839: i; var a8840: i; var a8841: i; var a8842: i; var a8843: i; var a8844: i; var a8845: i; var a8846: i; var a8847: i; var a8848: i; var a8849: i; var a8850: i; var a8851: i; var a8852: i; var a8853: i; var a8854: i; var a8855: i; var a8856: i; var a8857: i; var a8858: i; var a8859: i; var a8860: i; var a8861: i; var a8862: i; var a8863: i; var a8864: i; var a8865: i; var a8866: i; var a8867: i; var a8868: i; var a8869: i; var a8870: i; var a8871: i; var a8872: i; var a8873: i; var a8874: i; var a8875: i; var a8876: i; var a8877: i; var a8878: i; var a8879: i; var a8880: i; var a8881: i; var a8882: i; var a8883: i; var a8884: i; var a8885: i; var a8886: i; var a8887: i; var a8888: i; var a8889: i; var a8890: i; var a8891: i; var a8892: i; var a8893: i; var a8894: i; var a8895: i; var a8896: i; var a8897: i; var a8898: i; var a8899: i; var a8900: i; var a8901: i; var a8902: i; var a8903: i; var a8904: i; var a8905: i; var a8906: i; var a8907: i; var a8908: i; var a8909: i; var a8910: i; var a8911: i; var a8912: i; var a8913: i; var a8914: i; var a8915: i; var a8916: i; var a8917: i; var a8918: i; var a8919: i; var a8920: i; var a8921: i; var a8922: i; var a8923: i; var a8924: i; var a8925: i; var a8926: i; var a8927: i; var a8928: i; var a8929: i; var a8930: i; var a8931: i; var a8932: i; var a8933: i; var a8934: i; var a8935: i; var a8936: i; var a8937: i; var a8938: i; var a8939: i; var a8940: i; var a8941: i; var a8942: i; var a8943: i; var a8944: i; var a8945: i; var a8946: i; var a8947: i; var a8948: i; var a8949: i; var a8950: i; var a8951: i; var a8952: i; var a8953: i; var a8954: i; var a8955: i; var a8956: i; var a8957: i; var a8958: i; var a8959: i; var a8960: i; var a8961: i; var a8962: i; var a8963: i; var a8964: i; var a8965: i; var a8966: i; var a8967: i; var a8968: i; var a8969: i; var a8970: i; var a8971: i; var a8972: i; var a8973: i; var a8974: i; var a8975: i; var a8976: i; var a8977: i; var a8978: i; var a8979: i; var a8980: i; var a8981: i; var a8982: i; var a8983: i; var a8984: i; var a8985: i; var a8986: i; var a8987: i; var a8988: i; var a8989: i; var a8990: i; var a8991: i; var a8992: i; var a8993: i; var a8994: i; var a8995: i; var a8996: i; var a8997: i; var a8998: i; var a8999: i; var a9000: i; var a9001: i; var a9002: i; var a9003: i; var a9004: i; var a9005: i; var a9006: i; var a9007: i; var a9008: i; var a9009: i; var a9010: i; var a9011: i; var a9012: i; var a9013: i; var a9014: i; var a9015: i; var a9016: i; var a9017: i; var a9018: i; var a9019: i; var a9020: i; var a9021: i; var a9022: i; var a9023: i; var a9024: i; var a9025: i; var a9026: i; var a9027: i; var a9028: i; var a9029: i; var a9030: i; var a9031: i; var a9032: i; var a9033: i; var a9034: i; var a9035: i; var a9036: i; var a9037: i; var a9038: i; var a9039: i; var a9040: i; var a9041: i; var a9042: i; var a9043: i; var a9044: i; var a9045: i; var a9046: i; var a9047: i; var a9048: i; var a9049: i; var a9050: i; var a9051: i; var a9052: i; var a9053: i; var a9054: i; var a9055: i; var a9056: i; var a9057: i; var a9058: i; var a9059: i; var a9060: i; var a9061: i; var a9062: i; var a9063: i; var a9064: i; var a9065: i; var a9066: i; var a9067: i; var a9068: i; var a9069: i; var a9070: i; var a9071: i; var a9072: i; var a9073: i; var a9074: i; var a9075: i; var a9076: i; var a9077: i; var a9078: i; var a9079: i; var a9080: i; var a9081: i; var a9082: i; var a9083: i; var a9084: i; var a9085: i; var a9086: i; var a9087: i; var a9088: i; var a9089: i; var a9090: i; var a9091: i; var a9092: i; var a9093: i; var a9094: i; var a9095: i; var a9096: i; var a9097: i; var a9098: i; var a9099: i; var a9100: i; var a9101: i; var a9102: i; var a9103: i; var a9104: i; var a9105: i; var a9106: i; var a9107: i; var a9108: i; var a9109: i; var a9110: i; var a9111: i; var a9112: i; var a9113: i; var a9114: i; var a9115: i; var a9116: i; var a9117: i; var a9118: i; var a9119: i; var a9120: i; var a9121: i; var a9122: i; var a9123: i; var a9124: i; var a9125: i; var a9126: i; var a9127: i; var a9128: i; var a9129: i; var a9130: i; var a9131: i; var a9132: i; var a9133: i; var a9134: i; var a9135: i; var a9136: i; var a9137: i; var a9138: i; var a9139: i; var a9140: i; var a9141: i; var a9142: i; var a9143: i; var a9144: i; var a9145: i; var a9146: i; var a9147: i; var a9148: i; var a9149: i; var a9150: i; var a9151: i; var a9152: i; var a9153: i; var a9154: i; var a9155: i; var a9156: i; var a9157: i; var a9158: i; var a9159: i; var a9160: i; var a9161: i; var a9162: i; var a9163: i; var a9164: i; var a9165: i; var a9166: i; var a9167: i; var a9168: i; var a9169: i; var a9170: i; var a9171: i; var a9172: i; var a9173: i; var a9174: i; var a9175: i; var a9176: i; var a9177: i; var a9178: i; var a9179: i; var a9180: i; var a9181: i; var a9182: i; var a9183: i; var a9184: i; var a9185: i; var a9186: i; var a9187: i; var a9188: i; var a9189: i; var a9190: i; var a9191: i; var a9192: i; var a9193: i; var a9194: i; var a9195: i; var a9196: i; var a9197: i; var a9198: i; var a9199: i; var a9200: i; var a9201: i; var a9202: i; var a9203: i; var a9204: i; var a9205: i; var a9206: i; var a9207: i; var a9208: i; var a9209: i; var a9210: i; var a9211: i; var a9212: i; var a9213: i; var a9214: i; var a9215: i; var a9216: i; var a9217: i; var a9218: i; var a9219: i; var a9220: i; var a9221: i; var a9222: i; var a9223: i; var a9224: i; var a9225: i; var a9226: i; var a9227: i; var a9228: i; var a9229: i; var a9230: i; var a9231: i; var a9232: i; var a9233: i; var a9234: i; var a9235: i; var a9236: i; var a9237: i; var a9238: i; var a9239: i; var a9240: i; var a9241: i; var a9242: i; var a9243: i; var a9244: i; var a9245: i; var a9246: i; var a9247: i; var a9248: i; var a9249: i; var a9250: i; var a9251: i; var a9252: i; var a9253: i; var a9254: i; var a9255: i; var a9256: i; var a9257: i; var a9258: i; var a9259: i; var a9260: i; var a9261: i; var a9262: i; var a9263: i; var a9264: i; var a9265: i; var a9266: i; var a9267: i; var a9268: i; var a9269: i; var a9270: i; var a9271: i; var a9272: i; var a9273: i; var a9274: i; var a9275: i; var a9276: i; var a9277: i; var a9278: i; var a9279: i; var a9280: i; var a9281: i; var a9282: i; var a9283: i; var a9284: i; var a9285: i; var a9286: i; var a9287: i; var a9288: i; var a9289: i; var a9290: i; var a9291: i; var a9292: i; var a9293: i; var a9294: i; var a9295: i; var a9296: i; var a9297: i; var a9298: i; var a9299: i; var a9300: i; var a9301: i; var a9302: i; var a9303: i; var a9304: i; var a9305: i; var a9306: i; var a9307: i; var a9308: i; var a9309: i; var a9310: i; var a9311: i; var a9312: i; var a9313: i; var a9314: i; var a9315: i; var a9316: i; var a9317: i; var a9318: i; var a9319: i; var a9320: i; var a9321: i; var a9322: i; var a9323: i; var a9324: i; var a9325: i; var a9326: i; var a9327: i; var a9328: i; var a9329: i; var a9330: i; var a9331: i; var a9332: i; var a9333: i; var a9334: i; var a9335: i; var a9336: i; var a9337: i; var a9338: i; var a9339: i; var a9340: i; var a9341: i; var a9342: i; var a9343: i; var a9344: i; var a9345: i; var a9346: i; var a9347: i; var a9348: i; var a9349: i; var a9350: i; var a9351: i; var a9352: i; var a9353: i; var a9354: i; var a9355: i; var a9356: i; var a9357: i; var a9358: i; var a9359: i; var a9360: i; var a9361: i; var a9362: i; var a9363: i; var a9364: i; var a9365: i; var a9366: i; var a9367: i; var a9368: i; var a9369: i; var a9370: i; var a9371: i; var a9372: i; var a9373: i; var a9374: i; var a9375: i; var a9376: i; var a9377: i; var a9378: i; var a9379: i; var a9380: i; var a9381: i; var a9382: i; var a9383: i; var a9384: i; var a9385: i; var a9386: i; var a9387: i; var a9388: i; var a9389: i; var a9390: i; var a9391: i; var a9392: i; var a9393: i; var a9394: i; var a9395: i; var a9396: i; var a9397: i; var a9398: i; var a9399: i; var a9400: i; var a9401: i; var a9402: i; var a9403: i; var a9404: i; var a9405: i; var a9406: i; var a9407: i; var a9408: i; var a9409: i; var a9410: i; var a9411: i; var a9412: i; var a9413: i; var a9414: i; var a9415: i; var a9416: i; var a9417: i; var a9418: i; var a9419: i; var a9420: i; var a9421: i; var a9422: i; var a9423: i; var a9424: i; var a9425: i; var a9426: i; var a9427: i; var a9428: i; var a9429: i; var a9430: i; var a9431: i; var a9432: i; var a9433: i; var a9434: i; var a9435: i; var a9436: i; var a9437: i; var a9438: i; var a9439: i; var a9440: i; var a9441: i; var a9442: i; var a9443: i; var a9444: i; var a9445: i; var a9446: i; var a9447: i; var a9448: i; var a9449: i; var a9450: i; var a9451: i; var a9452: i; var a9453: i; var a9454: i; var a9455: i; var a9456: i; var a9457: i; var a9458: i; var a9459: i; var a9460: i; var a9461: i; var a9462: i; var a9463: i; var a9464: i; var a9465: i; var a9466: i; var a9467: i; var a9468: i; var a9469: i; var a9470: i; var a9471: i; var a9472: i; var a9473: i; var a9474: i; var a9475: i; var a9476: i; var a9477: i; var a9478: i; var a9479: i; var a9480: i; var a9481: i; var a9482: i; var a9483: i; var a9484: i; var a9485: i; var a9486: i; var a9487: i; var a9488: i; var a9489: i; var a9490: i; var a9491: i; var a9492: i; var a9493: i; var a9494: i; var a9495: i; var a9496: i; var a9497: i; var a9498: i; var a9499: i; var a9500: i; var a9501: i; var a9502: i; var a9503: i; var a9504: i; var a9505: i; var a9506: i; var a9507: i; var a9508: i; var a9509: i; var a9510: i; var a9511: i; var a9512: i; var a9513: i; var a9514: i; var a9515: i; var a9516: i; var a9517: i; var a9518: i; var a9519: i; var a9520: i; var a9521: i; var a9522: i; var a9523: i; var a9524: i; var a9525: i; var a9526: i; var a9527: i; var a9528: i; var a9529: i; var a9530: i; var a9531: i; var a9532: i; var a9533: i; var a9534: i; var a9535: i; var a9536: i; var a9537: i; var a9538: i; var a9539: i; var a9540: i; var a9541: i; var a9542: i; var a9543: i; var a9544: i; var a9545: i; var a9546: i; var a9547: i; var a9548: i; var a9549: i; var a9550: i; var a9551: i; var a9552: i; var a9553: i; var a9554: i; var a9555: i; var a9556: i; var a9557: i; var a9558: i; var a9559: i; var a9560: i; var a9561: i; var a9562: i; var a9563: i; var a9564: i; var a9565: i; var a9566: i; var a9567: i; var a9568: i; var a9569: i; var a9570: i; var a9571: i; var a9572: i; var a9573: i; var a9574: i; var a9575: i; var a9576: i; var a9577: i; var a9578: i; var a9579: i; var a9580: i; var a9581: i; var a9582: i; var a9583: i; var a9584: i; var a9585: i; var a9586: i; var a9587: i; var a9588: i; var a9589: i; var a9590: i; var a9591: i; var a9592: i; var a9593: i; var a9594: i; var a9595: i; var a9596: i; var a9597: i; var a9598: i; var a9599: i; var a9600: i; var a9601: i; var a9602: i; var a9603: i; var a9604: i; var a9605: i; var a9606: i; var a9607: i; var a9608: i; var a9609: i; var a9610: i; var a9611: i; var a9612: i; var a9613: i; var a9614: i; var a9615: i; var a9616: i; var a9617: i; var a9618: i; var a9619: i; var a9620: i; var a9621: i; var a9622: i; var a9623: i; var a9624: i; var a9625: i; var a9626: i; var a9627: i; var a9628: i; var a9629: i; var a9630: i; var a9631: i; var a9632: i; var a9633: i; var a9634: i; var a9635: i; var a9636: i; var a9637: i; var a9638: i; var a9639: i; var a9640: i; var a9641: i; var a9642: i; var a9643: i; var a9644: i; var a9645: i; var a9646: i; var a9647: i; var a9648: i; var a9649: i; var a9650: i; var a9651: i; var a9652: i; var a9653: i; var a9654: i; var a9655: i; var a9656: i; var a9657: i; var a9658: i; var a9659: i; var a9660: i; var a9661: i; var a9662: i; var a9663: i; var a9664: i; var a9665: i; var a9666: i; var a9667: i; var a9668: i; var a9669: i; var a9670: i; var a9671: i; var a9672: i; var a9673: i; var a9674: i; var a9675: i; var a9676: i; var a9677: i; var a9678: i; var a9679: i; var a9680: i; var a9681: i; var a9682: i; var a9683: i; var a9684: i; var a9685: i; var a9686: i; var a9687: i; var a9688: i; var a9689: i; var a9690: i; var a9691: i; var a9692: i; var a9693: i; var a9694: i; var a9695: i; var a9696: i; var a9697: i; var a9698: i; var a9699: i; var a9700: i; var a9701: i; var a9702: i; var a9703: i; var a9704: i; var a9705: i; var a9706: i; var a9707: i; var a9708: i; var a9709: i; var a9710: i; var a9711: i; var a9712: i; var a9713: i; var a9714: i; var a9715: i; var a9716: i; var a9717: i; var a9718: i; var a9719: i; var a9720: i; var a9721: i; var a9722: i; var a9723: i; var a9724: i; var a9725: i; var a9726: i; var a9727: i; var a9728: i; var a9729: i; var a9730: i; var a9731: i; var a9732: i; var a9733: i; var a9734: i; var a9735: i; var a9736: i; var a9737: i; var a9738: i; var a9739: i; var a9740: i; var a9741: i; var a9742: i; var a9743: i; var a9744: i; var a9745: i; var a9746: i; var a9747: i; var a9748: i; var a9749: i; var a9750: i; var a9751: i; var a9752: i; var a9753: i; var a9754: i; var a9755: i; var a9756: i; var a9757: i; var a9758: i; var a9759: i; var a9760: i; var a9761: i; var a9762: i; var a9763: i; var a9764: i; var a9765: i; var a9766: i; var a9767: i; var a9768: i; var a9769: i; var a9770: i; var a9771: i; var a9772: i; var a9773: i; var a9774: i; var a9775: i; var a9776: i; var a9777: i; var a9778: i; var a9779: i; var a9780: i; var a9781: i; var a9782: i; var a9783: i; var a9784: i; var a9785: i; var a9786: i; var a9787: i; var a9788: i; var a9789: i; var a9790: i; var a9791: i; var a9792: i; var a9793: i; var a9794: i; var a9795: i; var a9796: i; var a9797: i; var a9798: i; var a9799: i; var a9800: i; var a9801: i; var a9802: i; var a9803: i; var a9804: i; var a9805: i; var a9806: i; var a9807: i; var a9808: i; var a9809: i; var a9810: i; var a9811: i; var a9812: i; var a9813: i; var a9814: i; var a9815: i; var a9816: i; var a9817: i; var a9818: i; var a9819: i; var a9820: i; var a9821: i; var a9822: i; var a9823: i; var a9824: i; var a9825: i; var a9826: i; var a9827: i; var a9828: i; var a9829: i; var a9830: i; var a9831: i; var a9832: i; var a9833: i; var a9834: i; var a9835: i; var a9836: i; var a9837: i; var a9838: i; var a9839: i; var a9840: i; var a9841: i; var a9842: i; var a9843: i; var a9844: i; var a9845: i; var a9846: i; var a9847: i; var a9848: i; var a9849: i; var a9850: i; var a9851: i; var a9852: i; var a9853: i; var a9854: i; var a9855: i; var a9856: i; var a9857: i; var a9858: i; var a9859: i; var a9860: i; var a9861: i; var a9862: i; var a9863: i; var a9864: i; var a9865: i; var a9866: i; var a9867: i; var a9868: i; var a9869: i; var a9870: i; var a9871: i; var a9872: i; var a9873: i; var a9874: i; var a9875: i; var a9876: i; var a9877: i; var a9878: i; var a9879: i; var a9880: i; var a9881: i; var a9882: i; var a9883: i; var a9884: i; var a9885: i; var a9886: i; var a9887: i; var a9888: i; var a9889: i; var a9890: i; var a9891: i; var a9892: i; var a9893: i; var a9894: i; var a9895: i; var a9896: i; var a9897: i; var a9898: i; var a9899: i; var a9900: i; var a9901: i; var a9902: i; var a9903: i; var a9904: i; var a9905: i; var a9906: i; var a9907: i; var a9908: i; var a9909: i; var a9910: i; var a9911: i; var a9912: i; var a9913: i; var a9914: i; var a9915: i; var a9916: i; var a9917: i; var a9918: i; var a9919: i; var a9920: i; var a9921: i; var a9922: i; var a9923: i; var a9924: i; var a9925: i; var a9926: i; var a9927: i; var a9928: i; var a9929: i; var a9930: i; var a9931: i; var a9932: i; var a9933: i; var a9934: i; var a9935: i; var a9936: i; var a9937: i; var a9938: i; var a9939: i; var a9940: i; var a9941: i; var a9942: i; var a9943: i; var a9944: i; var a9945: i; var a9946: i; var a9947: i; var a9948: i; var a9949: i; var a9950: i; var a9951: i; var a9952: i; var a9953: i; var a9954: i; var a9955: i; var a9956: i; var a9957: i; var a9958: i; var a9959: i; var a9960: i; var a9961: i; var a9962: i; var a9963: i; var a9964: i; var a9965: i; var a9966: i; var a9967: i; var a9968: i; var a9969: i; var a9970: i; var a9971: i; var a9972: i; var a9973: i; var a9974: i; var a9975: i; var a9976: i; var a9977: i; var a9978: i; var a9979: i; var a9980: i; var a9981: i; var a9982: i; var a9983: i; var a9984: i; var a9985: i; var a9986: i; var a9987: i; var a9988: i; var a9989: i; var a9990: i; var a9991: i; var a9992: i; var a9993: i; var a9994: i; var a9995: i; var a9996: i; var a9997: i; var a9998: i; var a9999: i; var z: i }
+!expected:
+2
+!end
+
+!code:
+fun f(a0: integer, a1: integer, a2: integer, a3: integer, a4: integer, a5: integer, a6: integer, a7: integer, a8: integer, a9: integer, a10: integer, a11: integer, a12: integer, a13: integer, a14: integer, a15: integer, a16: integer, a17: integer, a18: integer, a19: integer, a20: integer, a21: integer, a22: integer, a23: integer, a24: integer, a25: integer, a26: integer, a27: integer, a28: integer, a29: integer, a30: integer, a31: integer, a32: integer, a33: integer, a34: integer, a35: integer, a36: integer, a37: integer, a38: integer, a39: integer, a40: integer, a41: integer, a42: integer, a43: integer, a44: integer, a45: integer, a46: integer, a47: integer, a48: integer, a49: integer, a50: integer, a51: integer, a52: integer, a53: integer, a54: integer, a55: integer, a56: integer, a57: integer, a58: integer, a59: integer, a60: integer, a61: integer, a62: integer, a63: integer, a64: integer, a65: integer, a66: integer, a67: integer, a68: integer, a69: integer, a70: integer, a71: integer, a72: integer, a73: integer, a74: integer, a75: integer, a76: integer, a77: integer, a78: integer, a79: integer, a80: integer, a81: integer, a82: integer, a83: integer, a84: integer, a85: integer, a86: integer, a87: integer, a88: integer, a89: integer, a90: integer, a91: integer, a92: integer, a93: integer, a94: integer, a95: integer, a96: integer, a97: integer, a98: integer, a99: integer, a100: integer, a101: integer, a102: integer, a103: integer, a104: integer, a105: integer, a106: integer, a107: integer, a108: integer, a109: integer, a110: integer, a111: integer, a112: integer, a113: integer, a114: integer, a115: integer, a116: integer, a117: integer, a118: integer, a119: integer, a120: integer, a121: integer, a122: integer, a123: integer, a124: integer, a125: integer, a126: integer, a127: integer, a128: integer, a129: integer, a130: integer, a131: integer, a132: integer, a133: integer, a134: integer, a135: integer, a136: integer, a137: integer, a138: integer, a139: integer, a140: integer, a141: integer, a142: integer, a143: integer, a144: integer, a145: integer, a146: integer, a147: integer, a148: integer, a149: integer, a150: integer, a151: integer, a152: integer, a153: integer, a154: integer, a155: integer, a156: integer, a157: integer, a158: integer, a159: integer, a160: integer, a161: integer, a162: integer, a163: integer, a164: integer, a165: integer, a166: integer, a167: integer, a168: integer, a169: integer, a170: integer, a171: integer, a172: integer, a173: integer, a174: integer, a175: integer, a176: integer, a177: integer, a178: integer, a179: integer, a180: integer, a181: integer, a182: integer, a183: integer, a184: integer, a185: integer, a186: integer, a187: integer, a188: integer, a189: integer, a190: integer, a191: integer, a192: integer, a193: integer, a194: integer, a195: integer, a196: integer, a197: integer, a198: integer, a199: integer, a200: integer, a201: integer, a202: integer, a203: integer, a204: integer, a205: integer, a206: integer, a207: integer, a208: integer, a209: integer, a210: integer, a211: integer, a212: integer, a213: integer, a214: integer, a215: integer, a216: integer, a217: integer, a218: integer, a219: integer, a220: integer, a221: integer, a222: integer, a223: integer, a224: integer, a225: integer, a226: integer, a227: integer, a228: integer, a229: integer, a230: integer, a231: integer, a232: integer, a233: integer, a234: integer, a235: integer, a236: integer, a237: integer, a238: integer, a239: integer, a240: integer, a241: integer, a242: integer, a243: integer, a244: integer, a245: integer, a246: integer, a247: integer, a248: integer, a249: integer, a250: integer, a251: integer, a252: integer, a253: integer, a254: integer, a255: integer, a256: integer, a257: integer, a258: integer, a259: integer, a260: integer, a261: integer, a262: integer, a263: integer, a264: integer, a265: integer, a266: integer, a267: integer, a268: integer, a269: integer, a270: integer, a271: integer, a272: integer, a273: integer, a274: integer, a275: integer, a276: integer, a277: integer, a278: integer, a279: integer, a280: integer, a281: integer, a282: integer, a283: integer, a284: integer, a285: integer, a286: integer, a287: integer, a288: integer, a289: integer, a290: integer, a291: integer, a292: integer, a293: integer, a294: integer, a295: integer, a296: integer, a297: integer, a298: integer, a299: integer, a300: integer, a301: integer, a302: integer, a303: integer, a304: integer, a305: integer, a306: integer, a307: integer, a308: integer, a309: integer, a310: integer, a311: integer, a312: integer, a313: integer, a314: integer, a315: integer, a316: integer, a317: integer, a318: integer, a319: integer, a320: integer, a321: integer, a322: integer, a323: integer, a324: integer, a325: integer, a326: integer, a327: integer, a328: integer, a329: integer, a330: integer, a331: integer, a332: integer, a333: integer, a334: integer, a335: integer, a336: integer, a337: integer, a338: integer, a339: integer, a340: integer, a341: integer, a342: integer, a343: integer, a344: integer, a345: integer, a346: integer, a347: integer, a348: integer, a349: integer, a350: integer, a351: integer, a352: integer, a353: integer, a354: integer, a355: integer, a356: integer, a357: integer, a358: integer, a359: integer, a360: integer, a361: integer, a362: integer, a363: integer, a364: integer, a365: integer, a366: integer, a367: integer, a368: integer, a369: integer, a370: integer, a371: integer, a372: integer, a373: integer, a374: integer, a375: integer, a376: integer, a377: integer, a378: integer, a379: integer, a380: integer, a381: integer, a382: integer, a383: integer, a384: integer, a385: integer, a386: integer, a387: integer, a388: integer, a389: integer, a390: integer, a391: integer, a392: integer, a393: integer, a394: integer, a395: integer, a396: integer, a397: integer, a398: integer, a399: integer, a400: integer, a401: integer, a402: integer, a403: integer, a404: integer, a405: integer, a406: integer, a407: integer, a408: integer, a409: integer, a410: integer, a411: integer, a412: integer, a413: integer, a414: integer, a415: integer, a416: integer, a417: integer, a418: integer, a419: integer, a420: integer, a421: integer, a422: integer, a423: integer, a424: integer, a425: integer, a426: integer, a427: integer, a428: integer, a429: integer, a430: integer, a431: integer, a432: integer, a433: integer, a434: integer, a435: integer, a436: integer, a437: integer, a438: integer, a439: integer, a440: integer, a441: integer, a442: integer, a443: integer, a444: integer, a445: integer, a446: integer, a447: integer, a448: integer, a449: integer, a450: integer, a451: integer, a452: integer, a453: integer, a454: integer, a455: integer, a456: integer, a457: integer, a458: integer, a459: integer, a460: integer, a461: integer, a462: integer, a463: integer, a464: integer, a465: integer, a466: integer, a467: integer, a468: integer, a469: integer, a470: integer, a471: integer, a472: integer, a473: integer, a474: integer, a475: integer, a476: integer, a477: integer, a478: integer, a479: integer, a480: integer, a481: integer, a482: integer, a483: integer, a484: integer, a485: integer, a486: integer, a487: integer, a488: integer, a489: integer, a490: integer, a491: integer, a492: integer, a493: integer, a494: integer, a495: integer, a496: integer, a497: integer, a498: integer, a499: integer, a500: integer, a501: integer, a502: integer, a503: integer, a504: integer, a505: integer, a506: integer, a507: integer, a508: integer, a509: integer, a510: integer, a511: integer, a512: integer, a513: integer, a514: integer, a515: integer, a516: integer, a517: integer, a518: integer, a519: integer, a520: integer, a521: integer, a522: integer, a523: integer, a524: integer, a525: integer, a526: integer, a527: integer, a528: integer, a529: integer, a530: integer, a531: integer, a532: integer, a533: integer, a534: integer, a535: integer, a536: integer, a537: integer, a538: integer, a539: integer, a540: integer, a541: integer, a542: integer, a543: integer, a544: integer, a545: integer, a546: integer, a547: integer, a548: integer, a549: integer, a550: integer, a551: integer, a552: integer, a553: integer, a554: integer, a555: integer, a556: integer, a557: integer, a558: integer, a559: integer, a560: integer, a561: integer, a562: integer, a563: integer, a564: integer, a565: integer, a566: integer, a567: integer, a568: integer, a569: integer, a570: integer, a571: integer, a572: integer, a573: integer, a574: integer, a575: integer, a576: integer, a577: integer, a578: integer, a579: integer, a580: integer, a581: integer, a582: integer, a583: integer, a584: integer, a585: integer, a586: integer, a587: integer, a588: integer, a589: integer, a590: integer, a591: integer, a592: integer, a593: integer, a594: integer, a595: integer, a596: integer, a597: integer, a598: integer, a599: integer, a600: integer, a601: integer, a602: integer, a603: integer, a604: integer, a605: integer, a606: integer, a607: integer, a608: integer, a609: integer, a610: integer, a611: integer, a612: integer, a613: integer, a614: integer, a615: integer, a616: integer, a617: integer, a618: integer, a619: integer, a620: integer, a621: integer, a622: integer, a623: integer, a624: integer, a625: integer, a626: integer, a627: integer, a628: integer, a629: integer, a630: integer, a631: integer, a632: integer, a633: integer, a634: integer, a635: integer, a636: integer, a637: integer, a638: integer, a639: integer, a640: integer, a641: integer, a642: integer, a643: integer, a644: integer, a645: integer, a646: integer, a647: integer, a648: integer, a649: integer, a650: integer, a651: integer, a652: integer, a653: integer, a654: integer, a655: integer, a656: integer, a657: integer, a658: integer, a659: integer, a660: integer, a661: integer, a662: integer, a663: integer, a664: integer, a665: integer, a666: integer, a667: integer, a668: integer, a669: integer, a670: integer, a671: integer, a672: integer, a673: integer, a674: integer, a675: integer, a676: integer, a677: integer, a678: integer, a679: integer, a680: integer, a681: integer, a682: integer, a683: integer, a684: integer, a685: integer, a686: integer, a687: integer, a688: integer, a689: integer, a690: integer, a691: integer, a692: integer, a693: integer, a694: integer, a695: integer, a696: integer, a697: integer, a698: integer, a699: integer, a700: integer, a701: integer, a702: integer, a703: integer, a704: integer, a705: integer, a706: integer, a707: integer, a708: integer, a709: integer, a710: integer, a711: integer, a712: integer, a713: integer, a714: integer, a715: integer, a716: integer, a717: integer, a718: integer, a719: integer, a720: integer, a721: integer, a722: integer, a723: integer, a724: integer, a725: integer, a726: integer, a727: integer, a728: integer, a729: integer, a730: integer, a731: integer, a732: integer, a733: integer, a734: integer, a735: integer, a736: integer, a737: integer, a738: integer, a739: integer, a740: integer, a741: integer, a742: integer, a743: integer, a744: integer, a745: integer, a746: integer, a747: integer, a748: integer, a749: integer, a750: integer, a751: integer, a752: integer, a753: integer, a754: integer, a755: integer, a756: integer, a757: integer, a758: integer, a759: integer, a760: integer, a761: integer, a762: integer, a763: integer, a764: integer, a765: integer, a766: integer, a767: integer, a768: integer, a769: integer, a770: integer, a771: integer, a772: integer, a773: integer, a774: integer, a775: integer, a776: integer, a777: integer, a778: integer, a779: integer, a780: integer, a781: integer, a782: integer, a783: integer, a784: integer, a785: integer, a786: integer, a787: integer, a788: integer, a789: integer, a790: integer, a791: integer, a792: integer, a793: integer, a794: integer, a795: integer, a796: integer, a797: integer, a798: integer, a799: integer, a800: integer, a801: integer, a802: integer, a803: integer, a804: integer, a805: integer, a806: integer, a807: integer, a808: integer, a809: integer, a810: integer, a811: integer, a812: integer, a813: integer, a814: integer, a815: integer, a816: integer, a817: integer, a818: integer, a819: integer, a820: integer, a821: integer, a822: integer, a823: integer, a824: integer, a825: integer, a826: integer, a827: integer, a828: integer, a829: integer, a830: integer, a831: integer, a832: integer, a833: integer, a834: integer, a835: integer, a836: integer, a837: integer, a838: integer, a839: integer, a840: integer, a841: integer, a842: integer, a843: integer, a844: integer, a845: integer, a846: integer, a847: integer, a848: integer, a849: integer, a850: integer, a851: integer, a852: integer, a853: integer, a854: integer, a855: integer, a856: integer, a857: integer, a858: integer, a859: integer, a860: integer, a861: integer, a862: integer, a863: integer, a864: integer, a865: integer, a866: integer, a867: integer, a868: integer, a869: integer, a870: integer, a871: integer, a872: integer, a873: integer, a874: integer, a875: integer, a876: integer, a877: integer, a878: integer, a879: integer, a880: integer, a881: integer, a882: integer, a883: integer, a884: integer, a885: integer, a886: integer, a887: integer, a888: integer, a889: integer, a890: integer, a891: integer, a892: integer, a893: integer, a894: integer, a895: integer, a896: integer, a897: integer, a898: integer, a899: integer, a900: integer, a901: integer, a902: integer, a903: integer, a904: integer, a905: integer, a906: integer, a907: integer, a908: integer, a909: integer, a910: integer, a911: integer, a912: integer, a913: integer, a914: integer, a915: integer, a916: integer, a917: integer, a918: integer, a919: integer, a920: integer, a921: integer, a922: integer, a923: integer, a924: integer, a925: integer, a926: integer, a927: integer, a928: integer, a929: integer, a930: integer, a931: integer, a932: integer, a933: integer, a934: integer, a935: integer, a936: integer, a937: integer, a938: integer, a939: integer, a940: integer, a941: integer, a942: integer, a943: integer, a944: integer, a945: integer, a946: integer, a947: integer, a948: integer, a949: integer, a950: integer, a951: integer, a952: integer, a953: integer, a954: integer, a955: integer, a956: integer, a957: integer, a958: integer, a959: integer, a960: integer, a961: integer, a962: integer, a963: integer, a964: integer, a965: integer, a966: integer, a967: integer, a968: integer, a969: integer, a970: integer, a971: integer, a972: integer, a973: integer, a974: integer, a975: integer, a976: integer, a977: integer, a978: integer, a979: integer, a980: integer, a981: integer, a982: integer, a983: integer, a984: integer, a985: integer, a986: integer, a987: integer, a988: integer, a989: integer, a990: integer, a991: integer, a992: integer, a993: integer, a994: integer, a995: integer, a996: integer, a997: integer, a998: integer, a999: integer, a1000: integer, a1001: integer, a1002: integer, a1003: integer, a1004: integer, a1005: integer, a1006: integer, a1007: integer, a1008: integer, a1009: integer, a1010: integer, a1011: integer, a1012: integer, a1013: integer, a1014: integer, a1015: integer, a1016: integer, a1017: integer, a1018: integer, a1019: integer, a1020: integer, a1021: integer, a1022: integer, a1023: integer, a1024: integer, a1025: integer, a1026: integer, a1027: integer, a1028: integer, a1029: integer, a1030: integer, a1031: integer, a1032: integer, a1033: integer, a1034: integer, a1035: integer, a1036: integer, a1037: integer, a1038: integer, a1039: integer, a1040: integer, a1041: integer, a1042: integer, a1043: integer, a1044: integer, a1045: integer, a1046: integer, a1047: integer, a1048: integer, a1049: integer, a1050: integer, a1051: integer, a1052: integer, a1053: integer, a1054: integer, a1055: integer, a1056: integer, a1057: integer, a1058: integer, a1059: integer, a1060: integer, a1061: integer, a1062: integer, a1063: integer, a1064: integer, a1065: integer, a1066: integer, a1067: integer, a1068: integer, a1069: integer, a1070: integer, a1071: integer, a1072: integer, a1073: integer, a1074: integer, a1075: integer, a1076: integer, a1077: integer, a1078: integer, a1079: integer, a1080: integer, a1081: integer, a1082: integer, a1083: integer, a1084: integer, a1085: integer, a1086: integer, a1087: integer, a1088: integer, a1089: integer, a1090: integer, a1091: integer, a1092: integer, a1093: integer, a1094: integer, a1095: integer, a1096: integer, a1097: integer, a1098: integer, a1099: integer, a1100: integer, a1101: integer, a1102: integer, a1103: integer, a1104: integer, a1105: integer, a1106: integer, a1107: integer, a1108: integer, a1109: integer, a1110: integer, a1111: integer, a1112: integer, a1113: integer, a1114: integer, a1115: integer, a1116: integer, a1117: integer, a1118: integer, a1119: integer, a1120: integer, a1121: integer, a1122: integer, a1123: integer, a1124: integer, a1125: integer, a1126: integer, a1127: integer, a1128: integer, a1129: integer, a1130: integer, a1131: integer, a1132: integer, a1133: integer, a1134: integer, a1135: integer, a1136: integer, a1137: integer, a1138: integer, a1139: integer, a1140: integer, a1141: integer, a1142: integer, a1143: integer, a1144: integer, a1145: integer, a1146: integer, a1147: integer, a1148: integer, a1149: integer, a1150: integer, a1151: integer, a1152: integer, a1153: integer, a1154: integer, a1155: integer, a1156: integer, a1157: integer, a1158: integer, a1159: integer, a1160: integer, a1161: integer, a1162: integer, a1163: integer, a1164: integer, a1165: integer, a1166: integer, a1167: integer, a1168: integer, a1169: integer, a1170: integer, a1171: integer, a1172: integer, a1173: integer, a1174: integer, a1175: integer, a1176: integer, a1177: integer, a1178: integer, a1179: integer, a1180: integer, a1181: integer, a1182: integer, a1183: integer, a1184: integer, a1185: integer, a1186: integer, a1187: integer, a1188: integer, a1189: integer, a1190: integer, a1191: integer, a1192: integer, a1193: integer, a1194: integer, a1195: integer, a1196: integer, a1197: integer, a1198: integer, a1199: integer, a1200: integer, a1201: integer, a1202: integer, a1203: integer, a1204: integer, a1205: integer, a1206: integer, a1207: integer, a1208: integer, a1209: integer, a1210: integer, a1211: integer, a1212: integer, a1213: integer, a1214: integer, a1215: integer, a1216: integer, a1217: integer, a1218: integer, a1219: integer, a1220: integer, a1221: integer, a1222: integer, a1223: integer, a1224: integer, a1225: integer, a1226: integer, a1227: integer, a1228: integer, a1229: integer, a1230: integer, a1231: integer, a1232: integer, a1233: integer, a1234: integer, a1235: integer, a1236: integer, a1237: integer, a1238: integer, a1239: integer, a1240: integer, a1241: integer, a1242: integer, a1243: integer, a1244: integer, a1245: integer, a1246: integer, a1247: integer, a1248: integer, a1249: integer, a1250: integer, a1251: integer, a1252: integer, a1253: integer, a1254: integer, a1255: integer, a1256: integer, a1257: integer, a1258: integer, a1259: integer, a1260: integer, a1261: integer, a1262: integer, a1263: integer, a1264: integer, a1265: integer, a1266: integer, a1267: integer, a1268: integer, a1269: integer, a1270: integer, a1271: integer, a1272: integer, a1273: integer, a1274: integer, a1275: integer, a1276: integer, a1277: integer, a1278: integer, a1279: integer, a1280: integer, a1281: integer, a1282: integer, a1283: integer, a1284: integer, a1285: integer, a1286: integer, a1287: integer, a1288: integer, a1289: integer, a1290: integer, a1291: integer, a1292: integer, a1293: integer, a1294: integer, a1295: integer, a1296: integer, a1297: integer, a1298: integer, a1299: integer, a1300: integer, a1301: integer, a1302: integer, a1303: integer, a1304: integer, a1305: integer, a1306: integer, a1307: integer, a1308: integer, a1309: integer, a1310: integer, a1311: integer, a1312: integer, a1313: integer, a1314: integer, a1315: integer, a1316: integer, a1317: integer, a1318: integer, a1319: integer, a1320: integer, a1321: integer, a1322: integer, a1323: integer, a1324: integer, a1325: integer, a1326: integer, a1327: integer, a1328: integer, a1329: integer, a1330: integer, a1331: integer, a1332: integer, a1333: integer, a1334: integer, a1335: integer, a1336: integer, a1337: integer, a1338: integer, a1339: integer, a1340: integer, a1341: integer, a1342: integer, a1343: integer, a1344: integer, a1345: integer, a1346: integer, a1347: integer, a1348: integer, a1349: integer, a1350: integer, a1351: integer, a1352: integer, a1353: integer, a1354: integer, a1355: integer, a1356: integer, a1357: integer, a1358: integer, a1359: integer, a1360: integer, a1361: integer, a1362: integer, a1363: integer, a1364: integer, a1365: integer, a1366: integer, a1367: integer, a1368: integer, a1369: integer, a1370: integer, a1371: integer, a1372: integer, a1373: integer, a1374: integer, a1375: integer, a1376: integer, a1377: integer, a1378: integer, a1379: integer, a1380: integer, a1381: integer, a1382: integer, a1383: integer, a1384: integer, a1385: integer, a1386: integer, a1387: integer, a1388: integer, a1389: integer, a1390: integer, a1391: integer, a1392: integer, a1393: integer, a1394: integer, a1395: integer, a1396: integer, a1397: integer, a1398: integer, a1399: integer, a1400: integer, a1401: integer, a1402: integer, a1403: integer, a1404: integer, a1405: integer, a1406: integer, a1407: integer, a1408: integer, a1409: integer, a1410: integer, a1411: integer, a1412: integer, a1413: integer, a1414: integer, a1415: integer, a1416: integer, a1417: integer, a1418: integer, a1419: integer, a1420: integer, a1421: integer, a1422: integer, a1423: integer, a1424: integer, a1425: integer, a1426: integer, a1427: integer, a1428: integer, a1429: integer, a1430: integer, a1431: integer, a1432: integer, a1433: integer, a1434: integer, a1435: integer, a1436: integer, a1437: integer, a1438: integer, a1439: integer, a1440: integer, a1441: integer, a1442: integer, a1443: integer, a1444: integer, a1445: integer, a1446: integer, a1447: integer, a1448: integer, a1449: integer, a1450: integer, a1451: integer, a1452: integer, a1453: integer, a1454: integer, a1455: integer, a1456: integer, a1457: integer, a1458: integer, a1459: integer, a1460: integer, a1461: integer, a1462: integer, a1463: integer, a1464: integer, a1465: integer, a1466: integer, a1467: integer, a1468: integer, a1469: integer, a1470: integer, a1471: integer, a1472: integer, a1473: integer, a1474: integer, a1475: integer, a1476: integer, a1477: integer, a1478: integer, a1479: integer, a1480: integer, a1481: integer, a1482: integer, a1483: integer, a1484: integer, a1485: integer, a1486: integer, a1487: integer, a1488: integer, a1489: integer, a1490: integer, a1491: integer, a1492: integer, a1493: integer, a1494: integer, a1495: integer, a1496: integer, a1497: integer, a1498: integer, a1499: integer, a1500: integer, a1501: integer, a1502: integer, a1503: integer, a1504: integer, a1505: integer, a1506: integer, a1507: integer, a1508: integer, a1509: integer, a1510: integer, a1511: integer, a1512: integer, a1513: integer, a1514: integer, a1515: integer, a1516: integer, a1517: integer, a1518: integer, a1519: integer, a1520: integer, a1521: integer, a1522: integer, a1523: integer, a1524: integer, a1525: integer, a1526: integer, a1527: integer, a1528: integer, a1529: integer, a1530: integer, a1531: integer, a1532: integer, a1533: integer, a1534: integer, a1535: integer, a1536: integer, a1537: integer, a1538: integer, a1539: integer, a1540: integer, a1541: integer, a1542: integer, a1543: integer, a1544: integer, a1545: integer, a1546: integer, a1547: integer, a1548: integer, a1549: integer, a1550: integer, a1551: integer, a1552: integer, a1553: integer, a1554: integer, a1555: integer, a1556: integer, a1557: integer, a1558: integer, a1559: integer, a1560: integer, a1561: integer, a1562: integer, a1563: integer, a1564: integer, a1565: integer, a1566: integer, a1567: integer, a1568: integer, a1569: integer, a1570: integer, a1571: integer, a1572: integer, a1573: integer, a1574: integer, a1575: integer, a1576: integer, a1577: integer, a1578: integer, a1579: integer, a1580: integer, a1581: integer, a1582: integer, a1583: integer, a1584: integer, a1585: integer, a1586: integer, a1587: integer, a1588: integer, a1589: integer, a1590: integer, a1591: integer, a1592: integer, a1593: integer, a1594: integer, a1595: integer, a1596: integer, a1597: integer, a1598: integer, a1599: integer, a1600: integer, a1601: integer, a1602: integer, a1603: integer, a1604: integer, a1605: integer, a1606: integer, a1607: integer, a1608: integer, a1609: integer, a1610: integer, a1611: integer, a1612: integer, a1613: integer, a1614: integer, a1615: integer, a1616: integer, a1617: integer, a1618: integer, a1619: integer, a1620: integer, a1621: integer, a1622: integer, a1623: integer, a1624: integer, a1625: integer, a1626: integer, a1627: integer, a1628: integer, a1629: integer, a1630: integer, a1631: integer, a1632: integer, a1633: integer, a1634: integer, a1635: integer, a1636: integer, a1637: integer, a1638: integer, a1639: integer, a1640: integer, a1641: integer, a1642: integer, a1643: integer, a1644: integer, a1645: integer, a1646: integer, a1647: integer, a1648: integer, a1649: integer, a1650: integer, a1651: integer, a1652: integer, a1653: integer, a1654: integer, a1655: integer, a1656: integer, a1657: integer, a1658: integer, a1659: integer, a1660: integer, a1661: integer, a1662: integer, a1663: integer, a1664: integer, a1665: integer, a1666: integer, a1667: integer, a1668: integer, a1669: integer, a1670: integer, a1671: integer, a1672: integer, a1673: integer, a1674: integer, a1675: integer, a1676: integer, a1677: integer, a1678: integer, a1679: integer, a1680: integer, a1681: integer, a1682: integer, a1683: integer, a1684: integer, a1685: integer, a1686: integer, a1687: integer, a1688: integer, a1689: integer, a1690: integer, a1691: integer, a1692: integer, a1693: integer, a1694: integer, a1695: integer, a1696: integer, a1697: integer, a1698: integer, a1699: integer, a1700: integer, a1701: integer, a1702: integer, a1703: integer, a1704: integer, a1705: integer, a1706: integer, a1707: integer, a1708: integer, a1709: integer, a1710: integer, a1711: integer, a1712: integer, a1713: integer, a1714: integer, a1715: integer, a1716: integer, a1717: integer, a1718: integer, a1719: integer, a1720: integer, a1721: integer, a1722: integer, a1723: integer, a1724: integer, a1725: integer, a1726: integer, a1727: integer, a1728: integer, a1729: integer, a1730: integer, a1731: integer, a1732: integer, a1733: integer, a1734: integer, a1735: integer, a1736: integer, a1737: integer, a1738: integer, a1739: integer, a1740: integer, a1741: integer, a1742: integer, a1743: integer, a1744: integer, a1745: integer, a1746: integer, a1747: integer, a1748: integer, a1749: integer, a1750: integer, a1751: integer, a1752: integer, a1753: integer, a1754: integer, a1755: integer, a1756: integer, a1757: integer, a1758: integer, a1759: integer, a1760: integer, a1761: integer, a1762: integer, a1763: integer, a1764: integer, a1765: integer, a1766: integer, a1767: integer, a1768: integer, a1769: integer, a1770: integer, a1771: integer, a1772: integer, a1773: integer, a1774: integer, a1775: integer, a1776: integer, a1777: integer, a1778: integer, a1779: integer, a1780: integer, a1781: integer, a1782: integer, a1783: integer, a1784: integer, a1785: integer, a1786: integer, a1787: integer, a1788: integer, a1789: integer, a1790: integer, a1791: integer, a1792: integer, a1793: integer, a1794: integer, a1795: integer, a1796: integer, a1797: integer, a1798: integer, a1799: integer, a1800: integer, a1801: integer, a1802: integer, a1803: integer, a1804: integer, a1805: integer, a1806: integer, a1807: integer, a1808: integer, a1809: integer, a1810: integer, a1811: integer, a1812: integer, a1813: integer, a1814: integer, a1815: integer, a1816: integer, a1817: integer, a1818: integer, a1819: integer, a1820: integer, a1821: integer, a1822: integer, a1823: integer, a1824: integer, a1825: integer, a1826: integer, a1827: integer, a1828: integer, a1829: integer, a1830: integer, a1831: integer, a1832: integer, a1833: integer, a1834: integer, a1835: integer, a1836: integer, a1837: integer, a1838: integer, a1839: integer, a1840: integer, a1841: integer, a1842: integer, a1843: integer, a1844: integer, a1845: integer, a1846: integer, a1847: integer, a1848: integer, a1849: integer, a1850: integer, a1851: integer, a1852: integer, a1853: integer, a1854: integer, a1855: integer, a1856: integer, a1857: integer, a1858: integer, a1859: integer, a1860: integer, a1861: integer, a1862: integer, a1863: integer, a1864: integer, a1865: integer, a1866: integer, a1867: integer, a1868: integer, a1869: integer, a1870: integer, a1871: integer, a1872: integer, a1873: integer, a1874: integer, a1875: integer, a1876: integer, a1877: integer, a1878: integer, a1879: integer, a1880: integer, a1881: integer, a1882: integer, a1883: integer, a1884: integer, a1885: integer, a1886: integer, a1887: integer, a1888: integer, a1889: integer, a1890: integer, a1891: integer, a1892: integer, a1893: integer, a1894: integer, a1895: integer, a1896: integer, a1897: integer, a1898: integer, a1899: integer, a1900: integer, a1901: integer, a1902: integer, a1903: integer, a1904: integer, a1905: integer, a1906: integer, a1907: integer, a1908: integer, a1909: integer, a1910: integer, a1911: integer, a1912: integer, a1913: integer, a1914: integer, a1915: integer, a1916: integer, a1917: integer, a1918: integer, a1919: integer, a1920: integer, a1921: integer, a1922: integer, a1923: integer, a1924: integer, a1925: integer, a1926: integer, a1927: integer, a1928: integer, a1929: integer, a1930: integer, a1931: integer, a1932: integer, a1933: integer, a1934: integer, a1935: integer, a1936: integer, a1937: integer, a1938: integer, a1939: integer, a1940: integer, a1941: integer, a1942: integer, a1943: integer, a1944: integer, a1945: integer, a1946: integer, a1947: integer, a1948: integer, a1949: integer, a1950: integer, a1951: integer, a1952: integer, a1953: integer, a1954: integer, a1955: integer, a1956: integer, a1957: integer, a1958: integer, a1959: integer, a1960: integer, a1961: integer, a1962: integer, a1963: integer, a1964: integer, a1965: integer, a1966: integer, a1967: integer, a1968: integer, a1969: integer, a1970: integer, a1971: integer, a1972: integer, a1973: integer, a1974: integer, a1975: integer, a1976: integer, a1977: integer, a1978: integer, a1979: integer, a1980: integer, a1981: integer, a1982: integer, a1983: integer, a1984: integer, a1985: integer, a1986: integer, a1987: integer, a1988: integer, a1989: integer, a1990: integer, a1991: integer, a1992: integer, a1993: integer, a1994: integer, a1995: integer, a1996: integer, a1997: integer, a1998: integer, a1999: integer, a2000: integer, a2001: integer, a2002: integer, a2003: integer, a2004: integer, a2005: integer, a2006: integer, a2007: integer, a2008: integer, a2009: integer, a2010: integer, a2011: integer, a2012: integer, a2013: integer, a2014: integer, a2015: integer, a2016: integer, a2017: integer, a2018: integer, a2019: integer, a2020: integer, a2021: integer, a2022: integer, a2023: integer, a2024: integer, a2025: integer, a2026: integer, a2027: integer, a2028: integer, a2029: integer, a2030: integer, a2031: integer, a2032: integer, a2033: integer, a2034: integer, a2035: integer, a2036: integer, a2037: integer, a2038: integer, a2039: integer, a2040: integer, a2041: integer, a2042: integer, a2043: integer, a2044: integer, a2045: integer, a2046: integer, a2047: integer, a2048: integer, a2049: integer, a2050: integer, a2051: integer, a2052: integer, a2053: integer, a2054: integer, a2055: integer, a2056: integer, a2057: integer, a2058: integer, a2059: integer, a2060: integer, a2061: integer, a2062: integer, a2063: integer, a2064: integer, a2065: integer, a2066: integer, a2067: integer, a2068: integer, a2069: integer, a2070: integer, a2071: integer, a2072: integer, a2073: integer, a2074: integer, a2075: integer, a2076: integer, a2077: integer, a2078: integer, a2079: integer, a2080: integer, a2081: integer, a2082: integer, a2083: integer, a2084: integer, a2085: integer, a2086: integer, a2087: integer, a2088: integer, a2089: integer, a2090: integer, a2091: integer, a2092: integer, a2093: integer, a2094: integer, a2095: integer, a2096: integer, a2097: integer, a2098: integer, a2099: integer, a2100: integer, a2101: integer, a2102: integer, a2103: integer, a2104: integer, a2105: integer, a2106: integer, a2107: integer, a2108: integer, a2109: integer, a2110: integer, a2111: integer, a2112: integer, a2113: integer, a2114: integer, a2115: integer, a2116: integer, a2117: integer, a2118: integer, a2119: integer, a2120: integer, a2121: integer, a2122: integer, a2123: integer, a2124: integer, a2125: integer, a2126: integer, a2127: integer, a2128: integer, a2129: integer, a2130: integer, a2131: integer, a2132: integer, a2133: integer, a2134: integer, a2135: integer, a2136: integer, a2137: integer, a2138: integer, a2139: integer, a2140: integer, a2141: integer, a2142: integer, a2143: integer, a2144: integer, a2145: integer, a2146: integer, a2147: integer, a2148: integer, a2149: integer, a2150: integer, a2151: integer, a2152: integer, a2153: integer, a2154: integer, a2155: integer, a2156: integer, a2157: integer, a2158: integer, a2159: integer, a2160: integer, a2161: integer, a2162: integer, a2163: integer, a2164: integer, a2165: integer, a2166: integer, a2167: integer, a2168: integer, a2169: integer, a2170: integer, a2171: integer, a2172: integer, a2173: integer, a2174: integer, a2175: integer, a2176: integer, a2177: integer, a2178: integer, a2179: integer, a2180: integer, a2181: integer, a2182: integer, a2183: integer, a2184: integer, a2185: integer, a2186: integer, a2187: integer, a2188: integer, a2189: integer, a2190: integer, a2191: integer, a2192: integer, a2193: integer, a2194: integer, a2195: integer, a2196: integer, a2197: integer, a2198: integer, a2199: integer, a2200: integer, a2201: integer, a2202: integer, a2203: integer, a2204: integer, a2205: integer, a2206: integer, a2207: integer, a2208: integer, a2209: integer, a2210: integer, a2211: integer, a2212: integer, a2213: integer, a2214: integer, a2215: integer, a2216: integer, a2217: integer, a2218: integer, a2219: integer, a2220: integer, a2221: integer, a2222: integer, a2223: integer, a2224: integer, a2225: integer, a2226: integer, a2227: integer, a2228: integer, a2229: integer, a2230: integer, a2231: integer, a2232: integer, a2233: integer, a2234: integer, a2235: integer, a2236: integer, a2237: integer, a2238: integer, a2239: integer, a2240: integer, a2241: integer, a2242: integer, a2243: integer, a2244: integer, a2245: integer, a2246: integer, a2247: integer, a2248: integer, a2249: integer, a2250: integer, a2251: integer, a2252: integer, a2253: integer, a2254: integer, a2255: integer, a2256: integer, a2257: integer, a2258: integer, a2259: integer, a2260: integer, a2261: integer, a2262: integer, a2263: integer, a2264: integer, a2265: integer, a2266: integer, a2267: integer, a2268: integer, a2269: integer, a2270: integer, a2271: integer, a2272: integer, a2273: integer, a2274: integer, a2275: integer, a2276: integer, a2277: integer, a2278: integer, a2279: integer, a2280: integer, a2281: integer, a2282: integer, a2283: integer, a2284: integer, a2285: integer, a2286: integer, a2287: integer, a2288: integer, a2289: integer, a2290: integer, a2291: integer, a2292: integer, a2293: integer, a2294: integer, a2295: integer, a2296: integer, a2297: integer, a2298: integer, a2299: integer, a2300: integer, a2301: integer, a2302: integer, a2303: integer, a2304: integer, a2305: integer, a2306: integer, a2307: integer, a2308: integer, a2309: integer, a2310: integer, a2311: integer, a2312: integer, a2313: integer, a2314: integer, a2315: integer, a2316: integer, a2317: integer, a2318: integer, a2319: integer, a2320: integer, a2321: integer, a2322: integer, a2323: integer, a2324: integer, a2325: integer, a2326: integer, a2327: integer, a2328: integer, a2329: integer, a2330: integer, a2331: integer, a2332: integer, a2333: integer, a2334: integer, a2335: integer, a2336: integer, a2337: integer, a2338: integer, a2339: integer, a2340: integer, a2341: integer, a2342: integer, a2343: integer, a2344: integer, a2345: integer, a2346: integer, a2347: integer, a2348: integer, a2349: integer, a2350: integer, a2351: integer, a2352: integer, a2353: integer, a2354: integer, a2355: integer, a2356: integer, a2357: integer, a2358: integer, a2359: integer, a2360: integer, a2361: integer, a2362: integer, a2363: integer, a2364: integer, a2365: integer, a2366: integer, a2367: integer, a2368: integer, a2369: integer, a2370: integer, a2371: integer, a2372: integer, a2373: integer, a2374: integer, a2375: integer, a2376: integer, a2377: integer, a2378: integer, a2379: integer, a2380: integer, a2381: integer, a2382: integer, a2383: integer, a2384: integer, a2385: integer, a2386: integer, a2387: integer, a2388: integer, a2389: integer, a2390: integer, a2391: integer, a2392: integer, a2393: integer, a2394: integer, a2395: integer, a2396: integer, a2397: integer, a2398: integer, a2399: integer, a2400: integer, a2401: integer, a2402: integer, a2403: integer, a2404: integer, a2405: integer, a2406: integer, a2407: integer, a2408: integer, a2409: integer, a2410: integer, a2411: integer, a2412: integer, a2413: integer, a2414: integer, a2415: integer, a2416: integer, a2417: integer, a2418: integer, a2419: integer, a2420: integer, a2421: integer, a2422: integer, a2423: integer, a2424: integer, a2425: integer, a2426: integer, a2427: integer, a2428: integer, a2429: integer, a2430: integer, a2431: integer, a2432: integer, a2433: integer, a2434: integer, a2435: integer, a2436: integer, a2437: integer, a2438: integer, a2439: integer, a2440: integer, a2441: integer, a2442: integer, a2443: integer, a2444: integer, a2445: integer, a2446: integer, a2447: integer, a2448: integer, a2449: integer, a2450: integer, a2451: integer, a2452: integer, a2453: integer, a2454: integer, a2455: integer, a2456: integer, a2457: integer, a2458: integer, a2459: integer, a2460: integer, a2461: integer, a2462: integer, a2463: integer, a2464: integer, a2465: integer, a2466: integer, a2467: integer, a2468: integer, a2469: integer, a2470: integer, a2471: integer, a2472: integer, a2473: integer, a2474: integer, a2475: integer, a2476: integer, a2477: integer, a2478: integer, a2479: integer, a2480: integer, a2481: integer, a2482: integer, a2483: integer, a2484: integer, a2485: integer, a2486: integer, a2487: integer, a2488: integer, a2489: integer, a2490: integer, a2491: integer, a2492: integer, a2493: integer, a2494: integer, a2495: integer, a2496: integer, a2497: integer, a2498: integer, a2499: integer, a2500: integer, a2501: integer, a2502: integer, a2503: integer, a2504: integer, a2505: integer, a2506: integer, a2507: integer, a2508: integer, a2509: integer, a2510: integer, a2511: integer, a2512: integer, a2513: integer, a2514: integer, a2515: integer, a2516: integer, a2517: integer, a2518: integer, a2519: integer, a2520: integer, a2521: integer, a2522: integer, a2523: integer, a2524: integer, a2525: integer, a2526: integer, a2527: integer, a2528: integer, a2529: integer, a2530: integer, a2531: integer, a2532: integer, a2533: integer, a2534: integer, a2535: integer, a2536: integer, a2537: integer, a2538: integer, a2539: integer, a2540: integer, a2541: integer, a2542: integer, a2543: integer, a2544: integer, a2545: integer, a2546: integer, a2547: integer, a2548: integer, a2549: integer, a2550: integer, a2551: integer, a2552: integer, a2553: integer, a2554: integer, a2555: integer, a2556: integer, a2557: integer, a2558: integer, a2559: integer, a2560: integer, a2561: integer, a2562: integer, a2563: integer, a2564: integer, a2565: integer, a2566: integer, a2567: integer, a2568: integer, a2569: integer, a2570: integer, a2571: integer, a2572: integer, a2573: integer, a2574: integer, a2575: integer, a2576: integer, a2577: integer, a2578: integer, a2579: integer, a2580: integer, a2581: integer, a2582: integer, a2583: integer, a2584: integer, a2585: integer, a2586: integer, a2587: integer, a2588: integer, a2589: integer, a2590: integer, a2591: integer, a2592: integer, a2593: integer, a2594: integer, a2595: integer, a2596: integer, a2597: integer, a2598: integer, a2599: integer, a2600: integer, a2601: integer, a2602: integer, a2603: integer, a2604: integer, a2605: integer, a2606: integer, a2607: integer, a2608: integer, a2609: integer, a2610: integer, a2611: integer, a2612: integer, a2613: integer, a2614: integer, a2615: integer, a2616: integer, a2617: integer, a2618: integer, a2619: integer, a2620: integer, a2621: integer, a2622: integer, a2623: integer, a2624: integer, a2625: integer, a2626: integer, a2627: integer, a2628: integer, a2629: integer, a2630: integer, a2631: integer, a2632: integer, a2633: integer, a2634: integer, a2635: integer, a2636: integer, a2637: integer, a2638: integer, a2639: integer, a2640: integer, a2641: integer, a2642: integer, a2643: integer, a2644: integer, a2645: integer, a2646: integer, a2647: integer, a2648: integer, a2649: integer, a2650: integer, a2651: integer, a2652: integer, a2653: integer, a2654: integer, a2655: integer, a2656: integer, a2657: integer, a2658: integer, a2659: integer, a2660: integer, a2661: integer, a2662: integer, a2663: integer, a2664: integer, a2665: integer, a2666: integer, a2667: integer, a2668: integer, a2669: integer, a2670: integer, a2671: integer, a2672: integer, a2673: integer, a2674: integer, a2675: integer, a2676: integer, a2677: integer, a2678: integer, a2679: integer, a2680: integer, a2681: integer, a2682: integer, a2683: integer, a2684: integer, a2685: integer, a2686: integer, a2687: integer, a2688: integer, a2689: integer, a2690: integer, a2691: integer, a2692: integer, a2693: integer, a2694: integer, a2695: integer, a2696: integer, a2697: integer, a2698: integer, a2699: integer, a2700: integer, a2701: integer, a2702: integer, a2703: integer, a2704: integer, a2705: integer, a2706: integer, a2707: integer, a2708: integer, a2709: integer, a2710: integer, a2711: integer, a2712: integer, a2713: integer, a2714: integer, a2715: integer, a2716: integer, a2717: integer, a2718: integer, a2719: integer, a2720: integer, a2721: integer, a2722: integer, a2723: integer, a2724: integer, a2725: integer, a2726: integer, a2727: integer, a2728: integer, a2729: integer, a2730: integer, a2731: integer, a2732: integer, a2733: integer, a2734: integer, a2735: integer, a2736: integer, a2737: integer, a2738: integer, a2739: integer, a2740: integer, a2741: integer, a2742: integer, a2743: integer, a2744: integer, a2745: integer, a2746: integer, a2747: integer, a2748: integer, a2749: integer, a2750: integer, a2751: integer, a2752: integer, a2753: integer, a2754: integer, a2755: integer, a2756: integer, a2757: integer, a2758: integer, a2759: integer, a2760: integer, a2761: integer, a2762: integer, a2763: integer, a2764: integer, a2765: integer, a2766: integer, a2767: integer, a2768: integer, a2769: integer, a2770: integer, a2771: integer, a2772: integer, a2773: integer, a2774: integer, a2775: integer, a2776: integer, a2777: integer, a2778: integer, a2779: integer, a2780: integer, a2781: integer, a2782: integer, a2783: integer, a2784: integer, a2785: integer, a2786: integer, a2787: integer, a2788: integer, a2789: integer, a2790: integer, a2791: integer, a2792: integer, a2793: integer, a2794: integer, a2795: integer, a2796: integer, a2797: integer, a2798: integer, a2799: integer, a2800: integer, a2801: integer, a2802: integer, a2803: integer, a2804: integer, a2805: integer, a2806: integer, a2807: integer, a2808: integer, a2809: integer, a2810: integer, a2811: integer, a2812: integer, a2813: integer, a2814: integer, a2815: integer, a2816: integer, a2817: integer, a2818: integer, a2819: integer, a2820: integer, a2821: integer, a2822: integer, a2823: integer, a2824: integer, a2825: integer, a2826: integer, a2827: integer, a2828: integer, a2829: integer, a2830: integer, a2831: integer, a2832: integer, a2833: integer, a2834: integer, a2835: integer, a2836: integer, a2837: integer, a2838: integer, a2839: integer, a2840: integer, a2841: integer, a2842: integer, a2843: integer, a2844: integer, a2845: integer, a2846: integer, a2847: integer, a2848: integer, a2849: integer, a2850: integer, a2851: integer, a2852: integer, a2853: integer, a2854: integer, a2855: integer, a2856: integer, a2857: integer, a2858: integer, a2859: integer, a2860: integer, a2861: integer, a2862: integer, a2863: integer, a2864: integer, a2865: integer, a2866: integer, a2867: integer, a2868: integer, a2869: integer, a2870: integer, a2871: integer, a2872: integer, a2873: integer, a2874: integer, a2875: integer, a2876: integer, a2877: integer, a2878: integer, a2879: integer, a2880: integer, a2881: integer, a2882: integer, a2883: integer, a2884: integer, a2885: integer, a2886: integer, a2887: integer, a2888: integer, a2889: integer, a2890: integer, a2891: integer, a2892: integer, a2893: integer, a2894: integer, a2895: integer, a2896: integer, a2897: integer, a2898: integer, a2899: integer, a2900: integer, a2901: integer, a2902: integer, a2903: integer, a2904: integer, a2905: integer, a2906: integer, a2907: integer, a2908: integer, a2909: integer, a2910: integer, a2911: integer, a2912: integer, a2913: integer, a2914: integer, a2915: integer, a2916: integer, a2917: integer, a2918: integer, a2919: integer, a2920: integer, a2921: integer, a2922: integer, a2923: integer, a2924: integer, a2925: integer, a2926: integer, a2927: integer, a2928: integer, a2929: integer, a2930: integer, a2931: integer, a2932: integer, a2933: integer, a2934: integer, a2935: integer, a2936: integer, a2937: integer, a2938: integer, a2939: integer, a2940: integer, a2941: integer, a2942: integer, a2943: integer, a2944: integer, a2945: integer, a2946: integer, a2947: integer, a2948: integer, a2949: integer, a2950: integer, a2951: integer, a2952: integer, a2953: integer, a2954: integer, a2955: integer, a2956: integer, a2957: integer, a2958: integer, a2959: integer, a2960: integer, a2961: integer, a2962: integer, a2963: integer, a2964: integer, a2965: integer, a2966: integer, a2967: integer, a2968: integer, a2969: integer, a2970: integer, a2971: integer, a2972: integer, a2973: integer, a2974: integer, a2975: integer, a2976: integer, a2977: integer, a2978: integer, a2979: integer, a2980: integer, a2981: integer, a2982: integer, a2983: integer, a2984: integer, a2985: integer, a2986: integer, a2987: integer, a2988: integer, a2989: integer, a2990: integer, a2991: integer, a2992: integer, a2993: integer, a2994: integer, a2995: integer, a2996: integer, a2997: integer, a2998: integer, a2999: integer, a3000: integer, a3001: integer, a3002: integer, a3003: integer, a3004: integer, a3005: integer, a3006: integer, a3007: integer, a3008: integer, a3009: integer, a3010: integer, a3011: integer, a3012: integer, a3013: integer, a3014: integer, a3015: integer, a3016: integer, a3017: integer, a3018: integer, a3019: integer, a3020: integer, a3021: integer, a3022: integer, a3023: integer, a3024: integer, a3025: integer, a3026: integer, a3027: integer, a3028: integer, a3029: integer, a3030: integer, a3031: integer, a3032: integer, a3033: integer, a3034: integer, a3035: integer, a3036: integer, a3037: integer, a3038: integer, a3039: integer, a3040: integer, a3041: integer, a3042: integer, a3043: integer, a3044: integer, a3045: integer, a3046: integer, a3047: integer, a3048: integer, a3049: integer, a3050: integer, a3051: integer, a3052: integer, a3053: integer, a3054: integer, a3055: integer, a3056: integer, a3057: integer, a3058: integer, a3059: integer, a3060: integer, a3061: integer, a3062: integer, a3063: integer, a3064: integer, a3065: integer, a3066: integer, a3067: integer, a3068: integer, a3069: integer, a3070: integer, a3071: integer, a3072: integer, a3073: integer, a3074: integer, a3075: integer, a3076: integer, a3077: integer, a3078: integer, a3079: integer, a3080: integer, a3081: integer, a3082: integer, a3083: integer, a3084: integer, a3085: integer, a3086: integer, a3087: integer, a3088: integer, a3089: integer, a3090: integer, a3091: integer, a3092: integer, a3093: integer, a3094: integer, a3095: integer, a3096: integer, a3097: integer, a3098: integer, a3099: integer, a3100: integer, a3101: integer, a3102: integer, a3103: integer, a3104: integer, a3105: integer, a3106: integer, a3107: integer, a3108: integer, a3109: integer, a3110: integer, a3111: integer, a3112: integer, a3113: integer, a3114: integer, a3115: integer, a3116: integer, a3117: integer, a3118: integer, a3119: integer, a3120: integer, a3121: integer, a3122: integer, a3123: integer, a3124: integer, a3125: integer, a3126: integer, a3127: integer, a3128: integer, a3129: integer, a3130: integer, a3131: integer, a3132: integer, a3133: integer, a3134: integer, a3135: integer, a3136: integer, a3137: integer, a3138: integer, a3139: integer, a3140: integer, a3141: integer, a3142: integer, a3143: integer, a3144: integer, a3145: integer, a3146: integer, a3147: integer, a3148: integer, a3149: integer, a3150: integer, a3151: integer, a3152: integer, a3153: integer, a3154: integer, a3155: integer, a3156: integer, a3157: integer, a3158: integer, a3159: integer, a3160: integer, a3161: integer, a3162: integer, a3163: integer, a3164: integer, a3165: integer, a3166: integer, a3167: integer, a3168: integer, a3169: integer, a3170: integer, a3171: integer, a3172: integer, a3173: integer, a3174: integer, a3175: integer, a3176: integer, a3177: integer, a3178: integer, a3179: integer, a3180: integer, a3181: integer, a3182: integer, a3183: integer, a3184: integer, a3185: integer, a3186: integer, a3187: integer, a3188: integer, a3189: integer, a3190: integer, a3191: integer, a3192: integer, a3193: integer, a3194: integer, a3195: integer, a3196: integer, a3197: integer, a3198: integer, a3199: integer, a3200: integer, a3201: integer, a3202: integer, a3203: integer, a3204: integer, a3205: integer, a3206: integer, a3207: integer, a3208: integer, a3209: integer, a3210: integer, a3211: integer, a3212: integer, a3213: integer, a3214: integer, a3215: integer, a3216: integer, a3217: integer, a3218: integer, a3219: integer, a3220: integer, a3221: integer, a3222: integer, a3223: integer, a3224: integer, a3225: integer, a3226: integer, a3227: integer, a3228: integer, a3229: integer, a3230: integer, a3231: integer, a3232: integer, a3233: integer, a3234: integer, a3235: integer, a3236: integer, a3237: integer, a3238: integer, a3239: integer, a3240: integer, a3241: integer, a3242: integer, a3243: integer, a3244: integer, a3245: integer, a3246: integer, a3247: integer, a3248: integer, a3249: integer, a3250: integer, a3251: integer, a3252: integer, a3253: integer, a3254: integer, a3255: integer, a3256: integer, a3257: integer, a3258: integer, a3259: integer, a3260: integer, a3261: integer, a3262: integer, a3263: integer, a3264: integer, a3265: integer, a3266: integer, a3267: integer, a3268: integer, a3269: integer, a3270: integer, a3271: integer, a3272: integer, a3273: integer, a3274: integer, a3275: integer, a3276: integer, a3277: integer, a3278: integer, a3279: integer, a3280: integer, a3281: integer, a3282: integer, a3283: integer, a3284: integer, a3285: integer, a3286: integer, a3287: integer, a3288: integer, a3289: integer, a3290: integer, a3291: integer, a3292: integer, a3293: integer, a3294: integer, a3295: integer, a3296: integer, a3297: integer, a3298: integer, a3299: integer, a3300: integer, a3301: integer, a3302: integer, a3303: integer, a3304: integer, a3305: integer, a3306: integer, a3307: integer, a3308: integer, a3309: integer, a3310: integer, a3311: integer, a3312: integer, a3313: integer, a3314: integer, a3315: integer, a3316: integer, a3317: integer, a3318: integer, a3319: integer, a3320: integer, a3321: integer, a3322: integer, a3323: integer, a3324: integer, a3325: integer, a3326: integer, a3327: integer, a3328: integer, a3329: integer, a3330: integer, a3331: integer, a3332: integer, a3333: integer, a3334: integer, a3335: integer, a3336: integer, a3337: integer, a3338: integer, a3339: integer, a3340: integer, a3341: integer, a3342: integer, a3343: integer, a3344: integer, a3345: integer, a3346: integer, a3347: integer, a3348: integer, a3349: integer, a3350: integer, a3351: integer, a3352: integer, a3353: integer, a3354: integer, a3355: integer, a3356: integer, a3357: integer, a3358: integer, a3359: integer, a3360: integer, a3361: integer, a3362: integer, a3363: integer, a3364: integer, a3365: integer, a3366: integer, a3367: integer, a3368: integer, a3369: integer, a3370: integer, a3371: integer, a3372: integer, a3373: integer, a3374: integer, a3375: integer, a3376: integer, a3377: integer, a3378: integer, a3379: integer, a3380: integer, a3381: integer, a3382: integer, a3383: integer, a3384: integer, a3385: integer, a3386: integer, a3387: integer, a3388: integer, a3389: integer, a3390: integer, a3391: integer, a3392: integer, a3393: integer, a3394: integer, a3395: integer, a3396: integer, a3397: integer, a3398: integer, a3399: integer, a3400: integer, a3401: integer, a3402: integer, a3403: integer, a3404: integer, a3405: integer, a3406: integer, a3407: integer, a3408: integer, a3409: integer, a3410: integer, a3411: integer, a3412: integer, a3413: integer, a3414: integer, a3415: integer, a3416: integer, a3417: integer, a3418: integer, a3419: integer, a3420: integer, a3421: integer, a3422: integer, a3423: integer, a3424: integer, a3425: integer, a3426: integer, a3427: integer, a3428: integer, a3429: integer, a3430: integer, a3431: integer, a3432: integer, a3433: integer, a3434: integer, a3435: integer, a3436: integer, a3437: integer, a3438: integer, a3439: integer, a3440: integer, a3441: integer, a3442: integer, a3443: integer, a3444: integer, a3445: integer, a3446: integer, a3447: integer, a3448: integer, a3449: integer, a3450: integer, a3451: integer, a3452: integer, a3453: integer, a3454: integer, a3455: integer, a3456: integer, a3457: integer, a3458: integer, a3459: integer, a3460: integer, a3461: integer, a3462: integer, a3463: integer, a3464: integer, a3465: integer, a3466: integer, a3467: integer, a3468: integer, a3469: integer, a3470: integer, a3471: integer, a3472: integer, a3473: integer, a3474: integer, a3475: integer, a3476: integer, a3477: integer, a3478: integer, a3479: integer, a3480: integer, a3481: integer, a3482: integer, a3483: integer, a3484: integer, a3485: integer, a3486: integer, a3487: integer, a3488: integer, a3489: integer, a3490: integer, a3491: integer, a3492: integer, a3493: integer, a3494: integer, a3495: integer, a3496: integer, a3497: integer, a3498: integer, a3499: integer, a3500: integer, a3501: integer, a3502: integer, a3503: integer, a3504: integer, a3505: integer, a3506: integer, a3507: integer, a3508: integer, a3509: integer, a3510: integer, a3511: integer, a3512: integer, a3513: integer, a3514: integer, a3515: integer, a3516: integer, a3517: integer, a3518: integer, a3519: integer, a3520: integer, a3521: integer, a3522: integer, a3523: integer, a3524: integer, a3525: integer, a3526: integer, a3527: integer, a3528: integer, a3529: integer, a3530: integer, a3531: integer, a3532: integer, a3533: integer, a3534: integer, a3535: integer, a3536: integer, a3537: integer, a3538: integer, a3539: integer, a3540: integer, a3541: integer, a3542: integer, a3543: integer, a3544: integer, a3545: integer, a3546: integer, a3547: integer, a3548: integer, a3549: integer, a3550: integer, a3551: integer, a3552: integer, a3553: integer, a3554: integer, a3555: integer, a3556: integer, a3557: integer, a3558: integer, a3559: integer, a3560: integer, a3561: integer, a3562: integer, a3563: integer, a3564: integer, a3565: integer, a3566: integer, a3567: integer, a3568: integer, a3569: integer, a3570: integer, a3571: integer, a3572: integer, a3573: integer, a3574: integer, a3575: integer, a3576: integer, a3577: integer, a3578: integer, a3579: integer, a3580: integer, a3581: integer, a3582: integer, a3583: integer, a3584: integer, a3585: integer, a3586: integer, a3587: integer, a3588: integer, a3589: integer, a3590: integer, a3591: integer, a3592: integer, a3593: integer, a3594: integer, a3595: integer, a3596: integer, a3597: integer, a3598: integer, a3599: integer, a3600: integer, a3601: integer, a3602: integer, a3603: integer, a3604: integer, a3605: integer, a3606: integer, a3607: integer, a3608: integer, a3609: integer, a3610: integer, a3611: integer, a3612: integer, a3613: integer, a3614: integer, a3615: integer, a3616: integer, a3617: integer, a3618: integer, a3619: integer, a3620: integer, a3621: integer, a3622: integer, a3623: integer, a3624: integer, a3625: integer, a3626: integer, a3627: integer, a3628: integer, a3629: integer, a3630: integer, a3631: integer, a3632: integer, a3633: integer, a3634: integer, a3635: integer, a3636: integer, a3637: integer, a3638: integer, a3639: integer, a3640: integer, a3641: integer, a3642: integer, a3643: integer, a3644: integer, a3645: integer, a3646: integer, a3647: integer, a3648: integer, a3649: integer, a3650: integer, a3651: integer, a3652: integer, a3653: integer, a3654: integer, a3655: integer, a3656: integer, a3657: integer, a3658: integer, a3659: integer, a3660: integer, a3661: integer, a3662: integer, a3663: integer, a3664: integer, a3665: integer, a3666: integer, a3667: integer, a3668: integer, a3669: integer, a3670: integer, a3671: integer, a3672: integer, a3673: integer, a3674: integer, a3675: integer, a3676: integer, a3677: integer, a3678: integer, a3679: integer, a3680: integer, a3681: integer, a3682: integer, a3683: integer, a3684: integer, a3685: integer, a3686: integer, a3687: integer, a3688: integer, a3689: integer, a3690: integer, a3691: integer, a3692: integer, a3693: integer, a3694: integer, a3695: integer, a3696: integer, a3697: integer, a3698: integer, a3699: integer, a3700: integer, a3701: integer, a3702: integer, a3703: integer, a3704: integer, a3705: integer, a3706: integer, a3707: integer, a3708: integer, a3709: integer, a3710: integer, a3711: integer, a3712: integer, a3713: integer, a3714: integer, a3715: integer, a3716: integer, a3717: integer, a3718: integer, a3719: integer, a3720: integer, a3721: integer, a3722: integer, a3723: integer, a3724: integer, a3725: integer, a3726: integer, a3727: integer, a3728: integer, a3729: integer, a3730: integer, a3731: integer, a3732: integer, a3733: integer, a3734: integer, a3735: integer, a3736: integer, a3737: integer, a3738: integer, a3739: integer, a3740: integer, a3741: integer, a3742: integer, a3743: integer, a3744: integer, a3745: integer, a3746: integer, a3747: integer, a3748: integer, a3749: integer, a3750: integer, a3751: integer, a3752: integer, a3753: integer, a3754: integer, a3755: integer, a3756: integer, a3757: integer, a3758: integer, a3759: integer, a3760: integer, a3761: integer, a3762: integer, a3763: integer, a3764: integer, a3765: integer, a3766: integer, a3767: integer, a3768: integer, a3769: integer, a3770: integer, a3771: integer, a3772: integer, a3773: integer, a3774: integer, a3775: integer, a3776: integer, a3777: integer, a3778: integer, a3779: integer, a3780: integer, a3781: integer, a3782: integer, a3783: integer, a3784: integer, a3785: integer, a3786: integer, a3787: integer, a3788: integer, a3789: integer, a3790: integer, a3791: integer, a3792: integer, a3793: integer, a3794: integer, a3795: integer, a3796: integer, a3797: integer, a3798: integer, a3799: integer, a3800: integer, a3801: integer, a3802: integer, a3803: integer, a3804: integer, a3805: integer, a3806: integer, a3807: integer, a3808: integer, a3809: integer, a3810: integer, a3811: integer, a3812: integer, a3813: integer, a3814: integer, a3815: integer, a3816: integer, a3817: integer, a3818: integer, a3819: integer, a3820: integer, a3821: integer, a3822: integer, a3823: integer, a3824: integer, a3825: integer, a3826: integer, a3827: integer, a3828: integer, a3829: integer, a3830: integer, a3831: integer, a3832: integer, a3833: integer, a3834: integer, a3835: integer, a3836: integer, a3837: integer, a3838: integer, a3839: integer, a3840: integer, a3841: integer, a3842: integer, a3843: integer, a3844: integer, a3845: integer, a3846: integer, a3847: integer, a3848: integer, a3849: integer, a3850: integer, a3851: integer, a3852: integer, a3853: integer, a3854: integer, a3855: integer, a3856: integer, a3857: integer, a3858: integer, a3859: integer, a3860: integer, a3861: integer, a3862: integer, a3863: integer, a3864: integer, a3865: integer, a3866: integer, a3867: integer, a3868: integer, a3869: integer, a3870: integer, a3871: integer, a3872: integer, a3873: integer, a3874: integer, a3875: integer, a3876: integer, a3877: integer, a3878: integer, a3879: integer, a3880: integer, a3881: integer, a3882: integer, a3883: integer, a3884: integer, a3885: integer, a3886: integer, a3887: integer, a3888: integer, a3889: integer, a3890: integer, a3891: integer, a3892: integer, a3893: integer, a3894: integer, a3895: integer, a3896: integer, a3897: integer, a3898: integer, a3899: integer, a3900: integer, a3901: integer, a3902: integer, a3903: integer, a3904: integer, a3905: integer, a3906: integer, a3907: integer, a3908: integer, a3909: integer, a3910: integer, a3911: integer, a3912: integer, a3913: integer, a3914: integer, a3915: integer, a3916: integer, a3917: integer, a3918: integer, a3919: integer, a3920: integer, a3921: integer, a3922: integer, a3923: integer, a3924: integer, a3925: integer, a3926: integer, a3927: integer, a3928: integer, a3929: integer, a3930: integer, a3931: integer, a3932: integer, a3933: integer, a3934: integer, a3935: integer, a3936: integer, a3937: integer, a3938: integer, a3939: integer, a3940: integer, a3941: integer, a3942: integer, a3943: integer, a3944: integer, a3945: integer, a3946: integer, a3947: integer, a3948: integer, a3949: integer, a3950: integer, a3951: integer, a3952: integer, a3953: integer, a3954: integer, a3955: integer, a3956: integer, a3957: integer, a3958: integer, a3959: integer, a3960: integer, a3961: integer, a3962: integer, a3963: integer, a3964: integer, a3965: integer, a3966: integer, a3967: integer, a3968: integer, a3969: integer, a3970: integer, a3971: integer, a3972: integer, a3973: integer, a3974: integer, a3975: integer, a3976: integer, a3977: integer, a3978: integer, a3979: integer, a3980: integer, a3981: integer, a3982: integer, a3983: integer, a3984: integer, a3985: integer, a3986: integer, a3987: integer, a3988: integer, a3989: integer, a3990: integer, a3991: integer, a3992: integer, a3993: integer, a3994: integer, a3995: integer, a3996: integer, a3997: integer, a3998: integer, a3999: integer, a4000: integer, a4001: integer, a4002: integer, a4003: integer, a4004: integer, a4005: integer, a4006: integer, a4007: integer, a4008: integer, a4009: integer, a4010: integer, a4011: integer, a4012: integer, a4013: integer, a4014: integer, a4015: integer, a4016: integer, a4017: integer, a4018: integer, a4019: integer, a4020: integer, a4021: integer, a4022: integer, a4023: integer, a4024: integer, a4025: integer, a4026: integer, a4027: integer, a4028: integer, a4029: integer, a4030: integer, a4031: integer, a4032: integer, a4033: integer, a4034: integer, a4035: integer, a4036: integer, a4037: integer, a4038: integer, a4039: integer, a4040: integer, a4041: integer, a4042: integer, a4043: integer, a4044: integer, a4045: integer, a4046: integer, a4047: integer, a4048: integer, a4049: integer, a4050: integer, a4051: integer, a4052: integer, a4053: integer, a4054: integer, a4055: integer, a4056: integer, a4057: integer, a4058: integer, a4059: integer, a4060: integer, a4061: integer, a4062: integer, a4063: integer, a4064: integer, a4065: integer, a4066: integer, a4067: integer, a4068: integer, a4069: integer, a4070: integer, a4071: integer, a4072: integer, a4073: integer, a4074: integer, a4075: integer, a4076: integer, a4077: integer, a4078: integer, a4079: integer, a4080: integer, a4081: integer, a4082: integer, a4083: integer, a4084: integer, a4085: integer, a4086: integer, a4087: integer, a4088: integer, a4089: integer, a4090: integer, a4091: integer, a4092: integer, a4093: integer, a4094: integer, a4095: integer, a4096: integer, a4097: integer, a4098: integer, a4099: integer, a4100: integer, a4101: integer, a4102: integer, a4103: integer, a4104: integer, a4105: integer, a4106: integer, a4107: integer, a4108: integer, a4109: integer, a4110: integer, a4111: integer, a4112: integer, a4113: integer, a4114: integer, a4115: integer, a4116: integer, a4117: integer, a4118: integer, a4119: integer, a4120: integer, a4121: integer, a4122: integer, a4123: integer, a4124: integer, a4125: integer, a4126: integer, a4127: integer, a4128: integer, a4129: integer, a4130: integer, a4131: integer, a4132: integer, a4133: integer, a4134: integer, a4135: integer, a4136: integer, a4137: integer, a4138: integer, a4139: integer, a4140: integer, a4141: integer, a4142: integer, a4143: integer, a4144: integer, a4145: integer, a4146: integer, a4147: integer, a4148: integer, a4149: integer, a4150: integer, a4151: integer, a4152: integer, a4153: integer, a4154: integer, a4155: integer, a4156: integer, a4157: integer, a4158: integer, a4159: integer, a4160: integer, a4161: integer, a4162: integer, a4163: integer, a4164: integer, a4165: integer, a4166: integer, a4167: integer, a4168: integer, a4169: integer, a4170: integer, a4171: integer, a4172: integer, a4173: integer, a4174: integer, a4175: integer, a4176: integer, a4177: integer, a4178: integer, a4179: integer, a4180: integer, a4181: integer, a4182: integer, a4183: integer, a4184: integer, a4185: integer, a4186: integer, a4187: integer, a4188: integer, a4189: integer, a4190: integer, a4191: integer, a4192: integer, a4193: integer, a4194: integer, a4195: integer, a4196: integer, a4197: integer, a4198: integer, a4199: integer, a4200: integer, a4201: integer, a4202: integer, a4203: integer, a4204: integer, a4205: integer, a4206: integer, a4207: integer, a4208: integer, a4209: integer, a4210: integer, a4211: integer, a4212: integer, a4213: integer, a4214: integer, a4215: integer, a4216: integer, a4217: integer, a4218: integer, a4219: integer, a4220: integer, a4221: integer, a4222: integer, a4223: integer, a4224: integer, a4225: integer, a4226: integer, a4227: integer, a4228: integer, a4229: integer, a4230: integer, a4231: integer, a4232: integer, a4233: integer, a4234: integer, a4235: integer, a4236: integer, a4237: integer, a4238: integer, a4239: integer, a4240: integer, a4241: integer, a4242: integer, a4243: integer, a4244: integer, a4245: integer, a4246: integer, a4247: integer, a4248: integer, a4249: integer, a4250: integer, a4251: integer, a4252: integer, a4253: integer, a4254: integer, a4255: integer, a4256: integer, a4257: integer, a4258: integer, a4259: integer, a4260: integer, a4261: integer, a4262: integer, a4263: integer, a4264: integer, a4265: integer, a4266: integer, a4267: integer, a4268: integer, a4269: integer, a4270: integer, a4271: integer, a4272: integer, a4273: integer, a4274: integer, a4275: integer, a4276: integer, a4277: integer, a4278: integer, a4279: integer, a4280: integer, a4281: integer, a4282: integer, a4283: integer, a4284: integer, a4285: integer, a4286: integer, a4287: integer, a4288: integer, a4289: integer, a4290: integer, a4291: integer, a4292: integer, a4293: integer, a4294: integer, a4295: integer, a4296: integer, a4297: integer, a4298: integer, a4299: integer, a4300: integer, a4301: integer, a4302: integer, a4303: integer, a4304: integer, a4305: integer, a4306: integer, a4307: integer, a4308: integer, a4309: integer, a4310: integer, a4311: integer, a4312: integer, a4313: integer, a4314: integer, a4315: integer, a4316: integer, a4317: integer, a4318: integer, a4319: integer, a4320: integer, a4321: integer, a4322: integer, a4323: integer, a4324: integer, a4325: integer, a4326: integer, a4327: integer, a4328: integer, a4329: integer, a4330: integer, a4331: integer, a4332: integer, a4333: integer, a4334: integer, a4335: integer, a4336: integer, a4337: integer, a4338: integer, a4339: integer, a4340: integer, a4341: integer, a4342: integer, a4343: integer, a4344: integer, a4345: integer, a4346: integer, a4347: integer, a4348: integer, a4349: integer, a4350: integer, a4351: integer, a4352: integer, a4353: integer, a4354: integer, a4355: integer, a4356: integer, a4357: integer, a4358: integer, a4359: integer, a4360: integer, a4361: integer, a4362: integer, a4363: integer, a4364: integer, a4365: integer, a4366: integer, a4367: integer, a4368: integer, a4369: integer, a4370: integer, a4371: integer, a4372: integer, a4373: integer, a4374: integer, a4375: integer, a4376: integer, a4377: integer, a4378: integer, a4379: integer, a4380: integer, a4381: integer, a4382: integer, a4383: integer, a4384: integer, a4385: integer, a4386: integer, a4387: integer, a4388: integer, a4389: integer, a4390: integer, a4391: integer, a4392: integer, a4393: integer, a4394: integer, a4395: integer, a4396: integer, a4397: integer, a4398: integer, a4399: integer, a4400: integer, a4401: integer, a4402: integer, a4403: integer, a4404: integer, a4405: integer, a4406: integer, a4407: integer, a4408: integer, a4409: integer, a4410: integer, a4411: integer, a4412: integer, a4413: integer, a4414: integer, a4415: integer, a4416: integer, a4417: integer, a4418: integer, a4419: integer, a4420: integer, a4421: integer, a4422: integer, a4423: integer, a4424: integer, a4425: integer, a4426: integer, a4427: integer, a4428: integer, a4429: integer, a4430: integer, a4431: integer, a4432: integer, a4433: integer, a4434: integer, a4435: integer, a4436: integer, a4437: integer, a4438: integer, a4439: integer, a4440: integer, a4441: integer, a4442: integer, a4443: integer, a4444: integer, a4445: integer, a4446: integer, a4447: integer, a4448: integer, a4449: integer, a4450: integer, a4451: integer, a4452: integer, a4453: integer, a4454: integer, a4455: integer, a4456: integer, a4457: integer, a4458: integer, a4459: integer, a4460: integer, a4461: integer, a4462: integer, a4463: integer, a4464: integer, a4465: integer, a4466: integer, a4467: integer, a4468: integer, a4469: integer, a4470: integer, a4471: integer, a4472: integer, a4473: integer, a4474: integer, a4475: integer, a4476: integer, a4477: integer, a4478: integer, a4479: integer, a4480: integer, a4481: integer, a4482: integer, a4483: integer, a4484: integer, a4485: integer, a4486: integer, a4487: integer, a4488: integer, a4489: integer, a4490: integer, a4491: integer, a4492: integer, a4493: integer, a4494: integer, a4495: integer, a4496: integer, a4497: integer, a4498: integer, a4499: integer, a4500: integer, a4501: integer, a4502: integer, a4503: integer, a4504: integer, a4505: integer, a4506: integer, a4507: integer, a4508: integer, a4509: integer, a4510: integer, a4511: integer, a4512: integer, a4513: integer, a4514: integer, a4515: integer, a4516: integer, a4517: integer, a4518: integer, a4519: integer, a4520: integer, a4521: integer, a4522: integer, a4523: integer, a4524: integer, a4525: integer, a4526: integer, a4527: integer, a4528: integer, a4529: integer, a4530: integer, a4531: integer, a4532: integer, a4533: integer, a4534: integer, a4535: integer, a4536: integer, a4537: integer, a4538: integer, a4539: integer, a4540: integer, a4541: integer, a4542: integer, a4543: integer, a4544: integer, a4545: integer, a4546: integer, a4547: integer, a4548: integer, a4549: integer, a4550: integer, a4551: integer, a4552: integer, a4553: integer, a4554: integer, a4555: integer, a4556: integer, a4557: integer, a4558: integer, a4559: integer, a4560: integer, a4561: integer, a4562: integer, a4563: integer, a4564: integer, a4565: integer, a4566: integer, a4567: integer, a4568: integer, a4569: integer, a4570: integer, a4571: integer, a4572: integer, a4573: integer, a4574: integer, a4575: integer, a4576: integer, a4577: integer, a4578: integer, a4579: integer, a4580: integer, a4581: integer, a4582: integer, a4583: integer, a4584: integer, a4585: integer, a4586: integer, a4587: integer, a4588: integer, a4589: integer, a4590: integer, a4591: integer, a4592: integer, a4593: integer, a4594: integer, a4595: integer, a4596: integer, a4597: integer, a4598: integer, a4599: integer, a4600: integer, a4601: integer, a4602: integer, a4603: integer, a4604: integer, a4605: integer, a4606: integer, a4607: integer, a4608: integer, a4609: integer, a4610: integer, a4611: integer, a4612: integer, a4613: integer, a4614: integer, a4615: integer, a4616: integer, a4617: integer, a4618: integer, a4619: integer, a4620: integer, a4621: integer, a4622: integer, a4623: integer, a4624: integer, a4625: integer, a4626: integer, a4627: integer, a4628: integer, a4629: integer, a4630: integer, a4631: integer, a4632: integer, a4633: integer, a4634: integer, a4635: integer, a4636: integer, a4637: integer, a4638: integer, a4639: integer, a4640: integer, a4641: integer, a4642: integer, a4643: integer, a4644: integer, a4645: integer, a4646: integer, a4647: integer, a4648: integer, a4649: integer, a4650: integer, a4651: integer, a4652: integer, a4653: integer, a4654: integer, a4655: integer, a4656: integer, a4657: integer, a4658: integer, a4659: integer, a4660: integer, a4661: integer, a4662: integer, a4663: integer, a4664: integer, a4665: integer, a4666: integer, a4667: integer, a4668: integer, a4669: integer, a4670: integer, a4671: integer, a4672: integer, a4673: integer, a4674: integer, a4675: integer, a4676: integer, a4677: integer, a4678: integer, a4679: integer, a4680: integer, a4681: integer, a4682: integer, a4683: integer, a4684: integer, a4685: integer, a4686: integer, a4687: integer, a4688: integer, a4689: integer, a4690: integer, a4691: integer, a4692: integer, a4693: integer, a4694: integer, a4695: integer, a4696: integer, a4697: integer, a4698: integer, a4699: integer, a4700: integer, a4701: integer, a4702: integer, a4703: integer, a4704: integer, a4705: integer, a4706: integer, a4707: integer, a4708: integer, a4709: integer, a4710: integer, a4711: integer, a4712: integer, a4713: integer, a4714: integer, a4715: integer, a4716: integer, a4717: integer, a4718: integer, a4719: integer, a4720: integer, a4721: integer, a4722: integer, a4723: integer, a4724: integer, a4725: integer, a4726: integer, a4727: integer, a4728: integer, a4729: integer, a4730: integer, a4731: integer, a4732: integer, a4733: integer, a4734: integer, a4735: integer, a4736: integer, a4737: integer, a4738: integer, a4739: integer, a4740: integer, a4741: integer, a4742: integer, a4743: integer, a4744: integer, a4745: integer, a4746: integer, a4747: integer, a4748: integer, a4749: integer, a4750: integer, a4751: integer, a4752: integer, a4753: integer, a4754: integer, a4755: integer, a4756: integer, a4757: integer, a4758: integer, a4759: integer, a4760: integer, a4761: integer, a4762: integer, a4763: integer, a4764: integer, a4765: integer, a4766: integer, a4767: integer, a4768: integer, a4769: integer, a4770: integer, a4771: integer, a4772: integer, a4773: integer, a4774: integer, a4775: integer, a4776: integer, a4777: integer, a4778: integer, a4779: integer, a4780: integer, a4781: integer, a4782: integer, a4783: integer, a4784: integer, a4785: integer, a4786: integer, a4787: integer, a4788: integer, a4789: integer, a4790: integer, a4791: integer, a4792: integer, a4793: integer, a4794: integer, a4795: integer, a4796: integer, a4797: integer, a4798: integer, a4799: integer, a4800: integer, a4801: integer, a4802: integer, a4803: integer, a4804: integer, a4805: integer, a4806: integer, a4807: integer, a4808: integer, a4809: integer, a4810: integer, a4811: integer, a4812: integer, a4813: integer, a4814: integer, a4815: integer, a4816: integer, a4817: integer, a4818: integer, a4819: integer, a4820: integer, a4821: integer, a4822: integer, a4823: integer, a4824: integer, a4825: integer, a4826: integer, a4827: integer, a4828: integer, a4829: integer, a4830: integer, a4831: integer, a4832: integer, a4833: integer, a4834: integer, a4835: integer, a4836: integer, a4837: integer, a4838: integer, a4839: integer, a4840: integer, a4841: integer, a4842: integer, a4843: integer, a4844: integer, a4845: integer, a4846: integer, a4847: integer, a4848: integer, a4849: integer, a4850: integer, a4851: integer, a4852: integer, a4853: integer, a4854: integer, a4855: integer, a4856: integer, a4857: integer, a4858: integer, a4859: integer, a4860: integer, a4861: integer, a4862: integer, a4863: integer, a4864: integer, a4865: integer, a4866: integer, a4867: integer, a4868: integer, a4869: integer, a4870: integer, a4871: integer, a4872: integer, a4873: integer, a4874: integer, a4875: integer, a4876: integer, a4877: integer, a4878: integer, a4879: integer, a4880: integer, a4881: integer, a4882: integer, a4883: integer, a4884: integer, a4885: integer, a4886: integer, a4887: integer, a4888: integer, a4889: integer, a4890: integer, a4891: integer, a4892: integer, a4893: integer, a4894: integer, a4895: integer, a4896: integer, a4897: integer, a4898: integer, a4899: integer, a4900: integer, a4901: integer, a4902: integer, a4903: integer, a4904: integer, a4905: integer, a4906: integer, a4907: integer, a4908: integer, a4909: integer, a4910: integer, a4911: integer, a4912: integer, a4913: integer, a4914: integer, a4915: integer, a4916: integer, a4917: integer, a4918: integer, a4919: integer, a4920: integer, a4921: integer, a4922: integer, a4923: integer, a4924: integer, a4925: integer, a4926: integer, a4927: integer, a4928: integer, a4929: integer, a4930: integer, a4931: integer, a4932: integer, a4933: integer, a4934: integer, a4935: integer, a4936: integer, a4937: integer, a4938: integer, a4939: integer, a4940: integer, a4941: integer, a4942: integer, a4943: integer, a4944: integer, a4945: integer, a4946: integer, a4947: integer, a4948: integer, a4949: integer, a4950: integer, a4951: integer, a4952: integer, a4953: integer, a4954: integer, a4955: integer, a4956: integer, a4957: integer, a4958: integer, a4959: integer, a4960: integer, a4961: integer, a4962: integer, a4963: integer, a4964: integer, a4965: integer, a4966: integer, a4967: integer, a4968: integer, a4969: integer, a4970: integer, a4971: integer, a4972: integer, a4973: integer, a4974: integer, a4975: integer, a4976: integer, a4977: integer, a4978: integer, a4979: integer, a4980: integer, a4981: integer, a4982: integer, a4983: integer, a4984: integer, a4985: integer, a4986: integer, a4987: integer, a4988: integer, a4989: integer, a4990: integer, a4991: integer, a4992: integer, a4993: integer, a4994: integer, a4995: integer, a4996: integer, a4997: integer, a4998: integer, a4999: integer, a5000: integer, a5001: integer, a5002: integer, a5003: integer, a5004: integer, a5005: integer, a5006: integer, a5007: integer, a5008: integer, a5009: integer, a5010: integer, a5011: integer, a5012: integer, a5013: integer, a5014: integer, a5015: integer, a5016: integer, a5017: integer, a5018: integer, a5019: integer, a5020: integer, a5021: integer, a5022: integer, a5023: integer, a5024: integer, a5025: integer, a5026: integer, a5027: integer, a5028: integer, a5029: integer, a5030: integer, a5031: integer, a5032: integer, a5033: integer, a5034: integer, a5035: integer, a5036: integer, a5037: integer, a5038: integer, a5039: integer, a5040: integer, a5041: integer, a5042: integer, a5043: integer, a5044: integer, a5045: integer, a5046: integer, a5047: integer, a5048: integer, a5049: integer, a5050: integer, a5051: integer, a5052: integer, a5053: integer, a5054: integer, a5055: integer, a5056: integer, a5057: integer, a5058: integer, a5059: integer, a5060: integer, a5061: integer, a5062: integer, a5063: integer, a5064: integer, a5065: integer, a5066: integer, a5067: integer, a5068: integer, a5069: integer, a5070: integer, a5071: integer, a5072: integer, a5073: integer, a5074: integer, a5075: integer, a5076: integer, a5077: integer, a5078: integer, a5079: integer, a5080: integer, a5081: integer, a5082: integer, a5083: integer, a5084: integer, a5085: integer, a5086: integer, a5087: integer, a5088: integer, a5089: integer, a5090: integer, a5091: integer, a5092: integer, a5093: integer, a5094: integer, a5095: integer, a5096: integer, a5097: integer, a5098: integer, a5099: integer, a5100: integer, a5101: integer, a5102: integer, a5103: integer, a5104: integer, a5105: integer, a5106: integer, a5107: integer, a5108: integer, a5109: integer, a5110: integer, a5111: integer, a5112: integer, a5113: integer, a5114: integer, a5115: integer, a5116: integer, a5117: integer, a5118: integer, a5119: integer, a5120: integer, a5121: integer, a5122: integer, a5123: integer, a5124: integer, a5125: integer, a5126: integer, a5127: integer, a5128: integer, a5129: integer, a5130: integer, a5131: integer, a5132: integer, a5133: integer, a5134: integer, a5135: integer, a5136: integer, a5137: integer, a5138: integer, a5139: integer, a5140: integer, a5141: integer, a5142: integer, a5143: integer, a5144: integer, a5145: integer, a5146: integer, a5147: integer, a5148: integer, a5149: integer, a5150: integer, a5151: integer, a5152: integer, a5153: integer, a5154: integer, a5155: integer, a5156: integer, a5157: integer, a5158: integer, a5159: integer, a5160: integer, a5161: integer, a5162: integer, a5163: integer, a5164: integer, a5165: integer, a5166: integer, a5167: integer, a5168: integer, a5169: integer, a5170: integer, a5171: integer, a5172: integer, a5173: integer, a5174: integer, a5175: integer, a5176: integer, a5177: integer, a5178: integer, a5179: integer, a5180: integer, a5181: integer, a5182: integer, a5183: integer, a5184: integer, a5185: integer, a5186: integer, a5187: integer, a5188: integer, a5189: integer, a5190: integer, a5191: integer, a5192: integer, a5193: integer, a5194: integer, a5195: integer, a5196: integer, a5197: integer, a5198: integer, a5199: integer, a5200: integer, a5201: integer, a5202: integer, a5203: integer, a5204: integer, a5205: integer, a5206: integer, a5207: integer, a5208: integer, a5209: integer, a5210: integer, a5211: integer, a5212: integer, a5213: integer, a5214: integer, a5215: integer, a5216: integer, a5217: integer, a5218: integer, a5219: integer, a5220: integer, a5221: integer, a5222: integer, a5223: integer, a5224: integer, a5225: integer, a5226: integer, a5227: integer, a5228: integer, a5229: integer, a5230: integer, a5231: integer, a5232: integer, a5233: integer, a5234: integer, a5235: integer, a5236: integer, a5237: integer, a5238: integer, a5239: integer, a5240: integer, a5241: integer, a5242: integer, a5243: integer, a5244: integer, a5245: integer, a5246: integer, a5247: integer, a5248: integer, a5249: integer, a5250: integer, a5251: integer, a5252: integer, a5253: integer, a5254: integer, a5255: integer, a5256: integer, a5257: integer, a5258: integer, a5259: integer, a5260: integer, a5261: integer, a5262: integer, a5263: integer, a5264: integer, a5265: integer, a5266: integer, a5267: integer, a5268: integer, a5269: integer, a5270: integer, a5271: integer, a5272: integer, a5273: integer, a5274: integer, a5275: integer, a5276: integer, a5277: integer, a5278: integer, a5279: integer, a5280: integer, a5281: integer, a5282: integer, a5283: integer, a5284: integer, a5285: integer, a5286: integer, a5287: integer, a5288: integer, a5289: integer, a5290: integer, a5291: integer, a5292: integer, a5293: integer, a5294: integer, a5295: integer, a5296: integer, a5297: integer, a5298: integer, a5299: integer, a5300: integer, a5301: integer, a5302: integer, a5303: integer, a5304: integer, a5305: integer, a5306: integer, a5307: integer, a5308: integer, a5309: integer, a5310: integer, a5311: integer, a5312: integer, a5313: integer, a5314: integer, a5315: integer, a5316: integer, a5317: integer, a5318: integer, a5319: integer, a5320: integer, a5321: integer, a5322: integer, a5323: integer, a5324: integer, a5325: integer, a5326: integer, a5327: integer, a5328: integer, a5329: integer, a5330: integer, a5331: integer, a5332: integer, a5333: integer, a5334: integer, a5335: integer, a5336: integer, a5337: integer, a5338: integer, a5339: integer, a5340: integer, a5341: integer, a5342: integer, a5343: integer, a5344: integer, a5345: integer, a5346: integer, a5347: integer, a5348: integer, a5349: integer, a5350: integer, a5351: integer, a5352: integer, a5353: integer, a5354: integer, a5355: integer, a5356: integer, a5357: integer, a5358: integer, a5359: integer, a5360: integer, a5361: integer, a5362: integer, a5363: integer, a5364: integer, a5365: integer, a5366: integer, a5367: integer, a5368: integer, a5369: integer, a5370: integer, a5371: integer, a5372: integer, a5373: integer, a5374: integer, a5375: integer, a5376: integer, a5377: integer, a5378: integer, a5379: integer, a5380: integer, a5381: integer, a5382: integer, a5383: integer, a5384: integer, a5385: integer, a5386: integer, a5387: integer, a5388: integer, a5389: integer, a5390: integer, a5391: integer, a5392: integer, a5393: integer, a5394: integer, a5395: integer, a5396: integer, a5397: integer, a5398: integer, a5399: integer, a5400: integer, a5401: integer, a5402: integer, a5403: integer, a5404: integer, a5405: integer, a5406: integer, a5407: integer, a5408: integer, a5409: integer, a5410: integer, a5411: integer, a5412: integer, a5413: integer, a5414: integer, a5415: integer, a5416: integer, a5417: integer, a5418: integer, a5419: integer, a5420: integer, a5421: integer, a5422: integer, a5423: integer, a5424: integer, a5425: integer, a5426: integer, a5427: integer, a5428: integer, a5429: integer, a5430: integer, a5431: integer, a5432: integer, a5433: integer, a5434: integer, a5435: integer, a5436: integer, a5437: integer, a5438: integer, a5439: integer, a5440: integer, a5441: integer, a5442: integer, a5443: integer, a5444: integer, a5445: integer, a5446: integer, a5447: integer, a5448: integer, a5449: integer, a5450: integer, a5451: integer, a5452: integer, a5453: integer, a5454: integer, a5455: integer, a5456: integer, a5457: integer, a5458: integer, a5459: integer, a5460: integer, a5461: integer, a5462: integer, a5463: integer, a5464: integer, a5465: integer, a5466: integer, a5467: integer, a5468: integer, a5469: integer, a5470: integer, a5471: integer, a5472: integer, a5473: integer, a5474: integer, a5475: integer, a5476: integer, a5477: integer, a5478: integer, a5479: integer, a5480: integer, a5481: integer, a5482: integer, a5483: integer, a5484: integer, a5485: integer, a5486: integer, a5487: integer, a5488: integer, a5489: integer, a5490: integer, a5491: integer, a5492: integer, a5493: integer, a5494: integer, a5495: integer, a5496: integer, a5497: integer, a5498: integer, a5499: integer, a5500: integer, a5501: integer, a5502: integer, a5503: integer, a5504: integer, a5505: integer, a5506: integer, a5507: integer, a5508: integer, a5509: integer, a5510: integer, a5511: integer, a5512: integer, a5513: integer, a5514: integer, a5515: integer, a5516: integer, a5517: integer, a5518: integer, a5519: integer, a5520: integer, a5521: integer, a5522: integer, a5523: integer, a5524: integer, a5525: integer, a5526: integer, a5527: integer, a5528: integer, a5529: integer, a5530: integer, a5531: integer, a5532: integer, a5533: integer, a5534: integer, a5535: integer, a5536: integer, a5537: integer, a5538: integer, a5539: integer, a5540: integer, a5541: integer, a5542: integer, a5543: integer, a5544: integer, a5545: integer, a5546: integer, a5547: integer, a5548: integer, a5549: integer, a5550: integer, a5551: integer, a5552: integer, a5553: integer, a5554: integer, a5555: integer, a5556: integer, a5557: integer, a5558: integer, a5559: integer, a5560: integer, a5561: integer, a5562: integer, a5563: integer, a5564: integer, a5565: integer, a5566: integer, a5567: integer, a5568: integer, a5569: integer, a5570: integer, a5571: integer, a5572: integer, a5573: integer, a5574: integer, a5575: integer, a5576: integer, a5577: integer, a5578: integer, a5579: integer, a5580: integer, a5581: integer, a5582: integer, a5583: integer, a5584: integer, a5585: integer, a5586: integer, a5587: integer, a5588: integer, a5589: integer, a5590: integer, a5591: integer, a5592: integer, a5593: integer, a5594: integer, a5595: integer, a5596: integer, a5597: integer, a5598: integer, a5599: integer, a5600: integer, a5601: integer, a5602: integer, a5603: integer, a5604: integer, a5605: integer, a5606: integer, a5607: integer, a5608: integer, a5609: integer, a5610: integer, a5611: integer, a5612: integer, a5613: integer, a5614: integer, a5615: integer, a5616: integer, a5617: integer, a5618: integer, a5619: integer, a5620: integer, a5621: integer, a5622: integer, a5623: integer, a5624: integer, a5625: integer, a5626: integer, a5627: integer, a5628: integer, a5629: integer, a5630: integer, a5631: integer, a5632: integer, a5633: integer, a5634: integer, a5635: integer, a5636: integer, a5637: integer, a5638: integer, a5639: integer, a5640: integer, a5641: integer, a5642: integer, a5643: integer, a5644: integer, a5645: integer, a5646: integer, a5647: integer, a5648: integer, a5649: integer, a5650: integer, a5651: integer, a5652: integer, a5653: integer, a5654: integer, a5655: integer, a5656: integer, a5657: integer, a5658: integer, a5659: integer, a5660: integer, a5661: integer, a5662: integer, a5663: integer, a5664: integer, a5665: integer, a5666: integer, a5667: integer, a5668: integer, a5669: integer, a5670: integer, a5671: integer, a5672: integer, a5673: integer, a5674: integer, a5675: integer, a5676: integer, a5677: integer, a5678: integer, a5679: integer, a5680: integer, a5681: integer, a5682: integer, a5683: integer, a5684: integer, a5685: integer, a5686: integer, a5687: integer, a5688: integer, a5689: integer, a5690: integer, a5691: integer, a5692: integer, a5693: integer, a5694: integer, a5695: integer, a5696: integer, a5697: integer, a5698: integer, a5699: integer, a5700: integer, a5701: integer, a5702: integer, a5703: integer, a5704: integer, a5705: integer, a5706: integer, a5707: integer, a5708: integer, a5709: integer, a5710: integer, a5711: integer, a5712: integer, a5713: integer, a5714: integer, a5715: integer, a5716: integer, a5717: integer, a5718: integer, a5719: integer, a5720: integer, a5721: integer, a5722: integer, a5723: integer, a5724: integer, a5725: integer, a5726: integer, a5727: integer, a5728: integer, a5729: integer, a5730: integer, a5731: integer, a5732: integer, a5733: integer, a5734: integer, a5735: integer, a5736: integer, a5737: integer, a5738: integer, a5739: integer, a5740: integer, a5741: integer, a5742: integer, a5743: integer, a5744: integer, a5745: integer, a5746: integer, a5747: integer, a5748: integer, a5749: integer, a5750: integer, a5751: integer, a5752: integer, a5753: integer, a5754: integer, a5755: integer, a5756: integer, a5757: integer, a5758: integer, a5759: integer, a5760: integer, a5761: integer, a5762: integer, a5763: integer, a5764: integer, a5765: integer, a5766: integer, a5767: integer, a5768: integer, a5769: integer, a5770: integer, a5771: integer, a5772: integer, a5773: integer, a5774: integer, a5775: integer, a5776: integer, a5777: integer, a5778: integer, a5779: integer, a5780: integer, a5781: integer, a5782: integer, a5783: integer, a5784: integer, a5785: integer, a5786: integer, a5787: integer, a5788: integer, a5789: integer, a5790: integer, a5791: integer, a5792: integer, a5793: integer, a5794: integer, a5795: integer, a5796: integer, a5797: integer, a5798: integer, a5799: integer, a5800: integer, a5801: integer, a5802: integer, a5803: integer, a5804: integer, a5805: integer, a5806: integer, a5807: integer, a5808: integer, a5809: integer, a5810: integer, a5811: integer, a5812: integer, a5813: integer, a5814: integer, a5815: integer, a5816: integer, a5817: integer, a5818: integer, a5819: integer, a5820: integer, a5821: integer, a5822: integer, a5823: integer, a5824: integer, a5825: integer, a5826: integer, a5827: integer, a5828: integer, a5829: integer, a5830: integer, a5831: integer, a5832: integer, a5833: integer, a5834: integer, a5835: integer, a5836: integer, a5837: integer, a5838: integer, a5839: integer, a5840: integer, a5841: integer, a5842: integer, a5843: integer, a5844: integer, a5845: integer, a5846: integer, a5847: integer, a5848: integer, a5849: integer, a5850: integer, a5851: integer, a5852: integer, a5853: integer, a5854: integer, a5855: integer, a5856: integer, a5857: integer, a5858: integer, a5859: integer, a5860: integer, a5861: integer, a5862: integer, a5863: integer, a5864: integer, a5865: integer, a5866: integer, a5867: integer, a5868: integer, a5869: integer, a5870: integer, a5871: integer, a5872: integer, a5873: integer, a5874: integer, a5875: integer, a5876: integer, a5877: integer, a5878: integer, a5879: integer, a5880: integer, a5881: integer, a5882: integer, a5883: integer, a5884: integer, a5885: integer, a5886: integer, a5887: integer, a5888: integer, a5889: integer, a5890: integer, a5891: integer, a5892: integer, a5893: integer, a5894: integer, a5895: integer, a5896: integer, a5897: integer, a5898: integer, a5899: integer, a5900: integer, a5901: integer, a5902: integer, a5903: integer, a5904: integer, a5905: integer, a5906: integer, a5907: integer, a5908: integer, a5909: integer, a5910: integer, a5911: integer, a5912: integer, a5913: integer, a5914: integer, a5915: integer, a5916: integer, a5917: integer, a5918: integer, a5919: integer, a5920: integer, a5921: integer, a5922: integer, a5923: integer, a5924: integer, a5925: integer, a5926: integer, a5927: integer, a5928: integer, a5929: integer, a5930: integer, a5931: integer, a5932: integer, a5933: integer, a5934: integer, a5935: integer, a5936: integer, a5937: integer, a5938: integer, a5939: integer, a5940: integer, a5941: integer, a5942: integer, a5943: integer, a5944: integer, a5945: integer, a5946: integer, a5947: integer, a5948: integer, a5949: integer, a5950: integer, a5951: integer, a5952: integer, a5953: integer, a5954: integer, a5955: integer, a5956: integer, a5957: integer, a5958: integer, a5959: integer, a5960: integer, a5961: integer, a5962: integer, a5963: integer, a5964: integer, a5965: integer, a5966: integer, a5967: integer, a5968: integer, a5969: integer, a5970: integer, a5971: integer, a5972: integer, a5973: integer, a5974: integer, a5975: integer, a5976: integer, a5977: integer, a5978: integer, a5979: integer, a5980: integer, a5981: integer, a5982: integer, a5983: integer, a5984: integer, a5985: integer, a5986: integer, a5987: integer, a5988: integer, a5989: integer, a5990: integer, a5991: integer, a5992: integer, a5993: integer, a5994: integer, a5995: integer, a5996: integer, a5997: integer, a5998: integer, a5999: integer, a6000: integer, a6001: integer, a6002: integer, a6003: integer, a6004: integer, a6005: integer, a6006: integer, a6007: integer, a6008: integer, a6009: integer, a6010: integer, a6011: integer, a6012: integer, a6013: integer, a6014: integer, a6015: integer, a6016: integer, a6017: integer, a6018: integer, a6019: integer, a6020: integer, a6021: integer, a6022: integer, a6023: integer, a6024: integer, a6025: integer, a6026: integer, a6027: integer, a6028: integer, a6029: integer, a6030: integer, a6031: integer, a6032: integer, a6033: integer, a6034: integer, a6035: integer, a6036: integer, a6037: integer, a6038: integer, a6039: integer, a6040: integer, a6041: integer, a6042: integer, a6043: integer, a6044: integer, a6045: integer, a6046: integer, a6047: integer, a6048: integer, a6049: integer, a6050: integer, a6051: integer, a6052: integer, a6053: integer, a6054: integer, a6055: integer, a6056: integer, a6057: integer, a6058: integer, a6059: integer, a6060: integer, a6061: integer, a6062: integer, a6063: integer, a6064: integer, a6065: integer, a6066: integer, a6067: integer, a6068: integer, a6069: integer, a6070: integer, a6071: integer, a6072: integer, a6073: integer, a6074: integer, a6075: integer, a6076: integer, a6077: integer, a6078: integer, a6079: integer, a6080: integer, a6081: integer, a6082: integer, a6083: integer, a6084: integer, a6085: integer, a6086: integer, a6087: integer, a6088: integer, a6089: integer, a6090: integer, a6091: integer, a6092: integer, a6093: integer, a6094: integer, a6095: integer, a6096: integer, a6097: integer, a6098: integer, a6099: integer, a6100: integer, a6101: integer, a6102: integer, a6103: integer, a6104: integer, a6105: integer, a6106: integer, a6107: integer, a6108: integer, a6109: integer, a6110: integer, a6111: integer, a6112: integer, a6113: integer, a6114: integer, a6115: integer, a6116: integer, a6117: integer, a6118: integer, a6119: integer, a6120: integer, a6121: integer, a6122: integer, a6123: integer, a6124: integer, a6125: integer, a6126: integer, a6127: integer, a6128: integer, a6129: integer, a6130: integer, a6131: integer, a6132: integer, a6133: integer, a6134: integer, a6135: integer, a6136: integer, a6137: integer, a6138: integer, a6139: integer, a6140: integer, a6141: integer, a6142: integer, a6143: integer, a6144: integer, a6145: integer, a6146: integer, a6147: integer, a6148: integer, a6149: integer, a6150: integer, a6151: integer, a6152: integer, a6153: integer, a6154: integer, a6155: integer, a6156: integer, a6157: integer, a6158: integer, a6159: integer, a6160: integer, a6161: integer, a6162: integer, a6163: integer, a6164: integer, a6165: integer, a6166: integer, a6167: integer, a6168: integer, a6169: integer, a6170: integer, a6171: integer, a6172: integer, a6173: integer, a6174: integer, a6175: integer, a6176: integer, a6177: integer, a6178: integer, a6179: integer, a6180: integer, a6181: integer, a6182: integer, a6183: integer, a6184: integer, a6185: integer, a6186: integer, a6187: integer, a6188: integer, a6189: integer, a6190: integer, a6191: integer, a6192: integer, a6193: integer, a6194: integer, a6195: integer, a6196: integer, a6197: integer, a6198: integer, a6199: integer, a6200: integer, a6201: integer, a6202: integer, a6203: integer, a6204: integer, a6205: integer, a6206: integer, a6207: integer, a6208: integer, a6209: integer, a6210: integer, a6211: integer, a6212: integer, a6213: integer, a6214: integer, a6215: integer, a6216: integer, a6217: integer, a6218: integer, a6219: integer, a6220: integer, a6221: integer, a6222: integer, a6223: integer, a6224: integer, a6225: integer, a6226: integer, a6227: integer, a6228: integer, a6229: integer, a6230: integer, a6231: integer, a6232: integer, a6233: integer, a6234: integer, a6235: integer, a6236: integer, a6237: integer, a6238: integer, a6239: integer, a6240: integer, a6241: integer, a6242: integer, a6243: integer, a6244: integer, a6245: integer, a6246: integer, a6247: integer, a6248: integer, a6249: integer, a6250: integer, a6251: integer, a6252: integer, a6253: integer, a6254: integer, a6255: integer, a6256: integer, a6257: integer, a6258: integer, a6259: integer, a6260: integer, a6261: integer, a6262: integer, a6263: integer, a6264: integer, a6265: integer, a6266: integer, a6267: integer, a6268: integer, a6269: integer, a6270: integer, a6271: integer, a6272: integer, a6273: integer, a6274: integer, a6275: integer, a6276: integer, a6277: integer, a6278: integer, a6279: integer, a6280: integer, a6281: integer, a6282: integer, a6283: integer, a6284: integer, a6285: integer, a6286: integer, a6287: integer, a6288: integer, a6289: integer, a6290: integer, a6291: integer, a6292: integer, a6293: integer, a6294: integer, a6295: integer, a6296: integer, a6297: integer, a6298: integer, a6299: integer, a6300: integer, a6301: integer, a6302: integer, a6303: integer, a6304: integer, a6305: integer, a6306: integer, a6307: integer, a6308: integer, a6309: integer, a6310: integer, a6311: integer, a6312: integer, a6313: integer, a6314: integer, a6315: integer, a6316: integer, a6317: integer, a6318: integer, a6319: integer, a6320: integer, a6321: integer, a6322: integer, a6323: integer, a6324: integer, a6325: integer, a6326: integer, a6327: integer, a6328: integer, a6329: integer, a6330: integer, a6331: integer, a6332: integer, a6333: integer, a6334: integer, a6335: integer, a6336: integer, a6337: integer, a6338: integer, a6339: integer, a6340: integer, a6341: integer, a6342: integer, a6343: integer, a6344: integer, a6345: integer, a6346: integer, a6347: integer, a6348: integer, a6349: integer, a6350: integer, a6351: integer, a6352: integer, a6353: integer, a6354: integer, a6355: integer, a6356: integer, a6357: integer, a6358: integer, a6359: integer, a6360: integer, a6361: integer, a6362: integer, a6363: integer, a6364: integer, a6365: integer, a6366: integer, a6367: integer, a6368: integer, a6369: integer, a6370: integer, a6371: integer, a6372: integer, a6373: integer, a6374: integer, a6375: integer, a6376: integer, a6377: integer, a6378: integer, a6379: integer, a6380: integer, a6381: integer, a6382: integer, a6383: integer, a6384: integer, a6385: integer, a6386: integer, a6387: integer, a6388: integer, a6389: integer, a6390: integer, a6391: integer, a6392: integer, a6393: integer, a6394: integer, a6395: integer, a6396: integer, a6397: integer, a6398: integer, a6399: integer, a6400: integer, a6401: integer, a6402: integer, a6403: integer, a6404: integer, a6405: integer, a6406: integer, a6407: integer, a6408: integer, a6409: integer, a6410: integer, a6411: integer, a6412: integer, a6413: integer, a6414: integer, a6415: integer, a6416: integer, a6417: integer, a6418: integer, a6419: integer, a6420: integer, a6421: integer, a6422: integer, a6423: integer, a6424: integer, a6425: integer, a6426: integer, a6427: integer, a6428: integer, a6429: integer, a6430: integer, a6431: integer, a6432: integer, a6433: integer, a6434: integer, a6435: integer, a6436: integer, a6437: integer, a6438: integer, a6439: integer, a6440: integer, a6441: integer, a6442: integer, a6443: integer, a6444: integer, a6445: integer, a6446: integer, a6447: integer, a6448: integer, a6449: integer, a6450: integer, a6451: integer, a6452: integer, a6453: integer, a6454: integer, a6455: integer, a6456: integer, a6457: integer, a6458: integer, a6459: integer, a6460: integer, a6461: integer, a6462: integer, a6463: integer, a6464: integer, a6465: integer, a6466: integer, a6467: integer, a6468: integer, a6469: integer, a6470: integer, a6471: integer, a6472: integer, a6473: integer, a6474: integer, a6475: integer, a6476: integer, a6477: integer, a6478: integer, a6479: integer, a6480: integer, a6481: integer, a6482: integer, a6483: integer, a6484: integer, a6485: integer, a6486: integer, a6487: integer, a6488: integer, a6489: integer, a6490: integer, a6491: integer, a6492: integer, a6493: integer, a6494: integer, a6495: integer, a6496: integer, a6497: integer, a6498: integer, a6499: integer, a6500: integer, a6501: integer, a6502: integer, a6503: integer, a6504: integer, a6505: integer, a6506: integer, a6507: integer, a6508: integer, a6509: integer, a6510: integer, a6511: integer, a6512: integer, a6513: integer, a6514: integer, a6515: integer, a6516: integer, a6517: integer, a6518: integer, a6519: integer, a6520: integer, a6521: integer, a6522: integer, a6523: integer, a6524: integer, a6525: integer, a6526: integer, a6527: integer, a6528: integer, a6529: integer, a6530: integer, a6531: integer, a6532: integer, a6533: integer, a6534: integer, a6535: integer, a6536: integer, a6537: integer, a6538: integer, a6539: integer, a6540: integer, a6541: integer, a6542: integer, a6543: integer, a6544: integer, a6545: integer, a6546: integer, a6547: integer, a6548: integer, a6549: integer, a6550: integer, a6551: integer, a6552: integer, a6553: integer, a6554: integer, a6555: integer, a6556: integer, a6557: integer, a6558: integer, a6559: integer, a6560: integer, a6561: integer, a6562: integer, a6563: integer, a6564: integer, a6565: integer, a6566: integer, a6567: integer, a6568: integer, a6569: integer, a6570: integer, a6571: integer, a6572: integer, a6573: integer, a6574: integer, a6575: integer, a6576: integer, a6577: integer, a6578: integer, a6579: integer, a6580: integer, a6581: integer, a6582: integer, a6583: integer, a6584: integer, a6585: integer, a6586: integer, a6587: integer, a6588: integer, a6589: integer, a6590: integer, a6591: integer, a6592: integer, a6593: integer, a6594: integer, a6595: integer, a6596: integer, a6597: integer, a6598: integer, a6599: integer, a6600: integer, a6601: integer, a6602: integer, a6603: integer, a6604: integer, a6605: integer, a6606: integer, a6607: integer, a6608: integer, a6609: integer, a6610: integer, a6611: integer, a6612: integer, a6613: integer, a6614: integer, a6615: integer, a6616: integer, a6617: integer, a6618: integer, a6619: integer, a6620: integer, a6621: integer, a6622: integer, a6623: integer, a6624: integer, a6625: integer, a6626: integer, a6627: integer, a6628: integer, a6629: integer, a6630: integer, a6631: integer, a6632: integer, a6633: integer, a6634: integer, a6635: integer, a6636: integer, a6637: integer, a6638: integer, a6639: integer, a6640: integer, a6641: integer, a6642: integer, a6643: integer, a6644: integer, a6645: integer, a6646: integer, a6647: integer, a6648: integer, a6649: integer, a6650: integer, a6651: integer, a6652: integer, a6653: integer, a6654: integer, a6655: integer, a6656: integer, a6657: integer, a6658: integer, a6659: integer, a6660: integer, a6661: integer, a6662: integer, a6663: integer, a6664: integer, a6665: integer, a6666: integer, a6667: integer, a6668: integer, a6669: integer, a6670: integer, a6671: integer, a6672: integer, a6673: integer, a6674: integer, a6675: integer, a6676: integer, a6677: integer, a6678: integer, a6679: integer, a6680: integer, a6681: integer, a6682: integer, a6683: integer, a6684: integer, a6685: integer, a6686: integer, a6687: integer, a6688: integer, a6689: integer, a6690: integer, a6691: integer, a6692: integer, a6693: integer, a6694: integer, a6695: integer, a6696: integer, a6697: integer, a6698: integer, a6699: integer, a6700: integer, a6701: integer, a6702: integer, a6703: integer, a6704: integer, a6705: integer, a6706: integer, a6707: integer, a6708: integer, a6709: integer, a6710: integer, a6711: integer, a6712: integer, a6713: integer, a6714: integer, a6715: integer, a6716: integer, a6717: integer, a6718: integer, a6719: integer, a6720: integer, a6721: integer, a6722: integer, a6723: integer, a6724: integer, a6725: integer, a6726: integer, a6727: integer, a6728: integer, a6729: integer, a6730: integer, a6731: integer, a6732: integer, a6733: integer, a6734: integer, a6735: integer, a6736: integer, a6737: integer, a6738: integer, a6739: integer, a6740: integer, a6741: integer, a6742: integer, a6743: integer, a6744: integer, a6745: integer, a6746: integer, a6747: integer, a6748: integer, a6749: integer, a6750: integer, a6751: integer, a6752: integer, a6753: integer, a6754: integer, a6755: integer, a6756: integer, a6757: integer, a6758: integer, a6759: integer, a6760: integer, a6761: integer, a6762: integer, a6763: integer, a6764: integer, a6765: integer, a6766: integer, a6767: integer, a6768: integer, a6769: integer, a6770: integer, a6771: integer, a6772: integer, a6773: integer, a6774: integer, a6775: integer, a6776: integer, a6777: integer, a6778: integer, a6779: integer, a6780: integer, a6781: integer, a6782: integer, a6783: integer, a6784: integer, a6785: integer, a6786: integer, a6787: integer, a6788: integer, a6789: integer, a6790: integer, a6791: integer, a6792: integer, a6793: integer, a6794: integer, a6795: integer, a6796: integer, a6797: integer, a6798: integer, a6799: integer, a6800: integer, a6801: integer, a6802: integer, a6803: integer, a6804: integer, a6805: integer, a6806: integer, a6807: integer, a6808: integer, a6809: integer, a6810: integer, a6811: integer, a6812: integer, a6813: integer, a6814: integer, a6815: integer, a6816: integer, a6817: integer, a6818: integer, a6819: integer, a6820: integer, a6821: integer, a6822: integer, a6823: integer, a6824: integer, a6825: integer, a6826: integer, a6827: integer, a6828: integer, a6829: integer, a6830: integer, a6831: integer, a6832: integer, a6833: integer, a6834: integer, a6835: integer, a6836: integer, a6837: integer, a6838: integer, a6839: integer, a6840: integer, a6841: integer, a6842: integer, a6843: integer, a6844: integer, a6845: integer, a6846: integer, a6847: integer, a6848: integer, a6849: integer, a6850: integer, a6851: integer, a6852: integer, a6853: integer, a6854: integer, a6855: integer, a6856: integer, a6857: integer, a6858: integer, a6859: integer, a6860: integer, a6861: integer, a6862: integer, a6863: integer, a6864: integer, a6865: integer, a6866: integer, a6867: integer, a6868: integer, a6869: integer, a6870: integer, a6871: integer, a6872: integer, a6873: integer, a6874: integer, a6875: integer, a6876: integer, a6877: integer, a6878: integer, a6879: integer, a6880: integer, a6881: integer, a6882: integer, a6883: integer, a6884: integer, a6885: integer, a6886: integer, a6887: integer, a6888: integer, a6889: integer, a6890: integer, a6891: integer, a6892: integer, a6893: integer, a6894: integer, a6895: integer, a6896: integer, a6897: integer, a6898: integer, a6899: integer, a6900: integer, a6901: integer, a6902: integer, a6903: integer, a6904: integer, a6905: integer, a6906: integer, a6907: integer, a6908: integer, a6909: integer, a6910: integer, a6911: integer, a6912: integer, a6913: integer, a6914: integer, a6915: integer, a6916: integer, a6917: integer, a6918: integer, a6919: integer, a6920: integer, a6921: integer, a6922: integer, a6923: integer, a6924: integer, a6925: integer, a6926: integer, a6927: integer, a6928: integer, a6929: integer, a6930: integer, a6931: integer, a6932: integer, a6933: integer, a6934: integer, a6935: integer, a6936: integer, a6937: integer, a6938: integer, a6939: integer, a6940: integer, a6941: integer, a6942: integer, a6943: integer, a6944: integer, a6945: integer, a6946: integer, a6947: integer, a6948: integer, a6949: integer, a6950: integer, a6951: integer, a6952: integer, a6953: integer, a6954: integer, a6955: integer, a6956: integer, a6957: integer, a6958: integer, a6959: integer, a6960: integer, a6961: integer, a6962: integer, a6963: integer, a6964: integer, a6965: integer, a6966: integer, a6967: integer, a6968: integer, a6969: integer, a6970: integer, a6971: integer, a6972: integer, a6973: integer, a6974: integer, a6975: integer, a6976: integer, a6977: integer, a6978: integer, a6979: integer, a6980: integer, a6981: integer, a6982: integer, a6983: integer, a6984: integer, a6985: integer, a6986: integer, a6987: integer, a6988: integer, a6989: integer, a6990: integer, a6991: integer, a6992: integer, a6993: integer, a6994: integer, a6995: integer, a6996: integer, a6997: integer, a6998: integer, a6999: integer, a7000: integer, a7001: integer, a7002: integer, a7003: integer, a7004: integer, a7005: integer, a7006: integer, a7007: integer, a7008: integer, a7009: integer, a7010: integer, a7011: integer, a7012: integer, a7013: integer, a7014: integer, a7015: integer, a7016: integer, a7017: integer, a7018: integer, a7019: integer, a7020: integer, a7021: integer, a7022: integer, a7023: integer, a7024: integer, a7025: integer, a7026: integer, a7027: integer, a7028: integer, a7029: integer, a7030: integer, a7031: integer, a7032: integer, a7033: integer, a7034: integer, a7035: integer, a7036: integer, a7037: integer, a7038: integer, a7039: integer, a7040: integer, a7041: integer, a7042: integer, a7043: integer, a7044: integer, a7045: integer, a7046: integer, a7047: integer, a7048: integer, a7049: integer, a7050: integer, a7051: integer, a7052: integer, a7053: integer, a7054: integer, a7055: integer, a7056: integer, a7057: integer, a7058: integer, a7059: integer, a7060: integer, a7061: integer, a7062: integer, a7063: integer, a7064: integer, a7065: integer, a7066: integer, a7067: integer, a7068: integer, a7069: integer, a7070: integer, a7071: integer, a7072: integer, a7073: integer, a7074: integer, a7075: integer, a7076: integer, a7077: integer, a7078: integer, a7079: integer, a7080: integer, a7081: integer, a7082: integer, a7083: integer, a7084: integer, a7085: integer, a7086: integer, a7087: integer, a7088: integer, a7089: integer, a7090: integer, a7091: integer, a7092: integer, a7093: integer, a7094: integer, a7095: integer, a7096: integer, a7097: integer, a7098: integer, a7099: integer, a7100: integer, a7101: integer, a7102: integer, a7103: integer, a7104: integer, a7105: integer, a7106: integer, a7107: integer, a7108: integer, a7109: integer, a7110: integer, a7111: integer, a7112: integer, a7113: integer, a7114: integer, a7115: integer, a7116: integer, a7117: integer, a7118: integer, a7119: integer, a7120: integer, a7121: integer, a7122: integer, a7123: integer, a7124: integer, a7125: integer, a7126: integer, a7127: integer, a7128: integer, a7129: integer, a7130: integer, a7131: integer, a7132: integer, a7133: integer, a7134: integer, a7135: integer, a7136: integer, a7137: integer, a7138: integer, a7139: integer, a7140: integer, a7141: integer, a7142: integer, a7143: integer, a7144: integer, a7145: integer, a7146: integer, a7147: integer, a7148: integer, a7149: integer, a7150: integer, a7151: integer, a7152: integer, a7153: integer, a7154: integer, a7155: integer, a7156: integer, a7157: integer, a7158: integer, a7159: integer, a7160: integer, a7161: integer, a7162: integer, a7163: integer, a7164: integer, a7165: integer, a7166: integer, a7167: integer, a7168: integer, a7169: integer, a7170: integer, a7171: integer, a7172: integer, a7173: integer, a7174: integer, a7175: integer, a7176: integer, a7177: integer, a7178: integer, a7179: integer, a7180: integer, a7181: integer, a7182: integer, a7183: integer, a7184: integer, a7185: integer, a7186: integer, a7187: integer, a7188: integer, a7189: integer, a7190: integer, a7191: integer, a7192: integer, a7193: integer, a7194: integer, a7195: integer, a7196: integer, a7197: integer, a7198: integer, a7199: integer, a7200: integer, a7201: integer, a7202: integer, a7203: integer, a7204: integer, a7205: integer, a7206: integer, a7207: integer, a7208: integer, a7209: integer, a7210: integer, a7211: integer, a7212: integer, a7213: integer, a7214: integer, a7215: integer, a7216: integer, a7217: integer, a7218: integer, a7219: integer, a7220: integer, a7221: integer, a7222: integer, a7223: integer, a7224: integer, a7225: integer, a7226: integer, a7227: integer, a7228: integer, a7229: integer, a7230: integer, a7231: integer, a7232: integer, a7233: integer, a7234: integer, a7235: integer, a7236: integer, a7237: integer, a7238: integer, a7239: integer, a7240: integer, a7241: integer, a7242: integer, a7243: integer, a7244: integer, a7245: integer, a7246: integer, a7247: integer, a7248: integer, a7249: integer, a7250: integer, a7251: integer, a7252: integer, a7253: integer, a7254: integer, a7255: integer, a7256: integer, a7257: integer, a7258: integer, a7259: integer, a7260: integer, a7261: integer, a7262: integer, a7263: integer, a7264: integer, a7265: integer, a7266: integer, a7267: integer, a7268: integer, a7269: integer, a7270: integer, a7271: integer, a7272: integer, a7273: integer, a7274: integer, a7275: integer, a7276: integer, a7277: integer, a7278: integer, a7279: integer, a7280: integer, a7281: integer, a7282: integer, a7283: integer, a7284: integer, a7285: integer, a7286: integer, a7287: integer, a7288: integer, a7289: integer, a7290: integer, a7291: integer, a7292: integer, a7293: integer, a7294: integer, a7295: integer, a7296: integer, a7297: integer, a7298: integer, a7299: integer, a7300: integer, a7301: integer, a7302: integer, a7303: integer, a7304: integer, a7305: integer, a7306: integer, a7307: integer, a7308: integer, a7309: integer, a7310: integer, a7311: integer, a7312: integer, a7313: integer, a7314: integer, a7315: integer, a7316: integer, a7317: integer, a7318: integer, a7319: integer, a7320: integer, a7321: integer, a7322: integer, a7323: integer, a7324: integer, a7325: integer, a7326: integer, a7327: integer, a7328: integer, a7329: integer, a7330: integer, a7331: integer, a7332: integer, a7333: integer, a7334: integer, a7335: integer, a7336: integer, a7337: integer, a7338: integer, a7339: integer, a7340: integer, a7341: integer, a7342: integer, a7343: integer, a7344: integer, a7345: integer, a7346: integer, a7347: integer, a7348: integer, a7349: integer, a7350: integer, a7351: integer, a7352: integer, a7353: integer, a7354: integer, a7355: integer, a7356: integer, a7357: integer, a7358: integer, a7359: integer, a7360: integer, a7361: integer, a7362: integer, a7363: integer, a7364: integer, a7365: integer, a7366: integer, a7367: integer, a7368: integer, a7369: integer, a7370: integer, a7371: integer, a7372: integer, a7373: integer, a7374: integer, a7375: integer, a7376: integer, a7377: integer, a7378: integer, a7379: integer, a7380: integer, a7381: integer, a7382: integer, a7383: integer, a7384: integer, a7385: integer, a7386: integer, a7387: integer, a7388: integer, a7389: integer, a7390: integer, a7391: integer, a7392: integer, a7393: integer, a7394: integer, a7395: integer, a7396: integer, a7397: integer, a7398: integer, a7399: integer, a7400: integer, a7401: integer, a7402: integer, a7403: integer, a7404: integer, a7405: integer, a7406: integer, a7407: integer, a7408: integer, a7409: integer, a7410: integer, a7411: integer, a7412: integer, a7413: integer, a7414: integer, a7415: integer, a7416: integer, a7417: integer, a7418: integer, a7419: integer, a7420: integer, a7421: integer, a7422: integer, a7423: integer, a7424: integer, a7425: integer, a7426: integer, a7427: integer, a7428: integer, a7429: integer, a7430: integer, a7431: integer, a7432: integer, a7433: integer, a7434: integer, a7435: integer, a7436: integer, a7437: integer, a7438: integer, a7439: integer, a7440: integer, a7441: integer, a7442: integer, a7443: integer, a7444: integer, a7445: integer, a7446: integer, a7447: integer, a7448: integer, a7449: integer, a7450: integer, a7451: integer, a7452: integer, a7453: integer, a7454: integer, a7455: integer, a7456: integer, a7457: integer, a7458: integer, a7459: integer, a7460: integer, a7461: integer, a7462: integer, a7463: integer, a7464: integer, a7465: integer, a7466: integer, a7467: integer, a7468: integer, a7469: integer, a7470: integer, a7471: integer, a7472: integer, a7473: integer, a7474: integer, a7475: integer, a7476: integer, a7477: integer, a7478: integer, a7479: integer, a7480: integer, a7481: integer, a7482: integer, a7483: integer, a7484: integer, a7485: integer, a7486: integer, a7487: integer, a7488: integer, a7489: integer, a7490: integer, a7491: integer, a7492: integer, a7493: integer, a7494: integer, a7495: integer, a7496: integer, a7497: integer, a7498: integer, a7499: integer, a7500: integer, a7501: integer, a7502: integer, a7503: integer, a7504: integer, a7505: integer, a7506: integer, a7507: integer, a7508: integer, a7509: integer, a7510: integer, a7511: integer, a7512: integer, a7513: integer, a7514: integer, a7515: integer, a7516: integer, a7517: integer, a7518: integer, a7519: integer, a7520: integer, a7521: integer, a7522: integer, a7523: integer, a7524: integer, a7525: integer, a7526: integer, a7527: integer, a7528: integer, a7529: integer, a7530: integer, a7531: integer, a7532: integer, a7533: integer, a7534: integer, a7535: integer, a7536: integer, a7537: integer, a7538: integer, a7539: integer, a7540: integer, a7541: integer, a7542: integer, a7543: integer, a7544: integer, a7545: integer, a7546: integer, a7547: integer, a7548: integer, a7549: integer, a7550: integer, a7551: integer, a7552: integer, a7553: integer, a7554: integer, a7555: integer, a7556: integer, a7557: integer, a7558: integer, a7559: integer, a7560: integer, a7561: integer, a7562: integer, a7563: integer, a7564: integer, a7565: integer, a7566: integer, a7567: integer, a7568: integer, a7569: integer, a7570: integer, a7571: integer, a7572: integer, a7573: integer, a7574: integer, a7575: integer, a7576: integer, a7577: integer, a7578: integer, a7579: integer, a7580: integer, a7581: integer, a7582: integer, a7583: integer, a7584: integer, a7585: integer, a7586: integer, a7587: integer, a7588: integer, a7589: integer, a7590: integer, a7591: integer, a7592: integer, a7593: integer, a7594: integer, a7595: integer, a7596: integer, a7597: integer, a7598: integer, a7599: integer, a7600: integer, a7601: integer, a7602: integer, a7603: integer, a7604: integer, a7605: integer, a7606: integer, a7607: integer, a7608: integer, a7609: integer, a7610: integer, a7611: integer, a7612: integer, a7613: integer, a7614: integer, a7615: integer, a7616: integer, a7617: integer, a7618: integer, a7619: integer, a7620: integer, a7621: integer, a7622: integer, a7623: integer, a7624: integer, a7625: integer, a7626: integer, a7627: integer, a7628: integer, a7629: integer, a7630: integer, a7631: integer, a7632: integer, a7633: integer, a7634: integer, a7635: integer, a7636: integer, a7637: integer, a7638: integer, a7639: integer, a7640: integer, a7641: integer, a7642: integer, a7643: integer, a7644: integer, a7645: integer, a7646: integer, a7647: integer, a7648: integer, a7649: integer, a7650: integer, a7651: integer, a7652: integer, a7653: integer, a7654: integer, a7655: integer, a7656: integer, a7657: integer, a7658: integer, a7659: integer, a7660: integer, a7661: integer, a7662: integer, a7663: integer, a7664: integer, a7665: integer, a7666: integer, a7667: integer, a7668: integer, a7669: integer, a7670: integer, a7671: integer, a7672: integer, a7673: integer, a7674: integer, a7675: integer, a7676: integer, a7677: integer, a7678: integer, a7679: integer, a7680: integer, a7681: integer, a7682: integer, a7683: integer, a7684: integer, a7685: integer, a7686: integer, a7687: integer, a7688: integer, a7689: integer, a7690: integer, a7691: integer, a7692: integer, a7693: integer, a7694: integer, a7695: integer, a7696: integer, a7697: integer, a7698: integer, a7699: integer, a7700: integer, a7701: integer, a7702: integer, a7703: integer, a7704: integer, a7705: integer, a7706: integer, a7707: integer, a7708: integer, a7709: integer, a7710: integer, a7711: integer, a7712: integer, a7713: integer, a7714: integer, a7715: integer, a7716: integer, a7717: integer, a7718: integer, a7719: integer, a7720: integer, a7721: integer, a7722: integer, a7723: integer, a7724: integer, a7725: integer, a7726: integer, a7727: integer, a7728: integer, a7729: integer, a7730: integer, a7731: integer, a7732: integer, a7733: integer, a7734: integer, a7735: integer, a7736: integer, a7737: integer, a7738: integer, a7739: integer, a7740: integer, a7741: integer, a7742: integer, a7743: integer, a7744: integer, a7745: integer, a7746: integer, a7747: integer, a7748: integer, a7749: integer, a7750: integer, a7751: integer, a7752: integer, a7753: integer, a7754: integer, a7755: integer, a7756: integer, a7757: integer, a7758: integer, a7759: integer, a7760: integer, a7761: integer, a7762: integer, a7763: integer, a7764: integer, a7765: integer, a7766: integer, a7767: integer, a7768: integer, a7769: integer, a7770: integer, a7771: integer, a7772: integer, a7773: integer, a7774: integer, a7775: integer, a7776: integer, a7777: integer, a7778: integer, a7779: integer, a7780: integer, a7781: integer, a7782: integer, a7783: integer, a7784: integer, a7785: integer, a7786: integer, a7787: integer, a7788: integer, a7789: integer, a7790: integer, a7791: integer, a7792: integer, a7793: integer, a7794: integer, a7795: integer, a7796: integer, a7797: integer, a7798: integer, a7799: integer, a7800: integer, a7801: integer, a7802: integer, a7803: integer, a7804: integer, a7805: integer, a7806: integer, a7807: integer, a7808: integer, a7809: integer, a7810: integer, a7811: integer, a7812: integer, a7813: integer, a7814: integer, a7815: integer, a7816: integer, a7817: integer, a7818: integer, a7819: integer, a7820: integer, a7821: integer, a7822: integer, a7823: integer, a7824: integer, a7825: integer, a7826: integer, a7827: integer, a7828: integer, a7829: integer, a7830: integer, a7831: integer, a7832: integer, a7833: integer, a7834: integer, a7835: integer, a7836: integer, a7837: integer, a7838: integer, a7839: integer, a7840: integer, a7841: integer, a7842: integer, a7843: integer, a7844: integer, a7845: integer, a7846: integer, a7847: integer, a7848: integer, a7849: integer, a7850: integer, a7851: integer, a7852: integer, a7853: integer, a7854: integer, a7855: integer, a7856: integer, a7857: integer, a7858: integer, a7859: integer, a7860: integer, a7861: integer, a7862: integer, a7863: integer, a7864: integer, a7865: integer, a7866: integer, a7867: integer, a7868: integer, a7869: integer, a7870: integer, a7871: integer, a7872: integer, a7873: integer, a7874: integer, a7875: integer, a7876: integer, a7877: integer, a7878: integer, a7879: integer, a7880: integer, a7881: integer, a7882: integer, a7883: integer, a7884: integer, a7885: integer, a7886: integer, a7887: integer, a7888: integer, a7889: integer, a7890: integer, a7891: integer, a7892: integer, a7893: integer, a7894: integer, a7895: integer, a7896: integer, a7897: integer, a7898: integer, a7899: integer, a7900: integer, a7901: integer, a7902: integer, a7903: integer, a7904: integer, a7905: integer, a7906: integer, a7907: integer, a7908: integer, a7909: integer, a7910: integer, a7911: integer, a7912: integer, a7913: integer, a7914: integer, a7915: integer, a7916: integer, a7917: integer, a7918: integer, a7919: integer, a7920: integer, a7921: integer, a7922: integer, a7923: integer, a7924: integer, a7925: integer, a7926: integer, a7927: integer, a7928: integer, a7929: integer, a7930: integer, a7931: integer, a7932: integer, a7933: integer, a7934: integer, a7935: integer, a7936: integer, a7937: integer, a7938: integer, a7939: integer, a7940: integer, a7941: integer, a7942: integer, a7943: integer, a7944: integer, a7945: integer, a7946: integer, a7947: integer, a7948: integer, a7949: integer, a7950: integer, a7951: integer, a7952: integer, a7953: integer, a7954: integer, a7955: integer, a7956: integer, a7957: integer, a7958: integer, a7959: integer, a7960: integer, a7961: integer, a7962: integer, a7963: integer, a7964: integer, a7965: integer, a7966: integer, a7967: integer, a7968: integer, a7969: integer, a7970: integer, a7971: integer, a7972: integer, a7973: integer, a7974: integer, a7975: integer, a7976: integer, a7977: integer, a7978: integer, a7979: integer, a7980: integer, a7981: integer, a7982: integer, a7983: integer, a7984: integer, a7985: integer, a7986: integer, a7987: integer, a7988: integer, a7989: integer, a7990: integer, a7991: integer, a7992: integer, a7993: integer, a7994: integer, a7995: integer, a7996: integer, a7997: integer, a7998: integer, a7999: integer, a8000: integer, a8001: integer, a8002: integer, a8003: integer, a8004: integer, a8005: integer, a8006: integer, a8007: integer, a8008: integer, a8009: integer, a8010: integer, a8011: integer, a8012: integer, a8013: integer, a8014: integer, a8015: integer, a8016: integer, a8017: integer, a8018: integer, a8019: integer, a8020: integer, a8021: integer, a8022: integer, a8023: integer, a8024: integer, a8025: integer, a8026: integer, a8027: integer, a8028: integer, a8029: integer, a8030: integer, a8031: integer, a8032: integer, a8033: integer, a8034: integer, a8035: integer, a8036: integer, a8037: integer, a8038: integer, a8039: integer, a8040: integer, a8041: integer, a8042: integer, a8043: integer, a8044: integer, a8045: integer, a8046: integer, a8047: integer, a8048: integer, a8049: integer, a8050: integer, a8051: integer, a8052: integer, a8053: integer, a8054: integer, a8055: integer, a8056: integer, a8057: integer, a8058: integer, a8059: integer, a8060: integer, a8061: integer, a8062: integer, a8063: integer, a8064: integer, a8065: integer, a8066: integer, a8067: integer, a8068: integer, a8069: integer, a8070: integer, a8071: integer, a8072: integer, a8073: integer, a8074: integer, a8075: integer, a8076: integer, a8077: integer, a8078: integer, a8079: integer, a8080: integer, a8081: integer, a8082: integer, a8083: integer, a8084: integer, a8085: integer, a8086: integer, a8087: integer, a8088: integer, a8089: integer, a8090: integer, a8091: integer, a8092: integer, a8093: integer, a8094: integer, a8095: integer, a8096: integer, a8097: integer, a8098: integer, a8099: integer, a8100: integer, a8101: integer, a8102: integer, a8103: integer, a8104: integer, a8105: integer, a8106: integer, a8107: integer, a8108: integer, a8109: integer, a8110: integer, a8111: integer, a8112: integer, a8113: integer, a8114: integer, a8115: integer, a8116: integer, a8117: integer, a8118: integer, a8119: integer, a8120: integer, a8121: integer, a8122: integer, a8123: integer, a8124: integer, a8125: integer, a8126: integer, a8127: integer, a8128: integer, a8129: integer, a8130: integer, a8131: integer, a8132: integer, a8133: integer, a8134: integer, a8135: integer, a8136: integer, a8137: integer, a8138: integer, a8139: integer, a8140: integer, a8141: integer, a8142: integer, a8143: integer, a8144: integer, a8145: integer, a8146: integer, a8147: integer, a8148: integer, a8149: integer, a8150: integer, a8151: integer, a8152: integer, a8153: integer, a8154: integer, a8155: integer, a8156: integer, a8157: integer, a8158: integer, a8159: integer, a8160: integer, a8161: integer, a8162: integer, a8163: integer, a8164: integer, a8165: integer, a8166: integer, a8167: integer, a8168: integer, a8169: integer, a8170: integer, a8171: integer, a8172: integer, a8173: integer, a8174: integer, a8175: integer, a8176: integer, a8177: integer, a8178: integer, a8179: integer, a8180: integer, a8181: integer, a8182: integer, a8183: integer, a8184: integer, a8185: integer, a8186: integer, a8187: integer, a8188: integer, a8189: integer, a8190: integer, a8191: integer, a8192: integer, a8193: integer, a8194: integer, a8195: integer, a8196: integer, a8197: integer, a8198: integer, a8199: integer, a8200: integer, a8201: integer, a8202: integer, a8203: integer, a8204: integer, a8205: integer, a8206: integer, a8207: integer, a8208: integer, a8209: integer, a8210: integer, a8211: integer, a8212: integer, a8213: integer, a8214: integer, a8215: integer, a8216: integer, a8217: integer, a8218: integer, a8219: integer, a8220: integer, a8221: integer, a8222: integer, a8223: integer, a8224: integer, a8225: integer, a8226: integer, a8227: integer, a8228: integer, a8229: integer, a8230: integer, a8231: integer, a8232: integer, a8233: integer, a8234: integer, a8235: integer, a8236: integer, a8237: integer, a8238: integer, a8239: integer, a8240: integer, a8241: integer, a8242: integer, a8243: integer, a8244: integer, a8245: integer, a8246: integer, a8247: integer, a8248: integer, a8249: integer, a8250: integer, a8251: integer, a8252: integer, a8253: integer, a8254: integer, a8255: integer, a8256: integer, a8257: integer, a8258: integer, a8259: integer, a8260: integer, a8261: integer, a8262: integer, a8263: integer, a8264: integer, a8265: integer, a8266: integer, a8267: integer, a8268: integer, a8269: integer, a8270: integer, a8271: integer, a8272: integer, a8273: integer, a8274: integer, a8275: integer, a8276: integer, a8277: integer, a8278: integer, a8279: integer, a8280: integer, a8281: integer, a8282: integer, a8283: integer, a8284: integer, a8285: integer, a8286: integer, a8287: integer, a8288: integer, a8289: integer, a8290: integer, a8291: integer, a8292: integer, a8293: integer, a8294: integer, a8295: integer, a8296: integer, a8297: integer, a8298: integer, a8299: integer, a8300: integer, a8301: integer, a8302: integer, a8303: integer, a8304: integer, a8305: integer, a8306: integer, a8307: integer, a8308: integer, a8309: integer, a8310: integer, a8311: integer, a8312: integer, a8313: integer, a8314: integer, a8315: integer, a8316: integer, a8317: integer, a8318: integer, a8319: integer, a8320: integer, a8321: integer, a8322: integer, a8323: integer, a8324: integer, a8325: integer, a8326: integer, a8327: integer, a8328: integer, a8329: integer, a8330: integer, a8331: integer, a8332: integer, a8333: integer, a8334: integer, a8335: integer, a8336: integer, a8337: integer, a8338: integer, a8339: integer, a8340: integer, a8341: integer, a8342: integer, a8343: integer, a8344: integer, a8345: integer, a8346: integer, a8347: integer, a8348: integer, a8349: integer, a8350: integer, a8351: integer, a8352: integer, a8353: integer, a8354: integer, a8355: integer, a8356: integer, a8357: integer, a8358: integer, a8359: integer, a8360: integer, a8361: integer, a8362: integer, a8363: integer, a8364: integer, a8365: integer, a8366: integer, a8367: integer, a8368: integer, a8369: integer, a8370: integer, a8371: integer, a8372: integer, a8373: integer, a8374: integer, a8375: integer, a8376: integer, a8377: integer, a8378: integer, a8379: integer, a8380: integer, a8381: integer, a8382: integer, a8383: integer, a8384: integer, a8385: integer, a8386: integer, a8387: integer, a8388: integer, a8389: integer, a8390: integer, a8391: integer, a8392: integer, a8393: integer, a8394: integer, a8395: integer, a8396: integer, a8397: integer, a8398: integer, a8399: integer, a8400: integer, a8401: integer, a8402: integer, a8403: integer, a8404: integer, a8405: integer, a8406: integer, a8407: integer, a8408: integer, a8409: integer, a8410: integer, a8411: integer, a8412: integer, a8413: integer, a8414: integer, a8415: integer, a8416: integer, a8417: integer, a8418: integer, a8419: integer, a8420: integer, a8421: integer, a8422: integer, a8423: integer, a8424: integer, a8425: integer, a8426: integer, a8427: integer, a8428: integer, a8429: integer, a8430: integer, a8431: integer, a8432: integer, a8433: integer, a8434: integer, a8435: integer, a8436: integer, a8437: integer, a8438: integer, a8439: integer, a8440: integer, a8441: integer, a8442: integer, a8443: integer, a8444: integer, a8445: integer, a8446: integer, a8447: integer, a8448: integer, a8449: integer, a8450: integer, a8451: integer, a8452: integer, a8453: integer, a8454: integer, a8455: integer, a8456: integer, a8457: integer, a8458: integer, a8459: integer, a8460: integer, a8461: integer, a8462: integer, a8463: integer, a8464: integer, a8465: integer, a8466: integer, a8467: integer, a8468: integer, a8469: integer, a8470: integer, a8471: integer, a8472: integer, a8473: integer, a8474: integer, a8475: integer, a8476: integer, a8477: integer, a8478: integer, a8479: integer, a8480: integer, a8481: integer, a8482: integer, a8483: integer, a8484: integer, a8485: integer, a8486: integer, a8487: integer, a8488: integer, a8489: integer, a8490: integer, a8491: integer, a8492: integer, a8493: integer, a8494: integer, a8495: integer, a8496: integer, a8497: integer, a8498: integer, a8499: integer, a8500: integer, a8501: integer, a8502: integer, a8503: integer, a8504: integer, a8505: integer, a8506: integer, a8507: integer, a8508: integer, a8509: integer, a8510: integer, a8511: integer, a8512: integer, a8513: integer, a8514: integer, a8515: integer, a8516: integer, a8517: integer, a8518: integer, a8519: integer, a8520: integer, a8521: integer, a8522: integer, a8523: integer, a8524: integer, a8525: integer, a8526: integer, a8527: integer, a8528: integer, a8529: integer, a8530: integer, a8531: integer, a8532: integer, a8533: integer, a8534: integer, a8535: integer, a8536: integer, a8537: integer, a8538: integer, a8539: integer, a8540: integer, a8541: integer, a8542: integer, a8543: integer, a8544: integer, a8545: integer, a8546: integer, a8547: integer, a8548: integer, a8549: integer, a8550: integer, a8551: integer, a8552: integer, a8553: integer, a8554: integer, a8555: integer, a8556: integer, a8557: integer, a8558: integer, a8559: integer, a8560: integer, a8561: integer, a8562: integer, a8563: integer, a8564: integer, a8565: integer, a8566: integer, a8567: integer, a8568: integer, a8569: integer, a8570: integer, a8571: integer, a8572: integer, a8573: integer, a8574: integer, a8575: integer, a8576: integer, a8577: integer, a8578: integer, a8579: integer, a8580: integer, a8581: integer, a8582: integer, a8583: integer, a8584: integer, a8585: integer, a8586: integer, a8587: integer, a8588: integer, a8589: integer, a8590: integer, a8591: integer, a8592: integer, a8593: integer, a8594: integer, a8595: integer, a8596: integer, a8597: integer, a8598: integer, a8599: integer, a8600: integer, a8601: integer, a8602: integer, a8603: integer, a8604: integer, a8605: integer, a8606: integer, a8607: integer, a8608: integer, a8609: integer, a8610: integer, a8611: integer, a8612: integer, a8613: integer, a8614: integer, a8615: integer, a8616: integer, a8617: integer, a8618: integer, a8619: integer, a8620: integer, a8621: integer, a8622: integer, a8623: integer, a8624: integer, a8625: integer, a8626: integer, a8627: integer, a8628: integer, a8629: integer, a8630: integer, a8631: integer, a8632: integer, a8633: integer, a8634: integer, a8635: integer, a8636: integer, a8637: integer, a8638: integer, a8639: integer, a8640: integer, a8641: integer, a8642: integer, a8643: integer, a8644: integer, a8645: integer, a8646: integer, a8647: integer, a8648: integer, a8649: integer, a8650: integer, a8651: integer, a8652: integer, a8653: integer, a8654: integer, a8655: integer, a8656: integer, a8657: integer, a8658: integer, a8659: integer, a8660: integer, a8661: integer, a8662: integer, a8663: integer, a8664: integer, a8665: integer, a8666: integer, a8667: integer, a8668: integer, a8669: integer, a8670: integer, a8671: integer, a8672: integer, a8673: integer, a8674: integer, a8675: integer, a8676: integer, a8677: integer, a8678: integer, a8679: integer, a8680: integer, a8681: integer, a8682: integer, a8683: integer, a8684: integer, a8685: integer, a8686: integer, a8687: integer, a8688: integer, a8689: integer, a8690: integer, a8691: integer, a8692: integer, a8693: integer, a8694: integer, a8695: integer, a8696: integer, a8697: integer, a8698: integer, a8699: integer, a8700: integer, a8701: integer, a8702: integer, a8703: integer, a8704: integer, a8705: integer, a8706: integer, a8707: integer, a8708: integer, a8709: integer, a8710: integer, a8711: integer, a8712: integer, a8713: integer, a8714: integer, a8715: integer, a8716: integer, a8717: integer, a8718: integer, a8719: integer, a8720: integer, a8721: integer, a8722: integer, a8723: integer, a8724: integer, a8725: integer, a8726: integer, a8727: integer, a8728: integer, a8729: integer, a8730: integer, a8731: integer, a8732: integer, a8733: integer, a8734: integer, a8735: integer, a8736: integer, a8737: integer, a8738: integer, a8739: integer, a8740: integer, a8741: integer, a8742: integer, a8743: integer, a8744: integer, a8745: integer, a8746: integer, a8747: integer, a8748: integer, a8749: integer, a8750: integer, a8751: integer, a8752: integer, a8753: integer, a8754: integer, a8755: integer, a8756: integer, a8757: integer, a8758: integer, a8759: integer, a8760: integer, a8761: integer, a8762: integer, a8763: integer, a8764: integer, a8765: integer, a8766: integer, a8767: integer, a8768: integer, a8769: integer, a8770: integer, a8771: integer, a8772: integer, a8773: integer, a8774: integer, a8775: integer, a8776: integer, a8777: integer, a8778: integer, a8779: integer, a8780: integer, a8781: integer, a8782: integer, a8783: integer, a8784: integer, a8785: integer, a8786: integer, a8787: integer, a8788: integer, a8789: integer, a8790: integer, a8791: integer, a8792: integer, a8793: integer, a8794: integer, a8795: integer, a8796: integer, a8797: integer, a8798: integer, a8799: integer, a8800: integer, a8801: integer, a8802: integer, a8803: integer, a8804: integer, a8805: integer, a8806: integer, a8807: integer, a8808: integer, a8809: integer, a8810: integer, a8811: integer, a8812: integer, a8813: integer, a8814: integer, a8815: integer, a8816: integer, a8817: integer, a8818: integer, a8819: integer, a8820: integer, a8821: integer, a8822: integer, a8823: integer, a8824: integer, a8825: integer, a8826: integer, a8827: integer, a8828: integer, a8829: integer, a8830: integer, a8831: integer, a8832: integer, a8833: integer, a8834: integer, a8835: integer, a8836: integer, a8837: integer, a8838: integer, a8839: integer, a8840: integer, a8841: integer, a8842: integer, a8843: integer, a8844: integer, a8845: integer, a8846: integer, a8847: integer, a8848: integer, a8849: integer, a8850: integer, a8851: integer, a8852: integer, a8853: integer, a8854: integer, a8855: integer, a8856: integer, a8857: integer, a8858: integer, a8859: integer, a8860: integer, a8861: integer, a8862: integer, a8863: integer, a8864: integer, a8865: integer, a8866: integer, a8867: integer, a8868: integer, a8869: integer, a8870: integer, a8871: integer, a8872: integer, a8873: integer, a8874: integer, a8875: integer, a8876: integer, a8877: integer, a8878: integer, a8879: integer, a8880: integer, a8881: integer, a8882: integer, a8883: integer, a8884: integer, a8885: integer, a8886: integer, a8887: integer, a8888: integer, a8889: integer, a8890: integer, a8891: integer, a8892: integer, a8893: integer, a8894: integer, a8895: integer, a8896: integer, a8897: integer, a8898: integer, a8899: integer, a8900: integer, a8901: integer, a8902: integer, a8903: integer, a8904: integer, a8905: integer, a8906: integer, a8907: integer, a8908: integer, a8909: integer, a8910: integer, a8911: integer, a8912: integer, a8913: integer, a8914: integer, a8915: integer, a8916: integer, a8917: integer, a8918: integer, a8919: integer, a8920: integer, a8921: integer, a8922: integer, a8923: integer, a8924: integer, a8925: integer, a8926: integer, a8927: integer, a8928: integer, a8929: integer, a8930: integer, a8931: integer, a8932: integer, a8933: integer, a8934: integer, a8935: integer, a8936: integer, a8937: integer, a8938: integer, a8939: integer, a8940: integer, a8941: integer, a8942: integer, a8943: integer, a8944: integer, a8945: integer, a8946: integer, a8947: integer, a8948: integer, a8949: integer, a8950: integer, a8951: integer, a8952: integer, a8953: integer, a8954: integer, a8955: integer, a8956: integer, a8957: integer, a8958: integer, a8959: integer, a8960: integer, a8961: integer, a8962: integer, a8963: integer, a8964: integer, a8965: integer, a8966: integer, a8967: integer, a8968: integer, a8969: integer, a8970: integer, a8971: integer, a8972: integer, a8973: integer, a8974: integer, a8975: integer, a8976: integer, a8977: integer, a8978: integer, a8979: integer, a8980: integer, a8981: integer, a8982: integer, a8983: integer, a8984: integer, a8985: integer, a8986: integer, a8987: integer, a8988: integer, a8989: integer, a8990: integer, a8991: integer, a8992: integer, a8993: integer, a8994: integer, a8995: integer, a8996: integer, a8997: integer, a8998: integer, a8999: integer, a9000: integer, a9001: integer, a9002: integer, a9003: integer, a9004: integer, a9005: integer, a9006: integer, a9007: integer, a9008: integer, a9009: integer, a9010: integer, a9011: integer, a9012: integer, a9013: integer, a9014: integer, a9015: integer, a9016: integer, a9017: integer, a9018: integer, a9019: integer, a9020: integer, a9021: integer, a9022: integer, a9023: integer, a9024: integer, a9025: integer, a9026: integer, a9027: integer, a9028: integer, a9029: integer, a9030: integer, a9031: integer, a9032: integer, a9033: integer, a9034: integer, a9035: integer, a9036: integer, a9037: integer, a9038: integer, a9039: integer, a9040: integer, a9041: integer, a9042: integer, a9043: integer, a9044: integer, a9045: integer, a9046: integer, a9047: integer, a9048: integer, a9049: integer, a9050: integer, a9051: integer, a9052: integer, a9053: integer, a9054: integer, a9055: integer, a9056: integer, a9057: integer, a9058: integer, a9059: integer, a9060: integer, a9061: integer, a9062: integer, a9063: integer, a9064: integer, a9065: integer, a9066: integer, a9067: integer, a9068: integer, a9069: integer, a9070: integer, a9071: integer, a9072: integer, a9073: integer, a9074: integer, a9075: integer, a9076: integer, a9077: integer, a9078: integer, a9079: integer, a9080: integer, a9081: integer, a9082: integer, a9083: integer, a9084: integer, a9085: integer, a9086: integer, a9087: integer, a9088: integer, a9089: integer, a9090: integer, a9091: integer, a9092: integer, a9093: integer, a9094: integer, a9095: integer, a9096: integer, a9097: integer, a9098: integer, a9099: integer, a9100: integer, a9101: integer, a9102: integer, a9103: integer, a9104: integer, a9105: integer, a9106: integer, a9107: integer, a9108: integer, a9109: integer, a9110: integer, a9111: integer, a9112: integer, a9113: integer, a9114: integer, a9115: integer, a9116: integer, a9117: integer, a9118: integer, a9119: integer, a9120: integer, a9121: integer, a9122: integer, a9123: integer, a9124: integer, a9125: integer, a9126: integer, a9127: integer, a9128: integer, a9129: integer, a9130: integer, a9131: integer, a9132: integer, a9133: integer, a9134: integer, a9135: integer, a9136: integer, a9137: integer, a9138: integer, a9139: integer, a9140: integer, a9141: integer, a9142: integer, a9143: integer, a9144: integer, a9145: integer, a9146: integer, a9147: integer, a9148: integer, a9149: integer, a9150: integer, a9151: integer, a9152: integer, a9153: integer, a9154: integer, a9155: integer, a9156: integer, a9157: integer, a9158: integer, a9159: integer, a9160: integer, a9161: integer, a9162: integer, a9163: integer, a9164: integer, a9165: integer, a9166: integer, a9167: integer, a9168: integer, a9169: integer, a9170: integer, a9171: integer, a9172: integer, a9173: integer, a9174: integer, a9175: integer, a9176: integer, a9177: integer, a9178: integer, a9179: integer, a9180: integer, a9181: integer, a9182: integer, a9183: integer, a9184: integer, a9185: integer, a9186: integer, a9187: integer, a9188: integer, a9189: integer, a9190: integer, a9191: integer, a9192: integer, a9193: integer, a9194: integer, a9195: integer, a9196: integer, a9197: integer, a9198: integer, a9199: integer, a9200: integer, a9201: integer, a9202: integer, a9203: integer, a9204: integer, a9205: integer, a9206: integer, a9207: integer, a9208: integer, a9209: integer, a9210: integer, a9211: integer, a9212: integer, a9213: integer, a9214: integer, a9215: integer, a9216: integer, a9217: integer, a9218: integer, a9219: integer, a9220: integer, a9221: integer, a9222: integer, a9223: integer, a9224: integer, a9225: integer, a9226: integer, a9227: integer, a9228: integer, a9229: integer, a9230: integer, a9231: integer, a9232: integer, a9233: integer, a9234: integer, a9235: integer, a9236: integer, a9237: integer, a9238: integer, a9239: integer, a9240: integer, a9241: integer, a9242: integer, a9243: integer, a9244: integer, a9245: integer, a9246: integer, a9247: integer, a9248: integer, a9249: integer, a9250: integer, a9251: integer, a9252: integer, a9253: integer, a9254: integer, a9255: integer, a9256: integer, a9257: integer, a9258: integer, a9259: integer, a9260: integer, a9261: integer, a9262: integer, a9263: integer, a9264: integer, a9265: integer, a9266: integer, a9267: integer, a9268: integer, a9269: integer, a9270: integer, a9271: integer, a9272: integer, a9273: integer, a9274: integer, a9275: integer, a9276: integer, a9277: integer, a9278: integer, a9279: integer, a9280: integer, a9281: integer, a9282: integer, a9283: integer, a9284: integer, a9285: integer, a9286: integer, a9287: integer, a9288: integer, a9289: integer, a9290: integer, a9291: integer, a9292: integer, a9293: integer, a9294: integer, a9295: integer, a9296: integer, a9297: integer, a9298: integer, a9299: integer, a9300: integer, a9301: integer, a9302: integer, a9303: integer, a9304: integer, a9305: integer, a9306: integer, a9307: integer, a9308: integer, a9309: integer, a9310: integer, a9311: integer, a9312: integer, a9313: integer, a9314: integer, a9315: integer, a9316: integer, a9317: integer, a9318: integer, a9319: integer, a9320: integer, a9321: integer, a9322: integer, a9323: integer, a9324: integer, a9325: integer, a9326: integer, a9327: integer, a9328: integer, a9329: integer, a9330: integer, a9331: integer, a9332: integer, a9333: integer, a9334: integer, a9335: integer, a9336: integer, a9337: integer, a9338: integer, a9339: integer, a9340: integer, a9341: integer, a9342: integer, a9343: integer, a9344: integer, a9345: integer, a9346: integer, a9347: integer, a9348: integer, a9349: integer, a9350: integer, a9351: integer, a9352: integer, a9353: integer, a9354: integer, a9355: integer, a9356: integer, a9357: integer, a9358: integer, a9359: integer, a9360: integer, a9361: integer, a9362: integer, a9363: integer, a9364: integer, a9365: integer, a9366: integer, a9367: integer, a9368: integer, a9369: integer, a9370: integer, a9371: integer, a9372: integer, a9373: integer, a9374: integer, a9375: integer, a9376: integer, a9377: integer, a9378: integer, a9379: integer, a9380: integer, a9381: integer, a9382: integer, a9383: integer, a9384: integer, a9385: integer, a9386: integer, a9387: integer, a9388: integer, a9389: integer, a9390: integer, a9391: integer, a9392: integer, a9393: integer, a9394: integer, a9395: integer, a9396: integer, a9397: integer, a9398: integer, a9399: integer, a9400: integer, a9401: integer, a9402: integer, a9403: integer, a9404: integer, a9405: integer, a9406: integer, a9407: integer, a9408: integer, a9409: integer, a9410: integer, a9411: integer, a9412: integer, a9413: integer, a9414: integer, a9415: integer, a9416: integer, a9417: integer, a9418: integer, a9419: integer, a9420: integer, a9421: integer, a9422: integer, a9423: integer, a9424: integer, a9425: integer, a9426: integer, a9427: integer, a9428: integer, a9429: integer, a9430: integer, a9431: integer, a9432: integer, a9433: integer, a9434: integer, a9435: integer, a9436: integer, a9437: integer, a9438: integer, a9439: integer, a9440: integer, a9441: integer, a9442: integer, a9443: integer, a9444: integer, a9445: integer, a9446: integer, a9447: integer, a9448: integer, a9449: integer, a9450: integer, a9451: integer, a9452: integer, a9453: integer, a9454: integer, a9455: integer, a9456: integer, a9457: integer, a9458: integer, a9459: integer, a9460: integer, a9461: integer, a9462: integer, a9463: integer, a9464: integer, a9465: integer, a9466: integer, a9467: integer, a9468: integer, a9469: integer, a9470: integer, a9471: integer, a9472: integer, a9473: integer, a9474: integer, a9475: integer, a9476: integer, a9477: integer, a9478: integer, a9479: integer, a9480: integer, a9481: integer, a9482: integer, a9483: integer, a9484: integer, a9485: integer, a9486: integer, a9487: integer, a9488: integer, a9489: integer, a9490: integer, a9491: integer, a9492: integer, a9493: integer, a9494: integer, a9495: integer, a9496: integer, a9497: integer, a9498: integer, a9499: integer, a9500: integer, a9501: integer, a9502: integer, a9503: integer, a9504: integer, a9505: integer, a9506: integer, a9507: integer, a9508: integer, a9509: integer, a9510: integer, a9511: integer, a9512: integer, a9513: integer, a9514: integer, a9515: integer, a9516: integer, a9517: integer, a9518: integer, a9519: integer, a9520: integer, a9521: integer, a9522: integer, a9523: integer, a9524: integer, a9525: integer, a9526: integer, a9527: integer, a9528: integer, a9529: integer, a9530: integer, a9531: integer, a9532: integer, a9533: integer, a9534: integer, a9535: integer, a9536: integer, a9537: integer, a9538: integer, a9539: integer, a9540: integer, a9541: integer, a9542: integer, a9543: integer, a9544: integer, a9545: integer, a9546: integer, a9547: integer, a9548: integer, a9549: integer, a9550: integer, a9551: integer, a9552: integer, a9553: integer, a9554: integer, a9555: integer, a9556: integer, a9557: integer, a9558: integer, a9559: integer, a9560: integer, a9561: integer, a9562: integer, a9563: integer, a9564: integer, a9565: integer, a9566: integer, a9567: integer, a9568: integer, a9569: integer, a9570: integer, a9571: integer, a9572: integer, a9573: integer, a9574: integer, a9575: integer, a9576: integer, a9577: integer, a9578: integer, a9579: integer, a9580: integer, a9581: integer, a9582: integer, a9583: integer, a9584: integer, a9585: integer, a9586: integer, a9587: integer, a9588: integer, a9589: integer, a9590: integer, a9591: integer, a9592: integer, a9593: integer, a9594: integer, a9595: integer, a9596: integer, a9597: integer, a9598: integer, a9599: integer, a9600: integer, a9601: integer, a9602: integer, a9603: integer, a9604: integer, a9605: integer, a9606: integer, a9607: integer, a9608: integer, a9609: integer, a9610: integer, a9611: integer, a9612: integer, a9613: integer, a9614: integer, a9615: integer, a9616: integer, a9617: integer, a9618: integer, a9619: integer, a9620: integer, a9621: integer, a9622: integer, a9623: integer, a9624: integer, a9625: integer, a9626: integer, a9627: integer, a9628: integer, a9629: integer, a9630: integer, a9631: integer, a9632: integer, a9633: integer, a9634: integer, a9635: integer, a9636: integer, a9637: integer, a9638: integer, a9639: integer, a9640: integer, a9641: integer, a9642: integer, a9643: integer, a9644: integer, a9645: integer, a9646: integer, a9647: integer, a9648: integer, a9649: integer, a9650: integer, a9651: integer, a9652: integer, a9653: integer, a9654: integer, a9655: integer, a9656: integer, a9657: integer, a9658: integer, a9659: integer, a9660: integer, a9661: integer, a9662: integer, a9663: integer, a9664: integer, a9665: integer, a9666: integer, a9667: integer, a9668: integer, a9669: integer, a9670: integer, a9671: integer, a9672: integer, a9673: integer, a9674: integer, a9675: integer, a9676: integer, a9677: integer, a9678: integer, a9679: integer, a9680: integer, a9681: integer, a9682: integer, a9683: integer, a9684: integer, a9685: integer, a9686: integer, a9687: integer, a9688: integer, a9689: integer, a9690: integer, a9691: integer, a9692: integer, a9693: integer, a9694: integer, a9695: integer, a9696: integer, a9697: integer, a9698: integer, a9699: integer, a9700: integer, a9701: integer, a9702: integer, a9703: integer, a9704: integer, a9705: integer, a9706: integer, a9707: integer, a9708: integer, a9709: integer, a9710: integer, a9711: integer, a9712: integer, a9713: integer, a9714: integer, a9715: integer, a9716: integer, a9717: integer, a9718: integer, a9719: integer, a9720: integer, a9721: integer, a9722: integer, a9723: integer, a9724: integer, a9725: integer, a9726: integer, a9727: integer, a9728: integer, a9729: integer, a9730: integer, a9731: integer, a9732: integer, a9733: integer, a9734: integer, a9735: integer, a9736: integer, a9737: integer, a9738: integer, a9739: integer, a9740: integer, a9741: integer, a9742: integer, a9743: integer, a9744: integer, a9745: integer, a9746: integer, a9747: integer, a9748: integer, a9749: integer, a9750: integer, a9751: integer, a9752: integer, a9753: integer, a9754: integer, a9755: integer, a9756: integer, a9757: integer, a9758: integer, a9759: integer, a9760: integer, a9761: integer, a9762: integer, a9763: integer, a9764: integer, a9765: integer, a9766: integer, a9767: integer, a9768: integer, a9769: integer, a9770: integer, a9771: integer, a9772: integer, a9773: integer, a9774: integer, a9775: integer, a9776: integer, a9777: integer, a9778: integer, a9779: integer, a9780: integer, a9781: integer, a9782: integer, a9783: integer, a9784: integer, a9785: integer, a9786: integer, a9787: integer, a9788: integer, a9789: integer, a9790: integer, a9791: integer, a9792: integer, a9793: integer, a9794: integer, a9795: integer, a9796: integer, a9797: integer, a9798: integer, a9799: integer, a9800: integer, a9801: integer, a9802: integer, a9803: integer, a9804: integer, a9805: integer, a9806: integer, a9807: integer, a9808: integer, a9809: integer, a9810: integer, a9811: integer, a9812: integer, a9813: integer, a9814: integer, a9815: integer, a9816: integer, a9817: integer, a9818: integer, a9819: integer, a9820: integer, a9821: integer, a9822: integer, a9823: integer, a9824: integer, a9825: integer, a9826: integer, a9827: integer, a9828: integer, a9829: integer, a9830: integer, a9831: integer, a9832: integer, a9833: integer, a9834: integer, a9835: integer, a9836: integer, a9837: integer, a9838: integer, a9839: integer, a9840: integer, a9841: integer, a9842: integer, a9843: integer, a9844: integer, a9845: integer, a9846: integer, a9847: integer, a9848: integer, a9849: integer, a9850: integer, a9851: integer, a9852: integer, a9853: integer, a9854: integer, a9855: integer, a9856: integer, a9857: integer, a9858: integer, a9859: integer, a9860: integer, a9861: integer, a9862: integer, a9863: integer, a9864: integer, a9865: integer, a9866: integer, a9867: integer, a9868: integer, a9869: integer, a9870: integer, a9871: integer, a9872: integer, a9873: integer, a9874: integer, a9875: integer, a9876: integer, a9877: integer, a9878: integer, a9879: integer, a9880: integer, a9881: integer, a9882: integer, a9883: integer, a9884: integer, a9885: integer, a9886: integer, a9887: integer, a9888: integer, a9889: integer, a9890: integer, a9891: integer, a9892: integer, a9893: integer, a9894: integer, a9895: integer, a9896: integer, a9897: integer, a9898: integer, a9899: integer, a9900: integer, a9901: integer, a9902: integer, a9903: integer, a9904: integer, a9905: integer, a9906: integer, a9907: integer, a9908: integer, a9909: integer, a9910: integer, a9911: integer, a9912: integer, a9913: integer, a9914: integer, a9915: integer, a9916: integer, a9917: integer, a9918: integer, a9919: integer, a9920: integer, a9921: integer, a9922: integer, a9923: integer, a9924: integer, a9925: integer, a9926: integer, a9927: integer, a9928: integer, a9929: integer, a9930: integer, a9931: integer, a9932: integer, a9933: integer, a9934: integer, a9935: integer, a9936: integer, a9937: integer, a9938: integer, a9939: integer, a9940: integer, a9941: integer, a9942: integer, a9943: integer, a9944: integer, a9945: integer, a9946: integer, a9947: integer, a9948: integer, a9949: integer, a9950: integer, a9951: integer, a9952: integer, a9953: integer, a9954: integer, a9955: integer, a9956: integer, a9957: integer, a9958: integer, a9959: integer, a9960: integer, a9961: integer, a9962: integer, a9963: integer, a9964: integer, a9965: integer, a9966: integer, a9967: integer, a9968: integer, a9969: integer, a9970: integer, a9971: integer, a9972: integer, a9973: integer, a9974: integer, a9975: integer, a9976: integer, a9977: integer, a9978: integer, a9979: integer, a9980: integer, a9981: integer, a9982: integer, a9983: integer, a9984: integer, a9985: integer, a9986: integer, a9987: integer, a9988: integer, a9989: integer, a9990: integer, a9991: integer, a9992: integer, a9993: integer, a9994: integer, a9995: integer, a9996: integer, a9997: integer, a9998: integer, a9999: integer): integer = a0 + a9999;
+fun main(x: integer): integer = (print_int(f(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9)), 0)
+!expected:
+9
+!end
+
+!code:
+fun main(x: integer): integer = ({ x = 0 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, { x = x + 1 }, print_int(x), 0)
+!expected:
+10000
+!end
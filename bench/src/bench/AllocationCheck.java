@@ -0,0 +1,130 @@
+/**
+ * @Author: turk
+ * @Description: Preverjanje, da tesna zanka v interpretih ne alocira.
+ */
+
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Optional;
+
+import compiler.frm.Access;
+import compiler.frm.Frame;
+import compiler.frm.FrameEvaluator;
+import compiler.gen.LinCodeGenerator;
+import compiler.gen.Memory;
+import compiler.interpret.BytecodeInterpreter;
+import compiler.interpret.Interpreter;
+import compiler.ir.IRCodeGenerator;
+import compiler.ir.chunk.Chunk.CodeChunk;
+import compiler.lexer.Lexer;
+import compiler.parser.Parser;
+import compiler.parser.ast.def.Def;
+import compiler.seman.common.NodeDescription;
+import compiler.seman.name.NameChecker;
+import compiler.seman.name.env.FastSymbolTable;
+import compiler.seman.type.TypeChecker;
+import compiler.seman.type.type.Type;
+
+/**
+ * Program s tesno zanko (aritmetika, primerjave, logični operatorji, dostop
+ * do tabele in klic funkcije) izvede z obema interpretoma pri dveh številih
+ * iteracij in z `ThreadMXBean.getThreadAllocatedBytes` izmeri alokacijo
+ * niti, ki program izvaja. Razlika med meritvama mora biti 0 bajtov, sicer
+ * se program konča s kodo 1.
+ */
+public class AllocationCheck {
+    private static final int MALO_ITERACIJ = 100_000;
+    private static final int VELIKO_ITERACIJ = 1_100_000;
+
+    /**
+     * Število izvajanj pred meritvijo (ogrevanje prevajalnika JIT).
+     */
+    private static final int OGREVANJE = 5;
+
+    private static final String PROGRAM = """
+            typ tabela: arr[8] integer;
+            var t: tabela;
+            var s: integer;
+            fun f(x: integer): integer = x * 3 + 1;
+            fun main(x: integer): integer = (
+              { s = 0 },
+              { for i = 0, ITERACIJE, 1: (
+                  { s = s + f(i) % 7 - i / 3 },
+                  { t[i % 8] = s },
+                  { if s > 1000 & !(i == 3) | false then { s = s - t[i % 8] / 2 } }
+              ) },
+              s
+            ) { where var i: integer }
+            """;
+
+    private enum Interpret {
+        TREE,
+        BYTECODE
+    }
+
+    public static void main(String[] args) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()
+                || !threads.isThreadAllocatedMemoryEnabled()) {
+            System.err.println("Thread allocation measurement is not supported!");
+            System.exit(2);
+            return;
+        }
+        var uspeh = true;
+        for (var interpret : Interpret.values()) {
+            for (int i = 0; i < OGREVANJE; i++) {
+                izmeri(threads, interpret, MALO_ITERACIJ);
+            }
+            var malo = izmeri(threads, interpret, MALO_ITERACIJ);
+            var veliko = izmeri(threads, interpret, VELIKO_ITERACIJ);
+            var naIteracijo = (double) (veliko - malo) / (VELIKO_ITERACIJ - MALO_ITERACIJ);
+            var ok = veliko == malo;
+            uspeh &= ok;
+            System.out.println(String.format(Locale.ROOT, "%-9s %s (%d B at %d iterations, %d B at %d iterations, %.4f B/iteration)",
+                    interpret.toString().toLowerCase(Locale.ROOT), ok ? "ok" : "FAILED",
+                    malo, MALO_ITERACIJ, veliko, VELIKO_ITERACIJ, naIteracijo));
+        }
+        System.exit(uspeh ? 0 : 1);
+    }
+
+    /**
+     * @return bajti, ki jih alocira izvajanje programa z `iteracije` iteracijami.
+     */
+    private static long izmeri(com.sun.management.ThreadMXBean threads, Interpret interpret, int iteracije) {
+        var memory = new Memory(1 << 16);
+        var main = prevedi(PROGRAM.replace("ITERACIJE", Integer.toString(iteracije)), memory);
+        var nit = Thread.currentThread().threadId();
+        if (interpret == Interpret.TREE) {
+            var interpreter = new Interpreter(memory, Optional.empty());
+            var pred = threads.getThreadAllocatedBytes(nit);
+            interpreter.interpret(main);
+            return threads.getThreadAllocatedBytes(nit) - pred;
+        } else {
+            var interpreter = new BytecodeInterpreter(memory, Optional.empty());
+            var pred = threads.getThreadAllocatedBytes(nit);
+            interpreter.interpret(main);
+            return threads.getThreadAllocatedBytes(nit) - pred;
+        }
+    }
+
+    /**
+     * Prevede program do linearizirane vmesne kode.
+     *
+     * @return fragment kode funkcije `main`.
+     */
+    private static CodeChunk prevedi(String code, Memory memory) {
+        var ast = new Parser(new Lexer(code).tokenize(), Optional.empty()).parse();
+        var definitions = new NodeDescription<Def>();
+        ast.accept(new NameChecker(definitions, new FastSymbolTable()));
+        var types = new NodeDescription<Type>();
+        ast.accept(new TypeChecker(definitions, types));
+        var frames = new NodeDescription<Frame>();
+        var accesses = new NodeDescription<Access>();
+        ast.accept(new FrameEvaluator(frames, accesses, definitions, types));
+        var generator = new IRCodeGenerator(new NodeDescription<>(), frames, accesses, definitions, types);
+        ast.accept(generator);
+        return new LinCodeGenerator(memory).generateCode(generator.chunks).orElseThrow();
+    }
+}
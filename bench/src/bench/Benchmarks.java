@@ -0,0 +1,200 @@
+/**
+ * @Author: turk
+ * @Description: Merjenje hitrosti leksikalne in sintaksne analize.
+ */
+
+package bench;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import compiler.lexer.Lexer;
+import compiler.parser.Parser;
+
+/**
+ * Meri prepustnost (simboli na sekundo) in alokacijo (bajti na simbol)
+ * leksikalne analize (`Lexer.scan`) ter zaporedne, vzporedne in lene
+ * sintaksne analize (`Parser.parse`, `Parser.parseParallel` in
+ * `Parser.parse` brez jeder funkcij nad že prebranimi simboli) na priloženih
+ * primerih, na sintetičnih izvornih kodah in na izvornih kodah z zelo
+ * dolgimi seznami definicij, parametrov in argumentov. Rezultate izpiše v
+ * obliki JSON.
+ */
+public class Benchmarks {
+    /**
+     * Velikost sklada niti, ki izvaja meritve (razčlenjevalnik je rekurziven).
+     */
+    private static final long VELIKOST_SKLADA = 1L << 30;
+
+    /**
+     * Meritve.
+     */
+    public static enum Benchmark {
+        SCAN,           // Lexer.scan
+        PARSE,          // Parser.parse nad seznamom simbolov
+        PARSE_PARALLEL, // Parser.parseParallel nad simboli
+        PARSE_LAZY      // Parser.parse nad simboli, jedra funkcij ostanejo nerazčlenjena
+    }
+
+    private static class Meritev {
+        final Benchmark benchmark;
+        final Sources source;
+        final int tokens;
+        final Harness.Result result;
+
+        Meritev(Benchmark benchmark, Sources source, int tokens, Harness.Result result) {
+            this.benchmark = benchmark;
+            this.source = source;
+            this.tokens = tokens;
+            this.result = result;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = Options.parse(args);
+        var napaka = new AtomicReference<Throwable>();
+        var nit = new Thread(null, () -> {
+            try {
+                run(options);
+            } catch (Throwable e) {
+                napaka.set(e);
+            }
+        }, "bench", VELIKOST_SKLADA);
+        nit.start();
+        nit.join();
+        if (napaka.get() != null) {
+            throw new RuntimeException(napaka.get());
+        }
+    }
+
+    // -------------------------------------------------------------------
+
+    private static void run(Options options) throws IOException {
+        var benchmarks = new ArrayList<Benchmark>();
+        for (var ime : seznam(options.benchmarks)) {
+            benchmarks.add(Benchmark.valueOf(ime.toUpperCase(Locale.ROOT).replace('-', '_')));
+        }
+        var sources = new ArrayList<Sources>();
+        for (var ime : List.of("example1", "example2", "example3")) {
+            sources.add(Sources.example(Path.of(options.examples), ime));
+        }
+        for (var velikost : seznam(options.sizes)) {
+            sources.add(Sources.synthetic("synthetic-" + velikost, velikost(velikost), options.depth, options.length));
+        }
+        if (options.definitions > 0) {
+            sources.add(Sources.definitions("definitions-" + options.definitions, options.definitions));
+        }
+        if (options.arguments > 0) {
+            sources.add(Sources.arguments("arguments-" + options.arguments, options.arguments));
+        }
+
+        var harness = new Harness(options.warmup, options.iterations, options.iterationTime);
+        var meritve = new ArrayList<Meritev>();
+        for (var source : sources) {
+            var tokens = new Lexer(source.code).tokenize();
+            var symbols = List.copyOf(tokens.symbols());
+            for (var benchmark : benchmarks) {
+                Supplier<?> operacija = switch (benchmark) {
+                    case SCAN -> () -> new Lexer(source.code).scan();
+                    case PARSE -> () -> new Parser(symbols, Optional.empty()).parse();
+                    case PARSE_PARALLEL -> () -> new Parser(tokens, Optional.empty()).parseParallel();
+                    case PARSE_LAZY -> () -> new Parser(tokens, Optional.empty(), true).parse();
+                };
+                var meritev = new Meritev(benchmark, source, symbols.size(), harness.measure(operacija));
+                System.err.println(String.format(Locale.ROOT, "%-14s %-16s %14.0f tokens/s %8.1f B/token",
+                        ime(benchmark), source.name,
+                        tokensPerSecond(meritev), bytesPerToken(meritev)));
+                meritve.add(meritev);
+            }
+        }
+
+        if (options.output.equals("-")) {
+            write(System.out, options, meritve);
+        } else {
+            try (var out = new PrintStream(options.output)) {
+                write(out, options, meritve);
+            }
+        }
+    }
+
+    private static void write(PrintStream out, Options options, List<Meritev> meritve) {
+        out.println("{");
+        out.println("  \"jvm\": \"" + System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version") + "\",");
+        out.println("  \"warmup_iterations\": " + options.warmup + ",");
+        out.println("  \"iterations\": " + options.iterations + ",");
+        out.println("  \"iteration_time_ms\": " + options.iterationTime + ",");
+        out.println("  \"results\": [");
+        for (int i = 0; i < meritve.size(); i++) {
+            var meritev = meritve.get(i);
+            var casi = new StringBuilder();
+            for (var cas : meritev.result.timePerOp) {
+                casi.append(casi.length() == 0 ? "" : ", ").append(String.format(Locale.ROOT, "%.0f", cas));
+            }
+            out.print(String.format(Locale.ROOT,
+                    "    {\"benchmark\": \"%s\", \"source\": \"%s\", \"chars\": %d, \"tokens\": %d, \"ops\": %d" +
+                    ", \"time_ns_per_op\": %.0f, \"tokens_per_second\": %.0f" +
+                    ", \"allocated_bytes_per_op\": %d, \"allocated_bytes_per_token\": %.1f" +
+                    ", \"iteration_time_ns_per_op\": [%s]}",
+                    ime(meritev.benchmark), meritev.source.name,
+                    meritev.source.code.length(), meritev.tokens, meritev.result.ops,
+                    meritev.result.medianTimePerOp(), tokensPerSecond(meritev),
+                    meritev.result.allocatedPerOp, bytesPerToken(meritev), casi));
+            out.println(i + 1 < meritve.size() ? "," : "");
+        }
+        out.println("  ]");
+        out.println("}");
+        out.flush();
+    }
+
+    /**
+     * @return ime meritve v rezultatih (npr. parse-parallel).
+     */
+    private static String ime(Benchmark benchmark) {
+        return benchmark.toString().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private static double tokensPerSecond(Meritev meritev) {
+        return meritev.tokens / (meritev.result.medianTimePerOp() / 1e9);
+    }
+
+    /**
+     * @return alocirani bajti na simbol oz. -1, če jih JVM ne zna izmeriti.
+     */
+    private static double bytesPerToken(Meritev meritev) {
+        var alocirano = meritev.result.allocatedPerOp;
+        return alocirano < 0 ? -1 : (double) alocirano / meritev.tokens;
+    }
+
+    /**
+     * @return neprazni elementi seznama, ločenega z vejico.
+     */
+    private static List<String> seznam(String niz) {
+        requireNonNull(niz);
+        var elementi = new ArrayList<String>();
+        for (var element : niz.split(",")) {
+            if (!element.isBlank()) {
+                elementi.add(element.trim());
+            }
+        }
+        return elementi;
+    }
+
+    /**
+     * @return velikost, podana s številom in enoto K ali M (npr. 10K).
+     */
+    private static long velikost(String niz) {
+        var enota = Character.toUpperCase(niz.charAt(niz.length() - 1));
+        var faktor = enota == 'K' ? 1024L : enota == 'M' ? 1024L * 1024 : 1L;
+        var stevilo = faktor == 1 ? niz : niz.substring(0, niz.length() - 1);
+        return Long.parseLong(stevilo) * faktor;
+    }
+}
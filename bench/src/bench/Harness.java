@@ -0,0 +1,134 @@
+/**
+ * @Author: turk
+ * @Description: Merjenje hitrosti in alokacije posamezne operacije.
+ */
+
+package bench;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Operacijo najprej nekajkrat ponovimo za ogrevanje, nato pa jo merimo
+ * v več iteracijah. Iteracija ponavlja operacijo, dokler ne preteče čas
+ * iteracije (vsaj enkrat). Alocirane bajte seštejemo po vseh nitih (tudi
+ * nitih bazena, v katerem operacija morda teče vzporedno).
+ */
+public class Harness {
+    /**
+     * Rezultat meritve.
+     */
+    public static class Result {
+        /**
+         * Čas operacije (ns) v posameznih iteracijah.
+         */
+        public final double[] timePerOp;
+
+        /**
+         * Število izvedenih operacij v vseh merjenih iteracijah.
+         */
+        public final long ops;
+
+        /**
+         * Alocirani bajti na operacijo oz. -1, če jih JVM ne zna izmeriti.
+         */
+        public final long allocatedPerOp;
+
+        Result(double[] timePerOp, long ops, long allocatedPerOp) {
+            this.timePerOp = timePerOp;
+            this.ops = ops;
+            this.allocatedPerOp = allocatedPerOp;
+        }
+
+        /**
+         * @return mediana časa operacije (ns).
+         */
+        public double medianTimePerOp() {
+            var urejeni = timePerOp.clone();
+            Arrays.sort(urejeni);
+            var n = urejeni.length;
+            return n % 2 == 1 ? urejeni[n / 2] : (urejeni[n / 2 - 1] + urejeni[n / 2]) / 2;
+        }
+    }
+
+    private final int warmupIterations;
+    private final int iterations;
+    private final long iterationTime;
+
+    /**
+     * Vir podatkov o alokaciji oz. `null`, če ga JVM ne podpira.
+     */
+    private final com.sun.management.ThreadMXBean threads;
+
+    /**
+     * @param warmupIterations Število iteracij za ogrevanje.
+     * @param iterations Število merjenih iteracij.
+     * @param iterationTimeMs Najmanjše trajanje iteracije (ms).
+     */
+    public Harness(int warmupIterations, int iterations, long iterationTimeMs) {
+        if (warmupIterations < 0 || iterations < 1 || iterationTimeMs < 0) {
+            throw new IllegalArgumentException("Invalid benchmark iterations!");
+        }
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+        this.iterationTime = iterationTimeMs * 1_000_000;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()) {
+            this.threads = bean;
+        } else {
+            this.threads = null;
+        }
+    }
+
+    /**
+     * Izmeri operacijo. Rezultat operacije porabimo, da je JIT ne odstrani.
+     */
+    public Result measure(Supplier<?> operation) {
+        requireNonNull(operation);
+        for (int i = 0; i < warmupIterations; i++) {
+            iteracija(operation);
+        }
+        System.gc();
+
+        var casi = new double[iterations];
+        var ops = 0L;
+        var alocirano = 0L;
+        for (int i = 0; i < iterations; i++) {
+            var zacetek = allocatedBytes();
+            var meritev = iteracija(operation);
+            alocirano += allocatedBytes() - zacetek;
+            casi[i] = (double) meritev[0] / meritev[1];
+            ops += meritev[1];
+        }
+        return new Result(casi, ops, threads == null ? -1 : alocirano / ops);
+    }
+
+    /**
+     * @return porabljen čas (ns) in število operacij.
+     */
+    private long[] iteracija(Supplier<?> operation) {
+        var ops = 0L;
+        var zacetek = System.nanoTime();
+        long cas;
+        do {
+            porabi(operation.get());
+            ops++;
+            cas = System.nanoTime() - zacetek;
+        } while (cas < iterationTime);
+        return new long[] { cas, ops };
+    }
+
+    private static volatile int ponor;
+
+    private static void porabi(Object rezultat) {
+        ponor += System.identityHashCode(rezultat);
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getTotalThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * @Author: turk
+ * @Description: Uporabniški vmesnik (CLI) za merjenje hitrosti.
+ */
+
+package bench;
+
+import ArgPar.Annotation.ParsableCommand;
+import ArgPar.Annotation.ParsableOption;
+import ArgPar.Exception.ParseException;
+import ArgPar.Parser.ArgumentParser;
+
+@ParsableCommand(commandName = "PINSBench", description = "Merjenje hitrosti leksikalne in sintaksne analize")
+public class Options {
+    /**
+     * Datoteka, kamor se izpišejo rezultati (JSON; "-" pomeni stdout).
+     */
+    @ParsableOption(name = "--output")
+    public String output = "bench.json";
+
+    /**
+     * Mapa s priloženimi primeri (`example1`-`example3`).
+     */
+    @ParsableOption(name = "--examples")
+    public String examples = ".";
+
+    /**
+     * Velikosti sintetičnih izvornih kod, ločene z vejico (npr. 10K,1M,50M;
+     * prazen niz pomeni nobene).
+     */
+    @ParsableOption(name = "--sizes")
+    public String sizes = "10K,1M,50M";
+
+    /**
+     * Število definicij na najvišjem nivoju v izvorni kodi z dolgim seznamom
+     * definicij (0 pomeni brez te izvorne kode).
+     */
+    @ParsableOption(name = "--definitions")
+    public int definitions = 100_000;
+
+    /**
+     * Število parametrov, argumentov in izrazov v izvorni kodi z dolgimi
+     * seznami parametrov in argumentov (0 pomeni brez te izvorne kode).
+     */
+    @ParsableOption(name = "--arguments")
+    public int arguments = 10_000;
+
+    /**
+     * Meritve, ločene z vejico (scan, parse, parse-parallel, parse-lazy).
+     */
+    @ParsableOption(name = "--benchmarks")
+    public String benchmarks = "scan,parse,parse-parallel,parse-lazy";
+
+    /**
+     * Globina gnezdenja v sintetični izvorni kodi.
+     */
+    @ParsableOption(name = "--depth")
+    public int depth = 48;
+
+    /**
+     * Dolžina izrazov in seznamov definicij v sintetični izvorni kodi.
+     */
+    @ParsableOption(name = "--length")
+    public int length = 64;
+
+    /**
+     * Število iteracij za ogrevanje.
+     */
+    @ParsableOption(name = "--warmup")
+    public int warmup = 3;
+
+    /**
+     * Število merjenih iteracij.
+     */
+    @ParsableOption(name = "--iterations")
+    public int iterations = 5;
+
+    /**
+     * Najmanjše trajanje iteracije (ms).
+     */
+    @ParsableOption(name = "--iteration-time")
+    public int iterationTime = 1000;
+
+    /**
+     * Razčleni argumente.
+     */
+    public static Options parse(String[] args) {
+        try {
+            var parser = new ArgumentParser<Options>(Options.class);
+            return parser.parse(args);
+        } catch (ParseException __) {
+            System.exit(2);
+            return null;
+        }
+    }
+}
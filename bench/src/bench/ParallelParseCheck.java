@@ -0,0 +1,85 @@
+/**
+ * @Author: turk
+ * @Description: Primerjava vzporedne in zaporedne sintaksne analize.
+ */
+
+package bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import common.Report;
+import compiler.common.PrettyPrintVisitor4;
+import compiler.lexer.Lexer;
+import compiler.parser.Parser;
+import compiler.parser.ast.Ast;
+
+/**
+ * Izvorne kode razčleni zaporedno (`Parser.parse`) in vzporedno
+ * (`Parser.parseParallel`) ter primerja izpisa abstraktnih sintaksnih dreves
+ * oz. sporočila sintaksnih napak.
+ * Vzporedna analiza teče v lastnem bazenu s `NITI` nitmi, zato razdelitev na
+ * dele ni odvisna od števila procesorjev. Če se kateri od izpisov razlikuje,
+ * se program konča s kodo 1.
+ */
+public class ParallelParseCheck {
+    private static final int NITI = 4;
+
+    public static void main(String[] args) throws Exception {
+        var sources = new ArrayList<Sources>();
+        for (var ime : new String[] { "example1", "example2", "example3" }) {
+            sources.add(Sources.example(Path.of("."), ime));
+        }
+        sources.add(Sources.synthetic("synthetic-1M", 1 << 20, 48, 64));
+        sources.add(Sources.definitions("definitions-100000", 100_000));
+        sources.add(Sources.arguments("arguments-10000", 10_000));
+        sources.add(Sources.program("program-2000", 2000, -1));
+        sources.add(Sources.program("program-2000-late", 2000, 1902));
+        sources.add(Sources.program("program-2000-early", 2000, 10));
+
+        var pool = new ForkJoinPool(NITI);
+        var uspeh = true;
+        for (var source : sources) {
+            var tokens = new Lexer(source.code).tokenize();
+            var zaporedno = razcleni(() -> new Parser(tokens, Optional.empty()).parse());
+            var vzporedno = razcleni(() -> new Parser(tokens, Optional.empty()).parseParallel(pool));
+            var ok = zaporedno.equals(vzporedno);
+            uspeh &= ok;
+            System.out.println(String.format(Locale.ROOT, "%-20s %s (%d tokens)",
+                    source.name, ok ? "ok" : "FAILED", tokens.size() - 1));
+        }
+        pool.shutdown();
+        System.exit(uspeh ? 0 : 1);
+    }
+
+    /**
+     * Razčleni izvorno kodo, pri čemer napake le zabeleži.
+     *
+     * @return izpis drevesa oz. sporočila napak, če kode ni bilo mogoče
+     *         razčleniti.
+     */
+    private static List<String> razcleni(Supplier<Ast> parser) {
+        Report.setErrorLimit(0);
+        var ast = parser.get();
+        return Report.errorCount() > 0 ? Report.errors() : List.of(izpis(ast));
+    }
+
+    /**
+     * @return izpis drevesa, kot ga izpiše `--dump AST`.
+     */
+    private static String izpis(Ast ast) {
+        var buffer = new ByteArrayOutputStream();
+        var out = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        ast.accept(new PrettyPrintVisitor4(2, out));
+        out.flush();
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
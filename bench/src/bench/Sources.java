@@ -0,0 +1,191 @@
+/**
+ * @Author: turk
+ * @Description: Izvorne kode za merjenje hitrosti.
+ */
+
+package bench;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Izvorna koda, na kateri merimo, in njeno ime v rezultatih.
+ */
+public class Sources {
+    public final String name;
+    public final String code;
+
+    private Sources(String name, String code) {
+        this.name = name;
+        this.code = code;
+    }
+
+    /**
+     * Prebere priložen primer (npr. `example1`) iz podane mape.
+     */
+    public static Sources example(Path directory, String name) throws IOException {
+        requireNonNull(directory, name);
+        return new Sources(name, Files.readString(directory.resolve(name)));
+    }
+
+    /**
+     * Ustvari sintaktično pravilno izvorno kodo dolžine (vsaj) `size` znakov.
+     *
+     * Izvorna koda je zaporedje funkcij; vsaka vsebuje dolg izraz, globoko
+     * gnezdene izraze in stavke ter dolg seznam definicij v bloku `where`.
+     * Pri enakih parametrih je izvorna koda vedno enaka.
+     *
+     * @param name Ime izvorne kode v rezultatih.
+     * @param size Najmanjše število znakov.
+     * @param depth Globina gnezdenja.
+     * @param length Število členov dolgega izraza in definicij v bloku `where`.
+     */
+    public static Sources synthetic(String name, long size, int depth, int length) {
+        requireNonNull(name);
+        if (size > Integer.MAX_VALUE - 1_000_000) {
+            throw new IllegalArgumentException("Synthetic source is too large!");
+        }
+        var random = new Random(size);
+        var sb = new StringBuilder((int) size + 64 * 1024);
+        for (int k = 0; sb.length() < size; k++) {
+            if (k > 0) {
+                sb.append(";\n\n");
+            }
+            funkcija(sb, random, k, depth, length);
+        }
+        return new Sources(name, sb.toString());
+    }
+
+    /**
+     * Ustvari izvorno kodo z `count` definicijami na najvišjem nivoju
+     * (spremenljivke, tipi in funkcije).
+     */
+    public static Sources definitions(String name, int count) {
+        requireNonNull(name);
+        var sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(";\n");
+            }
+            switch (i % 10) {
+                case 0 -> sb.append("typ t").append(i).append(": arr[").append(i % 100 + 1).append("] integer");
+                case 5 -> sb.append("fun f").append(i).append("(x: integer): integer = x + ").append(i);
+                default -> sb.append("var v").append(i).append(": integer");
+            }
+        }
+        return new Sources(name, sb.toString());
+    }
+
+    /**
+     * Ustvari izvedljiv program s `count` definicijami na najvišjem nivoju
+     * (tipi, spremenljivke in funkcije z blokom `where`) in funkcijo `main`,
+     * ki kliče nekaj teh funkcij. `count` mora biti večkratnik 4 in vsaj 1504;
+     * pri 2000 program izpiše `13527` in `42`. Če `broken` ni negativen, ima
+     * definicija `broken` (funkcija) sintaksno napako.
+     */
+    public static Sources program(String name, int count, int broken) {
+        requireNonNull(name);
+        var sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            switch (i % 4) {
+                case 0 -> sb.append("typ t").append(i).append(": arr[").append(i % 50 + 1).append("] integer;\n");
+                case 1 -> sb.append("var v").append(i).append(": integer;\n");
+                default -> sb.append("fun f").append(i).append("(x: integer, y: integer): integer = (y, h(x) + ")
+                        .append(i == broken ? "* " : "").append(i)
+                        .append(" * (y - 1)) { where var w: integer; fun h(z: integer): integer = z * 2 };\n");
+            }
+        }
+        sb.append("fun main(x: integer): integer = (\n")
+                .append("  { v1 = 7 },\n")
+                .append("  { v").append(count - 3).append(" = 35 },\n")
+                .append("  print_int(f2(2, 2) + f3(3, 2) + f1002(1002, 2) + f1503(1503, 2) + f")
+                .append(count - 1).append('(').append(count - 1).append(", 2)),\n")
+                .append("  print_int(v1 + v").append(count - 3).append("),\n")
+                .append("  0\n")
+                .append(")");
+        return new Sources(name, sb.toString());
+    }
+
+    /**
+     * Ustvari izvorno kodo s funkcijo s `count` parametri, ki jo pokličemo
+     * s `count` argumenti, in z zaporedjem `count` izrazov.
+     */
+    public static Sources arguments(String name, int count) {
+        requireNonNull(name);
+        var sb = new StringBuilder("fun g(");
+        for (int i = 0; i < count; i++) {
+            sb.append(i > 0 ? ", " : "").append('p').append(i).append(": integer");
+        }
+        sb.append("): integer = p0;\n");
+        sb.append("fun f(x: integer): integer = (\n  g(");
+        for (int i = 0; i < count; i++) {
+            sb.append(i > 0 ? ", " : "").append(i % 7 == 0 ? "x" : Integer.toString(i));
+        }
+        sb.append(")");
+        for (int i = 0; i < count; i++) {
+            sb.append(",\n  { x = x + ").append(i).append(" }");
+        }
+        sb.append("\n)");
+        return new Sources(name, sb.toString());
+    }
+
+    // ---------- pomožne funkcije ----------
+
+    private static final String[] OPERATORJI = { "+", "-", "*", "/", "%" };
+
+    private static void funkcija(StringBuilder sb, Random random, int k, int depth, int length) {
+        sb.append("# Funkcija f").append(k).append(" (samodejno ustvarjena).\n");
+        sb.append("fun f").append(k).append("(a: integer, b: integer, c: list, s: string): integer = (\n");
+
+        // Dolg izraz.
+        sb.append("  { r = a");
+        for (int i = 0; i < length; i++) {
+            sb.append(' ').append(OPERATORJI[random.nextInt(OPERATORJI.length)]).append(' ');
+            switch (random.nextInt(4)) {
+                case 0 -> sb.append('v').append(random.nextInt(length));
+                case 1 -> sb.append(random.nextInt(1000));
+                case 2 -> sb.append("c[").append(random.nextInt(10)).append(']');
+                default -> sb.append("g(b, ").append(random.nextInt(100)).append(')');
+            }
+        }
+        sb.append(" },\n");
+
+        // Globoko gnezdeni izrazi in stavki.
+        sb.append("  ");
+        for (int i = 0; i < depth; i++) {
+            switch (i % 3) {
+                case 0 -> sb.append("{ if a < ").append(i).append(" then ");
+                case 1 -> sb.append("{ while b > ").append(i).append(": ");
+                default -> sb.append("(-");
+            }
+        }
+        sb.append("{ r = r + 1 }");
+        for (int i = depth - 1; i >= 0; i--) {
+            switch (i % 3) {
+                case 0 -> sb.append(" else { b = b - 1 } }");
+                case 1 -> sb.append(" }");
+                default -> sb.append(')');
+            }
+        }
+        sb.append(",\n");
+
+        sb.append("  { for i = 0, 10, 1: { c[i] = print_int(i * a) } },\n");
+        sb.append("  print_str(s), print_log(a == b & !(a >= b) | a != 0),\n");
+        sb.append("  r\n");
+
+        // Dolg seznam definicij.
+        sb.append(") { where\n");
+        sb.append("  typ list: arr[10] integer;\n");
+        sb.append("  var r: integer;\n");
+        sb.append("  var i: integer;\n");
+        sb.append("  fun g(x: integer, y: integer): integer = x * y + 'niz ''").append(k).append("''' == s");
+        for (int i = 0; i < length; i++) {
+            sb.append(";\n  var v").append(i).append(": integer");
+        }
+        sb.append("\n}");
+    }
+}
@@ -3,24 +3,38 @@
  * @Description: Vhodna točka prevajalnika.
  */
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Optional;
 
 import cli.PINS;
+import cli.PINS.Engine;
+import cli.PINS.Input;
 import cli.PINS.Phase;
+import common.Report;
+import common.Statistics;
+import compiler.common.NodeCounter;
 import compiler.common.PrettyPrintVisitor4;
 import compiler.frm.Access;
 import compiler.frm.Frame;
 import compiler.frm.FrameEvaluator;
 import compiler.gen.LinCodeGenerator;
 import compiler.gen.Memory;
+import compiler.interpret.BytecodeInterpreter;
 import compiler.interpret.Interpreter;
+import compiler.interpret.OutputBuffer;
+import compiler.interpret.Profiler;
 import compiler.ir.IRCodeGenerator;
+import compiler.ir.IRNodeCounter;
 import compiler.ir.IRPrettyPrint;
 import compiler.lexer.Lexer;
+import compiler.lexer.Tokens;
 import compiler.parser.Parser;
 import compiler.parser.ast.def.Def;
 import compiler.seman.common.NodeDescription;
@@ -38,6 +52,7 @@ public class Main {
      */
     public static void main(String[] args) throws Exception {
         var cli = PINS.parse(args);
+        Report.setErrorLimit(cli.maxErrors);
         run(cli);
     }
 
@@ -46,22 +61,60 @@ public class Main {
 
 
     private static void run(PINS cli) throws IOException {
-        var sourceCode = Files.readString(Paths.get(cli.sourceFile));
-        run(cli, sourceCode);
+        Optional<Statistics> stats = cli.stats ? Optional.of(new Statistics()) : Optional.empty();
+        if (cli.input == Input.MAP) {
+            try (var channel = FileChannel.open(Paths.get(cli.sourceFile))) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    Report.error("Source file " + cli.sourceFile + " is too large!");
+                }
+                var sourceCode = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                run(cli, new Lexer(sourceCode), stats);
+            }
+        } else {
+            var sourceCode = Files.readString(Paths.get(cli.sourceFile));
+            run(cli, new Lexer(sourceCode), stats);
+        }
+        if (stats.isPresent()) {
+            if (cli.statsFile.equals("-")) {
+                stats.get().write(System.err);
+            } else {
+                try (var out = new PrintStream(cli.statsFile)) {
+                    stats.get().write(out);
+                } catch (IOException e) {
+                    Report.error("Could not write " + cli.statsFile + "!");
+                }
+            }
+        }
     }
 
-    private static void run(PINS cli, String sourceCode) {
+    private static void run(PINS cli, Lexer lexer, Optional<Statistics> stats) {
         /**
          * Izvedi leksikalno analizo.
+         *
+         * Če seznama simbolov ne potrebujemo in analiza ni vzporedna,
+         * simbole sproti zahteva sintaksni analizator.
          */
-        var symbols = new Lexer(sourceCode).scan();
-        if (cli.dumpPhases.contains(Phase.LEX)) {
-            for (var symbol : symbols) {
-                System.out.println(symbol.toString());
+        Optional<Tokens> tokens = Optional.empty();
+        if (cli.dumpPhases.contains(Phase.LEX) || cli.execPhase == Phase.LEX || cli.parallelLex || cli.parallelParse || cli.lazyParse) {
+            stats.ifPresent(s -> s.begin("LEX"));
+            tokens = Optional.of(cli.parallelLex ? lexer.tokenizeParallel() : lexer.tokenize());
+            stats.ifPresent(s -> {
+                s.end();
+                s.size("source_length", lexer.sourceLength());
+                s.size("tokens", lexer.symbolCount());
+                s.size("names", lexer.names.size());
+            });
+            if (cli.dumpPhases.contains(Phase.LEX) || cli.execPhase == Phase.LEX) {
+                Report.exitOnErrors();
+            }
+            if (cli.dumpPhases.contains(Phase.LEX)) {
+                for (var symbol : tokens.get().symbols()) {
+                    System.out.println(symbol.toString());
+                }
+            }
+            if (cli.execPhase == Phase.LEX) {
+                return;
             }
-        }
-        if (cli.execPhase == Phase.LEX) {
-            return;
         }
         /**
          * Izvedi sintaksno analizo.
@@ -69,11 +122,45 @@ public class Main {
         Optional<PrintStream> out = cli.dumpPhases.contains(Phase.SYN) 
                 ? Optional.of(System.out)
                 : Optional.empty();
-        var parser = new Parser(symbols, out);
-        var ast = parser.parse();
+        var streaming = tokens.isEmpty();
+        stats.ifPresent(s -> s.begin(streaming ? "LEX+SYN" : "SYN"));
+        var parser = tokens.isPresent()
+                ? new Parser(tokens.get(), out, cli.lazyParse)
+                : new Parser(lexer, out);
+        var ast = cli.parallelParse ? parser.parseParallel() : parser.parse();
+        Report.exitOnErrors();
+        stats.ifPresent(s -> {
+            s.end();
+            if (streaming) {
+                s.size("source_length", lexer.sourceLength());
+                s.size("tokens", lexer.symbolCount());
+                s.size("names", lexer.names.size());
+            }
+            if (!cli.lazyParse) {
+                // Štetje vozlišč bi razčlenilo vsa jedra funkcij.
+                var counter = new NodeCounter();
+                ast.accept(counter);
+                s.size("ast_nodes", counter.count);
+            }
+        });
         if (cli.execPhase == Phase.SYN) {
             return;
         }
+        /**
+         * Razčleni odložena jedra funkcij, preden drevo potrebujejo
+         * naslednje faze.
+         */
+        if (cli.lazyParse) {
+            stats.ifPresent(s -> s.begin("BODIES"));
+            parser.parseBodies();
+            Report.exitOnErrors();
+            stats.ifPresent(s -> {
+                s.end();
+                var counter = new NodeCounter();
+                ast.accept(counter);
+                s.size("ast_nodes", counter.count);
+            });
+        }
         /**
          * Abstraktna sintaksa.
          */
@@ -87,10 +174,13 @@ public class Main {
         /**
          * Izvedi razreševanje imen.
          */
+        stats.ifPresent(s -> s.begin("NAME"));
         SymbolTable symbolTable = new FastSymbolTable();
         var definitions = new NodeDescription<Def>();
         var nameChecker = new NameChecker(definitions, symbolTable);
         ast.accept(nameChecker);
+        Report.exitOnErrors();
+        stats.ifPresent(Statistics::end);
         if (cli.dumpPhases.contains(Phase.NAME)) {
             prettyPrint.definitions = Optional.of(definitions);
             ast.accept(prettyPrint);
@@ -102,8 +192,11 @@ public class Main {
          * Izvedi preverjanje tipov.
          */
         var types = new NodeDescription<Type>();
+        stats.ifPresent(s -> s.begin("TYP"));
         var typeChecker = new TypeChecker(definitions, types);
         ast.accept(typeChecker);
+        Report.exitOnErrors();
+        stats.ifPresent(Statistics::end);
         if (cli.dumpPhases.contains(Phase.TYP)) {
             prettyPrint.definitions = Optional.of(definitions);
             prettyPrint.types = Optional.of(types);
@@ -115,10 +208,12 @@ public class Main {
         /**
          * Izvedi analizo klicnih zapisov in dostopov.
          */
+        stats.ifPresent(s -> s.begin("FRM"));
         var frames = new NodeDescription<Frame>();
         var accesses = new NodeDescription<Access>();
         var frameEvaluator = new FrameEvaluator(frames, accesses, definitions, types);
         ast.accept(frameEvaluator);
+        stats.ifPresent(Statistics::end);
         if (cli.dumpPhases.contains(Phase.FRM)) {
             prettyPrint.definitions = Optional.of(definitions);
             prettyPrint.types = Optional.of(types);
@@ -132,8 +227,14 @@ public class Main {
         /**
          * Generiranje vmesne kode.
          */
+        stats.ifPresent(s -> s.begin("IMC"));
         var generator = new IRCodeGenerator(new NodeDescription<>(), frames, accesses, definitions, types);
         ast.accept(generator);
+        stats.ifPresent(s -> {
+            s.end();
+            s.size("chunks", generator.chunks.size());
+            s.size("ir_nodes", IRNodeCounter.count(generator.chunks));
+        });
         if (cli.dumpPhases.contains(Phase.IMC)) {
             new IRPrettyPrint(System.out, 2).print(generator.chunks);
         }
@@ -143,8 +244,16 @@ public class Main {
         /**
          * Linearizacija vmesne kode.
          */
+        stats.ifPresent(s -> s.begin("LIN"));
         var memory = new Memory(cli.memory);
-        var mainCodeChunk = new LinCodeGenerator(memory).generateCode(generator.chunks);
+        var linGenerator = new LinCodeGenerator(memory);
+        var mainCodeChunk = linGenerator.generateCode(generator.chunks);
+        stats.ifPresent(s -> {
+            s.end();
+            s.size("chunks", linGenerator.linearChunks.size());
+            s.size("ir_nodes", IRNodeCounter.count(linGenerator.linearChunks));
+            s.size("temps", linGenerator.linearChunks.stream().mapToInt(chunk -> chunk.tempCount).sum());
+        });
         if (!cli.dumpPhases.contains(Phase.INT)) {
             return;
         }
@@ -152,9 +261,30 @@ public class Main {
          * Izvajanje vmesne kode.
          */
         if (mainCodeChunk.isPresent()) {
-            Optional<PrintStream> outputStream = cli.dumpPhases.contains(Phase.INT) ? Optional.of(System.out) : Optional.empty();
-            var interpreter = new Interpreter(memory, outputStream);
-            interpreter.interpret(mainCodeChunk.get());
+            Optional<OutputBuffer> outputStream = Optional.empty();
+            if (cli.dumpPhases.contains(Phase.INT)) {
+                var buffer = new OutputBuffer(System.out, System.out.charset(), cli.outputBuffer, cli.flush);
+                Report.onExit(buffer::flush);
+                outputStream = Optional.of(buffer);
+            }
+            Optional<Profiler> profiler = cli.profile ? Optional.of(new Profiler(memory)) : Optional.empty();
+            stats.ifPresent(s -> s.begin("INT"));
+            if (cli.engine == Engine.TREE) {
+                var interpreter = new Interpreter(memory, outputStream, profiler);
+                interpreter.interpret(mainCodeChunk.get());
+            } else {
+                var interpreter = new BytecodeInterpreter(memory, outputStream, profiler);
+                interpreter.interpret(mainCodeChunk.get());
+            }
+            stats.ifPresent(Statistics::end);
+            if (profiler.isPresent()) {
+                profiler.get().report(System.err);
+                try (var stacks = new PrintStream(new BufferedOutputStream(new FileOutputStream(cli.profileStacks)))) {
+                    profiler.get().writeCollapsedStacks(stacks);
+                } catch (IOException e) {
+                    Report.error("Could not write " + cli.profileStacks + "!");
+                }
+            }
         }
     }
 }
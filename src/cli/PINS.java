@@ -9,9 +9,13 @@ import java.util.EnumSet;
 
 import ArgPar.Annotation.ParsableArgument;
 import ArgPar.Annotation.ParsableCommand;
+import ArgPar.Annotation.ParsableFlag;
 import ArgPar.Annotation.ParsableOption;
 import ArgPar.Exception.ParseException;
 import ArgPar.Parser.ArgumentParser;
+import common.Report;
+import compiler.interpret.OutputBuffer;
+import compiler.interpret.OutputBuffer.FlushPolicy;
 
 @ParsableCommand(commandName = "PINS", description = "Prevajalnik za programski jezik PINS")
 public class PINS {
@@ -21,6 +25,37 @@ public class PINS {
     @ParsableArgument
     public String sourceFile;
 
+    /**
+     * Način branja izvorne datoteke.
+     */
+    @ParsableOption(name = "--input")
+    public Input input = Input.READ;
+
+    /**
+     * Izvedi leksikalno analizo vzporedno (pred sintaksno analizo).
+     */
+    @ParsableFlag(name = "--parallel-lex")
+    public boolean parallelLex = false;
+
+    /**
+     * Izvedi sintaksno analizo definicij na najvišjem nivoju vzporedno.
+     */
+    @ParsableFlag(name = "--parallel-parse")
+    public boolean parallelParse = false;
+
+    /**
+     * Jedra funkcij razčleni šele, ko jih potrebuje kasnejša faza.
+     */
+    @ParsableFlag(name = "--lazy-parse")
+    public boolean lazyParse = false;
+
+    /**
+     * Največje število napak, ki jih prevajalnik zbere in izpiše, preden
+     * prekine prevajanje (0 pomeni brez omejitve).
+     */
+    @ParsableOption(name = "--max-errors")
+    public int maxErrors = 1;
+
     /**
      * Faze prevajanja, ki izpišejo vmesne rezultate.
      */
@@ -39,19 +74,76 @@ public class PINS {
     @ParsableOption(name = "--memory")
     public int memory = 1024;
 
+    /**
+     * Način izvajanja vmesne kode.
+     */
+    @ParsableOption(name = "--engine")
+    public Engine engine = Engine.BYTECODE;
+
+    /**
+     * Velikost medpomnilnika za izpis rezultatov izvajanja (v bajtih).
+     */
+    @ParsableOption(name = "--output-buffer")
+    public int outputBuffer = 8192;
+
+    /**
+     * Kdaj se medpomnjen izpis rezultatov izvajanja izpiše.
+     */
+    @ParsableOption(name = "--flush")
+    public FlushPolicy flush = FlushPolicy.FULL;
+
+    /**
+     * Profiliraj izvajanje vmesne kode.
+     */
+    @ParsableFlag(name = "--profile")
+    public boolean profile = false;
+
+    /**
+     * Datoteka, kamor se ob profiliranju izpišejo skladi klicev.
+     */
+    @ParsableOption(name = "--profile-stacks")
+    public String profileStacks = "profile.collapsed";
+
+    /**
+     * Izpiši statistiko posameznih faz prevajanja (JSON).
+     */
+    @ParsableFlag(name = "--stats")
+    public boolean stats = false;
+
+    /**
+     * Datoteka, kamor se izpiše statistika ("-" pomeni stderr).
+     */
+    @ParsableOption(name = "--stats-file")
+    public String statsFile = "-";
+
     /**
      * Razčleni argumente.
      */
     public static PINS parse(String[] args) {
         try {
             var parser = new ArgumentParser<PINS>(PINS.class);
-            return parser.parse(args);
+            var cli = parser.parse(args);
+            cli.validate();
+            return cli;
         } catch (ParseException __) {
             System.exit(2);
             return null;
         }
     }
 
+    /**
+     * Preveri vrednosti možnosti, ki jih razčlenjevalnik argumentov ne
+     * omeji, in neveljavne sporoči, preden se prevajanje začne.
+     */
+    private void validate() {
+        if (outputBuffer < OutputBuffer.MIN_SIZE) {
+            Report.error("Output buffer must be at least " + OutputBuffer.MIN_SIZE + " bytes!");
+        }
+        if (maxErrors < 0) {
+            Report.error("Error limit must not be negative!");
+        }
+    }
+
     // --------------------------------------------------------------
 
     /**
@@ -61,6 +153,22 @@ public class PINS {
         LEX, SYN, AST, NAME, TYP, FRM, IMC, INT
     }
 
+    /**
+     * Načini branja izvorne datoteke.
+     */
+    public static enum Input {
+        READ, // preberi in dekodiraj v niz
+        MAP   // preslikaj v pomnilnik in analiziraj bajte UTF-8
+    }
+
+    /**
+     * Načini izvajanja vmesne kode.
+     */
+    public static enum Engine {
+        TREE, // drevesni interpreter
+        BYTECODE // prevod v zložno kodo
+    }
+
     /**
      * Razred, ki hrani faze prevajanja.
      */
@@ -0,0 +1,65 @@
+/**
+ * @Author: turk
+ * @Description: Zbiralnik napak prevajanja.
+ */
+
+package common;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hrani sporočila napak v vrstnem redu, v katerem so bile sporočene.
+ * Ponovljenih sporočil (enako območje in besedilo) ne shrani, saj nekatere
+ * faze isto vozlišče obiščejo večkrat.
+ */
+public class Diagnostics {
+    /**
+     * Največje število napak (0 pomeni brez omejitve).
+     */
+    public final int limit;
+
+    /**
+     * Sporočila napak.
+     */
+    private final Set<String> errors = new LinkedHashSet<>();
+
+    public Diagnostics(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Error limit must not be negative!");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Doda sporočilo napake.
+     *
+     * @return ali je število napak doseglo omejitev.
+     */
+    public synchronized boolean add(String message) {
+        errors.add(message);
+        return isFull();
+    }
+
+    /**
+     * @return ali je število napak doseglo omejitev.
+     */
+    public synchronized boolean isFull() {
+        return limit > 0 && errors.size() >= limit;
+    }
+
+    /**
+     * @return število napak.
+     */
+    public synchronized int count() {
+        return errors.size();
+    }
+
+    /**
+     * @return sporočila napak.
+     */
+    public synchronized List<String> errors() {
+        return List.copyOf(errors);
+    }
+}
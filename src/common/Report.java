@@ -6,6 +6,8 @@
 package common;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import compiler.lexer.Position;
 
@@ -23,15 +25,97 @@ public class Report {
      */
     public static PrintStream err = System.err;
 
+    /**
+     * Operacije, ki se izvedejo pred izhodom zaradi napake
+     * (npr. izpis medpomnjenega izhoda programa).
+     */
+    private static final List<VoidOperator> exitHandlers = new ArrayList<>();
+
+    /**
+     * Napake, po katerih faze prevajanja nadaljujejo.
+     */
+    private static Diagnostics diagnostics = new Diagnostics(1);
+
     private Report() {}
 
+    /**
+     * Nastavi največje število napak, ki jih faze, ki znajo nadaljevati po
+     * napaki, zberejo pred izhodom (0 pomeni brez omejitve). Ob omejitvi 1
+     * prevajanje prekine že prva napaka.
+     */
+    public static void setErrorLimit(int limit) {
+        diagnostics = new Diagnostics(limit);
+    }
+
+    /**
+     * Dodaj operacijo, ki se izvede pred izhodom zaradi napake.
+     */
+    public static void onExit(VoidOperator handler) {
+        exitHandlers.add(handler);
+    }
+
     public static void error(String message) {
+        runExitHandlers();
+        printErrors();
         err.println(message);
         System.exit(exitErrorCode);      
     }
 
     public static void error(Position position, String message) {
+        runExitHandlers();
+        printErrors();
         err.println(position.toString() + ": " + message);
         System.exit(exitErrorCode);
     }
+
+    /**
+     * Zabeleži napako, po kateri faza prevajanja lahko nadaljuje. Ko število
+     * napak doseže omejitev, izpiše zbrane napake in prekine prevajanje.
+     */
+    public static void recoverableError(Position position, String message) {
+        if (diagnostics.add(position.toString() + ": " + message)) {
+            exit();
+        }
+    }
+
+    /**
+     * @return število zabeleženih napak.
+     */
+    public static int errorCount() {
+        return diagnostics.count();
+    }
+
+    /**
+     * @return zabeležene napake v vrstnem redu, v katerem so bile sporočene.
+     */
+    public static List<String> errors() {
+        return diagnostics.errors();
+    }
+
+    /**
+     * Če so bile zabeležene napake, jih izpiše in prekine prevajanje.
+     */
+    public static void exitOnErrors() {
+        if (diagnostics.count() > 0) {
+            exit();
+        }
+    }
+
+    private static void exit() {
+        runExitHandlers();
+        printErrors();
+        System.exit(exitErrorCode);
+    }
+
+    private static void printErrors() {
+        for (var message : diagnostics.errors()) {
+            err.println(message);
+        }
+    }
+
+    private static void runExitHandlers() {
+        for (var handler : exitHandlers) {
+            handler.apply();
+        }
+    }
 }
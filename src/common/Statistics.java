@@ -0,0 +1,134 @@
+/**
+ * @Author: turk
+ * @Description: Statistika posameznih faz prevajanja.
+ */
+
+package common;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import compiler.frm.Frame;
+
+/**
+ * Za vsako fazo hrani porabljen čas, število bajtov, ki jih je
+ * faza alocirala na trenutni niti, število ustvarjenih anonimnih
+ * label ter velikosti rezultatov faze.
+ */
+public class Statistics {
+    private static class Phase {
+        final String name;
+        long time;
+        long allocated;
+        int labels;
+        final Map<String, Long> sizes = new LinkedHashMap<>();
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Trenutna faza oz. `null`.
+     */
+    private Phase current;
+
+    private long startTime;
+    private long startAllocated;
+    private int startLabels;
+
+    /**
+     * Vir podatkov o alokaciji oz. `null`, če ga JVM ne podpira.
+     */
+    private final com.sun.management.ThreadMXBean threads;
+
+    public Statistics() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()) {
+            this.threads = bean;
+        } else {
+            this.threads = null;
+        }
+    }
+
+    /**
+     * Začetek faze.
+     */
+    public void begin(String name) {
+        requireNonNull(name);
+        if (current != null) {
+            throw new IllegalStateException("Phase " + current.name + " has not ended!");
+        }
+        current = new Phase(name);
+        startLabels = Frame.Label.created();
+        startAllocated = allocatedBytes();
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Konec trenutne faze.
+     */
+    public void end() {
+        var time = System.nanoTime();
+        var allocated = allocatedBytes();
+        if (current == null) {
+            throw new IllegalStateException("No phase has begun!");
+        }
+        current.time = time - startTime;
+        current.allocated = threads == null ? -1 : allocated - startAllocated;
+        current.labels = Frame.Label.created() - startLabels;
+        phases.add(current);
+        current = null;
+    }
+
+    /**
+     * Zabeleži velikost rezultata nazadnje končane faze.
+     */
+    public void size(String name, long value) {
+        requireNonNull(name);
+        if (phases.isEmpty()) {
+            throw new IllegalStateException("No phase has ended!");
+        }
+        phases.get(phases.size() - 1).sizes.put(name, value);
+    }
+
+    /**
+     * Izpiše statistiko v obliki JSON.
+     *
+     * Čas je podan v nanosekundah; alocirani bajti so -1,
+     * če jih JVM ne zna izmeriti.
+     */
+    public void write(PrintStream out) {
+        out.println("{");
+        out.println("  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            var phase = phases.get(i);
+            out.print("    {\"phase\": \"" + phase.name + "\"" +
+                    ", \"time_ns\": " + phase.time +
+                    ", \"allocated_bytes\": " + phase.allocated +
+                    ", \"labels\": " + phase.labels);
+            for (var size : phase.sizes.entrySet()) {
+                out.print(", \"" + size.getKey() + "\": " + size.getValue());
+            }
+            out.println(i + 1 < phases.size() ? "}," : "}");
+        }
+        out.println("  ],");
+        out.println("  \"total_time_ns\": " + phases.stream().mapToLong(p -> p.time).sum() + ",");
+        out.println("  \"total_allocated_bytes\": " + (threads == null ? -1 : phases.stream().mapToLong(p -> p.allocated).sum()));
+        out.println("}");
+        out.flush();
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+}
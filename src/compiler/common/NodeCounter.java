@@ -0,0 +1,132 @@
+/**
+ * @ Author: turk
+ * @ Description: Visitor, ki prešteje vozlišča AST.
+ */
+
+package compiler.common;
+
+import compiler.parser.ast.def.*;
+import compiler.parser.ast.expr.*;
+import compiler.parser.ast.type.*;
+
+public class NodeCounter implements Visitor {
+    /**
+     * Število obiskanih vozlišč.
+     */
+    public int count = 0;
+
+    @Override
+    public void visit(Call call) {
+        count++;
+        call.arguments.forEach(arg -> arg.accept(this));
+    }
+
+    @Override
+    public void visit(Binary binary) {
+        count++;
+        binary.left.accept(this);
+        binary.right.accept(this);
+    }
+
+    @Override
+    public void visit(Block block) {
+        count++;
+        block.expressions.forEach(expr -> expr.accept(this));
+    }
+
+    @Override
+    public void visit(For forLoop) {
+        count++;
+        forLoop.counter.accept(this);
+        forLoop.low.accept(this);
+        forLoop.high.accept(this);
+        forLoop.step.accept(this);
+        forLoop.body.accept(this);
+    }
+
+    @Override
+    public void visit(Name name) {
+        count++;
+    }
+
+    @Override
+    public void visit(IfThenElse ifThenElse) {
+        count++;
+        ifThenElse.condition.accept(this);
+        ifThenElse.thenExpression.accept(this);
+        ifThenElse.elseExpression.ifPresent(expr -> expr.accept(this));
+    }
+
+    @Override
+    public void visit(Literal literal) {
+        count++;
+    }
+
+    @Override
+    public void visit(Unary unary) {
+        count++;
+        unary.expr.accept(this);
+    }
+
+    @Override
+    public void visit(While whileLoop) {
+        count++;
+        whileLoop.condition.accept(this);
+        whileLoop.body.accept(this);
+    }
+
+    @Override
+    public void visit(Where where) {
+        count++;
+        where.defs.accept(this);
+        where.expr.accept(this);
+    }
+
+    @Override
+    public void visit(Defs defs) {
+        count++;
+        defs.definitions.forEach(def -> def.accept(this));
+    }
+
+    @Override
+    public void visit(FunDef funDef) {
+        count++;
+        funDef.parameters.forEach(param -> param.accept(this));
+        funDef.type.accept(this);
+        funDef.body.accept(this);
+    }
+
+    @Override
+    public void visit(TypeDef typeDef) {
+        count++;
+        typeDef.type.accept(this);
+    }
+
+    @Override
+    public void visit(VarDef varDef) {
+        count++;
+        varDef.type.accept(this);
+    }
+
+    @Override
+    public void visit(FunDef.Parameter parameter) {
+        count++;
+        parameter.type.accept(this);
+    }
+
+    @Override
+    public void visit(Array array) {
+        count++;
+        array.type.accept(this);
+    }
+
+    @Override
+    public void visit(Atom atom) {
+        count++;
+    }
+
+    @Override
+    public void visit(TypeName name) {
+        count++;
+    }
+}
@@ -93,6 +93,17 @@ public class Frame {
             return new Temp(count++);
         }
 
+        /**
+         * Ustvari začasno spremenljivko s podano zaporedno številko
+         * `id` znotraj posameznega fragmenta kode (številke se v
+         * vsakem fragmentu začnejo pri 0 in so zaporedne).
+         *
+         * Globalnega števca začasnih spremenljivk ne spremeni.
+         */
+        public static Temp numbered(int id) {
+            return new Temp(id);
+        }
+
         @Override
         public String toString() {
             return "T[" + id + "]";
@@ -144,6 +155,13 @@ public class Frame {
             return new Label(name);
         }
 
+        /**
+         * @return število ustvarjenih anonimnih label.
+         */
+        public static int created() {
+            return count;
+        }
+
         @Override
         public String toString() {
             return name;
@@ -9,7 +9,9 @@ import static common.RequireNonNull.requireNonNull;
 import static java.util.List.of;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -33,6 +35,21 @@ public class LinCodeGenerator {
      */
     private int offset = Constants.WordSize; 
 
+    /**
+     * Preimenovanje začasnih spremenljivk trenutnega fragmenta (stara -> nova).
+     */
+    private Map<Frame.Temp, Frame.Temp> temps = new HashMap<>();
+
+    /**
+     * Število začasnih spremenljivk trenutnega fragmenta.
+     */
+    private int tempCount = 0;
+
+    /**
+     * Linearizirani fragmenti kode.
+     */
+    public final List<Chunk.CodeChunk> linearChunks = new ArrayList<>();
+
     public LinCodeGenerator(Memory memory) {
         requireNonNull(memory);
         this.memory = memory;
@@ -41,13 +58,15 @@ public class LinCodeGenerator {
     /**
      * 1. Izvedemo linearizacijo kode.
      * 2. V pomnilnik shranimo fragmente programa.
-     * 3. Vrnemo kodo funkcije `main`, če le-ta obstaja.
+     * 3. Povežemo klice s fragmenti kode oz. funkcijami standardne knjižnice.
+     * 4. Vrnemo kodo funkcije `main`, če le-ta obstaja.
      */
     public Optional<Chunk.CodeChunk> generateCode(List<Chunk> chunks) {
         Optional<Chunk.CodeChunk> mainCodeChunk = Optional.empty();
         for (var chunk : chunks) {
             if (chunk instanceof Chunk.CodeChunk code) {
                 var linearChunk = linearizeChunk(code);
+                linearChunks.add(linearChunk);
                 memory.registerLabel(code.frame.label, offset);
                 offset += Constants.WordSize;
                 memory.stM(code.frame.label, linearChunk);
@@ -68,12 +87,72 @@ public class LinCodeGenerator {
                 offset += global.access.size;
             }
         }
+        memory.setStackFloor(offset);
+        for (var linearChunk : linearChunks) {
+            link(linearChunk.code);
+        }
         return mainCodeChunk;
     }
+
+    // ---------- povezovanje ----------
+
+    private void link(IRStmt stmt) {
+        if (stmt instanceof SeqStmt seq) {
+            seq.statements.forEach(this::link);
+        } else if (stmt instanceof MoveStmt move) {
+            link(move.dst);
+            link(move.src);
+        } else if (stmt instanceof ExpStmt exp) {
+            link(exp.expr);
+        } else if (stmt instanceof CJumpStmt cjump) {
+            link(cjump.condition);
+        }
+    }
+
+    private void link(IRExpr expr) {
+        if (expr instanceof CallExpr call) {
+            call.args.forEach(this::link);
+            call.intrinsic = CallExpr.Intrinsic.forName(call.label.name);
+            if (call.intrinsic == null && memory.ldM(call.label) instanceof Chunk.CodeChunk function) {
+                call.function = function;
+            }
+        } else if (expr instanceof BinopExpr binop) {
+            link(binop.lhs);
+            link(binop.rhs);
+        } else if (expr instanceof MemExpr mem) {
+            link(mem.expr);
+        } else if (expr instanceof EseqExpr eseq) {
+            link(eseq.stmt);
+            link(eseq.expr);
+        }
+    }
     
     private Chunk.CodeChunk linearizeChunk(Chunk.CodeChunk chunk) {
+        temps = new HashMap<>();
+        tempCount = 0;
         var linCode = linearize(chunk.code);
-        return new Chunk.CodeChunk(chunk.frame, linCode);
+        return new Chunk.CodeChunk(chunk.frame, linCode, resolveLabels(linCode), tempCount);
+    }
+
+    /**
+     * Ustvari novo začasno spremenljivko trenutnega fragmenta.
+     * Začasne spremenljivke so znotraj fragmenta oštevilčene zaporedno od 0.
+     */
+    private Frame.Temp nextTemp() {
+        return Frame.Temp.numbered(tempCount++);
+    }
+
+    /**
+     * Vsaki labeli priredi indeks stavka, ki jo definira.
+     */
+    private Map<Frame.Label, Integer> resolveLabels(SeqStmt seq) {
+        Map<Frame.Label, Integer> labels = new HashMap<>();
+        for (int i = 0; i < seq.statements.size(); i++) {
+            if (seq.statements.get(i) instanceof LabelStmt labelStmt) {
+                labels.putIfAbsent(labelStmt.label, i);
+            }
+        }
+        return labels;
     }
 
     private EseqExpr linearize(IRExpr expr) {
@@ -131,14 +210,14 @@ public class LinCodeGenerator {
         for (var arg : call.args) {
             var eseq = linearize(arg);
             allStatements.statements.addAll(eseq.stmt.statements());
-            var temp = new TempExpr(Frame.Temp.next());
+            var temp = new TempExpr(nextTemp());
             var move = new MoveStmt(
                 temp,
                 eseq.expr);
             allStatements.statements.add(move);
             args.add(temp);
         }
-        var resultTemp = new TempExpr(Frame.Temp.next());
+        var resultTemp = new TempExpr(nextTemp());
         allStatements.statements.add(new MoveStmt(
             resultTemp, 
             new CallExpr(call.label, args)));
@@ -175,7 +254,12 @@ public class LinCodeGenerator {
     }
 
     private EseqExpr linearize(TempExpr temp) {
-        return new EseqExpr(SeqStmt.empty(), temp);
+        var local = temps.get(temp.temp);
+        if (local == null) {
+            local = nextTemp();
+            temps.put(temp.temp, local);
+        }
+        return new EseqExpr(SeqStmt.empty(), new TempExpr(local));
     }
 
     private SeqStmt linearize(CJumpStmt cjump) {
@@ -19,9 +19,34 @@ public class Memory {
     public final int size;
 
     /**
-     * Emulator pomnilnika - preslikava iz naslovov v vrednosti poljubnih tipov.
+     * Emulator pomnilnika - vsaka beseda je celo število.
+     *
+     * Element `i` hrani besedo na naslovu `i * WordSize`. Tabela pokrije
+     * naslove od 0 do `size` in se ne povečuje; naslovi izven tega območja
+     * (npr. sklad, ki zraste pod naslov 0) so napaka.
      */
-    private Map<Integer, Object> memory = new HashMap<>();
+    private final int[] words;
+
+    /**
+     * Najnižji naslov, do katerega lahko zraste sklad (pod njim so statični
+     * podatki).
+     */
+    private int stackFloor = Constants.WordSize;
+
+    /**
+     * Bitna slika inicializiranih besed (`null`, če je ne vodimo).
+     */
+    private long[] initialized;
+
+    /**
+     * Bitna slika besed, ki hranijo referenco (niz ali fragment kode).
+     */
+    private long[] references;
+
+    /**
+     * Vrednosti besed, ki niso cela števila.
+     */
+    private Map<Integer, Object> referenceValues = new HashMap<>();
 
     /**
      * Začasne spremenljivke ('registri').
@@ -34,15 +59,52 @@ public class Memory {
     private Map<Frame.Label, Integer> labelToAddressMapping = new HashMap<>();
 
     public Memory(int size) {
+        this(size, true);
+    }
+
+    /**
+     * @param trackInitialization ali naj branje neinicializirane besede
+     *                            sproži napako "Empty address"
+     */
+    public Memory(int size, boolean trackInitialization) {
         this.size = size;
+        var count = Math.max(size, 0) / Constants.WordSize + 1;
+        this.words = new int[count];
+        this.references = new long[bitmapLength(count)];
+        this.initialized = trackInitialization ? new long[bitmapLength(count)] : null;
     }
 
     /**
      * Na podan naslov shrani vrednost.
      */
     public void stM(int address, Object value) {
+        if (value instanceof Integer integer) {
+            stI(address, integer);
+            return;
+        }
+        validateAddress(address);
+        var index = index(address);
+        referenceValues.put(address, value);
+        set(references, index);
+        if (initialized != null) {
+            set(initialized, index);
+        }
+    }
+
+    /**
+     * Na podan naslov shrani celo število.
+     */
+    public void stI(int address, int value) {
         validateAddress(address);
-        memory.put(address, value);
+        var index = index(address);
+        words[index] = value;
+        if (isSet(references, index)) {
+            clear(references, index);
+            referenceValues.remove(address);
+        }
+        if (initialized != null) {
+            set(initialized, index);
+        }
     }
 
     /**
@@ -50,7 +112,7 @@ public class Memory {
      */
     public void stM(Frame.Label label, Object value) {
         if (labelToAddressMapping.containsKey(label)) {
-            memory.put(address(label), value);
+            stM(address(label), value);
         } else {
             throw new IllegalArgumentException("Unknown label!");
         }
@@ -68,19 +130,44 @@ public class Memory {
      */
     public Object ldM(int address) {
         validateAddress(address);
-        if (memory.containsKey(address)) {
-            return memory.get(address);
+        var index = index(address);
+        if (isInitialized(index)) {
+            if (isSet(references, index)) {
+                return referenceValues.get(address);
+            }
+            return words[index];
         }
         throw new IllegalArgumentException("Empty address " + address + "!");
     }
 
+    /**
+     * Preberi celo število iz podanega naslova.
+     *
+     * @param orElse vrednost, ki jo vrnemo, če naslov ni veljaven,
+     *               je prazen ali na njem ni celega števila
+     */
+    public int ldI(int address, int orElse) {
+        if (address > size || address <= 0 || address % Constants.WordSize != 0) {
+            return orElse;
+        }
+        var index = index(address);
+        if (!isInitialized(index) || isSet(references, index)) {
+            return orElse;
+        }
+        return words[index];
+    }
+
     /**
      * Preberi vrednost iz podane poimenovane lokacije.
      */
     public Object ldM(Frame.Label label) {
         if (labelToAddressMapping.containsKey(label)) {
             var address = labelToAddressMapping.get(label);
-            return memory.get(address);
+            var index = index(address);
+            if (!isInitialized(index)) {
+                return null;
+            }
+            return isSet(references, index) ? referenceValues.get(address) : words[index];
         }
         throw new IllegalArgumentException("Empty address for label " + label.toString() + "!");
     }
@@ -103,6 +190,21 @@ public class Memory {
         labelToAddressMapping.put(label, address);
     }
 
+    /**
+     * Nastavi najnižji naslov sklada (konec statičnih podatkov).
+     */
+    public void setStackFloor(int address) {
+        validateAddress(address);
+        this.stackFloor = address;
+    }
+
+    /**
+     * @return najnižji naslov, do katerega lahko zraste sklad.
+     */
+    public int stackFloor() {
+        return stackFloor;
+    }
+
     /**
      * Pridobi naslov za podano poimenovano lokacijo.
      */
@@ -123,17 +225,25 @@ public class Memory {
         if (!tempsStr.isEmpty()) {
             sb.append("\n");
         }
-        var memStr = memory.entrySet().stream()
-            .sorted((o1, o2) -> o2.getKey() - o1.getKey())
-            .map(entry -> entry.getKey().toString() + ": " + entry.getValue().toString())
-            .collect(Collectors.joining("\n"));
+        var memStr = new StringBuilder();
+        for (int index = words.length - 1; index >= 0; index--) {
+            if (!isInitialized(index) || (initialized == null && words[index] == 0 && !isSet(references, index))) {
+                continue;
+            }
+            var address = index * Constants.WordSize;
+            var value = isSet(references, index) ? referenceValues.get(address) : words[index];
+            if (memStr.length() > 0) {
+                memStr.append("\n");
+            }
+            memStr.append(address).append(": ").append(value);
+        }
         sb.append(memStr);
         return sb.toString();
     }
 
     private void validateAddress(int address) {
         // if debugMode
-        if (address > size) {
+        if (address > size || address < 0) {
             throw new IllegalArgumentException("Address " + address + " out of bounds!");
         }
         if (address == 0) {
@@ -144,4 +254,33 @@ public class Memory {
         }
         // endif
     }
+
+    // ----------- pomožne funkcije -----------
+
+    /**
+     * Indeks besede v tabeli `words`.
+     */
+    private static int index(int address) {
+        return address / Constants.WordSize;
+    }
+
+    private boolean isInitialized(int index) {
+        return initialized == null || isSet(initialized, index);
+    }
+
+    private static int bitmapLength(int count) {
+        return (count + 63) / 64 + 1;
+    }
+
+    private static boolean isSet(long[] bitmap, int index) {
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bitmap, int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(long[] bitmap, int index) {
+        bitmap[index >>> 6] &= ~(1L << index);
+    }
 }
@@ -0,0 +1,104 @@
+/**
+ * @ Author: turk
+ * @ Description: Zložna koda (bytecode) fragmenta kode.
+ */
+
+package compiler.interpret;
+
+import static common.RequireNonNull.requireNonNull;
+
+import compiler.frm.Frame;
+import compiler.ir.chunk.Chunk.CodeChunk;
+
+public class Bytecode {
+    /**
+     * Operacijske kode ukazov.
+     *
+     * Operandi ukaza so zapisani neposredno za operacijsko kodo.
+     */
+    public static final int CONST     = 0;  // CONST <vrednost>
+    public static final int FP        = 1;
+    public static final int SP        = 2;
+    public static final int LOAD      = 3;
+    public static final int STORE     = 4;
+    public static final int TLOAD     = 5;  // TLOAD <register>
+    public static final int TSTORE    = 6;  // TSTORE <register>
+    public static final int ADD       = 7;
+    public static final int SUB       = 8;
+    public static final int MUL       = 9;
+    public static final int DIV       = 10;
+    public static final int MOD       = 11;
+    public static final int AND       = 12;
+    public static final int OR        = 13;
+    public static final int EQ        = 14;
+    public static final int NEQ       = 15;
+    public static final int LT        = 16;
+    public static final int GT        = 17;
+    public static final int LEQ       = 18;
+    public static final int GEQ       = 19;
+    public static final int JUMP      = 20; // JUMP <pc>
+    public static final int CJUMP     = 21; // CJUMP <then pc> <else pc>
+    public static final int CALL      = 22; // CALL <konstanta> <število argumentov>
+    public static final int INTRINSIC = 23; // INTRINSIC <funkcija> <število argumentov>
+    public static final int POP       = 24;
+    public static final int RET       = 25;
+    public static final int STMT      = 26; // začetek stavka (le pri profiliranju)
+
+    /**
+     * Funkcije standardne knjižnice.
+     */
+    public static final int PRINT_INT = 0;
+    public static final int PRINT_STR = 1;
+    public static final int PRINT_LOG = 2;
+    public static final int RAND_INT  = 3;
+    public static final int SEED      = 4;
+
+    /**
+     * Preveden fragment kode.
+     */
+    public final CodeChunk chunk;
+
+    /**
+     * Klicni zapis funkcije.
+     */
+    public final Frame frame;
+
+    /**
+     * Ukazi.
+     */
+    int[] code;
+
+    /**
+     * Tabela konstant (klicani fragmenti).
+     */
+    Object[] constants;
+
+    /**
+     * Število registrov (začasnih spremenljivk).
+     */
+    int registers;
+
+    /**
+     * Največja globina operandnega sklada.
+     */
+    int maxStack;
+
+    /**
+     * Labele, ki označujejo posamezne ukaze (indeks je pc ukaza).
+     */
+    Frame.Label[] labels;
+
+    Bytecode(CodeChunk chunk) {
+        requireNonNull(chunk);
+        this.chunk = chunk;
+        this.frame = chunk.frame;
+    }
+
+    @Override
+    public String toString() {
+        return frame.label.toString() + ": code_size=" + code.length +
+                ",constants=" + constants.length +
+                ",registers=" + registers +
+                ",max_stack=" + maxStack;
+    }
+}
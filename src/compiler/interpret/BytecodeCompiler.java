@@ -0,0 +1,297 @@
+/**
+ * @ Author: turk
+ * @ Description: Prevajalnik linearizirane vmesne kode v zložno kodo.
+ */
+
+package compiler.interpret;
+
+import static common.RequireNonNull.requireNonNull;
+import static compiler.interpret.Bytecode.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import common.Constants;
+import compiler.frm.Frame;
+import compiler.gen.Memory;
+import compiler.ir.chunk.Chunk.CodeChunk;
+import compiler.ir.code.expr.*;
+import compiler.ir.code.stmt.*;
+
+public class BytecodeCompiler {
+    /**
+     * Pomnilnik navideznega stroja (naslovi label in fragmenti kode).
+     */
+    private final Memory memory;
+
+    /**
+     * Že (ali pravkar) prevedeni fragmenti.
+     */
+    private final Map<CodeChunk, Bytecode> compiled = new IdentityHashMap<>();
+
+    /**
+     * Fragmenti, ki jih moramo še prevesti.
+     */
+    private final List<CodeChunk> worklist = new ArrayList<>();
+
+    /**
+     * Ali naj se pred vsak stavek doda ukaz `STMT` za profiliranje.
+     */
+    private final boolean profile;
+
+    // ---------- stanje trenutnega fragmenta ----------
+
+    private int[] code;
+    private int pc;
+    private List<Object> constants;
+    private Map<Frame.Label, Integer> labels;
+    private Map<Frame.Label, List<Integer>> fixups;
+    private int depth;
+    private int maxDepth;
+
+    public BytecodeCompiler(Memory memory) {
+        this(memory, false);
+    }
+
+    public BytecodeCompiler(Memory memory, boolean profile) {
+        requireNonNull(memory);
+        this.memory = memory;
+        this.profile = profile;
+    }
+
+    /**
+     * Prevede podan fragment in vse fragmente, ki jih ta
+     * (posredno) kliče.
+     *
+     * @return zložna koda podanega fragmenta.
+     */
+    public Bytecode compile(CodeChunk chunk) {
+        var result = function(chunk);
+        while (!worklist.isEmpty()) {
+            var next = worklist.remove(worklist.size() - 1);
+            compileChunk(next, compiled.get(next));
+        }
+        return result;
+    }
+
+    private Bytecode function(CodeChunk chunk) {
+        var function = compiled.get(chunk);
+        if (function == null) {
+            function = new Bytecode(chunk);
+            compiled.put(chunk, function);
+            worklist.add(chunk);
+        }
+        return function;
+    }
+
+    private void compileChunk(CodeChunk chunk, Bytecode function) {
+        code = new int[16];
+        pc = 0;
+        constants = new ArrayList<>();
+        labels = new HashMap<>();
+        fixups = new HashMap<>();
+        depth = 0;
+        maxDepth = 0;
+
+        if (chunk.code instanceof SeqStmt seq) {
+            for (var stmt : seq.statements) {
+                if (profile) {
+                    emit(STMT);
+                }
+                compile(stmt);
+            }
+        } else {
+            throw new RuntimeException("Linearize IR!");
+        }
+        emit(RET);
+
+        for (var entry : fixups.entrySet()) {
+            var target = labels.get(entry.getKey());
+            if (target == null) {
+                throw new RuntimeException("Unknown label " + entry.getKey() + "!");
+            }
+            for (var at : entry.getValue()) {
+                code[at] = target;
+            }
+        }
+
+        function.code = Arrays.copyOf(code, pc);
+        function.constants = constants.toArray();
+        function.registers = chunk.tempCount;
+        function.maxStack = maxDepth;
+        function.labels = new Frame.Label[pc];
+        for (var entry : labels.entrySet()) {
+            if (entry.getValue() < pc) {
+                function.labels[entry.getValue()] = entry.getKey();
+            }
+        }
+    }
+
+    // ---------- stavki ----------
+
+    private void compile(IRStmt stmt) {
+        if (stmt instanceof CJumpStmt cjump) {
+            compile(cjump.condition);
+            emit(CJUMP);
+            target(cjump.thenLabel);
+            target(cjump.elseLabel);
+            stack(-1);
+        } else if (stmt instanceof ExpStmt exp) {
+            compile(exp.expr);
+            emit(POP);
+            stack(-1);
+        } else if (stmt instanceof JumpStmt jump) {
+            emit(JUMP);
+            target(jump.label);
+        } else if (stmt instanceof LabelStmt label) {
+            labels.put(label.label, pc);
+        } else if (stmt instanceof MoveStmt move) {
+            compile(move);
+        } else {
+            throw new RuntimeException("Cannot execute this statement!");
+        }
+    }
+
+    private void compile(MoveStmt move) {
+        if (move.dst instanceof TempExpr tempExpr) {
+            compile(move.src);
+            emit(TSTORE, register(tempExpr.temp));
+            stack(-1);
+        } else if (move.dst instanceof MemExpr memExpr) {
+            compile(memExpr.expr);
+            compile(move.src);
+            emit(STORE);
+            stack(-2);
+        }
+    }
+
+    // ---------- izrazi ----------
+
+    private void compile(IRExpr expr) {
+        if (expr instanceof BinopExpr binopExpr) {
+            compile(binopExpr.lhs);
+            compile(binopExpr.rhs);
+            emit(opcode(binopExpr.op));
+            stack(-1);
+        } else if (expr instanceof CallExpr callExpr) {
+            compile(callExpr);
+        } else if (expr instanceof ConstantExpr constantExpr) {
+            emit(CONST, constantExpr.constant);
+            stack(1);
+        } else if (expr instanceof EseqExpr) {
+            throw new RuntimeException("Cannot execute ESEQ; linearize IRCode!");
+        } else if (expr instanceof MemExpr memExpr) {
+            if (memExpr.expr instanceof NameExpr name && !isRegister(name.label)) {
+                compile(name);
+            } else {
+                compile(memExpr.expr);
+                emit(LOAD);
+            }
+        } else if (expr instanceof NameExpr nameExpr) {
+            compile(nameExpr);
+        } else if (expr instanceof TempExpr tempExpr) {
+            emit(TLOAD, register(tempExpr.temp));
+            stack(1);
+        } else {
+            throw new IllegalArgumentException("Unknown expr type");
+        }
+    }
+
+    private void compile(NameExpr name) {
+        if (name.label.name.equals(Constants.framePointer)) {
+            emit(FP);
+        } else if (name.label.name.equals(Constants.stackPointer)) {
+            emit(SP);
+        } else {
+            emit(CONST, memory.address(name.label));
+        }
+        stack(1);
+    }
+
+    private void compile(CallExpr call) {
+        if (call.intrinsic != null) {
+            var argc = call.intrinsic.argumentCount;
+            if (call.args.size() != argc) { throw new RuntimeException("Invalid argument count!"); }
+            // Statična povezava (prvi argument) standardni knjižnici ni potrebna.
+            for (int i = 1; i < argc; i++) {
+                compile(call.args.get(i));
+            }
+            emit(INTRINSIC, intrinsic(call.intrinsic), argc - 1);
+            stack(-(argc - 1) + 1);
+        } else if (call.function != null) {
+            for (var arg : call.args) {
+                compile(arg);
+            }
+            emit(CALL, constant(function(call.function)), call.args.size());
+            stack(-call.args.size() + 1);
+        } else {
+            throw new RuntimeException("Only functions can be called!");
+        }
+    }
+
+    // ---------- pomožne funkcije ----------
+
+    private static int intrinsic(CallExpr.Intrinsic intrinsic) {
+        return switch (intrinsic) {
+            case PRINT_INT -> PRINT_INT;
+            case PRINT_STR -> PRINT_STR;
+            case PRINT_LOG -> PRINT_LOG;
+            case RAND_INT -> RAND_INT;
+            case SEED -> SEED;
+        };
+    }
+
+    private static int opcode(BinopExpr.Operator op) {
+        return switch (op) {
+            case ADD -> ADD;
+            case SUB -> SUB;
+            case MUL -> MUL;
+            case DIV -> DIV;
+            case MOD -> MOD;
+            case AND -> AND;
+            case OR -> OR;
+            case EQ -> EQ;
+            case NEQ -> NEQ;
+            case LT -> LT;
+            case GT -> GT;
+            case LEQ -> LEQ;
+            case GEQ -> GEQ;
+        };
+    }
+
+    private static boolean isRegister(Frame.Label label) {
+        return label.name.equals(Constants.framePointer) || label.name.equals(Constants.stackPointer);
+    }
+
+    private int register(Frame.Temp temp) {
+        return temp.id;
+    }
+
+    private int constant(Object value) {
+        constants.add(value);
+        return constants.size() - 1;
+    }
+
+    private void target(Frame.Label label) {
+        fixups.computeIfAbsent(label, l -> new ArrayList<>()).add(pc);
+        emit(-1);
+    }
+
+    private void stack(int delta) {
+        depth += delta;
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    private void emit(int... words) {
+        if (pc + words.length > code.length) {
+            code = Arrays.copyOf(code, Math.max(code.length * 2, pc + words.length));
+        }
+        for (var word : words) {
+            code[pc++] = word;
+        }
+    }
+}
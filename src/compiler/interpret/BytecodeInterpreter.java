@@ -0,0 +1,273 @@
+/**
+ * @ Author: turk
+ * @ Description: Navidezni stroj, ki izvaja zložno kodo.
+ */
+
+package compiler.interpret;
+
+import static common.RequireNonNull.requireNonNull;
+import static compiler.interpret.Bytecode.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import common.Constants;
+import common.Report;
+import compiler.gen.Memory;
+import compiler.ir.chunk.Chunk.CodeChunk;
+
+/**
+ * Semantika je enaka kot pri drevesnem interpreterju (`Interpreter`),
+ * le da so vse vrednosti cela števila. Rezultat klica funkcije
+ * standardne knjižnice, ki ne vrača vrednosti, je 0.
+ */
+public class BytecodeInterpreter {
+    /**
+     * Pomnilnik navideznega stroja.
+     */
+    private final Memory memory;
+
+    /**
+     * Izhodni tok, kamor izpisujemo rezultate izvajanja programa.
+     */
+    private final Optional<OutputBuffer> outputStream;
+
+    /**
+     * Profiler (`null`, če profiliranje ni vklopljeno).
+     */
+    private final Profiler profiler;
+
+    /**
+     * Generator naključnih števil.
+     */
+    private Random random = new Random();
+
+    /**
+     * Skladovni kazalec (kaže na dno sklada).
+     */
+    private int stackPointer;
+
+    /**
+     * Klicni kazalec (kaže na vrh aktivnega klicnega zapisa).
+     */
+    private int framePointer;
+
+    /**
+     * Operandni sklad in registri vseh aktivnih klicev.
+     */
+    private int[] stack = new int[256];
+
+    /**
+     * Aktivacijski zapisi klicočih funkcij: funkcija, povratni pc in začetek registrov.
+     */
+    private Bytecode[] activations = new Bytecode[64];
+    private int[] returnAddresses = new int[64];
+    private int[] bases = new int[64];
+
+    public BytecodeInterpreter(Memory memory, Optional<OutputBuffer> outputStream) {
+        this(memory, outputStream, Optional.empty());
+    }
+
+    public BytecodeInterpreter(Memory memory, Optional<OutputBuffer> outputStream, Optional<Profiler> profiler) {
+        requireNonNull(memory, outputStream, profiler);
+        this.memory = memory;
+        this.outputStream = outputStream;
+        this.profiler = profiler.orElse(null);
+        this.stackPointer = memory.size - Constants.WordSize;
+        this.framePointer = memory.size - Constants.WordSize;
+    }
+
+    // --------- izvajanje navideznega stroja ----------
+
+    public void interpret(CodeChunk chunk) {
+        var main = new BytecodeCompiler(memory, profiler != null).compile(chunk);
+
+        checkStack(chunk.frame.size());
+        memory.stI(framePointer + Constants.WordSize, 999); // argument v funkcijo main
+        memory.stI(framePointer - chunk.frame.oldFPOffset(), framePointer); // oldFP
+        memory.stI(framePointer, framePointer); // trenuten FP naj kaže sam nase, da lahko dostopamo do argumentov višje
+
+        try {
+            execute(main);
+        } finally {
+            outputStream.ifPresent(OutputBuffer::flush);
+        }
+    }
+
+    /**
+     * Izvede program, ki se začne s funkcijo `main`.
+     *
+     * Klici PINS funkcij ne uporabljajo sklada JVM - aktivacijski zapisi
+     * (klicana funkcija, povratni pc in začetek registrov) se hranijo na
+     * eksplicitnem skladu, klic in vrnitev pa se izvedeta v isti zanki.
+     * Globino rekurzije tako omejuje le pomnilnik navideznega stroja; ko
+     * sklad doseže statične podatke, se izvajanje prekine z napako.
+     */
+    private void execute(Bytecode main) {
+        var function = main;
+        var code = function.code;
+        var constants = function.constants;
+        var base = 0;
+        var top = enter(function, base);
+        var stack = this.stack;
+        var depth = 0;
+        int pc = 0;
+
+        loop:
+        while (true) {
+            switch (code[pc++]) {
+                case CONST -> stack[top++] = code[pc++];
+                case FP -> stack[top++] = framePointer;
+                case SP -> stack[top++] = stackPointer;
+                case LOAD -> stack[top - 1] = load(stack[top - 1]);
+                case STORE -> {
+                    top -= 2;
+                    memory.stI(stack[top], stack[top + 1]);
+                }
+                case TLOAD -> stack[top++] = stack[base + code[pc++]];
+                case TSTORE -> stack[base + code[pc++]] = stack[--top];
+                case ADD -> { top--; stack[top - 1] = stack[top - 1] + stack[top]; }
+                case SUB -> { top--; stack[top - 1] = stack[top - 1] - stack[top]; }
+                case MUL -> { top--; stack[top - 1] = stack[top - 1] * stack[top]; }
+                case DIV -> { top--; stack[top - 1] = stack[top - 1] / stack[top]; }
+                case MOD -> { top--; stack[top - 1] = stack[top - 1] % stack[top]; }
+                case AND -> { top--; stack[top - 1] = stack[top - 1] & stack[top]; }
+                case OR -> { top--; stack[top - 1] = stack[top - 1] | stack[top]; }
+                case EQ -> { top--; stack[top - 1] = stack[top - 1] == stack[top] ? 1 : 0; }
+                case NEQ -> { top--; stack[top - 1] = stack[top - 1] != stack[top] ? 1 : 0; }
+                case LT -> { top--; stack[top - 1] = stack[top - 1] < stack[top] ? 1 : 0; }
+                case GT -> { top--; stack[top - 1] = stack[top - 1] > stack[top] ? 1 : 0; }
+                case LEQ -> { top--; stack[top - 1] = stack[top - 1] <= stack[top] ? 1 : 0; }
+                case GEQ -> { top--; stack[top - 1] = stack[top - 1] >= stack[top] ? 1 : 0; }
+                case JUMP -> {
+                    pc = code[pc];
+                    if (profiler != null) { profiler.jump(function.labels[pc]); }
+                }
+                case CJUMP -> {
+                    pc = stack[--top] == 1 ? code[pc] : code[pc + 1];
+                    if (profiler != null) { profiler.jump(function.labels[pc]); }
+                }
+                case CALL -> {
+                    var callee = (Bytecode) constants[code[pc++]];
+                    var argc = code[pc++];
+                    top -= argc;
+                    checkStack(callee.frame.size());
+                    // Zapiši argumente v pomnilnik
+                    for (int i = 0; i < argc; i++) {
+                        memory.stI(this.stackPointer + (i * Constants.WordSize), stack[top + i]);
+                    }
+                    // Nastavi old FP
+                    memory.stI(this.stackPointer - callee.frame.oldFPOffset(), this.framePointer);
+
+                    // Shrani aktivacijski zapis klicoče funkcije
+                    if (depth == activations.length) {
+                        activations = Arrays.copyOf(activations, depth * 2);
+                        returnAddresses = Arrays.copyOf(returnAddresses, depth * 2);
+                        bases = Arrays.copyOf(bases, depth * 2);
+                    }
+                    activations[depth] = function;
+                    returnAddresses[depth] = pc;
+                    bases[depth] = base;
+                    depth++;
+
+                    this.framePointer = this.stackPointer;
+                    function = callee;
+                    code = function.code;
+                    constants = function.constants;
+                    base = top;
+                    top = enter(function, base);
+                    stack = this.stack;
+                    pc = 0;
+                }
+                case INTRINSIC -> {
+                    var intrinsic = code[pc++];
+                    top -= code[pc++];
+                    stack[top] = intrinsic(intrinsic, stack, top);
+                    top++;
+                }
+                case POP -> top--;
+                case STMT -> profiler.statement();
+                case RET -> {
+                    if (profiler != null) { profiler.exit(); }
+                    this.stackPointer = this.framePointer;
+                    this.framePointer = load(this.stackPointer - function.frame.oldFPOffset());
+                    if (depth == 0) {
+                        break loop;
+                    }
+
+                    // Obnovi aktivacijski zapis klicoče funkcije
+                    top = base;
+                    depth--;
+                    function = activations[depth];
+                    activations[depth] = null;
+                    code = function.code;
+                    constants = function.constants;
+                    pc = returnAddresses[depth];
+                    base = bases[depth];
+                    stack[top++] = load(this.stackPointer);
+                }
+                default -> throw new RuntimeException("Unknown opcode " + code[pc - 1] + "!");
+            }
+        }
+    }
+
+    /**
+     * Rezervira klicni zapis in registre funkcije.
+     *
+     * @param base začetek registrov funkcije na skladu
+     * @return vrh operandnega sklada funkcije
+     */
+    private int enter(Bytecode function, int base) {
+        this.stackPointer -= function.frame.size();
+        if (profiler != null) { profiler.enter(function.chunk, this.stackPointer); }
+        var top = base + function.registers;
+        if (top + function.maxStack > stack.length) {
+            stack = Arrays.copyOf(stack, Math.max(stack.length * 2, top + function.maxStack));
+        }
+        Arrays.fill(stack, base, top, 0);
+        return top;
+    }
+
+    /**
+     * Preveri, ali klicni zapis velikosti `frameSize` še gre na sklad (nad
+     * statične podatke), sicer prekine izvajanje.
+     */
+    private void checkStack(int frameSize) {
+        if (this.stackPointer - frameSize < memory.stackFloor()) {
+            Report.error("Prekoračitev sklada (povečajte pomnilnik z --memory)!");
+        }
+    }
+
+    private int intrinsic(int intrinsic, int[] stack, int args) {
+        switch (intrinsic) {
+            case PRINT_INT -> {
+                var arg = stack[args];
+                if (outputStream.isPresent()) { outputStream.get().println(arg); }
+            }
+            case PRINT_STR -> {
+                var res = memory.ldM(stack[args]);
+                if (outputStream.isPresent()) { outputStream.get().println("\"" + res + "\""); }
+            }
+            case PRINT_LOG -> {
+                var arg = stack[args] != 0;
+                if (outputStream.isPresent()) { outputStream.get().println(arg); }
+            }
+            case RAND_INT -> {
+                return random.nextInt(stack[args], stack[args + 1]);
+            }
+            case SEED -> random = new Random(stack[args]);
+            default -> throw new RuntimeException("Unknown intrinsic " + intrinsic + "!");
+        }
+        return 0;
+    }
+
+    /**
+     * Preberi celo število iz pomnilnika.
+     *
+     * Tako kot drevesni interpreter vrne naslov, če na njem ni celega števila.
+     */
+    private int load(int address) {
+        return memory.ldI(address, address);
+    }
+}
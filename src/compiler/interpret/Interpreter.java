@@ -33,7 +33,12 @@ public class Interpreter {
      * 
      * V primeru, da rezultatov ne želimo izpisovati, nastavimo na `Optional.empty()`.
      */
-    private Optional<PrintStream> outputStream;
+    private Optional<OutputBuffer> outputStream;
+
+    /**
+     * Profiler (`null`, če profiliranje ni vklopljeno).
+     */
+    private Profiler profiler;
 
     /**
      * Generator naključnih števil.
@@ -52,10 +57,28 @@ public class Interpreter {
 
     private CodeChunk currentChunk;
 
-    public Interpreter(Memory memory, Optional<PrintStream> outputStream) {
-        requireNonNull(memory, outputStream);
+    /**
+     * Registri (začasne spremenljivke) vseh aktivnih klicev.
+     *
+     * Vsak klic dobi okno velikosti `CodeChunk.tempCount`, ki se
+     * začne na indeksu `temps`.
+     */
+    private int[] registers = new int[256];
+
+    /**
+     * Prvi prosti register.
+     */
+    private int registerTop = 0;
+
+    public Interpreter(Memory memory, Optional<OutputBuffer> outputStream) {
+        this(memory, outputStream, Optional.empty());
+    }
+
+    public Interpreter(Memory memory, Optional<OutputBuffer> outputStream, Optional<Profiler> profiler) {
+        requireNonNull(memory, outputStream, profiler);
         this.memory = memory;
         this.outputStream = outputStream;
+        this.profiler = profiler.orElse(null);
         this.stackPointer = memory.size - Constants.WordSize;
         this.framePointer = memory.size - Constants.WordSize;
         this.random = new Random();
@@ -64,14 +87,31 @@ public class Interpreter {
     // --------- izvajanje navideznega stroja ----------
 
     public void interpret(CodeChunk chunk) {
-        memory.stM(framePointer + Constants.WordSize, 999); // argument v funkcijo main
-        memory.stM(framePointer - chunk.frame.oldFPOffset(), framePointer); // oldFP
-        memory.stM(framePointer, framePointer); // trenuten FP naj kaže sam nase, da lahko dostopamo do argumentov višje
-
-        internalInterpret(chunk, new HashMap<>());
+        checkStack(chunk);
+        memory.stI(framePointer + Constants.WordSize, 999); // argument v funkcijo main
+        memory.stI(framePointer - chunk.frame.oldFPOffset(), framePointer); // oldFP
+        memory.stI(framePointer, framePointer); // trenuten FP naj kaže sam nase, da lahko dostopamo do argumentov višje
+
+        try {
+            internalInterpret(chunk);
+        } catch (StackOverflowError __) {
+            // Klici PINS funkcij se izvajajo na skladu JVM (za razliko od
+            // BytecodeInterpreter), zato je globina rekurzije omejena.
+            Report.error("Prevelika globina rekurzije za --engine TREE (povečajte sklad JVM z -Xss ali uporabite --engine BYTECODE)!");
+        } finally {
+            outputStream.ifPresent(OutputBuffer::flush);
+        }
     }
 
-    private void internalInterpret(CodeChunk chunk, Map<Frame.Temp, Object> temps) {
+    private void internalInterpret(CodeChunk chunk) {
+        // Rezerviraj okno registrov
+        int temps = registerTop;
+        registerTop += chunk.tempCount;
+        if (registerTop > registers.length) {
+            registers = Arrays.copyOf(registers, Math.max(registers.length * 2, registerTop));
+        }
+        Arrays.fill(registers, temps, registerTop, 0);
+
         // @TODO: Nastavi FP in SP na nove vrednosti!
 
         this.currentChunk = chunk;
@@ -79,18 +119,18 @@ public class Interpreter {
             this.framePointer = this.stackPointer;
         }
         this.stackPointer -= chunk.frame.size();
+        if (profiler != null) { profiler.enter(chunk, this.stackPointer); }
  
-        Object result = null;
         if (chunk.code instanceof SeqStmt seq) {
             for (int pc = 0; pc < seq.statements.size(); pc++) {
                 var stmt = seq.statements.get(pc);
-                result = execute(stmt, temps);
-                if (result instanceof Frame.Label label) {
-                    for (int q = 0; q < seq.statements.size(); q++) {
-                        if (seq.statements.get(q) instanceof LabelStmt labelStmt && labelStmt.label.equals(label)) {
-                            pc = q;
-                            break;
-                        }
+                if (profiler != null) { profiler.statement(); }
+                var label = execute(stmt, temps);
+                if (label != null) {
+                    if (profiler != null) { profiler.jump(label); }
+                    var target = chunk.labels.get(label);
+                    if (target != null) {
+                        pc = target;
                     }
                 }
             }
@@ -98,15 +138,24 @@ public class Interpreter {
             throw new RuntimeException("Linearize IR!");
         }
       
+        if (profiler != null) { profiler.exit(); }
+
         // @TODO: Ponastavi FP in SP na stare vrednosti!
 
         this.currentChunk = chunk;
         this.stackPointer = this.framePointer;
-        int oldFP = (int) memory.ldM(this.stackPointer - chunk.frame.oldFPOffset());
+        int oldFP = load(this.stackPointer - chunk.frame.oldFPOffset());
         this.framePointer = oldFP;
+
+        registerTop = temps;
     }
 
-    private Object execute(IRStmt stmt, Map<Frame.Temp, Object> temps) {
+    /**
+     * Izvede stavek.
+     *
+     * @return labela, na katero skočimo, oz. `null`
+     */
+    private Frame.Label execute(IRStmt stmt, int temps) {
         if (stmt instanceof CJumpStmt cjump) {
             return execute(cjump, temps);
         } else if (stmt instanceof ExpStmt exp) {
@@ -122,36 +171,43 @@ public class Interpreter {
         }
     }
 
-    private Object execute(CJumpStmt cjump, Map<Frame.Temp, Object> temps) {
+    private Frame.Label execute(CJumpStmt cjump, int temps) {
         var condition = execute(cjump.condition, temps);
-        return (toInt(condition) == 1) ? cjump.thenLabel : cjump.elseLabel;
+        return (condition == 1) ? cjump.thenLabel : cjump.elseLabel;
     }
 
-    private Object execute(ExpStmt exp, Map<Frame.Temp, Object> temps) {
-        return execute(exp.expr, temps);
+    private Frame.Label execute(ExpStmt exp, int temps) {
+        execute(exp.expr, temps);
+        return null;
     }
 
-    private Object execute(JumpStmt jump, Map<Frame.Temp, Object> temps) {
+    private Frame.Label execute(JumpStmt jump, int temps) {
         return jump.label;
     }
 
-    private Object execute(MoveStmt move, Map<Frame.Temp, Object> temps) {
+    private Frame.Label execute(MoveStmt move, int temps) {
         // Mem levi otrok od Move - pomeni STORE, drugje pomeni READ
         var dst = move.dst;
         var src = move.src;
 
         if (dst instanceof TempExpr tempExpr) {
-            temps.put(tempExpr.temp, execute(src, temps));
-            // memory.stT(tempExpr.temp, execute(src, temps));
+            var value = execute(src, temps);
+            registers[temps + tempExpr.temp.id] = value;
         } else if (dst instanceof MemExpr memExpr) {
             var address = execute(memExpr.expr, temps);
             var value = execute(src, temps);
-            memory.stM((int) address, value);
+            memory.stI(address, value);
         }
-        return src;
+        return null;
     }
 
-    private Object execute(IRExpr expr, Map<Frame.Temp, Object> temps) {
+    /**
+     * Izračuna vrednost izraza.
+     *
+     * Vse vrednosti (tudi logične vrednosti in naslovi nizov) so cela števila.
+     * Klic funkcije standardne knjižnice, ki ne vrača vrednosti, vrne 0.
+     */
+    private int execute(IRExpr expr, int temps) {
         if (expr instanceof BinopExpr binopExpr) {
             return execute(binopExpr, temps);
         } else if (expr instanceof CallExpr callExpr) {
@@ -171,133 +227,146 @@ public class Interpreter {
         }
     }
 
-    private Object execute(BinopExpr binop, Map<Frame.Temp, Object> temps) {
+    private int execute(BinopExpr binop, int temps) {
         var lhs = execute(binop.lhs, temps);
         var rhs = execute(binop.rhs, temps);
         BinopExpr.Operator op = binop.op;
         switch (op) {
             case ADD:
-                return toInt(lhs) + toInt(rhs);
+                return lhs + rhs;
             case SUB:
-                return toInt(lhs) - toInt(rhs);
+                return lhs - rhs;
             case MUL:
-                return toInt(lhs) * toInt(rhs);
+                return lhs * rhs;
             case DIV:
-                return toInt(lhs) / toInt(rhs);
+                return lhs / rhs;
+            case MOD:
+                return lhs % rhs;
             case AND:
-                return toInt(lhs) & toInt(rhs);
+                return lhs & rhs;
             case OR:
-                return toInt(lhs) | toInt(rhs);
+                return lhs | rhs;
             case EQ:
-                return toInt(lhs) == toInt(rhs) ? 1 : 0;
+                return toInt(lhs == rhs);
             case NEQ:
-                return toInt(lhs) != toInt(rhs) ? 1 : 0;
+                return toInt(lhs != rhs);
             case LT:
-                return toInt(lhs) < toInt(rhs) ? 1 : 0;
+                return toInt(lhs < rhs);
             case GT:
-                return toInt(lhs) > toInt(rhs) ? 1 : 0;
+                return toInt(lhs > rhs);
             case LEQ:
-                return toInt(lhs) <= toInt(rhs) ? 1 : 0;
+                return toInt(lhs <= rhs);
             case GEQ:
-                return toInt(lhs) >= toInt(rhs) ? 1 : 0;
+                return toInt(lhs >= rhs);
             default:
                 Report.error("Neznan operator!");
-                return null;
+                return 0;
         }
     }
 
-    private Object execute(CallExpr call, Map<Frame.Temp, Object> temps) {
-        if (call.label.name.equals(Constants.printIntLabel)) {
-            if (call.args.size() != 2) { throw new RuntimeException("Invalid argument count!"); }
-            var arg = execute(call.args.get(1), temps);
-            outputStream.ifPresent(stream -> stream.println(arg));
-            return null;
-        } else if (call.label.name.equals(Constants.printStringLabel)) {
-            if (call.args.size() != 2) { throw new RuntimeException("Invalid argument count!"); }
-            var address = execute(call.args.get(1), temps);
-            var res = memory.ldM(toInt(address));
-            outputStream.ifPresent(stream -> stream.println("\""+res+"\""));
-            return null;
-        } else if (call.label.name.equals(Constants.printLogLabel)) {
-            if (call.args.size() != 2) { throw new RuntimeException("Invalid argument count!"); }
-            var arg = execute(call.args.get(1), temps);
-            outputStream.ifPresent(stream -> stream.println(toBool(arg)));
-            return null;
-        } else if (call.label.name.equals(Constants.randIntLabel)) {
-            if (call.args.size() != 3) { throw new RuntimeException("Invalid argument count!"); }
-            var min = toInt(execute(call.args.get(1), temps));
-            var max = toInt(execute(call.args.get(2), temps));
-            return random.nextInt(min, max);
-        } else if (call.label.name.equals(Constants.seedLabel)) {
-            if (call.args.size() != 2) { throw new RuntimeException("Invalid argument count!"); }
-            var seed = toInt(execute(call.args.get(1), temps));
-            random = new Random(seed);
-            return null;
-        } else if (memory.ldM(call.label) instanceof CodeChunk chunk) {
-            // ...
-            // internalInterpret(chunk, new HashMap<>())
-            //                          ~~~~~~~~~~~~~ 'lokalni registri'
-            // ...
+    private int execute(CallExpr call, int temps) {
+        if (call.intrinsic != null) {
+            if (call.args.size() != call.intrinsic.argumentCount) { throw new RuntimeException("Invalid argument count!"); }
+            switch (call.intrinsic) {
+                case PRINT_INT -> {
+                    var arg = execute(call.args.get(1), temps);
+                    if (outputStream.isPresent()) { outputStream.get().println(arg); }
+                }
+                case PRINT_STR -> {
+                    var address = execute(call.args.get(1), temps);
+                    var res = memory.ldM(address);
+                    if (outputStream.isPresent()) { outputStream.get().println("\"" + res + "\""); }
+                }
+                case PRINT_LOG -> {
+                    var arg = execute(call.args.get(1), temps);
+                    if (outputStream.isPresent()) { outputStream.get().println(toBool(arg)); }
+                }
+                case RAND_INT -> {
+                    var min = execute(call.args.get(1), temps);
+                    var max = execute(call.args.get(2), temps);
+                    return random.nextInt(min, max);
+                }
+                case SEED -> {
+                    var seed = execute(call.args.get(1), temps);
+                    random = new Random(seed);
+                }
+            }
+            return 0;
+        } else if (call.function != null) {
+            var chunk = call.function;
 
             // Zapiši argumente v pomnilnik
             for (int i = 0; i < call.args.size(); i++) {
                 var arg = call.args.get(i);
                 var argValue = execute(arg, temps);
-                memory.stM(this.stackPointer + (i * Constants.WordSize), argValue);
+                memory.stI(this.stackPointer + (i * Constants.WordSize), argValue);
             }
 
             // Nastavi old FP
-            memory.stM(stackPointer - chunk.frame.oldFPOffset(), framePointer);
+            checkStack(chunk);
+            memory.stI(stackPointer - chunk.frame.oldFPOffset(), framePointer);
 
-            internalInterpret(chunk, new HashMap<>());
-            return memory.ldM(this.stackPointer);
+            internalInterpret(chunk);
+            return load(this.stackPointer);
         } else {
             throw new RuntimeException("Only functions can be called!");
         }
     }
 
-    private Object execute(ConstantExpr constant) {
+    private int execute(ConstantExpr constant) {
         return constant.constant;
     }
 
-    private Object execute(MemExpr mem, Map<Frame.Temp, Object> temps) {
-        if (mem.expr instanceof NameExpr name && (!(name.label.name.equals(Constants.stackPointer) || name.label.name.equals(Constants.framePointer)))) {
+    private int execute(MemExpr mem, int temps) {
+        if (mem.expr instanceof NameExpr name && !isRegister(name.label)) {
             return execute(mem.expr, temps);
         } else {
             var address = execute(mem.expr, temps);
-            try {
-                return memory.ldM(toInt(address));
-            } catch (Exception e) {
-                return address;
-            }
+            return load(address);
         }
     }
 
-    private Object execute(NameExpr name) {
-        if (Objects.equals(name.label, Frame.Label.named(Constants.framePointer)))
+    private int execute(NameExpr name) {
+        if (name.label.name.equals(Constants.framePointer))
             return this.framePointer;
-        else if (Objects.equals(name.label, Frame.Label.named(Constants.stackPointer)))
+        else if (name.label.name.equals(Constants.stackPointer))
             return this.stackPointer;
         else {
             return memory.address(name.label);
         }
     }
 
-    private Object execute(TempExpr temp, Map<Frame.Temp, Object> temps) {
-        return temps.get(temp.temp);
+    private int execute(TempExpr temp, int temps) {
+        return registers[temps + temp.temp.id];
     }
 
     // ----------- pomožne funkcije -----------
 
-    private int toInt(Object obj) {
-        if (obj instanceof Integer integer) {
-            return integer;
+    /**
+     * Preberi celo število iz pomnilnika.
+     *
+     * Če na naslovu ni celega števila (npr. naslov tabele), je rezultat naslov.
+     */
+    private int load(int address) {
+        return memory.ldI(address, address);
+    }
+
+    /**
+     * Preveri, ali klicni zapis fragmenta še gre na sklad (nad statične
+     * podatke), sicer prekine izvajanje.
+     */
+    private void checkStack(CodeChunk chunk) {
+        if (stackPointer - chunk.frame.size() < memory.stackFloor()) {
+            Report.error("Prekoračitev sklada (povečajte pomnilnik z --memory)!");
         }
-        throw new IllegalArgumentException("Could not convert obj to integer!");
     }
 
-    private boolean toBool(Object obj) {
-        return toInt(obj) == 0 ? false : true;
+    private boolean isRegister(Frame.Label label) {
+        return label.name.equals(Constants.stackPointer) || label.name.equals(Constants.framePointer);
+    }
+
+    private boolean toBool(int value) {
+        return value == 0 ? false : true;
     }
 
     private int toInt(boolean bool) {
@@ -0,0 +1,161 @@
+/**
+ * @ Author: turk
+ * @ Description: Medpomnilnik za izpis rezultatov izvajanja programa.
+ */
+
+package compiler.interpret;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+public class OutputBuffer {
+    /**
+     * Kdaj se vsebina medpomnilnika izpiše.
+     */
+    public static enum FlushPolicy {
+        LINE, // po vsaki izpisani vrstici
+        FULL  // ko je medpomnilnik poln in ob koncu izvajanja
+    }
+
+    /**
+     * Izhodni tok, kamor izpišemo vsebino medpomnilnika.
+     */
+    private final OutputStream outputStream;
+
+    /**
+     * Kodiranje nizov.
+     */
+    private final Charset charset;
+
+    private final FlushPolicy flushPolicy;
+
+    private final byte[] buffer;
+
+    /**
+     * Število zasedenih bajtov v medpomnilniku.
+     */
+    private int count = 0;
+
+    /**
+     * Najmanjša velikost medpomnilnika v bajtih (najdaljši izpis celega
+     * števila z znakom za novo vrstico se mora vanj vedno zapisati).
+     */
+    public static final int MIN_SIZE = 16;
+
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] MIN_INT = "-2147483648".getBytes();
+
+    /**
+     * @param size velikost medpomnilnika v bajtih
+     */
+    public OutputBuffer(OutputStream outputStream, Charset charset, int size, FlushPolicy flushPolicy) {
+        requireNonNull(outputStream, charset, flushPolicy);
+        if (size < MIN_SIZE) { throw new IllegalArgumentException("Output buffer must be at least " + MIN_SIZE + " bytes!"); }
+        this.outputStream = outputStream;
+        this.charset = charset;
+        this.buffer = new byte[size];
+        this.flushPolicy = flushPolicy;
+    }
+
+    /**
+     * Izpiše celo število in znak za novo vrstico.
+     */
+    public void println(int value) {
+        ensure(12);
+        if (value == Integer.MIN_VALUE) {
+            System.arraycopy(MIN_INT, 0, buffer, count, MIN_INT.length);
+            count += MIN_INT.length;
+        } else {
+            if (value < 0) {
+                buffer[count++] = '-';
+                value = -value;
+            }
+            // Števke zapišemo od zadaj naprej
+            var end = count + digits(value);
+            var at = end;
+            do {
+                buffer[--at] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            count = end;
+        }
+        endLine();
+    }
+
+    /**
+     * Izpiše logično vrednost in znak za novo vrstico.
+     */
+    public void println(boolean value) {
+        write(value ? TRUE : FALSE);
+        endLine();
+    }
+
+    /**
+     * Izpiše niz in znak za novo vrstico.
+     */
+    public void println(String value) {
+        write(value.getBytes(charset));
+        endLine();
+    }
+
+    /**
+     * Izpiše vsebino medpomnilnika.
+     */
+    public void flush() {
+        try {
+            if (count > 0) {
+                outputStream.write(buffer, 0, count);
+                count = 0;
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ----------- pomožne funkcije -----------
+
+    private void endLine() {
+        ensure(1);
+        buffer[count++] = '\n';
+        if (flushPolicy == FlushPolicy.LINE) {
+            flush();
+        }
+    }
+
+    private void write(byte[] bytes) {
+        if (bytes.length > buffer.length - count) {
+            flush();
+            if (bytes.length > buffer.length) {
+                try {
+                    outputStream.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.length - count < bytes) {
+            flush();
+        }
+    }
+
+    private static int digits(int value) {
+        var digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * @ Author: turk
+ * @ Description: Profiler izvajanja vmesne kode.
+ */
+
+package compiler.interpret;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import common.Constants;
+import compiler.frm.Frame;
+import compiler.gen.Memory;
+import compiler.ir.chunk.Chunk.CodeChunk;
+
+/**
+ * Interpreter ob vsakem klicu, vrnitvi, stavku in skoku obvesti profiler.
+ * Če profiliranje ni vklopljeno, interpreter profilerja nima (`null`).
+ */
+public class Profiler {
+    /**
+     * Statistika posameznega fragmenta kode.
+     */
+    private static class Entry {
+        final CodeChunk chunk;
+        long calls;
+        long statements;
+        long selfTime;
+        long totalTime;
+        int depth;
+        int maxDepth;
+        final Map<Frame.Label, Long> jumps = new LinkedHashMap<>();
+
+        Entry(CodeChunk chunk) {
+            this.chunk = chunk;
+        }
+    }
+
+    /**
+     * Vozlišče drevesa klicev (za izpis skladov).
+     */
+    private static class Node {
+        final Entry entry;
+        final Node parent;
+        final Map<Entry, Node> children = new IdentityHashMap<>();
+        long selfTime;
+
+        Node(Entry entry, Node parent) {
+            this.entry = entry;
+            this.parent = parent;
+        }
+    }
+
+    private final Memory memory;
+
+    private final Map<CodeChunk, Entry> entries = new IdentityHashMap<>();
+
+    private final Node root = new Node(null, null);
+
+    /**
+     * Aktivni klici: vozlišče, začetni čas in čas, porabljen v klicanih funkcijah.
+     */
+    private Node[] nodes = new Node[64];
+    private long[] startTimes = new long[64];
+    private long[] childTimes = new long[64];
+    private int depth = 0;
+
+    /**
+     * Najnižja vrednost skladovnega kazalca.
+     */
+    private int lowestStackPointer;
+
+    public Profiler(Memory memory) {
+        this.memory = memory;
+        this.lowestStackPointer = memory.size - Constants.WordSize;
+    }
+
+    /**
+     * Klic fragmenta (po rezervaciji klicnega zapisa).
+     */
+    public void enter(CodeChunk chunk, int stackPointer) {
+        var entry = entries.computeIfAbsent(chunk, Entry::new);
+        entry.calls++;
+        entry.depth++;
+        entry.maxDepth = Math.max(entry.maxDepth, entry.depth);
+        lowestStackPointer = Math.min(lowestStackPointer, stackPointer);
+
+        var parent = depth == 0 ? root : nodes[depth - 1];
+        var node = parent.children.computeIfAbsent(entry, e -> new Node(e, parent));
+        if (depth == nodes.length) {
+            nodes = Arrays.copyOf(nodes, depth * 2);
+            startTimes = Arrays.copyOf(startTimes, depth * 2);
+            childTimes = Arrays.copyOf(childTimes, depth * 2);
+        }
+        nodes[depth] = node;
+        childTimes[depth] = 0;
+        startTimes[depth] = System.nanoTime();
+        depth++;
+    }
+
+    /**
+     * Vrnitev iz trenutnega fragmenta.
+     */
+    public void exit() {
+        var now = System.nanoTime();
+        depth--;
+        var node = nodes[depth];
+        nodes[depth] = null;
+        var total = now - startTimes[depth];
+        var self = total - childTimes[depth];
+        if (depth > 0) {
+            childTimes[depth - 1] += total;
+        }
+        var entry = node.entry;
+        entry.selfTime += self;
+        entry.depth--;
+        if (entry.depth == 0) {
+            // Pri rekurziji štejemo le najbolj zunanji klic.
+            entry.totalTime += total;
+        }
+        node.selfTime += self;
+    }
+
+    /**
+     * Izveden stavek v trenutnem fragmentu.
+     */
+    public void statement() {
+        nodes[depth - 1].entry.statements++;
+    }
+
+    /**
+     * Izveden skok na podano labelo v trenutnem fragmentu.
+     */
+    public void jump(Frame.Label label) {
+        nodes[depth - 1].entry.jumps.merge(label, 1L, Long::sum);
+    }
+
+    /**
+     * Izpiše poročilo, urejeno padajoče po lastnem času.
+     */
+    public void report(PrintStream out) {
+        var sorted = new ArrayList<>(entries.values());
+        sorted.sort((a, b) -> Long.compare(b.selfTime, a.selfTime));
+        out.printf("%-24s %10s %14s %12s %12s %9s%n", "function", "calls", "statements", "self[ms]", "total[ms]", "max_depth");
+        for (var entry : sorted) {
+            out.printf("%-24s %10d %14d %12.3f %12.3f %9d%n",
+                    entry.chunk.frame.label.name,
+                    entry.calls,
+                    entry.statements,
+                    entry.selfTime / 1e6,
+                    entry.totalTime / 1e6,
+                    entry.maxDepth);
+        }
+        out.println();
+        out.println("taken jumps:");
+        for (var entry : sorted) {
+            var jumps = new ArrayList<>(entry.jumps.entrySet());
+            jumps.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+            for (var jump : jumps) {
+                out.printf("  %-22s %-10s %12d%n", entry.chunk.frame.label.name, jump.getKey().name, jump.getValue());
+            }
+        }
+        out.println();
+        out.println("stack high-water mark: " + (memory.size - Constants.WordSize - lowestStackPointer) + " B");
+    }
+
+    /**
+     * Izpiše sklade klicev v obliki "main;f;g <čas v µs>",
+     * ki jo berejo orodja za izris plamenskih grafov (flame graph).
+     *
+     * Vsako vozlišče drevesa klicev je svoj sklad, zato drevo obiščemo v
+     * globino (brate po imenu) in pot do vozlišča podaljšamo za en okvir,
+     * ob vračanju pa jo skrajšamo na pot do starša.
+     */
+    public void writeCollapsedStacks(PrintStream out) {
+        var path = new StringBuilder();
+        var pending = new ArrayList<Node>();
+        var prefixes = new ArrayList<Integer>();
+        for (var child : children(root)) {
+            pending.add(child);
+            prefixes.add(0);
+        }
+        while (!pending.isEmpty()) {
+            var last = pending.size() - 1;
+            var node = pending.remove(last);
+            path.setLength(prefixes.remove(last));
+            if (path.length() > 0) {
+                path.append(';');
+            }
+            path.append(node.entry.chunk.frame.label.name);
+            var micros = node.selfTime / 1000;
+            if (micros > 0) {
+                out.append(path).append(' ').println(micros);
+            }
+            for (var child : children(node)) {
+                pending.add(child);
+                prefixes.add(path.length());
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * @return otroci vozlišča, urejeni padajoče po imenu (s sklada jih
+     *         vzamemo v naraščajočem vrstnem redu).
+     */
+    private static List<Node> children(Node node) {
+        var children = new ArrayList<>(node.children.values());
+        children.sort((a, b) -> b.entry.chunk.frame.label.name.compareTo(a.entry.chunk.frame.label.name));
+        return children;
+    }
+}
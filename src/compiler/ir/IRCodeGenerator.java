@@ -9,7 +9,6 @@ import static common.RequireNonNull.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 
 import common.Constants;
@@ -18,6 +17,7 @@ import compiler.common.Visitor;
 import compiler.frm.Access;
 import compiler.frm.Frame;
 import compiler.frm.Frame.Label;
+import compiler.lexer.NameTable;
 import compiler.ir.chunk.Chunk;
 import compiler.ir.code.IRNode;
 import compiler.ir.code.expr.*;
@@ -78,7 +78,6 @@ public class IRCodeGenerator implements Visitor {
     }
 
     private Frame currentFrame = null;
-    static final HashSet<String> STD_KNJIZNICA = new HashSet<>(Arrays.asList(Constants.printStringLabel, Constants.printIntLabel, Constants.printLogLabel, Constants.randIntLabel, Constants.seedLabel));
 
 
     @Override
@@ -92,7 +91,7 @@ public class IRCodeGenerator implements Visitor {
 
 
         // Klic standardne knjižnice
-        if (STD_KNJIZNICA.contains(call.name)) {
+        if (NameTable.isStandardLibrary(call.nameId)) {
             args.add(NameExpr.FP());
             for (Expr argument : call.arguments) {
                 if (imcCode.valueFor(argument).isEmpty())
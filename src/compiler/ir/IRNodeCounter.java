@@ -0,0 +1,65 @@
+/**
+ * @ Author: turk
+ * @ Description: Štetje vozlišč vmesne kode.
+ */
+
+package compiler.ir;
+
+import java.util.List;
+
+import compiler.ir.chunk.Chunk;
+import compiler.ir.code.expr.*;
+import compiler.ir.code.stmt.*;
+
+public class IRNodeCounter {
+    private IRNodeCounter() {}
+
+    /**
+     * @return število vozlišč vmesne kode v fragmentih kode.
+     */
+    public static int count(List<? extends Chunk> chunks) {
+        var count = 0;
+        for (var chunk : chunks) {
+            if (chunk instanceof Chunk.CodeChunk code) {
+                count += count(code.code);
+            }
+        }
+        return count;
+    }
+
+    public static int count(IRStmt stmt) {
+        if (stmt instanceof SeqStmt seq) {
+            var count = 1;
+            for (var s : seq.statements) {
+                count += count(s);
+            }
+            return count;
+        } else if (stmt instanceof MoveStmt move) {
+            return 1 + count(move.dst) + count(move.src);
+        } else if (stmt instanceof ExpStmt exp) {
+            return 1 + count(exp.expr);
+        } else if (stmt instanceof CJumpStmt cjump) {
+            return 1 + count(cjump.condition);
+        } else {
+            return 1;
+        }
+    }
+
+    public static int count(IRExpr expr) {
+        if (expr instanceof CallExpr call) {
+            var count = 1;
+            for (var arg : call.args) {
+                count += count(arg);
+            }
+            return count;
+        } else if (expr instanceof BinopExpr binop) {
+            return 1 + count(binop.lhs) + count(binop.rhs);
+        } else if (expr instanceof MemExpr mem) {
+            return 1 + count(mem.expr);
+        } else if (expr instanceof EseqExpr eseq) {
+            return 1 + count(eseq.stmt) + count(eseq.expr);
+        } else {
+            return 1;
+        }
+    }
+}
@@ -7,6 +7,8 @@ package compiler.ir.chunk;
 
 import static common.RequireNonNull.requireNonNull;
 
+import java.util.Map;
+
 import compiler.frm.Access;
 import compiler.frm.Frame;
 import compiler.ir.code.stmt.IRStmt;
@@ -52,10 +54,26 @@ public abstract class Chunk {
          */
         public final IRStmt code;
 
+        /**
+         * Preslikava iz label v indekse stavkov linearizirane kode.
+         */
+        public final Map<Frame.Label, Integer> labels;
+
+        /**
+         * Število začasnih spremenljivk (oštevilčene so od 0 naprej).
+         */
+        public final int tempCount;
+
         public CodeChunk(Frame frame, IRStmt code) {
-            requireNonNull(frame, code);
+            this(frame, code, Map.of(), 0);
+        }
+
+        public CodeChunk(Frame frame, IRStmt code, Map<Frame.Label, Integer> labels, int tempCount) {
+            requireNonNull(frame, code, labels);
             this.frame = frame;
             this.code = code;
+            this.labels = labels;
+            this.tempCount = tempCount;
         }
 
         @Override
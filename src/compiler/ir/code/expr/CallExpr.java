@@ -8,8 +8,10 @@ package compiler.ir.code.expr;
 import java.util.List;
 import static common.RequireNonNull.requireNonNull;
 
+import common.Constants;
 import compiler.frm.Frame;
 import compiler.frm.Frame.Label;
+import compiler.ir.chunk.Chunk;
 
 public class CallExpr extends IRExpr {
     /**
@@ -22,9 +24,61 @@ public class CallExpr extends IRExpr {
      */
     public final List<IRExpr> args;
 
+    /**
+     * Razrešen cilj klica - funkcija standardne knjižnice.
+     *
+     * Nastavi ga povezovanje v `LinCodeGenerator`.
+     */
+    public Intrinsic intrinsic = null;
+
+    /**
+     * Razrešen cilj klica - fragment (linearizirane) kode.
+     *
+     * Nastavi ga povezovanje v `LinCodeGenerator`.
+     */
+    public Chunk.CodeChunk function = null;
+
     public CallExpr(Label label, List<IRExpr> args) {
         requireNonNull(label, args);
         this.label = label;
         this.args = args;
     }
+
+    /**
+     * Funkcije standardne knjižnice.
+     */
+    public static enum Intrinsic {
+        PRINT_INT(Constants.printIntLabel, 2),
+        PRINT_STR(Constants.printStringLabel, 2),
+        PRINT_LOG(Constants.printLogLabel, 2),
+        RAND_INT(Constants.randIntLabel, 3),
+        SEED(Constants.seedLabel, 2);
+
+        /**
+         * Ime funkcije.
+         */
+        public final String name;
+
+        /**
+         * Število argumentov (vključno s statično povezavo).
+         */
+        public final int argumentCount;
+
+        Intrinsic(String name, int argumentCount) {
+            this.name = name;
+            this.argumentCount = argumentCount;
+        }
+
+        /**
+         * Poišče funkcijo standardne knjižnice s podanim imenom.
+         */
+        public static Intrinsic forName(String name) {
+            for (var intrinsic : values()) {
+                if (intrinsic.name.equals(name)) {
+                    return intrinsic;
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -8,23 +8,95 @@ package compiler.lexer;
 import common.Report;
 
 import static common.RequireNonNull.requireNonNull;
-import static java.util.Map.entry;
 
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+/**
+ * Leksikalni analizator je deterministični končni avtomat, podan s tabelo
+ * prehodov. Vsak znak izvorne kode preslikamo v razred znakov, stanje in
+ * razred pa določata naslednje stanje in akcijo (začetek simbola in/ali
+ * izdaja simbola).
+ *
+ * Izvorna koda je podana kot niz ali kot medpomnilnik bajtov v kodiranju
+ * UTF-8 (npr. preslikan v pomnilnik). Bajte ASCII obdelamo neposredno,
+ * ostale znake pa sproti dekodiramo.
+ *
+ * Simbole zapisujemo v `Tokens` le kot vrsto in odmike v izvorni kodi;
+ * vrstice in stolpce (v znakih UTF-16) izračuna `LineIndex` šele, ko jih
+ * potrebujemo.
+ *
+ * Veliko izvorno kodo lahko analiziramo vzporedno (`tokenizeParallel`).
+ * Komentar se konča z znakom '\n', ki konča tudi vsak drug simbol razen
+ * niza, zato je avtomat za znakom '\n' v začetnem stanju ali sredi niza.
+ * Izvorno kodo razdelimo za znaki '\n' in vsak del analiziramo, kot da se
+ * začne v začetnem stanju. Del, pred katerim se niz ni zaključil, nato
+ * analiziramo ponovno.
+ *
+ * Po spremembi izvorne kode lahko ponovno analiziramo le spremenjeni del
+ * (`rescan`).
+ */
 public class Lexer {
     /**
-     * Izvorna koda.
+     * Znaki izvorne kode oz. `null`, če je izvorna koda podana z bajti.
+     */
+    private final char[] znaki;
+
+    /**
+     * Bajti izvorne kode (UTF-8) oz. `null`, če je podana z znaki.
+     */
+    private final ByteBuffer bajti;
+
+    /**
+     * Dolžina izvorne kode (v znakih oz. bajtih).
+     */
+    private final int dolzina;
+
+    /**
+     * Konec dela izvorne kode, ki ga analizira ta analizator (pri vzporedni
+     * analizi; sicer je enak dolžini).
+     */
+    private final int meja;
+
+    /**
+     * Dekodirnik znakov, ki niso ASCII (le pri bajtih).
+     */
+    private CharsetDecoder dekodirnik;
+
+    private int stanje = lexStanja.INITIAL.ordinal();
+
+    /**
+     * Začetek trenutnega simbola.
      */
-    private final String source;
-    private lexStanja stanje = lexStanja.INITIAL;
-    private Position pozicija = new Position(1, 1, 1, 1);
-    private StringBuilder trenutniNiz = new StringBuilder();
-    private int stNarekovajev = 0;
-    private int vrstica = 1;
-    private int stolpec = 1;
-    private boolean zakljucenNiz = true;
+    private int zacetek = 0;
 
+    /**
+     * Indeks naslednjega znaka, ki ga obdelamo.
+     */
+    private int indeks = 0;
+
+    /**
+     * Izdani simboli.
+     */
+    private final Tokens tokens;
+
+    /**
+     * Indeks simbola, ki ga vrne naslednji klic `nextSymbol`.
+     */
+    private int naslednji = 0;
+
+    /**
+     * Tabela imen, v katero shranimo prebrane identifikatorje.
+     */
+    public final NameTable names;
 
     /**
      * Preslikava iz ključnih besed v vrste simbolov.
@@ -48,43 +120,257 @@ public class Lexer {
      * Tipi možnih stanj, v katerem je leksikalni analizator.
      */
     enum lexStanja {
-        KONST_INT, KONST_STR, IME, OPERATOR, KOMENTAR, INITIAL
-    }
-
-    /**
-     * Inicializiraj možne operatorje.
-     */
-    static final HashSet<Character> BELO_BESEDILO = new HashSet<>(Arrays.asList(' ', '\t', '\n', '\r'));
-    static final HashSet<Character> OPERATORJI = new HashSet<>(Arrays.asList('+', '-', '*', '/', '%', '&', '|', '!', '<', '>', '(', ')', '[', ']', '{', '}', ':', ';', '.', ',', '='));
-    static final HashSet<String> LOGICNI = new HashSet<>(Arrays.asList("true", "false"));
-    static final Map<String, TokenType> operatorMapping = Map.ofEntries(
-            entry("+", TokenType.OP_ADD),
-            entry("-", TokenType.OP_SUB),
-            entry("*", TokenType.OP_MUL),
-            entry("/", TokenType.OP_DIV),
-            entry("%", TokenType.OP_MOD),
-            entry("&", TokenType.OP_AND),
-            entry("|", TokenType.OP_OR),
-            entry("!", TokenType.OP_NOT),
-            entry("==", TokenType.OP_EQ),
-            entry("!=", TokenType.OP_NEQ),
-            entry("<", TokenType.OP_LT),
-            entry(">", TokenType.OP_GT),
-            entry("<=", TokenType.OP_LEQ),
-            entry(">=", TokenType.OP_GEQ),
-            entry("(", TokenType.OP_LPARENT),
-            entry(")", TokenType.OP_RPARENT),
-            entry("[", TokenType.OP_LBRACKET),
-            entry("]", TokenType.OP_RBRACKET),
-            entry("{", TokenType.OP_LBRACE),
-            entry("}", TokenType.OP_RBRACE),
-            entry(":", TokenType.OP_COLON),
-            entry(";", TokenType.OP_SEMICOLON),
-            entry(".", TokenType.OP_DOT),
-            entry(",", TokenType.OP_COMMA),
-            entry("=", TokenType.OP_ASSIGN)
-    );
+        INITIAL,
+        IME,
+        KONST_INT,
+        OPERATOR,           // operator, ki mu ne more slediti '='
+        OPERATOR_PREDPONA,  // '=', '!', '<' ali '>', ki jim lahko sledi '='
+        KOMENTAR,
+        NIZ_ZACETEK,        // takoj za začetnim narekovajem
+        NIZ,
+        NIZ_NAREKOVAJ,      // za narekovajem; naslednji narekovaj je ubežni znak
+        NIZ_PRAZEN          // za '' (prazen niz)
+    }
+
+    // ---------- razredi znakov ----------
+
+    private static final int BELO = 0;           // ' ', '\t', '\r'
+    private static final int NOVA_VRSTICA = 1;
+    private static final int CRKA = 2;           // črka ali '_'
+    private static final int STEVKA = 3;
+    private static final int NAREKOVAJ = 4;
+    private static final int LOJTRA = 5;         // '#'
+    private static final int OPERATOR = 6;
+    private static final int PREDPONA = 7;       // '!', '<', '>'
+    private static final int ENACAJ = 8;         // '='
+    private static final int DRUGO = 9;
+    private static final int RAZREDI = 10;
+
+    /**
+     * Razredi znakov ASCII.
+     */
+    private static final byte[] RAZRED = new byte[128];
+
+    static {
+        Arrays.fill(RAZRED, (byte) DRUGO);
+        for (var c : " \t\r".toCharArray()) { RAZRED[c] = BELO; }
+        RAZRED['\n'] = NOVA_VRSTICA;
+        for (char c = 'a'; c <= 'z'; c++) { RAZRED[c] = CRKA; }
+        for (char c = 'A'; c <= 'Z'; c++) { RAZRED[c] = CRKA; }
+        RAZRED['_'] = CRKA;
+        for (char c = '0'; c <= '9'; c++) { RAZRED[c] = STEVKA; }
+        RAZRED['\''] = NAREKOVAJ;
+        RAZRED['#'] = LOJTRA;
+        for (var c : "+-*/%&|()[]{}:;.,".toCharArray()) { RAZRED[c] = OPERATOR; }
+        for (var c : "!<>".toCharArray()) { RAZRED[c] = PREDPONA; }
+        RAZRED['='] = ENACAJ;
+    }
+
+    private static int razred(char c) {
+        if (c < 128) {
+            return RAZRED[c];
+        } else if (Character.isLetter(c)) {
+            return CRKA;
+        } else if (Character.isDigit(c)) {
+            return STEVKA;
+        } else {
+            return DRUGO;
+        }
+    }
+
+    // ---------- tabela prehodov ----------
+
+    /**
+     * Akcije prehoda. Spodnji štirje biti prehoda so naslednje stanje,
+     * bit ZACNI označuje začetek novega simbola, preostali biti pa
+     * vrsto simbola, ki se izda (pred začetkom novega simbola).
+     */
+    private static final int ZACNI = 1 << 4;
+    private static final int IZDAJ_IME = 1 << 5;
+    private static final int IZDAJ_INT = 2 << 5;
+    private static final int IZDAJ_OP = 3 << 5;
+    private static final int IZDAJ_OP2 = 4 << 5;
+    private static final int IZDAJ_NIZ = 5 << 5;
+    private static final int IZDAJ_PRAZEN_NIZ = 6 << 5;
+
+    private static final int[] PREHODI = new int[lexStanja.values().length * RAZREDI];
+
+    private static void prehod(lexStanja iz, int razred, lexStanja v, int akcija) {
+        PREHODI[iz.ordinal() * RAZREDI + razred] = v.ordinal() | akcija;
+    }
+
+    /**
+     * Izda trenutni simbol in znak obdela, kot da bi bil v začetnem stanju.
+     */
+    private static void izdajInPonovi(lexStanja iz, int razred, int izdaja) {
+        PREHODI[iz.ordinal() * RAZREDI + razred] = PREHODI[lexStanja.INITIAL.ordinal() * RAZREDI + razred] | izdaja;
+    }
+
+    static {
+        for (int r = 0; r < RAZREDI; r++) {
+            prehod(lexStanja.INITIAL, r, lexStanja.INITIAL, 0);
+        }
+        prehod(lexStanja.INITIAL, CRKA, lexStanja.IME, ZACNI);
+        prehod(lexStanja.INITIAL, STEVKA, lexStanja.KONST_INT, ZACNI);
+        prehod(lexStanja.INITIAL, NAREKOVAJ, lexStanja.NIZ_ZACETEK, ZACNI);
+        prehod(lexStanja.INITIAL, LOJTRA, lexStanja.KOMENTAR, 0);
+        prehod(lexStanja.INITIAL, OPERATOR, lexStanja.OPERATOR, ZACNI);
+        prehod(lexStanja.INITIAL, PREDPONA, lexStanja.OPERATOR_PREDPONA, ZACNI);
+        prehod(lexStanja.INITIAL, ENACAJ, lexStanja.OPERATOR_PREDPONA, ZACNI);
+
+        // Ime se nadaljuje z vsemi znaki razen belega besedila, narekovaja
+        // (ta se izpusti) in operatorjev.
+        for (int r = 0; r < RAZREDI; r++) {
+            prehod(lexStanja.IME, r, lexStanja.IME, 0);
+        }
+        prehod(lexStanja.IME, BELO, lexStanja.INITIAL, IZDAJ_IME);
+        prehod(lexStanja.IME, NOVA_VRSTICA, lexStanja.INITIAL, IZDAJ_IME);
+        prehod(lexStanja.IME, NAREKOVAJ, lexStanja.INITIAL, IZDAJ_IME);
+        prehod(lexStanja.IME, OPERATOR, lexStanja.OPERATOR, IZDAJ_IME | ZACNI);
+        prehod(lexStanja.IME, PREDPONA, lexStanja.OPERATOR_PREDPONA, IZDAJ_IME | ZACNI);
+        prehod(lexStanja.IME, ENACAJ, lexStanja.OPERATOR_PREDPONA, IZDAJ_IME | ZACNI);
+
+        for (int r = 0; r < RAZREDI; r++) {
+            izdajInPonovi(lexStanja.KONST_INT, r, IZDAJ_INT);
+            izdajInPonovi(lexStanja.OPERATOR, r, IZDAJ_OP);
+            izdajInPonovi(lexStanja.OPERATOR_PREDPONA, r, IZDAJ_OP);
+        }
+        prehod(lexStanja.KONST_INT, STEVKA, lexStanja.KONST_INT, 0);
+        prehod(lexStanja.OPERATOR_PREDPONA, ENACAJ, lexStanja.INITIAL, IZDAJ_OP2);
+
+        // Komentar (tudi sredi imena, števila ali operatorja) zavrže trenutni simbol.
+        prehod(lexStanja.IME, LOJTRA, lexStanja.KOMENTAR, 0);
+        prehod(lexStanja.KONST_INT, LOJTRA, lexStanja.KOMENTAR, 0);
+        prehod(lexStanja.OPERATOR, LOJTRA, lexStanja.KOMENTAR, 0);
+        prehod(lexStanja.OPERATOR_PREDPONA, LOJTRA, lexStanja.KOMENTAR, 0);
+
+        for (int r = 0; r < RAZREDI; r++) {
+            prehod(lexStanja.KOMENTAR, r, lexStanja.KOMENTAR, 0);
+        }
+        prehod(lexStanja.KOMENTAR, NOVA_VRSTICA, lexStanja.INITIAL, 0);
 
+        for (int r = 0; r < RAZREDI; r++) {
+            prehod(lexStanja.NIZ_ZACETEK, r, lexStanja.NIZ, 0);
+            prehod(lexStanja.NIZ, r, lexStanja.NIZ, 0);
+            izdajInPonovi(lexStanja.NIZ_NAREKOVAJ, r, IZDAJ_NIZ);
+            izdajInPonovi(lexStanja.NIZ_PRAZEN, r, IZDAJ_PRAZEN_NIZ);
+        }
+        prehod(lexStanja.NIZ_ZACETEK, NAREKOVAJ, lexStanja.NIZ_PRAZEN, 0);
+        prehod(lexStanja.NIZ, NAREKOVAJ, lexStanja.NIZ_NAREKOVAJ, 0);
+        prehod(lexStanja.NIZ_NAREKOVAJ, NAREKOVAJ, lexStanja.NIZ, 0);
+        prehod(lexStanja.NIZ_PRAZEN, NAREKOVAJ, lexStanja.NIZ_PRAZEN, 0);
+    }
+
+    // ---------- preskakovanje ----------
+
+    /**
+     * Ali zaporedja znakov, ki ne spremenijo stanja, preskočimo v celoti
+     * (sistemska lastnost `pins.lexer.scalar` to izklopi, npr. za primerjavo).
+     */
+    private static final boolean PRESKAKUJ = !Boolean.getBoolean("pins.lexer.scalar");
+
+    /**
+     * Razredi znakov (kot biti), pri katerih avtomat ostane v istem stanju
+     * brez akcije (indeks je stanje).
+     */
+    private static final int[] OSTANI = new int[lexStanja.values().length];
+
+    private static final int KOMENTAR = lexStanja.KOMENTAR.ordinal();
+
+    private static final long NIZKI_BITI = 0x7F7F7F7F7F7F7F7FL;
+    private static final long NOVE_VRSTICE = 0x0A0A0A0A0A0A0A0AL;
+
+    static {
+        for (int s = 0; s < OSTANI.length; s++) {
+            for (int r = 0; r < RAZREDI; r++) {
+                if (PREHODI[s * RAZREDI + r] == s) {
+                    OSTANI[s] |= 1 << r;
+                }
+            }
+        }
+    }
+
+    // ---------- operatorji ----------
+
+    private static final TokenType[] OPERATOR_TIP = new TokenType[128];
+
+    /**
+     * Operatorji dolžine 2 (glede na prvi znak; drugi znak je '=').
+     */
+    private static final TokenType[] OPERATOR2_TIP = new TokenType[128];
+
+    private static void operator(String leksem, TokenType tip) {
+        if (leksem.length() == 1) {
+            OPERATOR_TIP[leksem.charAt(0)] = tip;
+        } else {
+            OPERATOR2_TIP[leksem.charAt(0)] = tip;
+        }
+    }
+
+    static {
+        operator("+", TokenType.OP_ADD);
+        operator("-", TokenType.OP_SUB);
+        operator("*", TokenType.OP_MUL);
+        operator("/", TokenType.OP_DIV);
+        operator("%", TokenType.OP_MOD);
+        operator("&", TokenType.OP_AND);
+        operator("|", TokenType.OP_OR);
+        operator("!", TokenType.OP_NOT);
+        operator("==", TokenType.OP_EQ);
+        operator("!=", TokenType.OP_NEQ);
+        operator("<", TokenType.OP_LT);
+        operator(">", TokenType.OP_GT);
+        operator("<=", TokenType.OP_LEQ);
+        operator(">=", TokenType.OP_GEQ);
+        operator("(", TokenType.OP_LPARENT);
+        operator(")", TokenType.OP_RPARENT);
+        operator("[", TokenType.OP_LBRACKET);
+        operator("]", TokenType.OP_RBRACKET);
+        operator("{", TokenType.OP_LBRACE);
+        operator("}", TokenType.OP_RBRACE);
+        operator(":", TokenType.OP_COLON);
+        operator(";", TokenType.OP_SEMICOLON);
+        operator(".", TokenType.OP_DOT);
+        operator(",", TokenType.OP_COMMA);
+        operator("=", TokenType.OP_ASSIGN);
+    }
+
+    // ---------- ključne besede ----------
+
+    /**
+     * Popolna zgoščevalna tabela ključnih besed in logičnih konstant
+     * (velikost 32, brez trkov).
+     */
+    private static final String[] KLJUCNE_BESEDE = new String[32];
+    private static final TokenType[] KLJUCNI_TIPI = new TokenType[32];
+
+    /**
+     * Ali `String.toLowerCase` v privzetih jezikovnih nastavitvah črke ASCII
+     * preslika v male črke ASCII (v turščini npr. ne velja za 'I').
+     */
+    private static final boolean ASCII_MALE_CRKE =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toLowerCase().equals("abcdefghijklmnopqrstuvwxyz");
+
+    private static int zgostitev(int prvi, int predzadnji, int zadnji, int dolzina) {
+        return (prvi * 4 + predzadnji * 3 + zadnji + dolzina) & 31;
+    }
+
+    private static void kljucnaBeseda(String beseda, TokenType tip) {
+        var h = zgostitev(beseda.charAt(0), beseda.charAt(beseda.length() - 2), beseda.charAt(beseda.length() - 1), beseda.length());
+        if (KLJUCNE_BESEDE[h] != null) {
+            throw new IllegalStateException("Keyword hash collision: " + beseda + ", " + KLJUCNE_BESEDE[h]);
+        }
+        KLJUCNE_BESEDE[h] = beseda;
+        KLJUCNI_TIPI[h] = tip;
+    }
+
+    static {
+        for (var entry : keywordMapping.entrySet()) {
+            kljucnaBeseda(entry.getKey(), entry.getValue());
+        }
+        kljucnaBeseda("true", TokenType.C_LOGICAL);
+        kljucnaBeseda("false", TokenType.C_LOGICAL);
+    }
 
     /**
      * Ustvari nov analizator.
@@ -92,154 +378,524 @@ public class Lexer {
      * @param source Izvorna koda programa.
      */
     public Lexer(String source) {
-        requireNonNull(source);
-        this.source = source;
-    }
-
-    /**
-     * Določi stanje leksikalnega analizatorja iz začetnega stanja.
-     */
-    private lexStanja dolociZacetnoStanje(char naslednjiZnak) {
-        if (naslednjiZnak == '_' || Character.isLetter(naslednjiZnak)) {
-            return lexStanja.IME;
-        } else if (Character.isDigit(naslednjiZnak)) {
-            return lexStanja.KONST_INT;
-        } else if (naslednjiZnak == '\'') {
-            this.zakljucenNiz = false;
-            this.stNarekovajev++;
-            return lexStanja.KONST_STR;
-        } else if (naslednjiZnak == '#') {
-            return lexStanja.KOMENTAR;
-        } else if (OPERATORJI.contains(naslednjiZnak)) {
-            return lexStanja.OPERATOR;
+        this(source, new NameTable());
+    }
+
+    /**
+     * Ustvari nov analizator.
+     *
+     * @param source Izvorna koda programa.
+     * @param names Tabela imen.
+     */
+    public Lexer(String source, NameTable names) {
+        requireNonNull(source, names);
+        this.names = names;
+        this.znaki = source.toCharArray();
+        this.bajti = null;
+        this.dolzina = znaki.length;
+        this.meja = dolzina;
+        this.tokens = new Tokens(znaki, names);
+    }
+
+    /**
+     * Analizator izvorne kode, podane s tabelo znakov.
+     */
+    private Lexer(char[] znaki, NameTable names) {
+        this.names = names;
+        this.znaki = znaki;
+        this.bajti = null;
+        this.dolzina = znaki.length;
+        this.meja = dolzina;
+        this.tokens = new Tokens(znaki, names);
+    }
+
+    /**
+     * Ustvari nov analizator.
+     *
+     * @param source Izvorna koda programa v kodiranju UTF-8.
+     */
+    public Lexer(ByteBuffer source) {
+        this(source, new NameTable());
+    }
+
+    /**
+     * Ustvari nov analizator.
+     *
+     * @param source Izvorna koda programa v kodiranju UTF-8.
+     * @param names Tabela imen.
+     */
+    public Lexer(ByteBuffer source, NameTable names) {
+        requireNonNull(source, names);
+        this.names = names;
+        this.znaki = null;
+        this.bajti = source;
+        this.dolzina = source.limit();
+        this.meja = dolzina;
+        this.tokens = new Tokens(source, names);
+    }
+
+    /**
+     * Analizator dela izvorne kode od odmika `od` do `meja`, ki imena
+     * shranjuje v svojo tabelo imen.
+     */
+    private Lexer(Lexer izvor, int od, int meja) {
+        this.names = new NameTable();
+        this.znaki = izvor.znaki;
+        this.bajti = izvor.bajti;
+        this.dolzina = izvor.dolzina;
+        this.meja = meja;
+        this.indeks = od;
+        this.tokens = znaki != null ? new Tokens(znaki, names) : new Tokens(bajti, names);
+    }
+
+    /**
+     * Izvedi leksikalno analizo.
+     *
+     * @return seznam leksikalnih simbolov.
+     */
+    public List<Symbol> scan() {
+        return tokenize().symbols();
+    }
+
+    /**
+     * Izvedi leksikalno analizo celotne izvorne kode.
+     *
+     * @return vsi simboli (zadnji je EOF).
+     */
+    public Tokens tokenize() {
+        while (indeks <= dolzina) {
+            naprej();
+        }
+        return tokens;
+    }
+
+    /**
+     * Izvedi leksikalno analizo celotne izvorne kode vzporedno
+     * (v skupnem bazenu niti).
+     *
+     * @return vsi simboli (zadnji je EOF).
+     */
+    public Tokens tokenizeParallel() {
+        return tokenizeParallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Izvedi leksikalno analizo celotne izvorne kode vzporedno.
+     *
+     * Rezultat (tudi oznake imen) je enak kot pri `tokenize`.
+     *
+     * @param pool Bazen niti, v katerem analiziramo dele izvorne kode.
+     * @return vsi simboli (zadnji je EOF).
+     */
+    public Tokens tokenizeParallel(ForkJoinPool pool) {
+        requireNonNull(pool);
+        if (indeks != 0) {
+            throw new IllegalStateException("Lexical analysis has already started!");
+        }
+        var velikost = Math.max(NAJMANJSI_DEL, dolzina / (pool.getParallelism() * 4 + 1));
+        if (pool.getParallelism() < 2 || dolzina < 2 * velikost) {
+            return tokenize();
+        }
+
+        // Razdeli izvorno kodo za znaki '\n'.
+        var meje = new ArrayList<Integer>();
+        meje.add(0);
+        for (int od = 0; od < dolzina; ) {
+            var meja = Math.min(od + velikost, dolzina);
+            while (meja < dolzina && znak(meja - 1) != '\n') {
+                meja++;
+            }
+            meje.add(meja);
+            od = meja;
+        }
+        var deli = new ArrayList<Lexer>();
+        for (int k = 0; k + 1 < meje.size(); k++) {
+            deli.add(new Lexer(this, meje.get(k), meje.get(k + 1)));
+        }
+        pool.submit(() -> ForkJoinTask.invokeAll(deli.stream()
+                .map(del -> ForkJoinTask.adapt(del::analizirajDel))
+                .toList())).join();
+
+        // Del, pred katerim se niz ni zaključil, analiziramo ponovno.
+        for (int k = 1; k < deli.size(); k++) {
+            var prejsnji = deli.get(k - 1);
+            if (prejsnji.stanje != lexStanja.INITIAL.ordinal()) {
+                var del = new Lexer(this, meje.get(k), meje.get(k + 1));
+                del.stanje = prejsnji.stanje;
+                del.zacetek = prejsnji.zacetek;
+                del.analizirajDel();
+                deli.set(k, del);
+            }
+        }
+        var zadnji = deli.get(deli.size() - 1);
+        zadnji.tokenize();
+
+        // Združi simbole; oznake imen dodelimo v vrstnem redu prvih pojavitev.
+        for (var del : deli) {
+            var oznake = new int[del.names.size()];
+            for (int id = 0; id < oznake.length; id++) {
+                oznake[id] = names.intern(del.names.name(id));
+            }
+            tokens.addAll(del.tokens, oznake);
+        }
+        indeks = zadnji.indeks;
+        stanje = zadnji.stanje;
+        return tokens;
+    }
+
+    /**
+     * Izvedi leksikalno analizo izvorne kode, ki jo dobimo, ko v izvorni kodi
+     * simbolov `previous` na odmiku `offset` zamenjamo `removed` znakov
+     * (oz. bajtov, če je izvorna koda podana z bajti) z besedilom `inserted`.
+     *
+     * Ponovno analiziramo le simbole od spremembe naprej, dokler se simbol ne
+     * začne na istem mestu kot eden od nespremenjenih simbolov za spremembo;
+     * preostalim simbolom le premaknemo odmike. Rezultat (tudi oznake imen) je
+     * enak kot pri analizi celotne spremenjene izvorne kode s tabelo imen
+     * simbolov `previous`, ki jo dobljeni simboli delijo s `previous`.
+     *
+     * @param previous Simboli izvorne kode pred spremembo (vključno z EOF).
+     * @param offset Odmik spremembe.
+     * @param removed Število odstranjenih znakov.
+     * @param inserted Vstavljeno besedilo.
+     * @return vsi simboli spremenjene izvorne kode (zadnji je EOF).
+     */
+    public static Tokens rescan(Tokens previous, int offset, int removed, String inserted) {
+        requireNonNull(previous, inserted);
+        if (previous.size() == 0 || previous.type(previous.size() - 1) != TokenType.EOF) {
+            throw new IllegalArgumentException("Lexical analysis of the previous source is not complete!");
+        }
+        Lexer lexer;
+        int razlika;
+        if (previous.znaki != null) {
+            var stara = previous.znaki;
+            Objects.checkFromIndexSize(offset, removed, stara.length);
+            var nova = new char[stara.length - removed + inserted.length()];
+            System.arraycopy(stara, 0, nova, 0, offset);
+            inserted.getChars(0, inserted.length(), nova, offset);
+            System.arraycopy(stara, offset + removed, nova, offset + inserted.length(), stara.length - offset - removed);
+            lexer = new Lexer(nova, previous.names);
+            razlika = inserted.length() - removed;
         } else {
-            return lexStanja.INITIAL;
+            var stara = previous.bajti;
+            Objects.checkFromIndexSize(offset, removed, stara.limit());
+            var vstavljeno = inserted.getBytes(StandardCharsets.UTF_8);
+            var nova = new byte[stara.limit() - removed + vstavljeno.length];
+            stara.get(0, nova, 0, offset);
+            System.arraycopy(vstavljeno, 0, nova, offset, vstavljeno.length);
+            stara.get(offset + removed, nova, offset + vstavljeno.length, stara.limit() - offset - removed);
+            lexer = new Lexer(ByteBuffer.wrap(nova), previous.names);
+            razlika = vstavljeno.length - removed;
         }
+        return lexer.nadaljuj(previous, offset, offset + removed, razlika);
     }
 
-    private void handleStanje(char naslednjiZnak, ArrayList<Symbol> symbols) {
-        if ((naslednjiZnak == '#') && (this.stanje != lexStanja.KONST_STR)) {
-            this.stanje = lexStanja.KOMENTAR;
-            return;
+    /**
+     * Analizira spremenjeno izvorno kodo; simbole pred spremembo in za njo
+     * prevzame iz `previous`.
+     *
+     * Na začetku vsakega simbola je avtomat (po obdelavi prvega znaka) v enakem
+     * stanju, kot če bi bil pred tem v začetnem stanju. Analizo zato lahko
+     * začnemo na začetku zadnjega simbola, ki se konča pred spremembo, in jo
+     * končamo, ko se simbol začne tam, kjer se je začel nespremenjen simbol.
+     *
+     * @param od Odmik spremembe.
+     * @param doOdmika Konec odstranjenega dela (v izvorni kodi `previous`).
+     * @param razlika Sprememba dolžine izvorne kode.
+     */
+    private Tokens nadaljuj(Tokens previous, int od, int doOdmika, int razlika) {
+        var pred = previous.countEndingBefore(od);
+        if (pred > 0) {
+            tokens.addRange(previous, 0, pred - 1, 0);
+            indeks = previous.start(pred - 1);
         }
+        var prvi = tokens.size();
+        while (indeks <= dolzina) {
+            naprej();
+            for (; prvi < tokens.size(); prvi++) {
+                var start = tokens.start(prvi) - razlika;
+                var enak = start >= doOdmika ? previous.indexOfStart(start) : -1;
+                if (enak >= 0) {
+                    tokens.truncate(prvi);
+                    tokens.addRange(previous, enak, previous.size(), razlika);
+                    return tokens;
+                }
+            }
+        }
+        return tokens;
+    }
 
-        switch (this.stanje) {
-            case KOMENTAR:
-                // Komentar se razteza do konca vrstice.
-                if (naslednjiZnak == '\n')
-                    this.stanje = lexStanja.INITIAL;
-                break;
-            case IME:
-                if (naslednjiZnak == '\'') { // Začetek string literala
-                    preveriIme(symbols);
-                    this.stanje = lexStanja.INITIAL;
-                } else if (BELO_BESEDILO.contains(naslednjiZnak)) { // Belo besedilo - konec imena
-                    preveriIme(symbols);
-                    this.stanje = lexStanja.INITIAL;
-                } else if (OPERATORJI.contains(naslednjiZnak)) { // Operator - konec imena
-                    preveriIme(symbols);
-                    this.trenutniNiz = new StringBuilder();
-                    this.trenutniNiz.append(naslednjiZnak);
-                    this.pozicija = Position.fromLocation(new Position.Location(this.vrstica, this.stolpec));
-                    this.stanje = lexStanja.OPERATOR;
+    /**
+     * Najmanjša velikost dela izvorne kode pri vzporedni analizi.
+     */
+    private static final int NAJMANJSI_DEL = 1 << 16;
+
+    /**
+     * Analizira del izvorne kode (brez konca izvorne kode).
+     */
+    private void analizirajDel() {
+        while (indeks < meja) {
+            naprej();
+        }
+    }
+
+    /**
+     * Izvedi leksikalno analizo do naslednjega simbola.
+     *
+     * Ko je izvorna koda prebrana, vsak nadaljnji klic vrne simbol EOF.
+     *
+     * @return naslednji leksikalni simbol.
+     */
+    public Symbol nextSymbol() {
+        while (naslednji >= tokens.size()) {
+            naprej();
+        }
+        var symbol = tokens.symbol(naslednji);
+        if (symbol.tokenType != TokenType.EOF) {
+            naslednji++;
+        }
+        return symbol;
+    }
+
+    /**
+     * Obdela naslednji znak izvorne kode oz. njen konec.
+     */
+    private void naprej() {
+        if (indeks < meja) {
+            if (znaki != null) {
+                korak(znaki[indeks], indeks);
+                indeks++;
+            } else {
+                var bajt = bajti.get(indeks);
+                if (bajt < 0) {
+                    dekodiraj();
                 } else {
-                    this.trenutniNiz.append(naslednjiZnak);
+                    korak((char) bajt, indeks);
+                    indeks++;
                 }
-                break;
-            case KONST_INT:
-                if (Character.isDigit(naslednjiZnak))
-                    this.trenutniNiz.append(naslednjiZnak);
-                else {
-                    symbols.add(new Symbol(new Position(this.pozicija.start.line, this.pozicija.start.column, this.vrstica, this.stolpec), TokenType.C_INTEGER, trenutniNiz.toString()));
-                    this.stanje = lexStanja.INITIAL;
-                    handleStanje(naslednjiZnak, symbols);
+            }
+            if (PRESKAKUJ && OSTANI[stanje] != 0) {
+                preskoci();
+            }
+        } else if (indeks == dolzina) {
+            indeks++;
+            if (dolzina > 0) {
+                korak(' ', dolzina); // Pohendlaj še zadnji simbol
+            }
+            if (stanje == lexStanja.NIZ_ZACETEK.ordinal() || stanje == lexStanja.NIZ.ordinal()) {
+                Report.recoverableError(new Position(tokens.lines, dolzina, dolzina), "NAPAKA: Konstanta string ni zaključena!");
+            }
+            tokens.add(TokenType.EOF, dolzina, dolzina + 1, NameTable.NONE);
+        }
+    }
+
+    /**
+     * Preskoči znake, ki ne spremenijo stanja avtomata (belo besedilo, nadaljevanje
+     * imena ali števila, telo komentarja ali niza). Na meji simbola se ustavi,
+     * tako da naslednji znak obdela `korak`. Bajtov, ki niso ASCII, ne preskoči
+     * (dekodiramo jih, da odkrijemo neveljavno kodiranje).
+     */
+    private void preskoci() {
+        var ostani = OSTANI[stanje];
+        var i = indeks;
+        if (znaki != null) {
+            if (stanje == KOMENTAR) {
+                while (i < meja && znaki[i] != '\n') {
+                    i++;
                 }
-                break;
-            case KONST_STR:
-                if (((this.stNarekovajev % 2 == 1) && (this.trenutniNiz.length() > 1)) || (this.trenutniNiz.toString().equals("''"))) { // Ne gledamo na začetku niza, ko samo '
-                    if (naslednjiZnak == '\'') { // Dva narekovaja escape char
-                        this.stNarekovajev++;
-                    } else { // Konec string literala
-                        String leksem = trenutniNiz.toString();
-                        if (trenutniNiz.toString().equals("''"))
-                            leksem = "";
-                        if (leksem.length() > 1) // Odstrani narekovaje
-                            leksem = leksem.substring(1, leksem.length() - 1);
-                        symbols.add(new Symbol(new Position(this.pozicija.start.line, this.pozicija.start.column, this.vrstica, this.stolpec), TokenType.C_STRING, leksem)); // leksem brez narekovajev
-                        zakljucenNiz = true;
-                        this.stanje = lexStanja.INITIAL;
-                        handleStanje(naslednjiZnak, symbols);
-                    }
-                } else {
-                    this.trenutniNiz.append(naslednjiZnak);
-                    this.stNarekovajev = (naslednjiZnak == '\'') ? this.stNarekovajev + 1 : 0;
+            } else {
+                while (i < meja && (ostani >>> razred(znaki[i]) & 1) != 0) {
+                    i++;
                 }
-                break;
-            case OPERATOR:
-                String kandidat = trenutniNiz.toString() + naslednjiZnak;
-                if (operatorMapping.containsKey(kandidat)) { // Če bi z naslednjim znakom dobili operator dolžine 2
-                    symbols.add(new Symbol(new Position(this.pozicija.start.line, this.pozicija.start.column, this.vrstica, this.stolpec + 1), operatorMapping.get(kandidat), kandidat));
-                    this.stanje = lexStanja.INITIAL;
-                } else { // npr. "+b"
-                    symbols.add(new Symbol(new Position(this.pozicija.start.line, this.pozicija.start.column, this.vrstica, this.stolpec), operatorMapping.get(trenutniNiz.toString()), trenutniNiz.toString()));
-                    this.stanje = lexStanja.INITIAL;
-                    handleStanje(naslednjiZnak, symbols);
+            }
+        } else {
+            if (stanje == KOMENTAR) {
+                i = konecKomentarja(i);
+            }
+            while (i < meja) {
+                var bajt = bajti.get(i);
+                if (bajt < 0 || (ostani >>> RAZRED[bajt] & 1) == 0) {
+                    break;
                 }
-                break;
-            case INITIAL:
-                this.pozicija = Position.fromLocation(new Position.Location(this.vrstica, this.stolpec));
-                this.trenutniNiz = new StringBuilder();
-                this.stanje = dolociZacetnoStanje(naslednjiZnak);
-                if (this.stanje == lexStanja.IME || this.stanje == lexStanja.KONST_INT || this.stanje == lexStanja.KONST_STR || this.stanje == lexStanja.OPERATOR)
-                    this.trenutniNiz.append(naslednjiZnak);
-                break;
+                i++;
+            }
         }
+        indeks = i;
     }
 
-    private void preveriIme(ArrayList<Symbol> symbols) {
-        int startVrstica = this.pozicija.start.line;
-        int startStolpec = this.pozicija.start.column;
-        if (keywordMapping.containsKey(trenutniNiz.toString().toLowerCase()))
-            symbols.add(new Symbol(new Position(startVrstica, startStolpec, this.vrstica, this.stolpec), keywordMapping.get(trenutniNiz.toString().toLowerCase()), trenutniNiz.toString()));
-        else if (LOGICNI.contains(trenutniNiz.toString().toLowerCase()))
-            symbols.add(new Symbol(new Position(startVrstica, startStolpec, this.vrstica, this.stolpec), TokenType.C_LOGICAL, trenutniNiz.toString().toLowerCase()));
-        else
-            symbols.add(new Symbol(new Position(startVrstica, startStolpec, this.vrstica, this.stolpec), TokenType.IDENTIFIER, trenutniNiz.toString()));
+    /**
+     * Poišče prvi bajt '\n' ali bajt, ki ni ASCII, tako da naenkrat
+     * pregleda po 8 bajtov.
+     *
+     * @return indeks najdenega bajta oz. začetek nepregledanega ostanka.
+     */
+    private int konecKomentarja(int i) {
+        var obrni = bajti.order() == ByteOrder.LITTLE_ENDIAN;
+        while (i + Long.BYTES <= meja) {
+            var beseda = bajti.getLong(i);
+            if (obrni) {
+                beseda = Long.reverseBytes(beseda);
+            }
+            // Najvišji bit je postavljen v bajtih, ki so enaki '\n' ali niso ASCII.
+            var x = beseda ^ NOVE_VRSTICE;
+            var najdeno = ~(((x & NIZKI_BITI) + NIZKI_BITI) | x | NIZKI_BITI) | (beseda & ~NIZKI_BITI);
+            if (najdeno != 0) {
+                return i + (Long.numberOfLeadingZeros(najdeno) >>> 3);
+            }
+            i += Long.BYTES;
+        }
+        return i;
     }
 
     /**
-     * Izvedi leksikalno analizo.
-     *
-     * @return seznam leksikalnih simbolov.
+     * Dekodira znak (ki ni ASCII) na trenutnem indeksu bajtov in ga obdela.
+     * Znak izven BMP obdelamo kot dva znaka (nadomestni par), tako kot v nizu.
      */
-    public List<Symbol> scan() {
-        var symbols = new ArrayList<Symbol>();
-        for (int i = 0; i < this.source.length(); i++) {
-            var naslednjiZnak = this.source.charAt(i);
-            handleStanje(naslednjiZnak, symbols);
-
-            if (naslednjiZnak == '\n') {
-                this.vrstica++;
-                this.stolpec = 1;
-            } else if (naslednjiZnak == 9) { // tabulator {
-                this.stolpec += 4;
-            } else if (naslednjiZnak == '\r') {
-                continue;
-            } else {
-                this.stolpec++;
+    private void dekodiraj() {
+        var prvi = bajti.get(indeks) & 0xFF;
+        var n = prvi >= 0xF0 ? 4 : prvi >= 0xE0 ? 3 : 2;
+        CharBuffer dekodirano;
+        try {
+            if (dekodirnik == null) {
+                dekodirnik = StandardCharsets.UTF_8.newDecoder();
             }
+            dekodirano = dekodirnik.decode(bajti.slice(indeks, Math.min(n, dolzina - indeks)));
+        } catch (CharacterCodingException e) {
+            throw new UncheckedIOException(e);
+        }
+        while (dekodirano.hasRemaining()) {
+            korak(dekodirano.get(), indeks);
+        }
+        indeks += n;
+    }
+
+    /**
+     * @return dolžina izvorne kode (v znakih oz. bajtih).
+     */
+    public int sourceLength() {
+        return dolzina;
+    }
 
+    /**
+     * @return število doslej izdanih simbolov (vključno z EOF).
+     */
+    public int symbolCount() {
+        return tokens.size();
+    }
 
+    /**
+     * Izvede prehod avtomata za znak na indeksu `i`.
+     */
+    private void korak(char naslednjiZnak, int i) {
+        var prehod = PREHODI[stanje * RAZREDI + razred(naslednjiZnak)];
+        var izdaja = prehod & ~(ZACNI | 0xF);
+        if (izdaja != 0) {
+            izdaj(izdaja, i);
         }
-        if (this.source.length() > 0) {
-            handleStanje(' ', symbols); // Pohendlaj še zadnji char
+        if ((prehod & ZACNI) != 0) {
+            zacetek = i;
         }
-        if (!this.zakljucenNiz) {
-            Report.error(new Position(this.vrstica, this.stolpec, this.vrstica, this.stolpec), "NAPAKA: Konstanta string ni zaključena!");
+        stanje = prehod & 0xF;
+    }
+
+    /**
+     * Izda simbol, ki se začne na indeksu `zacetek` in konča pred znakom
+     * na indeksu `i` (oz. z njim pri operatorjih dolžine 2).
+     */
+    private void izdaj(int izdaja, int i) {
+        switch (izdaja) {
+            case IZDAJ_IME:
+                ime(i);
+                break;
+            case IZDAJ_INT:
+                dodaj(TokenType.C_INTEGER, i);
+                break;
+            case IZDAJ_OP:
+                dodaj(OPERATOR_TIP[znak(zacetek)], i);
+                break;
+            case IZDAJ_OP2:
+                dodaj(OPERATOR2_TIP[znak(zacetek)], i + 1);
+                break;
+            case IZDAJ_NIZ:
+            case IZDAJ_PRAZEN_NIZ:
+                // Leksem (brez narekovajev) izračuna `Tokens`.
+                dodaj(TokenType.C_STRING, i);
+                break;
+            default:
+                throw new IllegalStateException("Unknown lexer action!");
         }
+    }
 
-        symbols.add(new Symbol(new Position(this.vrstica, this.stolpec, this.vrstica, this.stolpec + 1), TokenType.EOF, "$"));
+    /**
+     * Izda ključno besedo, logično konstanto ali ime.
+     */
+    private void ime(int konec) {
+        var dolzinaImena = konec - zacetek;
+        if (ASCII_MALE_CRKE) {
+            if (dolzinaImena >= 2 && dolzinaImena <= 7) {
+                var h = zgostitev(znak(zacetek) | 0x20, znak(konec - 2) | 0x20, znak(konec - 1) | 0x20, dolzinaImena);
+                var beseda = KLJUCNE_BESEDE[h];
+                if (beseda != null && jeEnako(beseda, zacetek, dolzinaImena)) {
+                    dodaj(KLJUCNI_TIPI[h], konec);
+                    return;
+                }
+            }
+            var id = znaki != null
+                    ? names.intern(znaki, zacetek, konec)
+                    : names.intern(bajti, zacetek, konec);
+            if (id == NameTable.NONE) {
+                id = names.intern(niz(zacetek, konec));
+            }
+            tokens.add(TokenType.IDENTIFIER, zacetek, konec, id);
+        } else {
+            var leksem = niz(zacetek, konec);
+            var maleCrke = leksem.toLowerCase();
+            var tip = keywordMapping.get(maleCrke);
+            if (tip != null) {
+                dodaj(tip, konec);
+            } else if (maleCrke.equals("true") || maleCrke.equals("false")) {
+                dodaj(TokenType.C_LOGICAL, konec);
+            } else {
+                tokens.add(TokenType.IDENTIFIER, zacetek, konec, names.intern(leksem));
+            }
+        }
+    }
+
+    /**
+     * Primerja (ne glede na velikost črk ASCII) ključno besedo z besedilom v izvorni kodi.
+     */
+    private boolean jeEnako(String beseda, int od, int dolzinaBesede) {
+        if (beseda.length() != dolzinaBesede) {
+            return false;
+        }
+        for (int j = 0; j < dolzinaBesede; j++) {
+            if ((znak(od + j) | 0x20) != beseda.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return znak oz. bajt na podanem indeksu.
+     */
+    private int znak(int i) {
+        return znaki != null ? znaki[i] : bajti.get(i) & 0xFF;
+    }
+
+    /**
+     * @return izvorna koda med podanima indeksoma.
+     */
+    private String niz(int od, int doIndeksa) {
+        if (znaki != null) {
+            return new String(znaki, od, doIndeksa - od);
+        }
+        var kopija = new byte[doIndeksa - od];
+        bajti.get(od, kopija);
+        return new String(kopija, StandardCharsets.UTF_8);
+    }
 
-        return symbols;
+    private void dodaj(TokenType tip, int konec) {
+        tokens.add(tip, zacetek, konec, NameTable.NONE);
     }
 }
@@ -0,0 +1,147 @@
+/**
+ * @Author: turk
+ * @Description: Preslikava odmikov v izvorni kodi v vrstice in stolpce.
+ */
+
+package compiler.lexer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Hrani odmike začetkov vrstic izvorne kode. Stolpec izračunamo iz odmika
+ * tako kot leksikalni analizator: tabulator šteje 4 stolpce, '\r' nobenega,
+ * ostali znaki (v UTF-16) pa po enega. Odmiki za koncem izvorne kode
+ * (npr. konec simbola EOF) štejejo po en stolpec.
+ *
+ * Začetke vrstic in stolpce vsakega `KORAK`-tega odmika izračunamo šele ob
+ * prvi poizvedbi, tako da stolpec poljubnega odmika dobimo z dvojiškim
+ * iskanjem vrstice in največ `KORAK - 1` koraki. Poizvedbe so lahko sočasne.
+ */
+public class LineIndex {
+    /**
+     * Znaki izvorne kode oz. `null`, če je izvorna koda podana z bajti.
+     */
+    private final char[] znaki;
+
+    /**
+     * Bajti izvorne kode (UTF-8) oz. `null`, če je podana z znaki.
+     */
+    private final ByteBuffer bajti;
+
+    private final int dolzina;
+
+    /**
+     * Razdalja med odmiki, za katere hranimo stolpec.
+     */
+    private static final int KORAK = 256;
+
+    /**
+     * Odmiki začetkov vrstic (indeks je številka vrstice - 1) in stolpci
+     * odmikov `k * KORAK` (indeks je `k`) oz. `null`.
+     */
+    private volatile Indeks indeks;
+
+    private record Indeks(int[] zacetki, int[] stolpci) {}
+
+    LineIndex(char[] znaki) {
+        this.znaki = znaki;
+        this.bajti = null;
+        this.dolzina = znaki.length;
+    }
+
+    LineIndex(ByteBuffer bajti) {
+        this.znaki = null;
+        this.bajti = bajti;
+        this.dolzina = bajti.limit();
+    }
+
+    /**
+     * @return vrstica, v kateri je podan odmik.
+     */
+    public int line(int offset) {
+        return vrstica(indeks().zacetki, offset);
+    }
+
+    /**
+     * @return stolpec podanega odmika.
+     */
+    public int column(int offset) {
+        return location(offset).column;
+    }
+
+    /**
+     * @return lokacija podanega odmika.
+     */
+    public Position.Location location(int offset) {
+        var indeks = indeks();
+        var vrstica = vrstica(indeks.zacetki, offset);
+        var k = Math.min(offset, dolzina) / KORAK;
+        int od = k * KORAK;
+        int stolpec = indeks.stolpci[k];
+        if (od < indeks.zacetki[vrstica - 1]) {
+            od = indeks.zacetki[vrstica - 1];
+            stolpec = 1;
+        }
+        for (int i = od; i < offset; i++) {
+            stolpec += sirina(i);
+        }
+        return new Position.Location(vrstica, stolpec);
+    }
+
+    private static int vrstica(int[] zacetki, int offset) {
+        var i = Arrays.binarySearch(zacetki, offset);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    private Indeks indeks() {
+        var indeks = this.indeks;
+        if (indeks == null) {
+            var zacetki = new int[16];
+            var stolpci = new int[dolzina / KORAK + 1];
+            var n = 1;
+            var stolpec = 1;
+            for (int i = 0; i < dolzina; i++) {
+                if (i % KORAK == 0) {
+                    stolpci[i / KORAK] = stolpec;
+                }
+                if ((znaki != null ? znaki[i] : bajti.get(i)) == '\n') {
+                    if (n == zacetki.length) {
+                        zacetki = Arrays.copyOf(zacetki, n * 2);
+                    }
+                    zacetki[n++] = i + 1;
+                    stolpec = 1;
+                } else {
+                    stolpec += sirina(i);
+                }
+            }
+            if (dolzina % KORAK == 0) {
+                stolpci[dolzina / KORAK] = stolpec;
+            }
+            indeks = new Indeks(Arrays.copyOf(zacetki, n), stolpci);
+            this.indeks = indeks;
+        }
+        return indeks;
+    }
+
+    /**
+     * @return število stolpcev, ki jih zasede znak oz. bajt na indeksu.
+     */
+    private int sirina(int i) {
+        if (i >= dolzina) {
+            return 1;
+        }
+        int c = znaki != null ? znaki[i] : bajti.get(i) & 0xFF;
+        if (c == '\t') {
+            return 4;
+        }
+        if (c == '\r') {
+            return 0;
+        }
+        if (znaki == null && c >= 0x80) {
+            // Nadaljevalni bajti ne štejejo, znaki izven BMP so nadomestni par.
+            return c < 0xC0 ? 0 : c >= 0xF0 ? 2 : 1;
+        }
+        return 1;
+    }
+}
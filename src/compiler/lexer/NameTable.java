@@ -0,0 +1,194 @@
+/**
+ * @Author: turk
+ * @Description: Tabela imen (identifikatorjev).
+ */
+
+package compiler.lexer;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import common.Constants;
+
+/**
+ * Vsakemu različnemu imenu dodeli oznako (zaporedno celo število od 0 naprej),
+ * ki jo nosijo simboli in vozlišča AST. Vse pojavitve istega imena si delijo
+ * isto instanco niza.
+ *
+ * Imena funkcij standardne knjižnice imajo v vsaki tabeli enake oznake.
+ */
+public final class NameTable {
+    /**
+     * Oznaka, ki ne pripada nobenemu imenu.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Oznake funkcij standardne knjižnice.
+     */
+    public static final int PRINT_STR = 0;
+    public static final int PRINT_INT = 1;
+    public static final int PRINT_LOG = 2;
+    public static final int RAND_INT  = 3;
+    public static final int SEED      = 4;
+
+    private static final int STD_KNJIZNICA = 5;
+
+    /**
+     * Imena (indeks je oznaka).
+     */
+    private String[] names = new String[64];
+    private int size = 0;
+
+    /**
+     * Zgoščevalna tabela z odprtim naslavljanjem: oznaka + 1 oz. 0 (prazno mesto).
+     */
+    private int[] table = new int[128];
+
+    public NameTable() {
+        intern(Constants.printStringLabel);
+        intern(Constants.printIntLabel);
+        intern(Constants.printLogLabel);
+        intern(Constants.randIntLabel);
+        intern(Constants.seedLabel);
+    }
+
+    /**
+     * @return ali oznaka pripada funkciji standardne knjižnice.
+     */
+    public static boolean isStandardLibrary(int id) {
+        return id >= 0 && id < STD_KNJIZNICA;
+    }
+
+    /**
+     * @return oznaka imena.
+     */
+    public int intern(String name) {
+        requireNonNull(name);
+        var mask = table.length - 1;
+        for (int i = name.hashCode() & mask; ; i = (i + 1) & mask) {
+            var id = table[i] - 1;
+            if (id == NONE) {
+                return add(name, i);
+            }
+            if (names[id].equals(name)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return oznaka imena, zapisanega med indeksoma `from` in `to`.
+     */
+    public int intern(char[] source, int from, int to) {
+        var hash = 0;
+        for (int j = from; j < to; j++) {
+            hash = 31 * hash + source[j];
+        }
+        var mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            var id = table[i] - 1;
+            if (id == NONE) {
+                return add(new String(source, from, to - from), i);
+            }
+            if (equals(names[id], source, from, to)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return oznaka imena, zapisanega z bajti ASCII med indeksoma `from` in `to`,
+     *         oz. `NONE`, če ime vsebuje bajte, ki niso ASCII.
+     */
+    public int intern(ByteBuffer source, int from, int to) {
+        var hash = 0;
+        for (int j = from; j < to; j++) {
+            var b = source.get(j);
+            if (b < 0) {
+                return NONE;
+            }
+            hash = 31 * hash + b;
+        }
+        var mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            var id = table[i] - 1;
+            if (id == NONE) {
+                var bytes = new byte[to - from];
+                source.get(from, bytes);
+                return add(new String(bytes, StandardCharsets.US_ASCII), i);
+            }
+            if (equals(names[id], source, from, to)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @return ime s podano oznako.
+     */
+    public String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * @return število imen.
+     */
+    public int size() {
+        return size;
+    }
+
+    // ---------- pomožne funkcije ----------
+
+    private int add(String name, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        var id = size++;
+        names[id] = name;
+        table[slot] = id + 1;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        var mask = table.length - 1;
+        for (int id = 0; id < size; id++) {
+            var i = names[id].hashCode() & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = id + 1;
+        }
+    }
+
+    private static boolean equals(String name, char[] source, int from, int to) {
+        if (name.length() != to - from) {
+            return false;
+        }
+        for (int j = 0; j < name.length(); j++) {
+            if (name.charAt(j) != source[from + j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(String name, ByteBuffer source, int from, int to) {
+        if (name.length() != to - from) {
+            return false;
+        }
+        for (int j = 0; j < name.length(); j++) {
+            if (name.charAt(j) != source.get(from + j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
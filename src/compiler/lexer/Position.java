@@ -7,58 +7,91 @@ package compiler.lexer;
 
 import static common.RequireNonNull.requireNonNull;
 
+/**
+ * Območje je podano z začetnim in končnim odmikom v izvorni kodi (oba sta
+ * zapisana v enem številu tipa `long`). Vrstico in stolpec izračuna
+ * `LineIndex` izvorne datoteke šele, ko ju potrebujemo.
+ */
 public class Position {
     /**
-     * Začetna lokacija območja.
+     * Začetni (zgornjih 32 bitov) in končni (spodnjih 32 bitov) odmik.
      */
-    public final Location start;
+    private final long odmiki;
 
     /**
-     * Končna lokacija območja.
+     * Začetki vrstic izvorne datoteke oz. `null` pri _ničelnem_ območju.
      */
-    public final Location end;
+    private final LineIndex lines;
 
     /**
      * Ustvari novo območje.
-     * 
-     * @param start Začetna lokacija.
-     * @param end Končna lokacija.
+     *
+     * @param lines Začetki vrstic izvorne datoteke.
+     * @param startOffset Začetni odmik.
+     * @param endOffset Končni odmik (prvi odmik za območjem).
+     */
+    public Position(LineIndex lines, int startOffset, int endOffset) {
+        requireNonNull(lines);
+        this.odmiki = ((long) startOffset << 32) | (endOffset & 0xFFFFFFFFL);
+        this.lines = lines;
+    }
+
+    private Position() {
+        this.odmiki = 0;
+        this.lines = null;
+    }
+
+    /**
+     * Ustvari novo _ničelno_ območje.
+     */
+    public static Position zero() {
+        return new Position();
+    }
+
+    /**
+     * Ustvari območje od začetka območja `start` do konca območja `end`.
      */
-    public Position(Location start, Location end) {
+    public static Position span(Position start, Position end) {
         requireNonNull(start, end);
-        this.start = start;
-        this.end = end;
+        if (start.lines == null) {
+            return end.lines == null ? start : new Position(end.lines, end.startOffset(), end.endOffset());
+        }
+        return new Position(start.lines, start.startOffset(), end.endOffset());
     }
 
     /**
-     * Ustvari novo območje.
-     * 
-     * @param startLine Vrstica začetne lokacije.
-     * @param startCol Stolpec začetne lokacije.
-     * @param endLine Vrstica končne lokacije.
-     * @param endCol Stolpec končne lokacije.
+     * @return začetni odmik.
      */
-    public Position(int startLine, int startCol, int endLine, int endCol) {
-        this(new Location(startLine, startCol), new Location(endLine, endCol));
+    public int startOffset() {
+        return (int) (odmiki >>> 32);
     }
 
     /**
-     * Ustvari novo _ničelno_ območje.
+     * @return končni odmik.
      */
-    public static Position zero() {
-        return new Position(Location.zero(), Location.zero());
+    public int endOffset() {
+        return (int) odmiki;
+    }
+
+    /**
+     * @return začetna lokacija območja.
+     */
+    public Location start() {
+        return lines == null ? Location.zero() : lines.location(startOffset());
     }
 
     /**
-     * Ustvari novo območje, čigar začetna in končna lokacija sta enaki.
+     * @return končna lokacija območja.
      */
-    public static Position fromLocation(Location location) {
-        return new Position(location, location);
+    public Location end() {
+        return lines == null ? Location.zero() : lines.location(endOffset());
     }
 
     @Override
     public String toString() {
-        if (start.toString().equals(end.toString())) {
+        var start = start();
+        var end = end();
+        if (start.equals(end)) {
             return "[" +  start.toString() + "]";
         }
         return "["+start.toString() + "-" + end.toString()+"]";
@@ -67,7 +100,7 @@ public class Position {
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Position other) {
-            return this.start.equals(other.start) && this.end.equals(other.end);
+            return this.start().equals(other.start()) && this.end().equals(other.end());
         }
         return false;
     }
@@ -75,8 +108,8 @@ public class Position {
     @Override
     public int hashCode() {
         var result = 17;
-        result = 31 * result + start.hashCode();
-        result = 31 * result + end.hashCode();
+        result = 31 * result + start().hashCode();
+        result = 31 * result + end().hashCode();
         return result;
     }
 
@@ -96,7 +129,7 @@ public class Position {
 
         /**
          * Ustvari novo lokacijo.
-         * 
+         *
          * @param line Vrstica.
          * @param column Stolpec.
          */
@@ -23,6 +23,11 @@ public class Symbol {
      */
     public final String lexeme;
 
+    /**
+     * Oznaka imena v tabeli imen (`NameTable.NONE`, če simbol ni ime).
+     */
+    public final int nameId;
+
     /**
      * Ustvari nov leksikalni simbol.
      * 
@@ -31,22 +36,23 @@ public class Symbol {
      * @param lexeme Znakovna predstavitev simbola.
      */
     public Symbol(Position position, TokenType tokenType, String lexeme) {
-        requireNonNull(position, tokenType, lexeme);
-        this.position = position;
-        this.tokenType = tokenType;
-        this.lexeme = lexeme;
+        this(position, tokenType, lexeme, NameTable.NONE);
     }
 
     /**
      * Ustvari nov leksikalni simbol.
      * 
-     * @param startLocation Začetna lokacija območja, ki ga simbol zajema v izvorni datoteki.
-     * @param endLocation Končna lokacija območja, ki ga simbol zajema v izvorni datoteki.
+     * @param position Območje, ki ga simbol zajema v izvorni datoteki.
      * @param tokenType Vrsta simbola.
      * @param lexeme Znakovna predstavitev simbola.
+     * @param nameId Oznaka imena v tabeli imen.
      */
-    public Symbol(Position.Location startLocation, Position.Location endLocation, TokenType tokenType, String lexeme) {
-        this(new Position(startLocation, endLocation), tokenType, lexeme);
+    public Symbol(Position position, TokenType tokenType, String lexeme, int nameId) {
+        requireNonNull(position, tokenType, lexeme);
+        this.position = position;
+        this.tokenType = tokenType;
+        this.lexeme = lexeme;
+        this.nameId = nameId;
     }
 
     @Override
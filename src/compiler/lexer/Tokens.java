@@ -0,0 +1,306 @@
+/**
+ * @Author: turk
+ * @Description: Zaporedje leksikalnih simbolov.
+ */
+
+package compiler.lexer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Simbole hranimo v vzporednih tabelah (vrsta, začetni in končni odmik v
+ * izvorni kodi ter oznaka imena). Leksem in območje simbola izračunamo
+ * šele, ko ju potrebujemo; `Symbol` je le pogled na posamezen simbol.
+ */
+public class Tokens {
+    private static final TokenType[] VRSTE = TokenType.values();
+
+    /**
+     * Leksemi operatorjev (indeks je vrsta simbola).
+     */
+    private static final String[] LEKSEM_OPERATORJA = new String[VRSTE.length];
+
+    private static void operator(TokenType tip, String leksem) {
+        LEKSEM_OPERATORJA[tip.ordinal()] = leksem;
+    }
+
+    static {
+        operator(TokenType.OP_ADD, "+");
+        operator(TokenType.OP_SUB, "-");
+        operator(TokenType.OP_MUL, "*");
+        operator(TokenType.OP_DIV, "/");
+        operator(TokenType.OP_MOD, "%");
+        operator(TokenType.OP_AND, "&");
+        operator(TokenType.OP_OR, "|");
+        operator(TokenType.OP_NOT, "!");
+        operator(TokenType.OP_EQ, "==");
+        operator(TokenType.OP_NEQ, "!=");
+        operator(TokenType.OP_LT, "<");
+        operator(TokenType.OP_GT, ">");
+        operator(TokenType.OP_LEQ, "<=");
+        operator(TokenType.OP_GEQ, ">=");
+        operator(TokenType.OP_LPARENT, "(");
+        operator(TokenType.OP_RPARENT, ")");
+        operator(TokenType.OP_LBRACKET, "[");
+        operator(TokenType.OP_RBRACKET, "]");
+        operator(TokenType.OP_LBRACE, "{");
+        operator(TokenType.OP_RBRACE, "}");
+        operator(TokenType.OP_COLON, ":");
+        operator(TokenType.OP_SEMICOLON, ";");
+        operator(TokenType.OP_DOT, ".");
+        operator(TokenType.OP_COMMA, ",");
+        operator(TokenType.OP_ASSIGN, "=");
+        operator(TokenType.EOF, "$");
+    }
+
+    /**
+     * Znaki izvorne kode oz. `null`, če je izvorna koda podana z bajti.
+     */
+    final char[] znaki;
+
+    /**
+     * Bajti izvorne kode (UTF-8) oz. `null`, če je podana z znaki.
+     */
+    final ByteBuffer bajti;
+
+    /**
+     * Tabela imen, v kateri so imena simbolov IDENTIFIER.
+     */
+    public final NameTable names;
+
+    private byte[] types = new byte[64];
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int[] nameIds = new int[64];
+    private int size = 0;
+
+    /**
+     * Začetki vrstic izvorne kode.
+     */
+    public final LineIndex lines;
+
+    Tokens(char[] znaki, NameTable names) {
+        this.znaki = znaki;
+        this.bajti = null;
+        this.names = names;
+        this.lines = new LineIndex(znaki);
+    }
+
+    Tokens(ByteBuffer bajti, NameTable names) {
+        this.znaki = null;
+        this.bajti = bajti;
+        this.names = names;
+        this.lines = new LineIndex(bajti);
+    }
+
+    /**
+     * Doda simbol, ki v izvorni kodi obsega odmike od `start` do `end` (brez).
+     */
+    void add(TokenType type, int start, int end, int nameId) {
+        if (size == types.length) {
+            var kapaciteta = size * 2;
+            types = Arrays.copyOf(types, kapaciteta);
+            starts = Arrays.copyOf(starts, kapaciteta);
+            ends = Arrays.copyOf(ends, kapaciteta);
+            nameIds = Arrays.copyOf(nameIds, kapaciteta);
+        }
+        types[size] = (byte) type.ordinal();
+        starts[size] = start;
+        ends[size] = end;
+        nameIds[size] = nameId;
+        size++;
+    }
+
+    /**
+     * Doda vse simbole iz `other`; oznake imen preslika s tabelo `nameIds`.
+     */
+    void addAll(Tokens other, int[] nameIds) {
+        var n = size + other.size;
+        if (n > types.length) {
+            var kapaciteta = Math.max(n, types.length * 2);
+            types = Arrays.copyOf(types, kapaciteta);
+            starts = Arrays.copyOf(starts, kapaciteta);
+            ends = Arrays.copyOf(ends, kapaciteta);
+            this.nameIds = Arrays.copyOf(this.nameIds, kapaciteta);
+        }
+        System.arraycopy(other.types, 0, types, size, other.size);
+        System.arraycopy(other.starts, 0, starts, size, other.size);
+        System.arraycopy(other.ends, 0, ends, size, other.size);
+        for (int i = 0; i < other.size; i++) {
+            var id = other.nameIds[i];
+            this.nameIds[size + i] = id == NameTable.NONE ? id : nameIds[id];
+        }
+        size = n;
+    }
+
+    /**
+     * Doda simbole iz `other` z indeksi od `from` do `to` (brez), ki imajo
+     * isto tabelo imen; odmike simbolov premakne za `shift`.
+     */
+    void addRange(Tokens other, int from, int to, int shift) {
+        var n = size + to - from;
+        if (n > types.length) {
+            var kapaciteta = Math.max(n, types.length * 2);
+            types = Arrays.copyOf(types, kapaciteta);
+            starts = Arrays.copyOf(starts, kapaciteta);
+            ends = Arrays.copyOf(ends, kapaciteta);
+            nameIds = Arrays.copyOf(nameIds, kapaciteta);
+        }
+        System.arraycopy(other.types, from, types, size, to - from);
+        System.arraycopy(other.starts, from, starts, size, to - from);
+        System.arraycopy(other.ends, from, ends, size, to - from);
+        System.arraycopy(other.nameIds, from, nameIds, size, to - from);
+        if (shift != 0) {
+            for (int i = size; i < n; i++) {
+                starts[i] += shift;
+                ends[i] += shift;
+            }
+        }
+        size = n;
+    }
+
+    /**
+     * Odstrani simbole od indeksa `size` naprej.
+     */
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return indeks simbola, ki se začne na odmiku `offset`, oz. -1.
+     */
+    int indexOfStart(int offset) {
+        var i = Arrays.binarySearch(starts, 0, size, offset);
+        return i >= 0 ? i : -1;
+    }
+
+    /**
+     * @return število simbolov, ki se končajo pred odmikom `offset`.
+     */
+    int countEndingBefore(int offset) {
+        var i = Arrays.binarySearch(ends, 0, size, offset);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /**
+     * @return število simbolov.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return vrsta simbola.
+     */
+    public TokenType type(int i) {
+        return VRSTE[types[indeks(i)]];
+    }
+
+    /**
+     * @return začetni odmik simbola v izvorni kodi.
+     */
+    public int start(int i) {
+        return starts[indeks(i)];
+    }
+
+    /**
+     * @return končni odmik simbola v izvorni kodi (prvi odmik za simbolom;
+     *         simbol EOF sega en znak čez konec izvorne kode).
+     */
+    public int end(int i) {
+        return ends[indeks(i)];
+    }
+
+    /**
+     * @return oznaka imena oz. `NameTable.NONE`, če simbol ni ime.
+     */
+    public int nameId(int i) {
+        return nameIds[indeks(i)];
+    }
+
+    /**
+     * @return znakovna predstavitev simbola.
+     */
+    public String lexeme(int i) {
+        var tip = type(i);
+        var od = starts[i];
+        var doOdmika = ends[i];
+        switch (tip) {
+            case IDENTIFIER:
+                return names.name(nameIds[i]);
+            case C_LOGICAL:
+                return (znak(od) | 0x20) == 't' ? "true" : "false";
+            case C_STRING:
+                // Niz brez narekovajev; podvojen narekovaj je ubežna sekvenca,
+                // narekovaj takoj za začetnim pa pomeni prazen niz.
+                if (znak(od + 1) == '\'') {
+                    return "";
+                }
+                var leksem = niz(od + 1, doOdmika - 1);
+                return leksem.indexOf('\'') >= 0 ? leksem.replace("''", "'") : leksem;
+            default:
+                var operator = LEKSEM_OPERATORJA[tip.ordinal()];
+                return operator != null ? operator : niz(od, doOdmika);
+        }
+    }
+
+    /**
+     * @return območje simbola v izvorni kodi.
+     */
+    public Position position(int i) {
+        return new Position(lines, start(i), ends[i]);
+    }
+
+    /**
+     * @return simbol na podanem indeksu.
+     */
+    public Symbol symbol(int i) {
+        return new Symbol(position(i), type(i), lexeme(i), nameIds[i]);
+    }
+
+    /**
+     * @return seznam simbolov, ki simbole ustvarja ob dostopu.
+     */
+    public List<Symbol> symbols() {
+        return new Pogled();
+    }
+
+    // ---------- pomožne funkcije ----------
+
+    private int indeks(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return i;
+    }
+
+    private int znak(int i) {
+        return znaki != null ? znaki[i] : bajti.get(i) & 0xFF;
+    }
+
+    private String niz(int od, int doOdmika) {
+        if (znaki != null) {
+            return new String(znaki, od, doOdmika - od);
+        }
+        var kopija = new byte[doOdmika - od];
+        bajti.get(od, kopija);
+        return new String(kopija, StandardCharsets.UTF_8);
+    }
+
+    private class Pogled extends AbstractList<Symbol> implements RandomAccess {
+        @Override
+        public Symbol get(int index) {
+            return symbol(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -10,13 +10,21 @@ import static common.RequireNonNull.requireNonNull;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import common.Report;
+import compiler.lexer.Lexer;
+import compiler.lexer.NameTable;
 import compiler.lexer.Position;
 import compiler.lexer.Symbol;
 import compiler.lexer.TokenType;
+import compiler.lexer.Tokens;
 import compiler.parser.ast.Ast;
 import compiler.parser.ast.def.*;
 import compiler.parser.ast.expr.*;
@@ -27,9 +35,21 @@ import compiler.parser.ast.type.Array;
 
 public class Parser {
     /**
-     * Seznam leksikalnih simbolov.
+     * Vir leksikalnih simbolov. Po zadnjem simbolu vrača EOF.
      */
-    private final List<Symbol> symbols;
+    private final Supplier<Symbol> symbols;
+
+    /**
+     * Krožni medpomnilnik prebranih simbolov: hrani trenutni simbol,
+     * simbol pred njim in simbole, ki smo jih že pogledali vnaprej.
+     */
+    private static final int VELIKOST_OKNA = 4;
+    private final Symbol[] okno = new Symbol[VELIKOST_OKNA];
+
+    /**
+     * Število simbolov, ki smo jih prebrali iz vira.
+     */
+    private int prebrano = 0;
     private int pozicijaSimbola = 0;
 
     /**
@@ -38,10 +58,105 @@ public class Parser {
      */
     private final Optional<PrintStream> productionsOutputStream;
 
+    /**
+     * Simboli, ki jih lahko razčlenimo vzporedno oz. jih preskočimo, oz.
+     * `null`.
+     */
+    private final Tokens tokens;
+
+    /**
+     * Indeks simbola v `tokens`, ki ga vir vrača po zadnjem simbolu (EOF oz.
+     * simbol za koncem dela), in indeks naslednjega simbola, ki ga preberemo.
+     */
+    private final int meja;
+    private int naslednji;
+
+    /**
+     * Kaj razčlenjujemo.
+     */
+    private static enum Vrsta {
+        IZVORNA_KODA, // celotno izvorno kodo
+        DEL,          // del izvorne kode pri vzporedni analizi
+        JEDRO         // leno razčlenjeno jedro funkcije
+    }
+
+    private final Vrsta vrsta;
+
+    /**
+     * Ali jedra funkcij razčlenimo šele, ko jih potrebujemo.
+     */
+    private final boolean lenaJedra;
+
+    /**
+     * Jedra funkcij, ki jih je odložil ta razčlenjevalnik in jih
+     * `parseBodies` še ni razčlenil.
+     */
+    private final List<LazyExpr> odlozenaJedra = new ArrayList<>();
+
     public Parser(List<Symbol> symbols, Optional<PrintStream> productionsOutputStream) {
         requireNonNull(symbols, productionsOutputStream);
-        this.symbols = symbols;
+        var iterator = symbols.iterator();
+        var eof = symbols.get(symbols.size() - 1);
+        this.symbols = () -> iterator.hasNext() ? iterator.next() : eof;
+        this.productionsOutputStream = productionsOutputStream;
+        this.tokens = null;
+        this.meja = -1;
+        this.vrsta = Vrsta.IZVORNA_KODA;
+        this.lenaJedra = false;
+    }
+
+    /**
+     * Ustvari sintaksni analizator, ki simbole od leksikalnega
+     * analizatorja zahteva sproti.
+     */
+    public Parser(Lexer lexer, Optional<PrintStream> productionsOutputStream) {
+        requireNonNull(lexer, productionsOutputStream);
+        this.symbols = lexer::nextSymbol;
         this.productionsOutputStream = productionsOutputStream;
+        this.tokens = null;
+        this.meja = -1;
+        this.vrsta = Vrsta.IZVORNA_KODA;
+        this.lenaJedra = false;
+    }
+
+    /**
+     * Ustvari sintaksni analizator za simbole `tokens` (zadnji je EOF), ki
+     * jih lahko razčleni tudi vzporedno (`parseParallel`).
+     */
+    public Parser(Tokens tokens, Optional<PrintStream> productionsOutputStream) {
+        this(tokens, productionsOutputStream, false);
+    }
+
+    /**
+     * Ustvari sintaksni analizator za simbole `tokens` (zadnji je EOF).
+     *
+     * @param lazyBodies Ali jedra funkcij razčlenimo šele, ko jih potrebujemo
+     *                   (glej `LazyExpr` in `parseBodies`). Če izpisujemo
+     *                   produkcije, jedra razčlenimo takoj.
+     */
+    public Parser(Tokens tokens, Optional<PrintStream> productionsOutputStream, boolean lazyBodies) {
+        this(tokens, 0, tokens.size() - 1, productionsOutputStream, Vrsta.IZVORNA_KODA,
+                lazyBodies && productionsOutputStream.isEmpty());
+    }
+
+    /**
+     * Ustvari razčlenjevalnik simbolov od indeksa `od` do indeksa `meja` (brez
+     * njega). Po zadnjem simbolu vrača simbol na indeksu `meja`.
+     */
+    private Parser(Tokens tokens, int od, int meja, Optional<PrintStream> productionsOutputStream,
+            Vrsta vrsta, boolean lenaJedra) {
+        requireNonNull(tokens, productionsOutputStream);
+        this.symbols = this::naslednjiSimbol;
+        this.productionsOutputStream = productionsOutputStream;
+        this.tokens = tokens;
+        this.meja = meja;
+        this.naslednji = od;
+        this.vrsta = vrsta;
+        this.lenaJedra = lenaJedra;
+    }
+
+    private Symbol naslednjiSimbol() {
+        return tokens.symbol(Math.min(naslednji++, meja));
     }
 
     private TokenType check() {
@@ -49,14 +164,353 @@ public class Parser {
     }
 
     private Symbol getSymbol() {
-        return this.symbols.get(this.pozicijaSimbola);
+        return symbol(0);
+    }
+
+    /**
+     * @return prejšnji simbol.
+     */
+    private Symbol previousSymbol() {
+        return symbol(-1);
+    }
+
+    /**
+     * @param odmik odmik od trenutnega simbola (od -1 do `VELIKOST_OKNA - 2`).
+     */
+    private Symbol symbol(int odmik) {
+        var pozicija = this.pozicijaSimbola + odmik;
+        while (prebrano <= pozicija) {
+            okno[prebrano % VELIKOST_OKNA] = symbols.get();
+            prebrano++;
+        }
+        return okno[pozicija % VELIKOST_OKNA];
     }
 
     private void skip() {
-        if (this.pozicijaSimbola < (this.symbols.size() - 1))
+        if (check() != EOF)
             this.pozicijaSimbola++;
     }
 
+    /**
+     * @return indeks trenutnega simbola v `tokens`.
+     */
+    private int indeks() {
+        getSymbol();
+        return Math.min(naslednji - (prebrano - pozicijaSimbola), meja);
+    }
+
+    /**
+     * Preskoči simbole do simbola na indeksu `konec` v `tokens` (za trenutnim
+     * simbolom).
+     */
+    private void preskociDo(int konec) {
+        naslednji = konec - 1;
+        pozicijaSimbola = prebrano + 1;
+    }
+
+    // ---------- vzporedna analiza ----------
+
+    /**
+     * Najmanjše število simbolov dela pri vzporedni analizi.
+     */
+    private static final int NAJMANJSI_DEL = 1 << 14;
+
+    /**
+     * Definicije, ki jih je razčlenil razčlenjevalnik dela, oz. `null`, če
+     * del ni sintaktično pravilen.
+     */
+    private List<Def> definicije;
+
+    /**
+     * Izjema, s katero razčlenjevalnik dela prekine analizo ob napaki (ki jo
+     * nato sporoči zaporedna analiza).
+     */
+    private static class Prekinitev extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Prekinitev() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Prekinitev PREKINITEV = new Prekinitev();
+
+    /**
+     * Poišče ';' med definicijami na najvišjem nivoju, ki razdelijo simbole na
+     * dele z vsaj `velikost` simboli (razen zadnjega).
+     *
+     * @return indeksi ločil, pred prvim delom -1 in za zadnjim indeks EOF;
+     *         le [-1, EOF], če oklepaji niso uravnoteženi.
+     */
+    private List<Integer> razdeli(int velikost) {
+        var n = tokens.size() - 1;
+        var meje = new ArrayList<Integer>();
+        meje.add(-1);
+        var globina = 0;
+        for (int i = 0; i < n; i++) {
+            switch (tokens.type(i)) {
+                case OP_LPARENT:
+                case OP_LBRACKET:
+                case OP_LBRACE:
+                    globina++;
+                    break;
+                case OP_RPARENT:
+                case OP_RBRACKET:
+                case OP_RBRACE:
+                    if (--globina < 0) {
+                        return List.of(-1, n);
+                    }
+                    break;
+                case OP_SEMICOLON:
+                    if (globina == 0 && i - meje.get(meje.size() - 1) > velikost) {
+                        meje.add(i);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (globina != 0) {
+            return List.of(-1, n);
+        }
+        meje.add(n);
+        return meje;
+    }
+
+    /**
+     * Razčleni definicije dela, ločene z ';', in jih shrani v `definicije`.
+     */
+    private void razcleniDel() {
+        try {
+            var definitions = new ArrayList<Def>();
+            definitions.add(parseDef());
+            while (check() == OP_SEMICOLON && indeks() < meja) {
+                skip();
+                definitions.add(parseDef());
+            }
+            if (indeks() == meja) {
+                definicije = definitions;
+            }
+        } catch (Prekinitev __) {
+            // Napako sporoči zaporedna analiza.
+        }
+    }
+
+    // ---------- leno razčlenjevanje jeder funkcij ----------
+
+    /**
+     * Najmanjše število simbolov jedra, ki ga razčlenimo leno (krajša jedra
+     * razčlenimo hitreje, kot ustvarimo `LazyExpr`).
+     */
+    private static final int NAJMANJSE_JEDRO = 16;
+
+    /**
+     * Razčleni jedro funkcije. Če jedra odlagamo, poišče le konec jedra (';'
+     * oz. '}', ki zapre blok `where`, zunaj oklepajev jedra oz. konec izvorne
+     * kode) in vrne `LazyExpr`, ki simbole do tam razčleni ob prvem obisku
+     * oz. v `parseBodies`. Kratka jedra in jedra z neuravnoteženimi oklepaji
+     * razčleni takoj (napako v slednjih sporoči že sintaksna analiza).
+     */
+    private Expr parseFunBody() {
+        if (!lenaJedra) {
+            return parseExpr();
+        }
+        var od = indeks();
+        var konec = konecJedra(od);
+        if (konec - od < NAJMANJSE_JEDRO) {
+            return parseExpr();
+        }
+        var position = Position.span(tokens.position(od), tokens.position(konec - 1));
+        var body = new LazyExpr(position,
+                () -> new Parser(tokens, od, konec, Optional.empty(), Vrsta.JEDRO, false).razcleniJedro());
+        odlozenaJedra.add(body);
+        preskociDo(konec);
+        return body;
+    }
+
+    /**
+     * @return indeks simbola za jedrom funkcije, ki se začne na indeksu `od`,
+     *         oz. -1, če oklepaji jedra niso uravnoteženi.
+     */
+    private int konecJedra(int od) {
+        var globina = 0;
+        for (int i = od; i < meja; i++) {
+            switch (tokens.type(i)) {
+                case OP_LPARENT:
+                case OP_LBRACKET:
+                case OP_LBRACE:
+                    globina++;
+                    break;
+                case OP_RPARENT:
+                case OP_RBRACKET:
+                    if (--globina < 0) {
+                        return -1;
+                    }
+                    break;
+                case OP_RBRACE:
+                    if (--globina < 0) {
+                        return odprtiWhere > 0 ? i : -1;
+                    }
+                    break;
+                case OP_SEMICOLON:
+                    if (globina == 0) {
+                        return i;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return globina == 0 ? meja : -1;
+    }
+
+    /**
+     * Razčleni jedro funkcije (vse simbole do meje). Ob prvi napaki vrže
+     * `NapakaJedra`, saj se za koncem jedra ne more sinhronizirati.
+     */
+    private Expr razcleniJedro() {
+        var body = parseExpr();
+        if (indeks() < meja) {
+            throw napaka("Manjka ';' med ločnicami definicij ali '}' na koncu!");
+        }
+        return body;
+    }
+
+    /**
+     * Sintaksna napaka v odloženem jedru funkcije. Sporoči jo `parseBodies`,
+     * ko so razčlenjena vsa jedra, tako da so napake izpisane v vrstnem redu
+     * izvorne kode.
+     */
+    private static class NapakaJedra extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final transient Position position;
+
+        NapakaJedra(Position position, String message) {
+            super(message, null, false, false);
+            this.position = position;
+        }
+    }
+
+    /**
+     * Razčleni odložena jedra funkcij (v skupnem bazenu niti), preden drevo
+     * potrebujejo naslednje faze. Prvo napako vsakega jedra sporoči z
+     * `Report.recoverableError`, v vrstnem redu izvorne kode.
+     */
+    public void parseBodies() {
+        var jedra = odlozenaJedra;
+        var napake = new NapakaJedra[jedra.size()];
+        if (!jedra.isEmpty()) {
+            ForkJoinPool.commonPool().submit(() -> IntStream.range(0, jedra.size()).parallel().forEach(i -> {
+                try {
+                    jedra.get(i).expr();
+                } catch (NapakaJedra napaka) {
+                    napake[i] = napaka;
+                }
+            })).join();
+        }
+        jedra.clear();
+        for (var napaka : napake) {
+            if (napaka != null) {
+                Report.recoverableError(napaka.position, napaka.getMessage());
+            }
+        }
+    }
+
+    // ---------- napake in sinhronizacija ----------
+
+    /**
+     * Izjema, s katero se po napaki vrnemo do najbližje točke sinhronizacije
+     * (razčlenjevanje definicije v `parseDefs`).
+     */
+    private static class Sinhronizacija extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Sinhronizacija() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Sinhronizacija SINHRONIZACIJA = new Sinhronizacija();
+
+    /**
+     * Število napak, ki jih je sporočil ta razčlenjevalnik.
+     */
+    private int napake = 0;
+
+    /**
+     * Število blokov `{ where defs }`, v katerih trenutno razčlenjujemo.
+     */
+    private int odprtiWhere = 0;
+
+    /**
+     * Sporoči napako pri trenutnem simbolu. Če prevajanja ne prekinemo (glej
+     * `Report.setErrorLimit`), vrne izjemo, ki jo vržemo. Razčlenjevalnik dela
+     * izvorne kode napake ne sporoči, ampak prekine analizo; razčlenjevalnik
+     * jedra prekine analizo z napako, ki jo sporoči `parseBodies`.
+     */
+    private Sinhronizacija napaka(String message) {
+        if (vrsta == Vrsta.DEL) {
+            throw PREKINITEV;
+        }
+        if (vrsta == Vrsta.JEDRO) {
+            throw new NapakaJedra(getSymbol().position, message);
+        }
+        napake++;
+        Report.recoverableError(getSymbol().position, message);
+        return SINHRONIZACIJA;
+    }
+
+    /**
+     * Po napaki preskoči simbole do ključne besede definicije, do ';', ki ni
+     * znotraj oklepajev, odprtih po napaki, do '}', ki zapre trenutni blok
+     * `where`, oz. do konca izvorne kode. Ključna beseda lahko začne le
+     * definicijo, zato se pri njej ustavimo ne glede na (morda neuravnotežene)
+     * oklepaje.
+     */
+    private void sinhroniziraj() {
+        var globina = 0;
+        while (true) {
+            switch (check()) {
+                case EOF:
+                case KW_TYP:
+                case KW_FUN:
+                case KW_VAR:
+                    return;
+                case OP_SEMICOLON:
+                    if (globina == 0) {
+                        return;
+                    }
+                    break;
+                case OP_LPARENT:
+                case OP_LBRACKET:
+                case OP_LBRACE:
+                    globina++;
+                    break;
+                case OP_RPARENT:
+                case OP_RBRACKET:
+                    if (globina > 0) {
+                        globina--;
+                    }
+                    break;
+                case OP_RBRACE:
+                    if (globina > 0) {
+                        globina--;
+                    } else if (odprtiWhere > 0) {
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            skip();
+        }
+    }
+
+    private static boolean jeDefinicija(TokenType tip) {
+        return tip == KW_TYP || tip == KW_FUN || tip == KW_VAR;
+    }
+
     /**
      * Izvedi sintaksno analizo.
      */
@@ -65,6 +519,64 @@ public class Parser {
         return ast;
     }
 
+    /**
+     * Izvedi sintaksno analizo vzporedno (v skupnem bazenu niti).
+     */
+    public Ast parseParallel() {
+        return parseParallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Izvedi sintaksno analizo vzporedno.
+     *
+     * Definicije na najvišjem nivoju so ločene z ';', ki ni znotraj oklepajev.
+     * Simbole pri teh ';' razdelimo na dele z zaporednimi definicijami in vsak
+     * del razčlenimo s svojim razčlenjevalnikom. Drevo je enako kot pri
+     * `parse`. Če izpisujemo produkcije ali če kateri od delov ni sintaktično
+     * pravilen, simbole razčlenimo zaporedno, tako da sta izpis in sporočilo
+     * o napaki enaka kot pri `parse`.
+     *
+     * @param pool Bazen niti, v katerem razčlenjujemo dele.
+     */
+    public Ast parseParallel(ForkJoinPool pool) {
+        requireNonNull(pool);
+        if (tokens == null) {
+            throw new IllegalStateException("Parallel parsing requires tokens!");
+        }
+        if (prebrano != 0) {
+            throw new IllegalStateException("Syntax analysis has already started!");
+        }
+        var n = tokens.size() - 1; // brez EOF
+        var velikost = Math.max(NAJMANJSI_DEL, n / (pool.getParallelism() * 4 + 1));
+        if (productionsOutputStream.isPresent() || pool.getParallelism() < 2 || n < 2 * velikost) {
+            return parse();
+        }
+        var meje = razdeli(velikost);
+        if (meje.size() < 3) {
+            return parse();
+        }
+        var deli = new ArrayList<Parser>();
+        for (int k = 0; k + 1 < meje.size(); k++) {
+            deli.add(new Parser(tokens, meje.get(k) + 1, meje.get(k + 1), Optional.empty(),
+                    Vrsta.DEL, lenaJedra));
+        }
+        pool.submit(() -> ForkJoinTask.invokeAll(deli.stream()
+                .map(del -> ForkJoinTask.adapt(del::razcleniDel))
+                .toList())).join();
+
+        var definitions = new ArrayList<Def>();
+        for (var del : deli) {
+            if (del.definicije == null) {
+                return parse();
+            }
+            definitions.addAll(del.definicije);
+        }
+        for (var del : deli) {
+            odlozenaJedra.addAll(del.odlozenaJedra);
+        }
+        return new Defs(Position.span(tokens.position(0), tokens.position(n - 1)), definitions);
+    }
+
     private Ast parseSource() {
         dump("source -> defs .");
         var defs = parseDefs();
@@ -75,15 +587,60 @@ public class Parser {
         List<Def> definitions = new ArrayList<Def>();
         dump("defs -> def defs2 .");
 
-        var def = parseDef();
-        definitions.add(def);
+        var start = getSymbol().position;
+        parseDef(definitions);
 
-        var defs = parseDefs2();
-        assert defs != null;
-        definitions.addAll(defs.definitions);
+        // defs2 obdelamo v zanki
+        while (true) {
+            switch (check()) {
+                case OP_SEMICOLON:
+                    dump("defs2 -> ';' def defs2 .");
+                    skip();
+                    parseDef(definitions);
+                    break;
+                case EOF:
+                    dump("defs2 -> .");
+                    // zadnja pozicija ni EOF, ampak simbol prej
+                    var end = previousSymbol().position;
+                    skip();
+                    return new Defs(Position.span(start, end), definitions);
+                case OP_RBRACE:
+                    if (odprtiWhere == 0 && napake > 0) {
+                        // Po napaki je lahko '}' ostanek nedokončanega bloka.
+                        skip();
+                        break;
+                    }
+                    dump("defs2 -> .");
+                    // Defs se zaključi s simbolom prej, ne z '}'
+                    return new Defs(Position.span(start, previousSymbol().position), definitions);
+                default:
+                    napaka("Manjka ';' med ločnicami definicij ali '}' na koncu!");
+                    sinhroniziraj();
+                    if (jeDefinicija(check())) {
+                        parseDef(definitions);
+                    }
+                    break;
+            }
+        }
+    }
 
-        assert def != null;
-        return new Defs(new Position(def.position.start, defs.position.end), definitions);
+    /**
+     * Razčleni definicijo in jo doda v seznam. Po napaki definicije ne doda,
+     * ampak preskoči simbole do točke sinhronizacije; če se ustavi pri
+     * ključni besedi, nadaljuje z naslednjo definicijo.
+     */
+    private void parseDef(List<Def> definitions) {
+        while (true) {
+            try {
+                definitions.add(parseDef());
+                return;
+            } catch (Sinhronizacija __) {
+                sinhroniziraj();
+                if (!jeDefinicija(check())) {
+                    return;
+                }
+            }
+        }
     }
 
     private Def parseDef() {
@@ -98,71 +655,34 @@ public class Parser {
                 dump("def -> var_def .");
                 return parseVarDef();
             default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa definicije!");
-                return null;
+                throw napaka("Nepravilna sintaksa definicije!");
         }
     }
 
-    private Defs parseDefs2() {
-        List<Def> definitions = new ArrayList<Def>();
-        Position.Location start;
-        Position.Location end;
-
-        switch (check()) {
-            case OP_SEMICOLON:
-                dump("defs2 -> ';' def defs2 .");
-                skip();
-                var def = parseDef();
-                definitions.add(def);
-                start = def.position.start;
-                var defs = parseDefs2();
-                assert defs != null;
-                definitions.addAll(defs.definitions);
-                end = defs.position.end;
-                break;
-            case EOF:
-                dump("defs2 -> .");
-                // zadnja pozicija ni EOF, ampak simbol prej
-                start = this.symbols.get(this.symbols.size() - 2).position.start;
-                end = this.symbols.get(this.symbols.size() - 2).position.end;
-                skip();
-                break;
-            case OP_RBRACE:
-                dump("defs2 -> .");
-                // Defs se zaključi s simbolom prej, ne z '}'
-                start = this.symbols.get(this.pozicijaSimbola - 1).position.start;
-                end = this.symbols.get(this.pozicijaSimbola - 1).position.end;
-                break;
-            default:
-                Report.error(getSymbol().position, "Manjka ';' med ločnicami definicij ali '}' na koncu!");
-                return null;
-        }
-
-        return new Defs(new Position(start, end), definitions);
-    }
-
     private TypeDef parseTypeDef() {
         String name = null;
+        int nameId = NameTable.NONE;
         dump("type_def -> typ id ':' type .");
 
         // typ
-        Position.Location start = getSymbol().position.start;
+        Position start = getSymbol().position;
         skip();
 
         if (check() == TokenType.IDENTIFIER) {
             name = getSymbol().lexeme;
+            nameId = getSymbol().nameId;
             skip();
         } else {
-            Report.error(getSymbol().position, "Manjka identifier pri definiciji tipa!");
+            throw napaka("Manjka identifier pri definiciji tipa!");
         }
 
         if (check() == TokenType.OP_COLON)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka ':' pri definiciji tipa!");
+            throw napaka("Manjka ':' pri definiciji tipa!");
 
         var type = parseType();
-        return new TypeDef(new Position(start, type.position.end), name, type);
+        return new TypeDef(Position.span(start, type.position), name, nameId, type);
     }
 
     private Type parseType() {
@@ -171,9 +691,10 @@ public class Parser {
             case IDENTIFIER:
                 dump("type -> id .");
                 String name = getSymbol().lexeme;
+                int nameId = getSymbol().nameId;
                 pos = getSymbol().position;
                 skip();
-                return new TypeName(pos, name);
+                return new TypeName(pos, name, nameId);
             case AT_LOGICAL:
                 dump("type -> logical .");
                 pos = getSymbol().position;
@@ -194,53 +715,54 @@ public class Parser {
                 dump("type -> arr '['int_const']' type .");
 
                 // arr
-                Position.Location start = getSymbol().position.start;
+                Position start = getSymbol().position;
                 skip();
 
                 if (check() == TokenType.OP_LBRACKET)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka '[' pri definiciji arraya!");
+                    throw napaka("Manjka '[' pri definiciji arraya!");
                 if (check() == TokenType.C_INTEGER) {
                     size = Integer.parseInt(getSymbol().lexeme);
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka konstanta integer pri definiciji arraya!");
+                    throw napaka("Manjka konstanta integer pri definiciji arraya!");
                 }
                 if (check() == TokenType.OP_RBRACKET)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka ']' pri definiciji arraya!");
+                    throw napaka("Manjka ']' pri definiciji arraya!");
 
                 var type = parseType();
                 assert type != null;
-                Position.Location end = type.position.end;
+                Position end = type.position;
 
-                return new Array(new Position(start, end), size, type);
+                return new Array(Position.span(start, end), size, type);
             default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa tipa!");
+                throw napaka("Nepravilna sintaksa tipa!");
         }
-        return null;
     }
 
     private FunDef parseFunDef() {
         String name = null;
+        int nameId = NameTable.NONE;
         dump("fun_def -> fun id '('params')' ':' type '=' expr .");
 
         // fun
-        Position.Location start = getSymbol().position.start;
+        Position start = getSymbol().position;
         skip();
 
         if (check() == TokenType.IDENTIFIER) {
             name = getSymbol().lexeme;
+            nameId = getSymbol().nameId;
             skip();
         } else {
-            Report.error(getSymbol().position, "Manjka identifier pri definiciji tipa!");
+            throw napaka("Manjka identifier pri definiciji tipa!");
         }
         if (check() == TokenType.OP_LPARENT)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka '(' pri definiciji funkcije za parametre!");
+            throw napaka("Manjka '(' pri definiciji funkcije za parametre!");
 
         var params = parseParams();
 
@@ -249,19 +771,19 @@ public class Parser {
         if (check() == TokenType.OP_COLON)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka ':' pri definiciji funkcije za določitev tipa!");
+            throw napaka("Manjka ':' pri definiciji funkcije za določitev tipa!");
 
         var type = parseType();
 
         if (check() == TokenType.OP_ASSIGN)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka '=' pri definiciji funkcije!");
+            throw napaka("Manjka '=' pri definiciji funkcije!");
 
-        var body = parseExpr();
+        var body = parseFunBody();
 
         assert body != null;
-        return new FunDef(new Position(start, body.position.end), name, params, type, body);
+        return new FunDef(Position.span(start, body.position), name, nameId, params, type, body);
     }
 
     private List<FunDef.Parameter> parseParams() {
@@ -271,59 +793,52 @@ public class Parser {
         FunDef.Parameter param = parseParam();
         parameters.add(param);
 
-        List<FunDef.Parameter> params2 = parseParams2();
-        parameters.addAll(params2);
-
-        return parameters;
+        // params2 obdelamo v zanki
+        while (true) {
+            switch (check()) {
+                case OP_COMMA:
+                    dump("params2 -> ',' param params2 .");
+                    skip();
+                    parameters.add(parseParam());
+                    break;
+                case OP_RPARENT:
+                    dump("params2 -> .");
+                    skip();
+                    return parameters;
+                default:
+                    throw napaka("Nepravilna definicija parametrov!");
+            }
+        }
     }
 
     private FunDef.Parameter parseParam() {
-        Position.Location start = null;
+        Position start = null;
         String name = null;
+        int nameId = NameTable.NONE;
         dump("param -> id ':' type .");
         if (check() == TokenType.IDENTIFIER) {
-            start = getSymbol().position.start;
+            start = getSymbol().position;
             name = getSymbol().lexeme;
+            nameId = getSymbol().nameId;
             skip();
         } else {
-            Report.error(getSymbol().position, "Manjka identfier pri definiciji parametra!");
+            throw napaka("Manjka identfier pri definiciji parametra!");
         }
 
         if (check() == TokenType.OP_COLON)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka ':' pri definiciji parametra!");
+            throw napaka("Manjka ':' pri definiciji parametra!");
 
         Type type = parseType();
 
         assert type != null;
-        return new FunDef.Parameter(new Position(start, type.position.end), name, type);
-    }
-
-    private List<FunDef.Parameter> parseParams2() {
-        List<FunDef.Parameter> parameters = new ArrayList<>();
-        switch (check()) {
-            case OP_COMMA:
-                dump("params2 -> ',' param params2 .");
-                skip();
-                FunDef.Parameter param = parseParam();
-                parameters.add(param);
-                List<FunDef.Parameter> params = parseParams2();
-                parameters.addAll(params);
-                break;
-            case OP_RPARENT:
-                dump("params2 -> .");
-                skip();
-                break;
-            default:
-                Report.error(getSymbol().position, "Nepravilna definicija parametrov!");
-        }
-        return parameters;
+        return new FunDef.Parameter(Position.span(start, type.position), name, nameId, type);
     }
 
     private Expr parseExpr() {
         dump("expr -> logical_ior_expr expr2 .");
-        var ior = parseLogicalIorExpr();
+        var ior = parseBinaryExpr(LOGICAL_IOR);
         var expr2 = parseExpr2(ior);
 
         if (expr2 == null)
@@ -333,7 +848,7 @@ public class Parser {
     }
 
     private Where parseExpr2(Expr ior) {
-        Position.Location end;
+        Position end;
         switch (check()) {
             case OP_LBRACE:
                 dump("expr2 -> '{' WHERE defs '}' .");
@@ -341,19 +856,20 @@ public class Parser {
                 if (check() == TokenType.KW_WHERE)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka WHERE v expressionu!");
+                    throw napaka("Manjka WHERE v expressionu!");
 
+                odprtiWhere++;
                 var defs = parseDefs();
+                odprtiWhere--;
 
                 // RBRACE v defs2 (defs -> def defs2), ne skipamo v defs2, ampak tu
                 if (check() == TokenType.OP_RBRACE) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
-                    return new Where(new Position(ior.position.start, end), ior, defs);
+                    return new Where(Position.span(ior.position, end), ior, defs);
                 } else {
-                    Report.error(getSymbol().position, "Manjka '}' v expressionu!");
+                    throw napaka("Manjka '}' v expressionu!");
                 }
-                break;
             case OP_SEMICOLON:
             case OP_COLON:
             case OP_RBRACKET:
@@ -367,321 +883,205 @@ public class Parser {
                 dump("expr2 -> .");
                 return null;
             default:
-                Report.error(getSymbol().position, "Nepričakovan znak v expressionu!");
+                throw napaka("Nepričakovan znak v expressionu!");
         }
-        return null;
     }
 
-    private Expr parseLogicalIorExpr() {
-        dump("logical_ior_expr -> logical_and_expr logical_ior_expr2 .");
-        var andExpr = parseLogicalAndExpr();
-        return parseLogicalIorExpr2(andExpr);
-    }
+    // ---------- binarni in predponski operatorji ----------
 
-    private Expr parseLogicalIorExpr2(Expr andExprLeft) {
-        switch (check()) {
-            case OP_OR:
-                dump("logical_ior_expr2 -> '|' logical_and_expr logical_ior_expr2 .");
-                skip();
-                var andExprRight = parseLogicalAndExpr();
-                var bin = new Binary(new Position(andExprLeft.position.start, andExprRight.position.end), andExprLeft, Binary.Operator.OR, andExprRight);
-                return parseLogicalIorExpr2(bin);
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("logical_ior_expr2 -> .");
-                return andExprLeft;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v logical ior expressionu!");
-        }
-        return null;
-    }
-
-    private Expr parseLogicalAndExpr() {
-        dump("logical_and_expr -> compare_expr logical_and_expr2 .");
-        var compareExpr = parseCompareExpr();
-        return parseLogicalAndExpr2(compareExpr);
-    }
+    /**
+     * Nivoji prednosti binarnih operatorjev (od najnižje do najvišje); nivo
+     * `PREDPONA` je predponski izraz.
+     */
+    private static final int LOGICAL_IOR = 0;
+    private static final int LOGICAL_AND = 1;
+    private static final int COMPARE = 2;
+    private static final int ADD = 3;
+    private static final int MUL = 4;
+    private static final int PREDPONA = 5;
 
-    private Expr parseLogicalAndExpr2(Expr compareExprLeft) {
-        switch (check()) {
-            case OP_AND:
-                dump("logical_and_expr2 -> '&' compare_expr logical_and_expr2 .");
-                skip();
+    /**
+     * Produkcije `X -> Y X2 .`, `X2 -> op Y X2 .` (brez operatorja) in
+     * `X2 -> .` posameznih nivojev.
+     */
+    private static final String[] ZACETEK = {
+        "logical_ior_expr -> logical_and_expr logical_ior_expr2 .",
+        "logical_and_expr -> compare_expr logical_and_expr2 .",
+        "compare_expr -> add_expr compare_expr2 .",
+        "add_expr -> mul_expr add_expr2 .",
+        "mul_expr -> pre_expr mul_expr2 .",
+    };
+    private static final String[] NADALJEVANJE = {
+        "logical_ior_expr2 -> '%s' logical_and_expr logical_ior_expr2 .",
+        "logical_and_expr2 -> '%s' compare_expr logical_and_expr2 .",
+        "compare_expr2 -> '%s' add_expr .",
+        "add_expr2 -> '%s' mul_expr add_expr2 .",
+        "mul_expr2 -> '%s' pre_expr mul_expr2 .",
+    };
+    private static final String[] KONEC = {
+        "logical_ior_expr2 -> .",
+        "logical_and_expr2 -> .",
+        "compare_expr2 -> .",
+        "add_expr2 -> .",
+        "mul_expr2 -> .",
+    };
+    private static final String[] NAPAKA = {
+        "Nepričakovan znak v logical ior expressionu!",
+        "Nepričakovan znak v logical and expressionu!",
+        "Nepričakovan znak v compare expressionu!",
+        "Nepričakovan znak v additive expressionu!",
+        "Nepričakovan znak v multiplicative expressionu!",
+    };
 
-                // TODO: preveri pozicije
-                var compareExprRight = parseCompareExpr();
-                var bin = new Binary(new Position(compareExprLeft.position.start, compareExprRight.position.end), compareExprLeft, Binary.Operator.AND, compareExprRight);
-                return parseLogicalAndExpr2(bin);
+    /**
+     * Nivo binarnega operatorja oz. -1 (indeks je vrsta simbola).
+     */
+    private static final int[] NIVO = new int[TokenType.values().length];
+    private static final Binary.Operator[] BINARNI = new Binary.Operator[TokenType.values().length];
 
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case OP_OR:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("logical_and_expr2 -> .");
-                return compareExprLeft;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v logical and expressionu!");
-        }
-        return null;
-    }
+    /**
+     * Simboli, ki lahko sledijo binarnemu izrazu (poleg binarnih operatorjev).
+     */
+    private static final boolean[] SLEDI = new boolean[TokenType.values().length];
 
-    private Expr parseCompareExpr() {
-        dump("compare_expr -> add_expr compare_expr2 .");
-        var addExpr = parseAddExpr();
-        return parseCompareExpr2(addExpr);
+    private static void binarni(TokenType tip, int nivo, Binary.Operator operator) {
+        NIVO[tip.ordinal()] = nivo;
+        BINARNI[tip.ordinal()] = operator;
     }
 
-    private Expr parseCompareExpr2(Expr addExprLeft) {
-        Binary.Operator op = null;
-        switch (check()) {
-            case OP_EQ:
-            case OP_NEQ:
-            case OP_LEQ:
-            case OP_GEQ:
-            case OP_LT:
-            case OP_GT:
-                dump("compare_expr2 -> '" + getSymbol().lexeme + "' add_expr .");
-                switch (check()) {
-                    case OP_EQ -> op = Binary.Operator.EQ;
-                    case OP_NEQ -> op = Binary.Operator.NEQ;
-                    case OP_LEQ -> op = Binary.Operator.LEQ;
-                    case OP_GEQ -> op = Binary.Operator.GEQ;
-                    case OP_LT -> op = Binary.Operator.LT;
-                    case OP_GT -> op = Binary.Operator.GT;
-                }
-                skip();
-
-                var addExprRight = parseAddExpr();
-                return new Binary(new Position(addExprLeft.position.start, addExprRight.position.end), addExprLeft, op, addExprRight);
-
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case OP_OR:
-            case OP_AND:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("compare_expr2 -> .");
-                return addExprLeft;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v compare expressionu!");
+    static {
+        Arrays.fill(NIVO, -1);
+        binarni(OP_OR, LOGICAL_IOR, Binary.Operator.OR);
+        binarni(OP_AND, LOGICAL_AND, Binary.Operator.AND);
+        binarni(OP_EQ, COMPARE, Binary.Operator.EQ);
+        binarni(OP_NEQ, COMPARE, Binary.Operator.NEQ);
+        binarni(OP_LEQ, COMPARE, Binary.Operator.LEQ);
+        binarni(OP_GEQ, COMPARE, Binary.Operator.GEQ);
+        binarni(OP_LT, COMPARE, Binary.Operator.LT);
+        binarni(OP_GT, COMPARE, Binary.Operator.GT);
+        binarni(OP_ADD, ADD, Binary.Operator.ADD);
+        binarni(OP_SUB, ADD, Binary.Operator.SUB);
+        binarni(OP_MUL, MUL, Binary.Operator.MUL);
+        binarni(OP_DIV, MUL, Binary.Operator.DIV);
+        binarni(OP_MOD, MUL, Binary.Operator.MOD);
+        for (var tip : List.of(OP_SEMICOLON, OP_COLON, OP_RBRACKET, OP_RPARENT, OP_ASSIGN,
+                OP_COMMA, OP_LBRACE, OP_RBRACE, KW_THEN, KW_ELSE, EOF)) {
+            SLEDI[tip.ordinal()] = true;
         }
-        return null;
-    }
-
-    private Expr parseAddExpr() {
-        dump("add_expr -> mul_expr add_expr2 .");
-        var mulExpr = parseMulExpr();
-        return parseAddExpr2(mulExpr);
     }
 
-    private Expr parseAddExpr2(Expr mulExprLeft) {
-        Binary.Operator op = null;
-        switch (check()) {
-            case OP_ADD:
-            case OP_SUB:
-                dump("add_expr2 -> '" + getSymbol().lexeme + "' mul_expr add_expr2 .");
-                switch (check()) {
-                    case OP_ADD -> op = Binary.Operator.ADD;
-                    case OP_SUB -> op = Binary.Operator.SUB;
-                }
-                skip();
-                var mulExprRight = parseMulExpr();
-                var bin = new Binary(new Position(mulExprLeft.position.start, mulExprRight.position.end), mulExprLeft, op, mulExprRight);
-                return parseAddExpr2(bin);
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case OP_OR:
-            case OP_AND:
-            case OP_EQ:
-            case OP_NEQ:
-            case OP_LEQ:
-            case OP_GEQ:
-            case OP_LT:
-            case OP_GT:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("add_expr2 -> .");
-                return mulExprLeft;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v additive expressionu!");
+    /**
+     * Razčleni izraz nivoja `najnizji` (npr. `logical_ior_expr`) s plezanjem
+     * po prednosti: operatorje istega nivoja obdelamo v zanki, rekurzivno pa
+     * le desne operande. Zgradi enako drevo in izpiše enake produkcije kot
+     * rekurzivni spust po nivojih.
+     */
+    private Expr parseBinaryExpr(int najnizji) {
+        for (int nivo = najnizji; nivo < PREDPONA; nivo++) {
+            dump(ZACETEK[nivo]);
         }
-        return null;
-    }
-
-    private Expr parseMulExpr() {
-        dump("mul_expr -> pre_expr mul_expr2 .");
-        var preExpr = parsePreExpr();
-        return parseMulExpr2(preExpr);
-    }
-
-    private Expr parseMulExpr2(Expr preExprLeft) {
-        Binary.Operator op = null;
-        switch (check()) {
-            case OP_MUL:
-            case OP_DIV:
-            case OP_MOD:
-                dump("mul_expr2 -> '" + getSymbol().lexeme + "' pre_expr mul_expr2 .");
-                switch (check()) {
-                    case OP_MUL -> op = Binary.Operator.MUL;
-                    case OP_DIV -> op = Binary.Operator.DIV;
-                    case OP_MOD -> op = Binary.Operator.MOD;
+        var left = parsePreExpr();
+        var nivo = PREDPONA - 1;
+        while (true) {
+            var tip = check().ordinal();
+            if (NIVO[tip] == nivo) {
+                if (productionsOutputStream.isPresent()) {
+                    dump(String.format(NADALJEVANJE[nivo], getSymbol().lexeme));
                 }
+                var op = BINARNI[tip];
                 skip();
-                var preExprRight = parsePreExpr();
-                var bin = new Binary(new Position(preExprLeft.position.start, preExprRight.position.end), preExprLeft, op, preExprRight);
-                return parseMulExpr2(bin);
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case OP_OR:
-            case OP_AND:
-            case OP_EQ:
-            case OP_NEQ:
-            case OP_LEQ:
-            case OP_GEQ:
-            case OP_LT:
-            case OP_GT:
-            case OP_ADD:
-            case OP_SUB:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("mul_expr2 -> .");
-                return preExprLeft;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v multiplicative expressionu!");
+                var right = nivo + 1 < PREDPONA ? parseBinaryExpr(nivo + 1) : parsePreExpr();
+                left = new Binary(Position.span(left.position, right.position), left, op, right);
+                // Primerjave niso asociativne.
+                if (nivo == COMPARE && --nivo < najnizji) {
+                    return left;
+                }
+            } else if ((NIVO[tip] >= 0 && NIVO[tip] < nivo) || SLEDI[tip]) {
+                // Zaključimo vse nivoje nad nivojem operatorja.
+                var naslednji = Math.max(NIVO[tip], najnizji - 1);
+                for (; nivo > naslednji; nivo--) {
+                    dump(KONEC[nivo]);
+                }
+                if (nivo < najnizji) {
+                    return left;
+                }
+            } else {
+                throw napaka(NAPAKA[nivo]);
+            }
         }
-        return null;
     }
 
     private Expr parsePreExpr() {
-        switch (check()) {
-            case OP_ADD:
-            case OP_SUB:
-            case OP_NOT:
-                dump("pre_expr -> '" + getSymbol().lexeme + "'pre_expr .");
-                var start = getSymbol().position.start;
-                Unary.Operator op = null;
-                switch (check()) {
-                    case OP_ADD -> op = Unary.Operator.ADD;
-                    case OP_SUB -> op = Unary.Operator.SUB;
-                    case OP_NOT -> op = Unary.Operator.NOT;
-                }
-                skip();
-                var expr = parsePreExpr();
-                assert expr != null;
-                return new Unary(new Position(start, expr.position.end), expr, op);
-            case IDENTIFIER:
-            case OP_LPARENT:
-            case OP_LBRACE:
-            case C_LOGICAL:
-            case C_INTEGER:
-            case C_STRING:
-                dump("pre_expr -> post_expr .");
-                return parsePostExpr();
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v prefix expressionu!");
+        // Predpone preberemo v zanki, izraz pa zgradimo od znotraj navzven.
+        List<Symbol> predpone = null;
+        while (true) {
+            switch (check()) {
+                case OP_ADD:
+                case OP_SUB:
+                case OP_NOT:
+                    if (productionsOutputStream.isPresent()) {
+                        dump("pre_expr -> '" + getSymbol().lexeme + "'pre_expr .");
+                    }
+                    if (predpone == null) {
+                        predpone = new ArrayList<>();
+                    }
+                    predpone.add(getSymbol());
+                    skip();
+                    break;
+                case IDENTIFIER:
+                case OP_LPARENT:
+                case OP_LBRACE:
+                case C_LOGICAL:
+                case C_INTEGER:
+                case C_STRING:
+                    dump("pre_expr -> post_expr .");
+                    var expr = parsePostExpr();
+                    for (int i = predpone == null ? -1 : predpone.size() - 1; i >= 0; i--) {
+                        var predpona = predpone.get(i);
+                        Unary.Operator op = null;
+                        switch (predpona.tokenType) {
+                            case OP_ADD -> op = Unary.Operator.ADD;
+                            case OP_SUB -> op = Unary.Operator.SUB;
+                            case OP_NOT -> op = Unary.Operator.NOT;
+                        }
+                        expr = new Unary(Position.span(predpona.position, expr.position), expr, op);
+                    }
+                    return expr;
+                default:
+                    throw napaka("Nepričakovan znak v prefix expressionu!");
+            }
         }
-        return null;
     }
 
     private Expr parsePostExpr() {
         dump("post_expr -> atom_expr post_expr2 .");
-        var atomExpr = parseAtomExpr();
-        return parsePostExpr2(atomExpr);
-    }
+        var expr = parseAtomExpr();
+        while (check() == TokenType.OP_LBRACKET) {
+            dump("post_expr2 -> '[' expr ']' post_expr2 .");
+            skip();
+            var index = parseExpr();
 
-    private Expr parsePostExpr2(Expr atomExpr) {
-        Position.Location end = null;
-        switch (check()) {
-            case OP_LBRACKET:
-                dump("post_expr2 -> '[' expr ']' post_expr2 .");
+            if (check() == TokenType.OP_RBRACKET) {
+                var end = getSymbol().position;
                 skip();
-                var expr = parseExpr();
-
-                // TODO: preveri
-                if (check() == TokenType.OP_RBRACKET) {
-                    end = getSymbol().position.end;
-                    skip();
-                    var bin = new Binary(new Position(atomExpr.position.start, end), atomExpr, Binary.Operator.ARR, expr);
-                    return parsePostExpr2(bin);
-                } else {
-                    Report.error(getSymbol().position, "Manjka ']' v expressionu!");
-                }
-                break;
-            case OP_SEMICOLON:
-            case OP_COLON:
-            case OP_RBRACKET:
-            case OP_RPARENT:
-            case OP_ASSIGN:
-            case OP_COMMA:
-            case OP_LBRACE:
-            case OP_RBRACE:
-            case OP_OR:
-            case OP_AND:
-            case OP_EQ:
-            case OP_NEQ:
-            case OP_LEQ:
-            case OP_GEQ:
-            case OP_LT:
-            case OP_GT:
-            case OP_ADD:
-            case OP_SUB:
-            case OP_MUL:
-            case OP_DIV:
-            case OP_MOD:
-            case KW_THEN:
-            case KW_ELSE:
-            case EOF:
-                dump("post_expr2 -> .");
-                return atomExpr;
-            default:
-                Report.error(getSymbol().position, "Nepričakovan znak v postfix expressionu!");
+                expr = new Binary(Position.span(expr.position, end), expr, Binary.Operator.ARR, index);
+            } else {
+                throw napaka("Manjka ']' v expressionu!");
+            }
         }
-        return null;
+        var tip = check().ordinal();
+        if (NIVO[tip] < 0 && !SLEDI[tip]) {
+            throw napaka("Nepričakovan znak v postfix expressionu!");
+        }
+        dump("post_expr2 -> .");
+        return expr;
     }
 
     private Expr parseAtomExpr() {
         Position pos;
         String val;
         Atom.Type type;
-        Position.Location start, end = null;
+        Position start, end = null;
         Block exprs;
         switch (check()) {
             case C_LOGICAL:
@@ -709,48 +1109,46 @@ public class Parser {
                 dump("atom_expr -> id atom_expr2 .");
                 pos = getSymbol().position;
                 val = getSymbol().lexeme;
-                var id = new Name(pos, val);
+                var id = new Name(pos, val, getSymbol().nameId);
                 skip();
 
                 return parseAtomExpr2(id);
             case OP_LPARENT:
                 dump("atom_expr -> '(' exprs ')' .");
-                start = getSymbol().position.start;
+                start = getSymbol().position;
                 skip();
                 exprs = parseExprs();
                 if (check() == TokenType.OP_RPARENT) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka ')' v atom expressionu!");
+                    throw napaka("Manjka ')' v atom expressionu!");
                 }
-                return new Block(new Position(start, end), exprs.expressions);
+                return new Block(Position.span(start, end), exprs.expressions);
             case OP_LBRACE:
                 dump("atom_expr -> '{' atom_expr3 .");
                 // '{' skipamo v parseAtomExpr3
                 return parseAtomExpr3();
             default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa atom expressiona!");
+                throw napaka("Nepravilna sintaksa atom expressiona!");
         }
-        return null;
     }
 
     private Expr parseAtomExpr2(Name id) {
-        Position.Location end = null;
+        Position end = null;
         switch (check()) {
             case OP_LPARENT:
                 dump("atom_expr2 -> '(' exprs ')' .");
                 skip();
                 var exprs = parseExprs();
                 if (check() == TokenType.OP_RPARENT) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
-                    return new Call(new Position(id.position.start, end), exprs.expressions, id.name);
+                    return new Call(Position.span(id.position, end), exprs.expressions, id.name, id.nameId);
                 } else {
-                    Report.error(getSymbol().position, "Manjka ')' v atom expressionu!");
+                    throw napaka("Manjka ')' v atom expressionu!");
                 }
                 // TODO: RPARENT pogledamo v parseExprs?
-                break;
             case OP_SEMICOLON:
             case OP_COLON:
             case OP_LBRACKET:
@@ -779,16 +1177,15 @@ public class Parser {
                 dump("atom_expr2 -> .");
                 return id;
             default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa atom expressiona!");
+                throw napaka("Nepravilna sintaksa atom expressiona!");
         }
-        return null;
     }
 
     private Expr parseAtomExpr3() {
-        Position.Location end = null;
+        Position end = null;
         Expr condition, thenExpression, body;
 
-        Position.Location start = getSymbol().position.start;
+        Position start = getSymbol().position;
         skip(); // {
         switch (check()) {
             case KW_IF:
@@ -799,11 +1196,11 @@ public class Parser {
                 if (check() == TokenType.KW_THEN) {
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka 'then' v if stavku!");
+                    throw napaka("Manjka 'then' v if stavku!");
                 }
 
                 thenExpression = parseExpr();
-                var ifExpr = new IfThenElse(new Position(start, thenExpression.position.end), condition, thenExpression);
+                var ifExpr = new IfThenElse(Position.span(start, thenExpression.position), condition, thenExpression);
                 return parseAtomExpr4(ifExpr);
 
 
@@ -815,66 +1212,66 @@ public class Parser {
                 if (check() == TokenType.OP_COLON)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka ':' v while stavku!");
+                    throw napaka("Manjka ':' v while stavku!");
 
                 body = parseExpr();
 
                 if (check() == TokenType.OP_RBRACE) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka '}' v while stavku!");
+                    throw napaka("Manjka '}' v while stavku!");
                 }
 
-                return new While(new Position(start, end), condition, body);
+                return new While(Position.span(start, end), condition, body);
             case KW_FOR:
                 dump("atom_expr3 -> for id '=' expr ',' expr ',' expr ':' expr '}' .");
                 skip(); // for
 
                 Name counter = null;
                 if (check() == TokenType.IDENTIFIER) {
-                    counter = new Name(getSymbol().position, getSymbol().lexeme);
+                    counter = new Name(getSymbol().position, getSymbol().lexeme, getSymbol().nameId);
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka identifier v for stavku!");
+                    throw napaka("Manjka identifier v for stavku!");
                 }
 
                 if (check() == TokenType.OP_ASSIGN)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka '=' v for stavku!");
+                    throw napaka("Manjka '=' v for stavku!");
 
                 var low = parseExpr();
 
                 if (check() == TokenType.OP_COMMA)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka ',' v for stavku!");
+                    throw napaka("Manjka ',' v for stavku!");
 
                 var high = parseExpr();
 
                 if (check() == TokenType.OP_COMMA)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka ',' v for stavku!");
+                    throw napaka("Manjka ',' v for stavku!");
 
                 var step = parseExpr();
 
                 if (check() == TokenType.OP_COLON)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka ':' v for stavku!");
+                    throw napaka("Manjka ':' v for stavku!");
 
                 body = parseExpr();
 
                 if (check() == TokenType.OP_RBRACE) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
                 } else {
-                    Report.error(getSymbol().position, "Manjka '}' v for stavku!");
+                    throw napaka("Manjka '}' v for stavku!");
                 }
 
-                return new For(new Position(start, end), counter, low, high, step, body);
+                return new For(Position.span(start, end), counter, low, high, step, body);
 
             case IDENTIFIER:
             case OP_LPARENT:
@@ -892,22 +1289,20 @@ public class Parser {
                 if (check() == TokenType.OP_ASSIGN)
                     skip();
                 else
-                    Report.error(getSymbol().position, "Manjka '=' v atom expressionu!");
+                    throw napaka("Manjka '=' v atom expressionu!");
 
                 var expr2 = parseExpr();
 
                 if (check() == TokenType.OP_RBRACE) {
-                    end = getSymbol().position.end;
+                    end = getSymbol().position;
                     skip();
-                    return new Binary(new Position(start, end), expr1, Binary.Operator.ASSIGN, expr2);
+                    return new Binary(Position.span(start, end), expr1, Binary.Operator.ASSIGN, expr2);
                 } else {
-                    Report.error(getSymbol().position, "Manjka '}' v atom expressionu!");
+                    throw napaka("Manjka '}' v atom expressionu!");
                 }
-                break;
             default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa atom expressiona!");
+                throw napaka("Nepravilna sintaksa atom expressiona!");
         }
-        return null;
     }
 
     private Expr parseAtomExpr4(IfThenElse atomExpr3) {
@@ -917,7 +1312,7 @@ public class Parser {
                 dump("atom_expr4 -> '}' .");
                 pos = getSymbol().position;
                 skip();
-                return new IfThenElse(new Position(atomExpr3.position.start, pos.end), atomExpr3.condition, atomExpr3.thenExpression);
+                return new IfThenElse(Position.span(atomExpr3.position, pos), atomExpr3.condition, atomExpr3.thenExpression);
             case KW_ELSE:
                 dump("atom_expr4 -> else expr '}' .");
                 skip();
@@ -926,80 +1321,64 @@ public class Parser {
                 if (check() == TokenType.OP_RBRACE) {
                     pos = getSymbol().position;
                     skip();
-                    return new IfThenElse(new Position(atomExpr3.position.start, pos.end), atomExpr3.condition, atomExpr3.thenExpression, elseExpr);
+                    return new IfThenElse(Position.span(atomExpr3.position, pos), atomExpr3.condition, atomExpr3.thenExpression, elseExpr);
                 } else {
-                    Report.error(getSymbol().position, "Manjka '}' v if-then-else stavku!");
+                    throw napaka("Manjka '}' v if-then-else stavku!");
                 }
-                break;
             default:
-                Report.error(getSymbol().position, "Nepravilno zaključen if stavek!");
+                throw napaka("Nepravilno zaključen if stavek!");
         }
-        return null;
     }
 
     private Block parseExprs() {
         List<Expr> expressions = new ArrayList<>();
-        Position.Location start;
 
         dump("exprs -> expr exprs2 .");
         var expr = parseExpr();
         expressions.add(expr);
-        start = expr.position.start;
-        var exprs2 = parseExprs2();
-        expressions.addAll(exprs2.expressions);
-
-        return new Block(new Position(start, exprs2.position.end), expressions);
-    }
 
-    private Block parseExprs2() {
-        List<Expr> expressions = new ArrayList<>();
-        Position.Location start;
-
-        switch (check()) {
-            case OP_COMMA:
-                dump("exprs2 -> ',' expr exprs2 .");
-                skip();
-                var expr = parseExpr();
-                expressions.add(expr);
-                start = expr.position.start;
-                var exprs2 = parseExprs2();
-                assert exprs2 != null;
-                expressions.addAll(exprs2.expressions);
-                return new Block(new Position(start, exprs2.position.end), expressions);
-            case OP_RPARENT:
-                dump("exprs2 -> .");
-                return new Block(getSymbol().position, expressions);
-            default:
-                Report.error(getSymbol().position, "Nepravilna sintaksa definicij!");
-                break;
+        // exprs2 obdelamo v zanki
+        while (true) {
+            switch (check()) {
+                case OP_COMMA:
+                    dump("exprs2 -> ',' expr exprs2 .");
+                    skip();
+                    expressions.add(parseExpr());
+                    break;
+                case OP_RPARENT:
+                    dump("exprs2 -> .");
+                    return new Block(Position.span(expr.position, getSymbol().position), expressions);
+                default:
+                    throw napaka("Nepravilna sintaksa definicij!");
+            }
         }
-        return null;
     }
 
-
     private VarDef parseVarDef() {
         String name = null;
+        int nameId = NameTable.NONE;
         dump("var_def -> var id ':' type .");
 
         // var
-        Position.Location start = getSymbol().position.start;
+        Position start = getSymbol().position;
         skip();
 
         if (check() == TokenType.IDENTIFIER) {
             name = getSymbol().lexeme;
+            nameId = getSymbol().nameId;
             skip();
         } else {
-            Report.error(getSymbol().position, "Manjka identifier pri definiciji spremenljivke!");
+            throw napaka("Manjka identifier pri definiciji spremenljivke!");
         }
 
         if (check() == TokenType.OP_COLON)
             skip();
         else
-            Report.error(getSymbol().position, "Manjka ':' pri definiciji spremenljivke!");
+            throw napaka("Manjka ':' pri definiciji spremenljivke!");
 
         var type = parseType();
         assert type != null;
-        return new VarDef(new Position(start, type.position.end), name, type);
+        return new VarDef(Position.span(start, type.position), name, nameId, type);
     }
 
     /**
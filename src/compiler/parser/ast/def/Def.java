@@ -17,9 +17,15 @@ public abstract class Def extends Ast {
      */
     public final String name;
 
-    public Def(Position position, String name) {
+    /**
+     * Oznaka imena v tabeli imen.
+     */
+    public final int nameId;
+
+    public Def(Position position, String name, int nameId) {
         super(position);
         requireNonNull(name);
         this.name = name;
+        this.nameId = nameId;
     }
 }
@@ -31,8 +31,8 @@ public class FunDef extends Def {
      */
     public final Expr body;
 
-    public FunDef(Position position, String name, List<Parameter> parameters, Type type, Expr body) {
-        super(position, name);
+    public FunDef(Position position, String name, int nameId, List<Parameter> parameters, Type type, Expr body) {
+        super(position, name, nameId);
         requireNonNull(parameters);
         requireNonNull(type);
         requireNonNull(body);
@@ -52,8 +52,8 @@ public class FunDef extends Def {
          */
         public final Type type;
     
-        public Parameter(Position position, String name, Type type) {
-            super(position, name);
+        public Parameter(Position position, String name, int nameId, Type type) {
+            super(position, name, nameId);
             requireNonNull(type);
             this.type = type;
         }
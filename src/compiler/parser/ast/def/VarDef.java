@@ -17,8 +17,8 @@ public class VarDef extends Def {
      */
     public final Type type;
 
-    public VarDef(Position position, String name, Type type) {
-        super(position, name);
+    public VarDef(Position position, String name, int nameId, Type type) {
+        super(position, name, nameId);
         requireNonNull(type);
         this.type = type;
     }
@@ -23,12 +23,18 @@ public class Call extends Expr {
      */
     public final String name;
 
-    public Call(Position position, List<Expr> arguments, String name) {
+    /**
+     * Oznaka imena funkcije v tabeli imen.
+     */
+    public final int nameId;
+
+    public Call(Position position, List<Expr> arguments, String name, int nameId) {
         super(position);
         requireNonNull(arguments);
         requireNonNull(name);
         this.arguments = arguments;
         this.name = name;
+        this.nameId = nameId;
     }
 
 	@Override public void accept(Visitor visitor) { visitor.visit(this); }
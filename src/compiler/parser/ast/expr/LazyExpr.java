@@ -0,0 +1,51 @@
+/**
+ * @Author: turk
+ * @Description: Izraz, ki ga razčlenimo šele, ko ga potrebujemo.
+ */
+
+package compiler.parser.ast.expr;
+
+import static common.RequireNonNull.requireNonNull;
+
+import java.util.function.Supplier;
+
+import compiler.common.Visitor;
+import compiler.lexer.Position;
+
+/**
+ * Jedro funkcije, za katerega je razčlenjevalnik zabeležil le območje
+ * simbolov. Izraz razčleni ob prvem obisku (oz. klicu `expr`) in obiskovalca
+ * preusmeri nanj, tako da obiskovalci tega vozlišča ne vidijo. Prevajalnik
+ * vsa jedra razčleni s `Parser.parseBodies`, preden drevo obišče naslednja
+ * faza, tako da napake v jedrih sporoči na običajen način.
+ */
+public class LazyExpr extends Expr {
+    /**
+     * Razčlenjevalnik izraza oz. `null`, ko je izraz že razčlenjen.
+     */
+    private Supplier<Expr> parser;
+
+    /**
+     * Razčlenjen izraz oz. `null`.
+     */
+    private Expr expr;
+
+    public LazyExpr(Position position, Supplier<Expr> parser) {
+        super(position);
+        requireNonNull(parser);
+        this.parser = parser;
+    }
+
+    /**
+     * @return razčlenjen izraz (ob prvem klicu ga razčleni).
+     */
+    public synchronized Expr expr() {
+        if (expr == null) {
+            expr = parser.get();
+            parser = null;
+        }
+        return expr;
+    }
+
+	@Override public void accept(Visitor visitor) { expr().accept(visitor); }
+}
@@ -16,10 +16,16 @@ public class Name extends Expr {
      */
     public final String name;
 
-    public Name(Position position, String name) {
+    /**
+     * Oznaka imena v tabeli imen.
+     */
+    public final int nameId;
+
+    public Name(Position position, String name, int nameId) {
         super(position);
         requireNonNull(name);
         this.name = name;
+        this.nameId = nameId;
     }
 
 	@Override public void accept(Visitor visitor) { visitor.visit(this); }
@@ -16,10 +16,16 @@ public class TypeName extends Type {
      */
     public final String identifier;
 
-    public TypeName(Position position, String identifier) {
+    /**
+     * Oznaka imena tipa v tabeli imen.
+     */
+    public final int nameId;
+
+    public TypeName(Position position, String identifier, int nameId) {
         super(position);
         requireNonNull(identifier);
         this.identifier = identifier;
+        this.nameId = nameId;
     }
 
 	@Override public void accept(Visitor visitor) { visitor.visit(this); }
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import compiler.parser.ast.Ast;
+import compiler.parser.ast.expr.LazyExpr;
 
 public class NodeDescription<T> {
     private Map<Ast, T> storage = new HashMap<>();
@@ -20,13 +21,21 @@ public class NodeDescription<T> {
      * prisotna.
      */
     public Optional<T> valueFor(Ast node) {
-        return Optional.ofNullable(storage.get(node));
+        return Optional.ofNullable(storage.get(vozlisce(node)));
     }
 
     /**
      * Shrani vrednost za vozlišče.
      */
     public boolean store(T value, Ast forNode) {
-        return storage.put(forNode, value) == null;
+        return storage.put(vozlisce(forNode), value) == null;
+    }
+
+    /**
+     * Leno razčlenjen izraz nadomesti z razčlenjenim izrazom, saj obiskovalci
+     * obiščejo (in opišejo) le tega.
+     */
+    private static Ast vozlisce(Ast node) {
+        return node instanceof LazyExpr lazy ? lazy.expr() : node;
     }
 }
@@ -10,6 +10,7 @@ import static common.RequireNonNull.requireNonNull;
 import common.Constants;
 import common.Report;
 import compiler.common.Visitor;
+import compiler.lexer.NameTable;
 import compiler.lexer.Position;
 import compiler.parser.ast.Ast;
 import compiler.parser.ast.def.*;
@@ -46,37 +47,41 @@ public class NameChecker implements Visitor {
         this.symbolTable = symbolTable;
     }
 
-    static final HashSet<String> STD_KNJIZNICA = new HashSet<>(Arrays.asList(Constants.printStringLabel, Constants.printIntLabel, Constants.printLogLabel, Constants.randIntLabel, Constants.seedLabel));
     static final FunDef PRINT_INT_DEF = new FunDef(
             Position.zero(),
             Constants.printIntLabel,
-            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", Atom.INT(Position.zero())))),
+            NameTable.PRINT_INT,
+            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", NameTable.NONE, Atom.INT(Position.zero())))),
             Atom.INT(Position.zero()),
             new Literal(Position.zero(), "0", Atom.Type.INT));
     static final FunDef PRINT_STR_DEF = new FunDef(
             Position.zero(),
             Constants.printStringLabel,
-            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", Atom.STR(Position.zero())))),
+            NameTable.PRINT_STR,
+            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", NameTable.NONE, Atom.STR(Position.zero())))),
             Atom.STR(Position.zero()),
             new Literal(Position.zero(), "", Atom.Type.STR));
     static final FunDef PRINT_LOG_DEF = new FunDef(
             Position.zero(),
             Constants.printLogLabel,
-            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", Atom.LOG(Position.zero())))),
+            NameTable.PRINT_LOG,
+            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", NameTable.NONE, Atom.LOG(Position.zero())))),
             Atom.LOG(Position.zero()),
             new Literal(Position.zero(), "false", Atom.Type.LOG));
     static final FunDef RAND_INT_DEF = new FunDef(
             Position.zero(),
             Constants.randIntLabel,
+            NameTable.RAND_INT,
             new ArrayList<>(List.of(
-                    new Parameter(Position.zero(), "_", Atom.INT(Position.zero())),
-                    new Parameter(Position.zero(), "__", Atom.INT(Position.zero())))),
+                    new Parameter(Position.zero(), "_", NameTable.NONE, Atom.INT(Position.zero())),
+                    new Parameter(Position.zero(), "__", NameTable.NONE, Atom.INT(Position.zero())))),
             Atom.INT(Position.zero()),
             new Literal(Position.zero(), "0", Atom.Type.INT));
     static final FunDef SEED_DEF = new FunDef(
             Position.zero(),
             Constants.seedLabel,
-            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", Atom.INT(Position.zero())))),
+            NameTable.SEED,
+            new ArrayList<>(List.of(new Parameter(Position.zero(), "_", NameTable.NONE, Atom.INT(Position.zero())))),
             Atom.INT(Position.zero()),
             new Literal(Position.zero(), "0", Atom.Type.INT));
 
@@ -84,21 +89,21 @@ public class NameChecker implements Visitor {
     @Override
     public void visit(Call call) {
         // Preskoči, če del standardne knjižnice. Preverimo v typecheckerju
-        if (STD_KNJIZNICA.contains(call.name)) {
-            switch (call.name) {
-                case Constants.printIntLabel:
+        if (NameTable.isStandardLibrary(call.nameId)) {
+            switch (call.nameId) {
+                case NameTable.PRINT_INT:
                     definitions.store(PRINT_INT_DEF, call);
                     break;
-                case Constants.printStringLabel:
+                case NameTable.PRINT_STR:
                     definitions.store(PRINT_STR_DEF, call);
                     break;
-                case Constants.printLogLabel:
+                case NameTable.PRINT_LOG:
                     definitions.store(PRINT_LOG_DEF, call);
                     break;
-                case Constants.randIntLabel:
+                case NameTable.RAND_INT:
                     definitions.store(RAND_INT_DEF, call);
                     break;
-                case Constants.seedLabel:
+                case NameTable.SEED:
                     definitions.store(SEED_DEF, call);
                     break;
             }
@@ -108,12 +113,12 @@ public class NameChecker implements Visitor {
         }
 
         // Preveri obstoj funkcije
-        if (symbolTable.definitionFor(call.name).isEmpty())
-            Report.error(call.position, "Funkcija " + call.name + " ni definirana!");
+        if (symbolTable.definitionFor(call.nameId).isEmpty())
+            Report.recoverableError(call.position, "Funkcija " + call.name + " ni definirana!");
         else {
-            Def forNode = symbolTable.definitionFor(call.name).get();
+            Def forNode = symbolTable.definitionFor(call.nameId).get();
             if (!(forNode instanceof FunDef))
-                Report.error(call.position, call.name + " ni funkcija!");
+                Report.recoverableError(call.position, call.name + " ni funkcija!");
             else
                 definitions.store(forNode, call);
         }
@@ -131,9 +136,9 @@ public class NameChecker implements Visitor {
         binary.right.accept(this);
 
         // Prepreči funkcija[]
-        if (binary.left instanceof Name left && symbolTable.definitionFor(left.name).isPresent()) {
-            if (symbolTable.definitionFor(left.name).get() instanceof FunDef)
-                Report.error(binary.position, "Uporaba funkcije " + left.name + " kot array!");
+        if (binary.left instanceof Name left && symbolTable.definitionFor(left.nameId).isPresent()) {
+            if (symbolTable.definitionFor(left.nameId).get() instanceof FunDef)
+                Report.recoverableError(binary.position, "Uporaba funkcije " + left.name + " kot array!");
         }
     }
 
@@ -156,15 +161,15 @@ public class NameChecker implements Visitor {
     @Override
     public void visit(Name name) {
         // Preveri obstoj imena
-        if (symbolTable.definitionFor(name.name).isEmpty())
-            Report.error(name.position, "Identifier " + name.name + " ni definiran!");
+        if (symbolTable.definitionFor(name.nameId).isEmpty())
+            Report.recoverableError(name.position, "Identifier " + name.name + " ni definiran!");
         else {
-            Def forNode = symbolTable.definitionFor(name.name).get();
+            Def forNode = symbolTable.definitionFor(name.nameId).get();
             // Prepreči imenovanje funkcije (funkcija mora biti vedno klicana)
             if (forNode instanceof FunDef)
-                Report.error(name.position, "Nedovoljena uporaba funkcije " + name.name + " kot spremenljivke!");
+                Report.recoverableError(name.position, "Nedovoljena uporaba funkcije " + name.name + " kot spremenljivke!");
             else if (forNode instanceof TypeDef)
-                Report.error(name.position, "Nedovoljena uporaba tipa " + name.name + " kot spremenljivke!");
+                Report.recoverableError(name.position, "Nedovoljena uporaba tipa " + name.name + " kot spremenljivke!");
             else
                 definitions.store(forNode, name);
         }
@@ -208,7 +213,7 @@ public class NameChecker implements Visitor {
             try {
                 symbolTable.insert(def);
             } catch (DefinitionAlreadyExistsException e) {
-                Report.error(def.position, "Definicija " + def.name + " že obstaja!");
+                Report.recoverableError(def.position, "Definicija " + def.name + " že obstaja!");
             }
         }
 
@@ -254,7 +259,7 @@ public class NameChecker implements Visitor {
         try {
             symbolTable.insert(parameter);
         } catch (DefinitionAlreadyExistsException e) {
-            Report.error(parameter.position, "Definicija " + parameter.name + " že obstaja!");
+            Report.recoverableError(parameter.position, "Definicija " + parameter.name + " že obstaja!");
         }
     }
 
@@ -270,12 +275,12 @@ public class NameChecker implements Visitor {
 
     @Override
     public void visit(TypeName name) {
-        if (symbolTable.definitionFor(name.identifier).isEmpty())
-            Report.error(name.position, "Tip " + name.identifier + " ni definiran!");
+        if (symbolTable.definitionFor(name.nameId).isEmpty())
+            Report.recoverableError(name.position, "Tip " + name.identifier + " ni definiran!");
         else {
-            Def forNode = symbolTable.definitionFor(name.identifier).get();
+            Def forNode = symbolTable.definitionFor(name.nameId).get();
             if (!(forNode instanceof TypeDef))
-                Report.error(name.position, "Identifier " + name.identifier + " ni tip!");
+                Report.recoverableError(name.position, "Identifier " + name.identifier + " ni tip!");
             else
                 definitions.store(forNode, name);
         }
@@ -5,7 +5,7 @@
 
 package compiler.seman.name.env;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -14,43 +14,45 @@ import compiler.parser.ast.def.Def;
 
 public class FastSymbolTable implements SymbolTable {
     private int currentScope = 0;
-    private Map<Integer, ArrayList<String>> scopes = new HashMap<>();
-    private Map<String, ArrayList<Pair>> env = new HashMap<>();
+
+    /**
+     * Zadnja definicija v posameznem nivoju gnezdenja (definicije
+     * istega nivoja so povezane preko `Pair.previousInScope`).
+     */
+    private Map<Integer, Scope> scopes = new HashMap<>();
+
+    /**
+     * Najbolj notranja definicija za posamezno oznako imena (starejše
+     * definicije istega imena so povezane preko `Pair.shadowed`).
+     */
+    private Pair[] env = new Pair[64];
 
     public FastSymbolTable() {
-        scopes.put(currentScope, new ArrayList<>());
+        scopes.put(currentScope, new Scope());
     }
 
     @Override
     public void insert(Def definition) throws DefinitionAlreadyExistsException {
-        var definitions = env.get(definition.name);
-        if (definitions != null) {
-            if (!definitions.isEmpty() && definitions.get(definitions.size() - 1).scope == currentScope) {
-                throw new DefinitionAlreadyExistsException(definition);
-            }
-            definitions.add(new Pair(currentScope, definition));
-        } else {
-            var stack = new ArrayList<Pair>();
-            stack.add(new Pair(currentScope, definition));
-            env.put(definition.name, stack);
+        var id = definition.nameId;
+        if (id >= env.length) {
+            env = Arrays.copyOf(env, Math.max(env.length * 2, id + 1));
         }
-        var existingScope = scopes.get(currentScope);
-        if (existingScope == null) {
-            var list = new ArrayList<String>();
-            list.add(definition.name);
-            scopes.put(currentScope, list);
-        } else {
-            existingScope.add(definition.name);
+        var top = env[id];
+        if (top != null && top.scope == currentScope) {
+            throw new DefinitionAlreadyExistsException(definition);
         }
+        var scope = scopes.computeIfAbsent(currentScope, s -> new Scope());
+        var pair = new Pair(currentScope, definition, top, scope.last);
+        env[id] = pair;
+        scope.last = pair;
     }
 
     @Override
-    public Optional<Def> definitionFor(String name) {
-        var definitions = env.get(name);
-        if (definitions == null || definitions.isEmpty()) {
+    public Optional<Def> definitionFor(int nameId) {
+        if (nameId < 0 || nameId >= env.length || env[nameId] == null) {
             return Optional.empty();
         }
-        return Optional.of(definitions.get(definitions.size() - 1).def);
+        return Optional.of(env[nameId].def);
     }
 
     @Override
@@ -62,24 +64,32 @@ public class FastSymbolTable implements SymbolTable {
     public void popScope() {
         var scope = scopes.get(currentScope);
         if (scope == null) { return; }
-        for (var name : scope) {
-            var definitions = env.get(name);
-            if (definitions.get(definitions.size() - 1).scope != currentScope) {
+        for (var pair = scope.last; pair != null; pair = pair.previousInScope) {
+            var id = pair.def.nameId;
+            if (env[id] != pair) {
                 throw new RuntimeException("Interna napaka prevajalnika.");
             }
-            definitions.remove(definitions.size() - 1);
+            env[id] = pair.shadowed;
         }
         scopes.remove(currentScope);
         currentScope--;
     }
 
+    private static class Scope {
+        Pair last;
+    }
+
     private static class Pair {
         final int scope;
         final Def def;
+        final Pair shadowed;
+        final Pair previousInScope;
 
-        public Pair(int scope, Def def) {
+        public Pair(int scope, Def def, Pair shadowed, Pair previousInScope) {
             this.scope = scope;
             this.def = def;
+            this.shadowed = shadowed;
+            this.previousInScope = previousInScope;
         }
     }
 }
@@ -7,7 +7,7 @@ package compiler.seman.type;
 
 import static common.RequireNonNull.requireNonNull;
 
-import common.Constants;
+import compiler.lexer.NameTable;
 import common.Report;
 import compiler.common.Visitor;
 import compiler.parser.ast.def.*;
@@ -18,7 +18,6 @@ import compiler.seman.common.NodeDescription;
 import compiler.seman.type.type.Type;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 
@@ -37,7 +36,6 @@ public class TypeChecker implements Visitor {
      * Seznam obiskanih definicij (da se ne zaciklamo).
      */
     private HashSet<Def> visited = new HashSet<>();
-    static final HashSet<String> STD_KNJIZNICA = new HashSet<>(Arrays.asList(Constants.printStringLabel, Constants.printIntLabel, Constants.printLogLabel, Constants.randIntLabel, Constants.seedLabel));
 
     public TypeChecker(NodeDescription<Def> definitions, NodeDescription<Type> types) {
         requireNonNull(definitions, types);
@@ -47,7 +45,7 @@ public class TypeChecker implements Visitor {
 
     @Override
     public void visit(Call call) {
-        if (STD_KNJIZNICA.contains(call.name)) {
+        if (NameTable.isStandardLibrary(call.nameId)) {
             for (Expr argument : call.arguments)
                 argument.accept(this);
 
@@ -59,42 +57,48 @@ public class TypeChecker implements Visitor {
                 return;
             Type argType = types.valueFor(argument).get();
             Def def = definitions.valueFor(call).get();
-            if (!(def instanceof FunDef))
-                Report.error(call.position, call.name + " ni funkcija!");
+            if (!(def instanceof FunDef)) {
+                Report.recoverableError(call.position, call.name + " ni funkcija!");
+                return;
+            }
             FunDef funDef = (FunDef) def;
 
-            switch (call.name) {
-                case Constants.printIntLabel:
+            switch (call.nameId) {
+                case NameTable.PRINT_INT:
                     if (call.arguments.size() != 1)
-                        Report.error(argument.position, "print_int sprejme samo 1 argument");
+                        Report.recoverableError(argument.position, "print_int sprejme samo 1 argument");
                     if (!argType.isInt())
-                        Report.error(argument.position, "print_int sprejme samo int argument");
+                        Report.recoverableError(argument.position, "print_int sprejme samo int argument");
                     break;
-                case Constants.printStringLabel:
+                case NameTable.PRINT_STR:
                     if (call.arguments.size() != 1)
-                        Report.error(argument.position, "print_str sprejme samo 1 argument");
+                        Report.recoverableError(argument.position, "print_str sprejme samo 1 argument");
                     if (!argType.isStr())
-                        Report.error(argument.position, "print_str sprejme samo str argument");
+                        Report.recoverableError(argument.position, "print_str sprejme samo str argument");
                     break;
-                case Constants.printLogLabel:
+                case NameTable.PRINT_LOG:
                     if (call.arguments.size() != 1)
-                        Report.error(argument.position, "print_log sprejme samo 1 argument");
+                        Report.recoverableError(argument.position, "print_log sprejme samo 1 argument");
                     if (!argType.isLog())
-                        Report.error(argument.position, "print_log sprejme samo str argument");
+                        Report.recoverableError(argument.position, "print_log sprejme samo str argument");
                     break;
-                case Constants.randIntLabel:
-                    if (call.arguments.size() != 2)
-                        Report.error(argument.position, "rand_int sprejme točno 2 argumenta");
+                case NameTable.RAND_INT:
+                    if (call.arguments.size() != 2) {
+                        Report.recoverableError(argument.position, "rand_int sprejme točno 2 argumenta");
+                        return;
+                    }
                     Expr argument2 = call.arguments.get(1);
+                    if (types.valueFor(argument2).isEmpty())
+                        return;
                     Type argType2 = types.valueFor(argument2).get();
                     if (!argType.isInt() || !argType2.isInt())
-                        Report.error(argument.position, "rand_int sprejme samo int argumenta");
+                        Report.recoverableError(argument.position, "rand_int sprejme samo int argumenta");
                     break;
-                case Constants.seedLabel:
+                case NameTable.SEED:
                     if (call.arguments.size() != 1)
-                        Report.error(argument.position, "seed sprejme samo 1 argument");
+                        Report.recoverableError(argument.position, "seed sprejme samo 1 argument");
                     if (!argType.isInt())
-                        Report.error(argument.position, "seed sprejme samo int argument");
+                        Report.recoverableError(argument.position, "seed sprejme samo int argument");
                     break;
             }
             types.store(argType, call);
@@ -109,27 +113,31 @@ public class TypeChecker implements Visitor {
 
 
         Def def = definitions.valueFor(call).get();
-        if (!(def instanceof FunDef))
-            Report.error(call.position, call.name + " ni funkcija!");
+        if (!(def instanceof FunDef)) {
+            Report.recoverableError(call.position, call.name + " ni funkcija!");
+            return;
+        }
         FunDef funDef = (FunDef) def;
 
 
         if (types.valueFor(funDef).isEmpty()) // gre skozi v drugem obhodu
             // če rekurzivna funkcija, posebej obravnavamo
-            if (!call.name.equals(funDef.name))
+            if (call.nameId != funDef.nameId)
                 return;
 
         if (call.arguments.toArray().length != funDef.parameters.toArray().length)
-            Report.error(call.position, "Število argumentov se ne ujema s številom parametrov funkcije");
+            Report.recoverableError(call.position, "Število argumentov se ne ujema s številom parametrov funkcije");
 
-        for (int i = 0; i < call.arguments.toArray().length; i++) {
+        // Ob napačnem številu argumentov preverimo le tiste, ki imajo parameter.
+        var n = Math.min(call.arguments.size(), funDef.parameters.size());
+        for (int i = 0; i < n; i++) {
             Expr argument = call.arguments.get(i);
             Parameter parameter = funDef.parameters.get(i);
             if (types.valueFor(argument).isPresent() && types.valueFor(parameter).isPresent()) {
                 Type argType = types.valueFor(argument).get();
                 Type paramType = types.valueFor(parameter).get();
                 if (!argType.equals(paramType))
-                    Report.error(argument.position, "Tip argumenta se ne ujema s tipom parametra");
+                    Report.recoverableError(argument.position, "Tip argumenta se ne ujema s tipom parametra");
             } else {
                 return;
             }
@@ -154,7 +162,7 @@ public class TypeChecker implements Visitor {
             Type t1 = types.valueFor(binary.left).get();
             Type t2 = types.valueFor(binary.right).get();
             if (!t1.equals(t2))
-                Report.error(binary.position, "Tipa v binary expressionu morata biti enaka!");
+                Report.recoverableError(binary.position, "Tipa v binary expressionu morata biti enaka!");
             // return type t1==t2
             types.store(t1, binary);
             return;
@@ -165,7 +173,7 @@ public class TypeChecker implements Visitor {
             Type t1 = types.valueFor(binary.left).get();
             Type t2 = types.valueFor(binary.right).get();
             if (!(t1.isLog() && t2.isLog()))
-                Report.error(binary.position, "Pričakovan tip v AND/OR izrazu je LOGICAL!");
+                Report.recoverableError(binary.position, "Pričakovan tip v AND/OR izrazu je LOGICAL!");
 
             // return type LOGICAL
             types.store(new Type.Atom(Type.Atom.Kind.LOG), binary);
@@ -178,7 +186,7 @@ public class TypeChecker implements Visitor {
             for (Expr node : nodes) {
                 Type t = types.valueFor(node).get();
                 if (!t.isInt())
-                    Report.error(node.position, "Pričakovan tip v aritmetičnem izrazu je INTEGER!");
+                    Report.recoverableError(node.position, "Pričakovan tip v aritmetičnem izrazu je INTEGER!");
             }
             // return type INTEGER
             types.store(new Type.Atom(Type.Atom.Kind.INT), binary);
@@ -190,9 +198,9 @@ public class TypeChecker implements Visitor {
             Type t1 = types.valueFor(binary.left).get();
             Type t2 = types.valueFor(binary.right).get();
             if (!t1.equals(t2))
-                Report.error(binary.position, "Tipa v binary expressionu morata biti enaka!");
+                Report.recoverableError(binary.position, "Tipa v binary expressionu morata biti enaka!");
             if (!(t1.isInt() || t1.isLog()) || !(t2.isInt() || t2.isLog()))
-                Report.error(binary.position, "Pričakovan tip v primerjalnem izrazu je INTEGER ali LOGICAL!");
+                Report.recoverableError(binary.position, "Pričakovan tip v primerjalnem izrazu je INTEGER ali LOGICAL!");
 
             // return type LOGICAL
             types.store(new Type.Atom(Type.Atom.Kind.LOG), binary);
@@ -204,9 +212,9 @@ public class TypeChecker implements Visitor {
             Type t1 = types.valueFor(binary.left).get();
             Type t2 = types.valueFor(binary.right).get();
             if (!t1.isArray())
-                Report.error(binary.position, "Pričakovan tip v array izrazu je ARRAY!");
+                Report.recoverableError(binary.position, "Pričakovan tip v array izrazu je ARRAY!");
             if (!t2.isInt())
-                Report.error(binary.position, "Pričakovan tip v array izrazu je INTEGER!");
+                Report.recoverableError(binary.position, "Pričakovan tip v array izrazu je INTEGER!");
             if (t1 instanceof Type.Array t) {
                 // return type t
                 types.store(t.type, binary);
@@ -239,7 +247,7 @@ public class TypeChecker implements Visitor {
             if (types.valueFor(node).isPresent()) {
                 Type t = types.valueFor(node).get();
                 if (!t.isInt())
-                    Report.error(node.position, "Pričakovan tip v for loopu je INTEGER!");
+                    Report.recoverableError(node.position, "Pričakovan tip v for loopu je INTEGER!");
             } else {
                 return;
             }
@@ -251,8 +259,10 @@ public class TypeChecker implements Visitor {
 
     @Override
     public void visit(Name name) {
-        if (definitions.valueFor(name).isEmpty())
-            Report.error(name.position, "Ime " + name.name + " ni bilo definirano!");
+        if (definitions.valueFor(name).isEmpty()) {
+            Report.recoverableError(name.position, "Ime " + name.name + " ni bilo definirano!");
+            return;
+        }
 
         Def def = definitions.valueFor(name).get();
         if (def instanceof VarDef d) {
@@ -277,7 +287,7 @@ public class TypeChecker implements Visitor {
         if (types.valueFor(ifThenElse.condition).isPresent()) {
             Type t = types.valueFor(ifThenElse.condition).get();
             if (!t.isLog())
-                Report.error(ifThenElse.condition.position, "Pričakovan tip v if stavku je LOGICAL!");
+                Report.recoverableError(ifThenElse.condition.position, "Pričakovan tip v if stavku je LOGICAL!");
         } else {
             return;
         }
@@ -307,7 +317,7 @@ public class TypeChecker implements Visitor {
         if (unary.operator.equals(Unary.Operator.NOT)) {
             Type t = types.valueFor(unary.expr).get();
             if (!t.isLog())
-                Report.error(unary.position, "Pričakovan tip v NOT izrazu je LOGICAL!");
+                Report.recoverableError(unary.position, "Pričakovan tip v NOT izrazu je LOGICAL!");
             // return type LOGICAL
             types.store(new Type.Atom(Type.Atom.Kind.LOG), unary);
             return;
@@ -317,7 +327,7 @@ public class TypeChecker implements Visitor {
         if (unary.operator.equals(Unary.Operator.ADD) || unary.operator.equals(Unary.Operator.SUB)) {
             Type t = types.valueFor(unary.expr).get();
             if (!t.isInt())
-                Report.error(unary.position, "Pričakovan tip v unary ADD/SUB izrazu je INTEGER!");
+                Report.recoverableError(unary.position, "Pričakovan tip v unary ADD/SUB izrazu je INTEGER!");
             // return type INTEGER
             types.store(new Type.Atom(Type.Atom.Kind.INT), unary);
         }
@@ -331,7 +341,7 @@ public class TypeChecker implements Visitor {
         if (types.valueFor(whileLoop.condition).isPresent()) {
             Type t = types.valueFor(whileLoop.condition).get();
             if (!t.isLog())
-                Report.error(whileLoop.condition.position, "Pričakovan tip v while stavku je LOGICAL!");
+                Report.recoverableError(whileLoop.condition.position, "Pričakovan tip v while stavku je LOGICAL!");
         } else {
             return;
         }
@@ -389,12 +399,14 @@ public class TypeChecker implements Visitor {
         Type ret = types.valueFor(funDef.type).get();
 
         if (!body.equals(ret))
-            Report.error(funDef.position, "Tipa telesa funkcije in return se ne ujemata");
+            Report.recoverableError(funDef.position, "Tipa telesa funkcije in return se ne ujemata");
 
         List<Type> params = new ArrayList<>();
         for (Parameter parameter : funDef.parameters) {
-            if (types.valueFor(parameter.type).isEmpty())
-                Report.error(parameter.position, "Tipa parametra funkcije ni bilo mogoče določiti");
+            if (types.valueFor(parameter.type).isEmpty()) {
+                Report.recoverableError(parameter.position, "Tipa parametra funkcije ni bilo mogoče določiti");
+                return;
+            }
             params.add(types.valueFor(parameter.type).get());
         }
 
@@ -406,8 +418,10 @@ public class TypeChecker implements Visitor {
     public void visit(TypeDef typeDef) {
         typeDef.type.accept(this);
 
-        if (types.valueFor(typeDef.type).isEmpty())
-            Report.error(typeDef.position, "Tip " + typeDef.type + "ne obstaja!");
+        if (types.valueFor(typeDef.type).isEmpty()) {
+            Report.recoverableError(typeDef.position, "Tip " + typeDef.type + "ne obstaja!");
+            return;
+        }
 
         Type t = types.valueFor(typeDef.type).get();
         if (types.valueFor(typeDef).isEmpty())
@@ -418,8 +432,10 @@ public class TypeChecker implements Visitor {
     public void visit(VarDef varDef) {
         varDef.type.accept(this);
 
-        if (types.valueFor(varDef.type).isEmpty())
-            Report.error(varDef.position, "Tip " + varDef.type + "ne obstaja!");
+        if (types.valueFor(varDef.type).isEmpty()) {
+            Report.recoverableError(varDef.position, "Tip " + varDef.type + "ne obstaja!");
+            return;
+        }
 
         Type t = types.valueFor(varDef.type).get();
         types.store(t, varDef);
@@ -430,8 +446,10 @@ public class TypeChecker implements Visitor {
     public void visit(Parameter parameter) {
         parameter.type.accept(this);
 
-        if (types.valueFor(parameter.type).isEmpty())
-            Report.error(parameter.position, "Tip " + parameter.type + "ne obstaja!");
+        if (types.valueFor(parameter.type).isEmpty()) {
+            Report.recoverableError(parameter.position, "Tip " + parameter.type + "ne obstaja!");
+            return;
+        }
 
         Type t = types.valueFor(parameter.type).get();
         types.store(t, parameter);
@@ -441,8 +459,10 @@ public class TypeChecker implements Visitor {
     public void visit(Array array) {
         array.type.accept(this);
 
-        if (types.valueFor(array.type).isEmpty())
-            Report.error(array.position, "Tip " + array.type + "ne obstaja!");
+        if (types.valueFor(array.type).isEmpty()) {
+            Report.recoverableError(array.position, "Tip " + array.type + "ne obstaja!");
+            return;
+        }
 
         Type t = types.valueFor(array.type).get();
         types.store(new Type.Array(array.size, t), array);
@@ -460,20 +480,25 @@ public class TypeChecker implements Visitor {
 
     @Override
     public void visit(TypeName name) {
-        if (definitions.valueFor(name).isEmpty())
-            Report.error(name.position, "TypeName ne obstaja!");
+        if (definitions.valueFor(name).isEmpty()) {
+            Report.recoverableError(name.position, "TypeName ne obstaja!");
+            return;
+        }
 
         Def d = definitions.valueFor(name).get();
         if (d instanceof TypeDef) {
             if (types.valueFor(((TypeDef) d).type).isEmpty()) {
-                if (visited.contains(d))
-                    Report.error(name.position, "Najden cikel v tipih!");
+                if (visited.contains(d)) {
+                    Report.recoverableError(name.position, "Najden cikel v tipih!");
+                    return;
+                }
                 visited.add(d);
                 d.accept(this);
             }
-            types.store(types.valueFor(((TypeDef) d).type).get(), name);
+            if (types.valueFor(((TypeDef) d).type).isPresent())
+                types.store(types.valueFor(((TypeDef) d).type).get(), name);
         } else {
-            Report.error(name.position, "TypeName ni tip!");
+            Report.recoverableError(name.position, "TypeName ni tip!");
         }
     }
 }